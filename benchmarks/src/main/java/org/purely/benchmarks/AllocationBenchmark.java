@@ -0,0 +1,204 @@
+package org.purely.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.purely.control.Either;
+import org.purely.control.Try;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Throughput and allocation of railway-style {@link Try} and {@link Either} pipelines, meant to be read through the
+ * {@code gc.alloc.rate.norm} (bytes/op) column of the GC profiler. {@link #main(String[])} runs the suite with the
+ * profiler attached; from the command line, the equivalent is {@code java -jar target/benchmarks.jar Allocation -prof gc}.
+ * <p>
+ * Each pipeline cycles through the operations a typical caller chains together, with lambdas that capture local state
+ * as real pipelines do, so that both the wrappers and the lambdas are counted. The benchmarks are run twice: once as
+ * is, and once in {@link NoEscapeAnalysis} with escape analysis disabled. Comparing the two shows which allocations the
+ * JIT is already removing, and which ones remain even after the pipeline has been inlined.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AllocationBenchmark {
+    @Param({"5", "10", "20"})
+    public int steps;
+
+    private int seed;
+    private Exception preallocated;
+    private List<Try<Integer>> tries;
+
+    @Setup
+    public void setup() {
+        seed = 42;
+        preallocated = new IllegalStateException("benchmark");
+        tries = new ArrayList<>();
+        for (int i = 0; i < steps; i++) {
+            tries.add(new Try.Success<>(i));
+        }
+    }
+
+    @Benchmark
+    public int imperative(Blackhole bh) {
+        final int delta = seed & 1;
+        int value = seed;
+        for (int i = 0; i < steps; i++) {
+            switch (i & 3) {
+                case 0, 1 -> value = value + delta;
+                case 2 -> {
+                    if (value < 0) {
+                        return -1;
+                    }
+                }
+                default -> bh.consume(value);
+            }
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Try<Integer> tryPipeline(Blackhole bh) {
+        return tryPipeline(new Try.Success<>(seed), bh);
+    }
+
+    @Benchmark
+    public Try<Integer> tryPipelineFailure(Blackhole bh) {
+        return tryPipeline(new Try.Failure<>(preallocated), bh);
+    }
+
+    @Benchmark
+    public Try<Integer> tryExecute(Blackhole bh) {
+        Try<Integer> t = new Try.Success<>(seed);
+        for (int i = 0; i < steps; i++) {
+            t = t.execute(bh::consume);
+        }
+        return t;
+    }
+
+    @Benchmark
+    public Try<Integer> tryOfThrowing() {
+        return Try.of(() -> {
+            throw new IllegalStateException("benchmark");
+        });
+    }
+
+    @Benchmark
+    public Try<Integer> tryOfThrowingStackless() {
+        return Try.of(() -> {
+            throw new StacklessException();
+        });
+    }
+
+    @Benchmark
+    public Try<Integer> tryOfThrowingPreallocated() {
+        return Try.of(() -> {
+            throw preallocated;
+        });
+    }
+
+    @Benchmark
+    public Try<List<Integer>> tryCollector() {
+        return tries.stream().collect(Try.collector(Collectors.toList()));
+    }
+
+    @Benchmark
+    public Try<List<Integer>> tryCollect() {
+        return Try.collect(tries.stream(), Collectors.toList());
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherPipeline() {
+        return eitherPipeline(new Either.Right<>(seed));
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherPipelineLeft() {
+        return eitherPipeline(new Either.Left<>("left"));
+    }
+
+    @Benchmark
+    public void eitherIfRight(Blackhole bh) {
+        final Either<String, Integer> e = new Either.Right<>(seed);
+        for (int i = 0; i < steps; i++) {
+            e.ifRight(bh::consume);
+            e.ifLeft(bh::consume);
+        }
+    }
+
+    @Benchmark
+    public void eitherSwitch(Blackhole bh) {
+        final Either<String, Integer> e = new Either.Right<>(seed);
+        for (int i = 0; i < steps; i++) {
+            switch (e) {
+                case Either.Left<String, Integer>(var l) -> bh.consume(l);
+                case Either.Right<String, Integer>(var r) -> bh.consume(r);
+            }
+        }
+    }
+
+    private Try<Integer> tryPipeline(Try<Integer> t, Blackhole bh) {
+        final int delta = seed & 1;
+        for (int i = 0; i < steps; i++) {
+            t = switch (i & 3) {
+                case 0 -> t.map(x -> x + delta);
+                case 1 -> t.flatMap(x -> new Try.Success<>(x + delta));
+                case 2 -> t.filter(x -> x >= 0, x -> new IllegalStateException());
+                default -> t.execute(bh::consume);
+            };
+        }
+        return t;
+    }
+
+    private Either<String, Integer> eitherPipeline(Either<String, Integer> e) {
+        final int delta = seed & 1;
+        for (int i = 0; i < steps; i++) {
+            e = switch (i & 3) {
+                case 0 -> e.mapRight(x -> x + delta);
+                case 1 -> e.flatMapRight(x -> new Either.Right<>(x + delta));
+                case 2 -> e.flatMapRight(x -> x >= 0 ? new Either.Right<>(x) : new Either.Left<>("negative"));
+                default -> e.mapLeft(l -> l + delta);
+            };
+        }
+        return e;
+    }
+
+    /**
+     * The same benchmarks, with escape analysis disabled so that every wrapper and lambda reaches the heap.
+     */
+    @Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+    public static class NoEscapeAnalysis extends AllocationBenchmark {
+    }
+
+    private static final class StacklessException extends RuntimeException {
+        StacklessException() {
+            super("benchmark", null, false, false);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AllocationBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
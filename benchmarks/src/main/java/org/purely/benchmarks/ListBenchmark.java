@@ -0,0 +1,150 @@
+package org.purely.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Average time of every {@link org.purely.collections.PureList} operation, for each {@link ListImpl} and list size.
+ * <p>
+ * Positional operations act on the middle of the list, which is the typical case for the linked implementations, and
+ * lookups search for the last element, which is their worst case. The bulk operations take a fixed set of
+ * {@value #BULK} elements spread evenly across the list, so that they measure the cost of walking the receiver rather
+ * than the cost of probing the argument.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListBenchmark {
+    private static final int BULK = 16;
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param
+    public ListImpl impl;
+
+    private ListOps<Object> ops;
+    private List<Integer> values;
+    private Object list;
+    private Set<Integer> bulk;
+    private Integer element;
+    private Integer last;
+    private int middle;
+
+    @Setup
+    public void setup() {
+        ops = impl.ops();
+        values = IntStream.range(0, size).boxed().toList();
+        list = ops.from(values);
+        bulk = new HashSet<>();
+        for (int i = 0; i < BULK; i++) {
+            bulk.add(i * size / BULK);
+        }
+        element = -1;
+        last = size - 1;
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public Object from() {
+        return ops.from(values);
+    }
+
+    @Benchmark
+    public Object addFirst() {
+        return ops.addFirst(list, element);
+    }
+
+    @Benchmark
+    public Object addLast() {
+        return ops.addLast(list, element);
+    }
+
+    @Benchmark
+    public Object removeFirst() {
+        return ops.removeFirst(list);
+    }
+
+    @Benchmark
+    public Object removeLast() {
+        return ops.removeLast(list);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return ops.get(list, middle);
+    }
+
+    @Benchmark
+    public Object set() {
+        return ops.set(list, middle, element);
+    }
+
+    @Benchmark
+    public Object add() {
+        return ops.add(list, middle, element);
+    }
+
+    @Benchmark
+    public Object remove() {
+        return ops.remove(list, middle);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return ops.contains(list, last);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return ops.indexOf(list, last);
+    }
+
+    @Benchmark
+    public Object addAll() {
+        return ops.addAll(list, values);
+    }
+
+    @Benchmark
+    public Object removeAll() {
+        return ops.removeAll(list, bulk);
+    }
+
+    @Benchmark
+    public Object retainAll() {
+        return ops.retainAll(list, bulk);
+    }
+
+    @Benchmark
+    public Object subList() {
+        return ops.subList(list, middle / 2, middle + middle / 2);
+    }
+
+    @Benchmark
+    public Object reversed() {
+        return ops.reversed(list);
+    }
+
+    @Benchmark
+    public long iterate() {
+        return ops.sum(list);
+    }
+}
@@ -0,0 +1,38 @@
+package org.purely.benchmarks;
+
+import org.pcollections.ConsPStack;
+import org.pcollections.TreePVector;
+import org.purely.collections.PureDeque;
+import org.purely.collections.PureLinkedList;
+import org.purely.collections.PureRrbVector;
+import org.purely.collections.PureVector;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+/**
+ * The list implementations compared by {@link ListBenchmark}, selected with {@code -p impl=...}.
+ */
+public enum ListImpl {
+    PURE_LINKED_LIST(new ListOps.Pure(PureLinkedList::from)),
+    PURE_VECTOR(new ListOps.Pure(PureVector::from)),
+    PURE_RRB_VECTOR(new ListOps.Pure(PureRrbVector::from)),
+    PURE_DEQUE(new ListOps.Pure(PureDeque::from)),
+    ARRAY_LIST(new ListOps.Copying(ArrayList::new)),
+    LINKED_LIST(new ListOps.Copying(LinkedList::new)),
+    VAVR_LIST(new ListOps.Vavr(io.vavr.collection.List::ofAll)),
+    VAVR_VECTOR(new ListOps.Vavr(io.vavr.collection.Vector::ofAll)),
+    PCOLLECTIONS_STACK(new ListOps.PCollections(ConsPStack::from)),
+    PCOLLECTIONS_VECTOR(new ListOps.PCollections(TreePVector::from));
+
+    private final ListOps<?> ops;
+
+    ListImpl(ListOps<?> ops) {
+        this.ops = ops;
+    }
+
+    @SuppressWarnings("unchecked")
+    <L> ListOps<L> ops() {
+        return (ListOps<L>) ops;
+    }
+}
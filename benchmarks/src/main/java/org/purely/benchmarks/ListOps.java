@@ -0,0 +1,463 @@
+package org.purely.benchmarks;
+
+import io.vavr.collection.Seq;
+import org.pcollections.PSequence;
+import org.purely.collections.PureList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The list operations measured by {@link ListBenchmark}, expressed once per library so that every implementation runs
+ * the same benchmark bodies. Each fork of a benchmark only ever sees one implementation, so the calls through this
+ * interface stay monomorphic and inline as if they were written against the concrete type.
+ * <p>
+ * Every update returns the updated list. Persistent implementations return a new version and leave their argument
+ * untouched; the mutable implementations copy their argument first, since that copy is what a caller needing the old
+ * version has to pay for.
+ *
+ * @param <L> The list type.
+ */
+interface ListOps<L> {
+    L from(List<Integer> values);
+
+    L addFirst(L list, Integer value);
+
+    L addLast(L list, Integer value);
+
+    L removeFirst(L list);
+
+    L removeLast(L list);
+
+    Integer get(L list, int index);
+
+    L set(L list, int index, Integer value);
+
+    L add(L list, int index, Integer value);
+
+    L remove(L list, int index);
+
+    boolean contains(L list, Object value);
+
+    int indexOf(L list, Object value);
+
+    L addAll(L list, List<Integer> values);
+
+    L removeAll(L list, Set<Integer> values);
+
+    L retainAll(L list, Set<Integer> values);
+
+    L subList(L list, int from, int to);
+
+    L reversed(L list);
+
+    long sum(L list);
+
+    /**
+     * Operations on a {@link PureList}, going through the interface exactly as library users would.
+     */
+    @SuppressWarnings("unchecked")
+    record Pure(Function<List<Integer>, PureList<Integer>> factory) implements ListOps<PureList<Integer>> {
+        @Override
+        public PureList<Integer> from(List<Integer> values) {
+            return factory.apply(values);
+        }
+
+        @Override
+        public PureList<Integer> addFirst(PureList<Integer> list, Integer value) {
+            return (PureList<Integer>) list.addFirst(value);
+        }
+
+        @Override
+        public PureList<Integer> addLast(PureList<Integer> list, Integer value) {
+            return (PureList<Integer>) list.addLast(value);
+        }
+
+        @Override
+        public PureList<Integer> removeFirst(PureList<Integer> list) {
+            return (PureList<Integer>) list.removeFirst().orElseThrow().second();
+        }
+
+        @Override
+        public PureList<Integer> removeLast(PureList<Integer> list) {
+            return (PureList<Integer>) list.removeLast().orElseThrow().second();
+        }
+
+        @Override
+        public Integer get(PureList<Integer> list, int index) {
+            return list.get(index).orElseThrow();
+        }
+
+        @Override
+        public PureList<Integer> set(PureList<Integer> list, int index, Integer value) {
+            return list.set(index, value).orElseThrow().second();
+        }
+
+        @Override
+        public PureList<Integer> add(PureList<Integer> list, int index, Integer value) {
+            return list.add(index, value).orElseThrow();
+        }
+
+        @Override
+        public PureList<Integer> remove(PureList<Integer> list, int index) {
+            return list.remove(index).orElseThrow().second();
+        }
+
+        @Override
+        public boolean contains(PureList<Integer> list, Object value) {
+            return list.contains(value);
+        }
+
+        @Override
+        public int indexOf(PureList<Integer> list, Object value) {
+            return list.indexOf(value).orElse(-1);
+        }
+
+        @Override
+        public PureList<Integer> addAll(PureList<Integer> list, List<Integer> values) {
+            return (PureList<Integer>) list.addAll(values);
+        }
+
+        @Override
+        public PureList<Integer> removeAll(PureList<Integer> list, Set<Integer> values) {
+            return (PureList<Integer>) list.removeAll(values);
+        }
+
+        @Override
+        public PureList<Integer> retainAll(PureList<Integer> list, Set<Integer> values) {
+            return (PureList<Integer>) list.retainAll(values);
+        }
+
+        @Override
+        public PureList<Integer> subList(PureList<Integer> list, int from, int to) {
+            return list.subList(from, to).orElseThrow();
+        }
+
+        @Override
+        public PureList<Integer> reversed(PureList<Integer> list) {
+            return (PureList<Integer>) list.reversed();
+        }
+
+        @Override
+        public long sum(PureList<Integer> list) {
+            long sum = 0;
+            for (Integer i : list) {
+                sum += i;
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Operations on a mutable {@link List}, copying it before every update.
+     */
+    record Copying(Function<Collection<Integer>, List<Integer>> copy) implements ListOps<List<Integer>> {
+        @Override
+        public List<Integer> from(List<Integer> values) {
+            return copy.apply(values);
+        }
+
+        @Override
+        public List<Integer> addFirst(List<Integer> list, Integer value) {
+            final var ret = copy.apply(list);
+            ret.addFirst(value);
+            return ret;
+        }
+
+        @Override
+        public List<Integer> addLast(List<Integer> list, Integer value) {
+            final var ret = copy.apply(list);
+            ret.addLast(value);
+            return ret;
+        }
+
+        @Override
+        public List<Integer> removeFirst(List<Integer> list) {
+            final var ret = copy.apply(list);
+            ret.removeFirst();
+            return ret;
+        }
+
+        @Override
+        public List<Integer> removeLast(List<Integer> list) {
+            final var ret = copy.apply(list);
+            ret.removeLast();
+            return ret;
+        }
+
+        @Override
+        public Integer get(List<Integer> list, int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public List<Integer> set(List<Integer> list, int index, Integer value) {
+            final var ret = copy.apply(list);
+            ret.set(index, value);
+            return ret;
+        }
+
+        @Override
+        public List<Integer> add(List<Integer> list, int index, Integer value) {
+            final var ret = copy.apply(list);
+            ret.add(index, value);
+            return ret;
+        }
+
+        @Override
+        public List<Integer> remove(List<Integer> list, int index) {
+            final var ret = copy.apply(list);
+            ret.remove(index);
+            return ret;
+        }
+
+        @Override
+        public boolean contains(List<Integer> list, Object value) {
+            return list.contains(value);
+        }
+
+        @Override
+        public int indexOf(List<Integer> list, Object value) {
+            return list.indexOf(value);
+        }
+
+        @Override
+        public List<Integer> addAll(List<Integer> list, List<Integer> values) {
+            final var ret = copy.apply(list);
+            ret.addAll(values);
+            return ret;
+        }
+
+        @Override
+        public List<Integer> removeAll(List<Integer> list, Set<Integer> values) {
+            final var ret = copy.apply(list);
+            ret.removeAll(values);
+            return ret;
+        }
+
+        @Override
+        public List<Integer> retainAll(List<Integer> list, Set<Integer> values) {
+            final var ret = copy.apply(list);
+            ret.retainAll(values);
+            return ret;
+        }
+
+        @Override
+        public List<Integer> subList(List<Integer> list, int from, int to) {
+            return copy.apply(list.subList(from, to));
+        }
+
+        @Override
+        public List<Integer> reversed(List<Integer> list) {
+            return copy.apply(list.reversed());
+        }
+
+        @Override
+        public long sum(List<Integer> list) {
+            long sum = 0;
+            for (Integer i : list) {
+                sum += i;
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Operations on a Vavr {@link Seq}.
+     */
+    record Vavr(Function<List<Integer>, Seq<Integer>> factory) implements ListOps<Seq<Integer>> {
+        @Override
+        public Seq<Integer> from(List<Integer> values) {
+            return factory.apply(values);
+        }
+
+        @Override
+        public Seq<Integer> addFirst(Seq<Integer> list, Integer value) {
+            return list.prepend(value);
+        }
+
+        @Override
+        public Seq<Integer> addLast(Seq<Integer> list, Integer value) {
+            return list.append(value);
+        }
+
+        @Override
+        public Seq<Integer> removeFirst(Seq<Integer> list) {
+            return list.tail();
+        }
+
+        @Override
+        public Seq<Integer> removeLast(Seq<Integer> list) {
+            return list.init();
+        }
+
+        @Override
+        public Integer get(Seq<Integer> list, int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public Seq<Integer> set(Seq<Integer> list, int index, Integer value) {
+            return list.update(index, value);
+        }
+
+        @Override
+        public Seq<Integer> add(Seq<Integer> list, int index, Integer value) {
+            return list.insert(index, value);
+        }
+
+        @Override
+        public Seq<Integer> remove(Seq<Integer> list, int index) {
+            return list.removeAt(index);
+        }
+
+        @Override
+        public boolean contains(Seq<Integer> list, Object value) {
+            return list.contains((Integer) value);
+        }
+
+        @Override
+        public int indexOf(Seq<Integer> list, Object value) {
+            return list.indexOf((Integer) value);
+        }
+
+        @Override
+        public Seq<Integer> addAll(Seq<Integer> list, List<Integer> values) {
+            return list.appendAll(values);
+        }
+
+        @Override
+        public Seq<Integer> removeAll(Seq<Integer> list, Set<Integer> values) {
+            return list.removeAll(values);
+        }
+
+        @Override
+        public Seq<Integer> retainAll(Seq<Integer> list, Set<Integer> values) {
+            return list.retainAll(values);
+        }
+
+        @Override
+        public Seq<Integer> subList(Seq<Integer> list, int from, int to) {
+            return list.subSequence(from, to);
+        }
+
+        @Override
+        public Seq<Integer> reversed(Seq<Integer> list) {
+            return list.reverse();
+        }
+
+        @Override
+        public long sum(Seq<Integer> list) {
+            long sum = 0;
+            for (Integer i : list) {
+                sum += i;
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Operations on a PCollections {@link PSequence}. PCollections has no persistent retain or reverse, so those are
+     * rebuilt from a filtered or reversed copy, which is what a caller of the library would have to do too.
+     */
+    record PCollections(Function<Collection<Integer>, PSequence<Integer>> factory)
+            implements ListOps<PSequence<Integer>> {
+        @Override
+        public PSequence<Integer> from(List<Integer> values) {
+            return factory.apply(values);
+        }
+
+        @Override
+        public PSequence<Integer> addFirst(PSequence<Integer> list, Integer value) {
+            return list.plus(0, value);
+        }
+
+        @Override
+        public PSequence<Integer> addLast(PSequence<Integer> list, Integer value) {
+            return list.plus(list.size(), value);
+        }
+
+        @Override
+        public PSequence<Integer> removeFirst(PSequence<Integer> list) {
+            return list.minus(0);
+        }
+
+        @Override
+        public PSequence<Integer> removeLast(PSequence<Integer> list) {
+            return list.minus(list.size() - 1);
+        }
+
+        @Override
+        public Integer get(PSequence<Integer> list, int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public PSequence<Integer> set(PSequence<Integer> list, int index, Integer value) {
+            return list.with(index, value);
+        }
+
+        @Override
+        public PSequence<Integer> add(PSequence<Integer> list, int index, Integer value) {
+            return list.plus(index, value);
+        }
+
+        @Override
+        public PSequence<Integer> remove(PSequence<Integer> list, int index) {
+            return list.minus(index);
+        }
+
+        @Override
+        public boolean contains(PSequence<Integer> list, Object value) {
+            return list.contains(value);
+        }
+
+        @Override
+        public int indexOf(PSequence<Integer> list, Object value) {
+            return list.indexOf(value);
+        }
+
+        @Override
+        public PSequence<Integer> addAll(PSequence<Integer> list, List<Integer> values) {
+            return list.plusAll(list.size(), values);
+        }
+
+        @Override
+        public PSequence<Integer> removeAll(PSequence<Integer> list, Set<Integer> values) {
+            return list.minusAll(values);
+        }
+
+        @Override
+        public PSequence<Integer> retainAll(PSequence<Integer> list, Set<Integer> values) {
+            final var retained = new ArrayList<Integer>(list.size());
+            for (Integer i : list) {
+                if (values.contains(i)) {
+                    retained.add(i);
+                }
+            }
+            return factory.apply(retained);
+        }
+
+        @Override
+        public PSequence<Integer> subList(PSequence<Integer> list, int from, int to) {
+            return list.subList(from, to);
+        }
+
+        @Override
+        public PSequence<Integer> reversed(PSequence<Integer> list) {
+            return factory.apply(list.reversed());
+        }
+
+        @Override
+        public long sum(PSequence<Integer> list) {
+            long sum = 0;
+            for (Integer i : list) {
+                sum += i;
+            }
+            return sum;
+        }
+    }
+}
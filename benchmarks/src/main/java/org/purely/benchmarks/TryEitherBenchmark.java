@@ -0,0 +1,194 @@
+package org.purely.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.purely.control.Either;
+import org.purely.control.Try;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Average time of {@link Try} and {@link Either} chains of {@link #steps} operations, against the equivalent Vavr
+ * chains and the imperative code they replace. The failing chains fail on their first step, so they measure how
+ * cheaply the remaining steps are skipped.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TryEitherBenchmark {
+    @Param({"1", "5", "20"})
+    public int steps;
+
+    private int seed;
+    private Exception exception;
+
+    @Setup
+    public void setup() {
+        seed = 42;
+        exception = new IllegalStateException("benchmark");
+    }
+
+    @Benchmark
+    public int imperative() {
+        int value = seed;
+        for (int i = 0; i < steps; i++) {
+            value = value + 1;
+        }
+        return value;
+    }
+
+    @Benchmark
+    public int imperativeThrowing() {
+        try {
+            return fail();
+        } catch (IllegalStateException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Try<Integer> tryMap() {
+        Try<Integer> t = new Try.Success<>(seed);
+        for (int i = 0; i < steps; i++) {
+            t = t.map(x -> x + 1);
+        }
+        return t;
+    }
+
+    @Benchmark
+    public io.vavr.control.Try<Integer> vavrTryMap() {
+        io.vavr.control.Try<Integer> t = io.vavr.control.Try.success(seed);
+        for (int i = 0; i < steps; i++) {
+            t = t.map(x -> x + 1);
+        }
+        return t;
+    }
+
+    @Benchmark
+    public Try<Integer> tryFlatMap() {
+        Try<Integer> t = new Try.Success<>(seed);
+        for (int i = 0; i < steps; i++) {
+            t = t.flatMap(x -> new Try.Success<>(x + 1));
+        }
+        return t;
+    }
+
+    @Benchmark
+    public io.vavr.control.Try<Integer> vavrTryFlatMap() {
+        io.vavr.control.Try<Integer> t = io.vavr.control.Try.success(seed);
+        for (int i = 0; i < steps; i++) {
+            t = t.flatMap(x -> io.vavr.control.Try.success(x + 1));
+        }
+        return t;
+    }
+
+    @Benchmark
+    public Try<Integer> tryMapFailure() {
+        Try<Integer> t = new Try.Failure<>(exception);
+        for (int i = 0; i < steps; i++) {
+            t = t.map(x -> x + 1);
+        }
+        return t;
+    }
+
+    @Benchmark
+    public io.vavr.control.Try<Integer> vavrTryMapFailure() {
+        io.vavr.control.Try<Integer> t = io.vavr.control.Try.failure(exception);
+        for (int i = 0; i < steps; i++) {
+            t = t.map(x -> x + 1);
+        }
+        return t;
+    }
+
+    @Benchmark
+    public Try<Integer> tryOfThrowing() {
+        return Try.of(this::fail);
+    }
+
+    @Benchmark
+    public io.vavr.control.Try<Integer> vavrTryOfThrowing() {
+        return io.vavr.control.Try.of(this::fail);
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherMap() {
+        Either<String, Integer> e = new Either.Right<>(seed);
+        for (int i = 0; i < steps; i++) {
+            e = e.mapRight(x -> x + 1);
+        }
+        return e;
+    }
+
+    @Benchmark
+    public io.vavr.control.Either<String, Integer> vavrEitherMap() {
+        io.vavr.control.Either<String, Integer> e = io.vavr.control.Either.right(seed);
+        for (int i = 0; i < steps; i++) {
+            e = e.map(x -> x + 1);
+        }
+        return e;
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherFlatMap() {
+        Either<String, Integer> e = new Either.Right<>(seed);
+        for (int i = 0; i < steps; i++) {
+            e = e.flatMapRight(x -> new Either.Right<>(x + 1));
+        }
+        return e;
+    }
+
+    @Benchmark
+    public io.vavr.control.Either<String, Integer> vavrEitherFlatMap() {
+        io.vavr.control.Either<String, Integer> e = io.vavr.control.Either.right(seed);
+        for (int i = 0; i < steps; i++) {
+            e = e.flatMap(x -> io.vavr.control.Either.right(x + 1));
+        }
+        return e;
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherMapLeft() {
+        Either<String, Integer> e = new Either.Left<>("left");
+        for (int i = 0; i < steps; i++) {
+            e = e.mapRight(x -> x + 1);
+        }
+        return e;
+    }
+
+    @Benchmark
+    public io.vavr.control.Either<String, Integer> vavrEitherMapLeft() {
+        io.vavr.control.Either<String, Integer> e = io.vavr.control.Either.left("left");
+        for (int i = 0; i < steps; i++) {
+            e = e.map(x -> x + 1);
+        }
+        return e;
+    }
+
+    @Benchmark
+    public int eitherFold() {
+        final Either<String, Integer> e = new Either.Right<>(seed);
+        return e.fold(String::length, x -> x);
+    }
+
+    @Benchmark
+    public int vavrEitherFold() {
+        final io.vavr.control.Either<String, Integer> e = io.vavr.control.Either.right(seed);
+        return e.fold(String::length, x -> x);
+    }
+
+    private int fail() {
+        throw new IllegalStateException("benchmark");
+    }
+}
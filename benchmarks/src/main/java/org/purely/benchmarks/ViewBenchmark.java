@@ -0,0 +1,139 @@
+package org.purely.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.purely.collections.PureLinkedList;
+import org.purely.collections.PureVector;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Average time of the {@link List} adapters returned by {@code toMutable()}, against the mutable lists they stand in
+ * for. Each benchmark leaves the list the same size it found it, so that the measurements don't drift as the
+ * iterations go on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ViewBenchmark {
+    public enum Impl {
+        PURE_LINKED_LIST_VIEW(values -> PureLinkedList.from(values).toMutable()),
+        PURE_VECTOR_VIEW(values -> PureVector.from(values).toMutable()),
+        ARRAY_LIST(ArrayList::new),
+        LINKED_LIST(LinkedList::new);
+
+        private final Function<List<Integer>, List<Integer>> factory;
+
+        Impl(Function<List<Integer>, List<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param
+    public Impl impl;
+
+    private List<Integer> values;
+    private List<Integer> list;
+    private Integer element;
+    private Integer last;
+    private int middle;
+
+    @Setup
+    public void setup() {
+        values = IntStream.range(0, size).boxed().toList();
+        list = impl.factory.apply(values);
+        element = -1;
+        last = size - 1;
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public List<Integer> create() {
+        return impl.factory.apply(values);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(middle);
+    }
+
+    @Benchmark
+    public Integer set() {
+        return list.set(middle, list.get(middle));
+    }
+
+    @Benchmark
+    public Integer addAndRemoveLast() {
+        list.add(element);
+        return list.removeLast();
+    }
+
+    @Benchmark
+    public Integer addAndRemoveFirst() {
+        list.addFirst(element);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addAndRemoveMiddle() {
+        list.add(middle, element);
+        return list.remove(middle);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(last);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(last);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer i : list) {
+            sum += i;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long listIterator() {
+        long sum = 0;
+        final ListIterator<Integer> it = list.listIterator(size);
+        while (it.hasPrevious()) {
+            sum += it.previous();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Integer> addAll() {
+        final List<Integer> ret = impl.factory.apply(values);
+        ret.addAll(values);
+        return ret;
+    }
+}
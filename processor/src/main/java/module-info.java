@@ -0,0 +1,6 @@
+module org.purely.processor {
+    requires org.purely;
+    requires java.compiler;
+
+    provides javax.annotation.processing.Processor with org.purely.annotations.processing.PureProcessor;
+}
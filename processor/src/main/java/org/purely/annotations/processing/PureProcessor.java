@@ -0,0 +1,344 @@
+package org.purely.annotations.processing;
+
+import org.purely.annotations.Memoize;
+import org.purely.annotations.Pure;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Checks {@link Pure} types at compile time, and generates the memoizing delegates of {@link Memoize} methods.
+ * <p>
+ * A {@link Pure} type is rejected if it has an instance field that isn't final, a setter, or a record component or
+ * non-private field of a mutable type: an array, a {@link java.util.Collection}, a {@link java.util.Map}, or one of a
+ * few well known mutable JDK classes, including as a type argument. Private fields may hold mutable types, since only
+ * the class itself can reach them, and may be non-final if they are volatile, for state that is computed lazily and
+ * then never changes, as in {@link org.purely.collections.PureLazyList}.
+ * <p>
+ * A {@link Memoize} method is rejected if any of its parameters has a mutable type, since its results would be cached
+ * by the identity of an object whose contents can change.
+ * <p>
+ * For a class {@code Foo} with {@link Memoize} methods, generates {@code FooMemoized} in the same package. Its
+ * constructor takes the {@code Foo} to delegate to, and it has a method of the same signature for each memoized
+ * instance method, which looks the arguments up in an {@link org.purely.functions.Memo} before calling the delegate.
+ * Memoized static methods get a static method of the same signature. The generated code is plain Java, with no
+ * reflection or proxies at runtime.
+ */
+public final class PureProcessor extends AbstractProcessor {
+    private static final List<String> MUTABLE_TYPES = List.of(
+            "java.util.Collection",
+            "java.util.Map",
+            "java.util.Iterator",
+            "java.util.Date",
+            "java.util.Calendar",
+            "java.lang.StringBuilder",
+            "java.lang.StringBuffer",
+            "java.util.concurrent.atomic.AtomicBoolean",
+            "java.util.concurrent.atomic.AtomicInteger",
+            "java.util.concurrent.atomic.AtomicLong",
+            "java.util.concurrent.atomic.AtomicReference");
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private List<TypeMirror> mutableTypes;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        this.mutableTypes = MUTABLE_TYPES.stream()
+                .map(elements::getTypeElement)
+                .filter(Objects::nonNull)
+                .map(e -> types.erasure(e.asType()))
+                .toList();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(Pure.class.getCanonicalName(), Memoize.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(Pure.class))) {
+            checkPure(type);
+        }
+
+        final Map<TypeElement, List<ExecutableElement>> memoized = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(roundEnv.getElementsAnnotatedWith(Memoize.class))) {
+            if (checkMemoize(method)) {
+                memoized.computeIfAbsent((TypeElement) method.getEnclosingElement(), k -> new ArrayList<>()).add(method);
+            }
+        }
+        memoized.forEach(this::generate);
+        return false;
+    }
+
+    private void checkPure(TypeElement type) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            final boolean lazy = modifiers.contains(Modifier.PRIVATE) && modifiers.contains(Modifier.VOLATILE);
+            if (!modifiers.contains(Modifier.FINAL) && !lazy) {
+                error(field, "fields of a @Pure type must be final, or private and volatile if lazily computed");
+            }
+            if (!modifiers.contains(Modifier.PRIVATE)) {
+                checkImmutable(field, field.asType());
+            }
+        }
+        for (RecordComponentElement component : ElementFilter.recordComponentsIn(type.getEnclosedElements())) {
+            checkImmutable(component, component.asType());
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            final String name = method.getSimpleName().toString();
+            if (!method.getModifiers().contains(Modifier.STATIC)
+                    && name.length() > 3
+                    && name.startsWith("set")
+                    && Character.isUpperCase(name.charAt(3))
+                    && method.getParameters().size() == 1) {
+                error(method, "@Pure types cannot have setters");
+            }
+        }
+    }
+
+    private void checkImmutable(Element element, TypeMirror type) {
+        findMutable(type).ifPresent(t -> error(element, "@Pure types cannot expose mutable type " + t));
+    }
+
+    private Optional<TypeMirror> findMutable(TypeMirror type) {
+        return switch (type) {
+            case ArrayType a -> Optional.of(a);
+            case DeclaredType d -> {
+                final TypeMirror erased = types.erasure(d);
+                if (mutableTypes.stream().anyMatch(m -> types.isSubtype(erased, m))) {
+                    yield Optional.of(d);
+                }
+                yield d.getTypeArguments().stream()
+                        .map(this::findMutable)
+                        .flatMap(Optional::stream)
+                        .findFirst();
+            }
+            default -> Optional.empty();
+        };
+    }
+
+    private boolean checkMemoize(ExecutableElement method) {
+        final TypeElement owner = (TypeElement) method.getEnclosingElement();
+        boolean ok = true;
+        if (method.getAnnotation(Pure.class) == null && owner.getAnnotation(Pure.class) == null) {
+            error(method, "@Memoize methods must be @Pure or belong to a @Pure type");
+            ok = false;
+        }
+        if (method.getModifiers().contains(Modifier.PRIVATE) || !isReachable(owner)) {
+            error(method, "@Memoize methods must be reachable from their package");
+            ok = false;
+        }
+        if (!method.getTypeParameters().isEmpty()) {
+            error(method, "@Memoize methods cannot be generic");
+            ok = false;
+        }
+        if (!method.getThrownTypes().isEmpty()) {
+            error(method, "@Memoize methods cannot declare exceptions");
+            ok = false;
+        }
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            error(method, "@Memoize methods must return a value");
+            ok = false;
+        }
+        for (VariableElement parameter : method.getParameters()) {
+            final Optional<TypeMirror> mutable = findMutable(parameter.asType());
+            if (mutable.isPresent()) {
+                error(parameter, "@Memoize methods cannot take mutable type " + mutable.get());
+                ok = false;
+            }
+        }
+        if (method.getParameters().size() > 10) {
+            error(method, "@Memoize methods cannot have more than 10 parameters");
+            ok = false;
+        }
+        if (method.getAnnotation(Memoize.class).maximumSize() < 0) {
+            error(method, "maximumSize cannot be negative");
+            ok = false;
+        }
+        return ok;
+    }
+
+    private static boolean isReachable(TypeElement type) {
+        Element e = type;
+        while (e instanceof TypeElement t) {
+            if (t.getModifiers().contains(Modifier.PRIVATE)
+                    || t.getNestingKind() == NestingKind.LOCAL
+                    || t.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            e = t.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generate(TypeElement owner, List<ExecutableElement> methods) {
+        final String packageName = elements.getPackageOf(owner).getQualifiedName().toString();
+        final String name = generatedName(owner);
+        final String typeParameters = typeParameters(owner);
+        final String typeArguments = owner.getTypeParameters().isEmpty()
+                ? ""
+                : owner.getTypeParameters().stream().map(p -> p.getSimpleName().toString()).collect(Collectors.joining(", ", "<", ">"));
+        final String ownerType = owner.getQualifiedName() + typeArguments;
+        final boolean hasInstanceMethods = methods.stream().anyMatch(m -> !m.getModifiers().contains(Modifier.STATIC));
+
+        final StringBuilder fields = new StringBuilder();
+        final StringBuilder initializers = new StringBuilder();
+        final StringBuilder delegates = new StringBuilder();
+        for (int i = 0; i < methods.size(); i++) {
+            final ExecutableElement method = methods.get(i);
+            final boolean isStatic = method.getModifiers().contains(Modifier.STATIC);
+            final String field = "memo$" + i;
+            final String target = isStatic ? owner.getQualifiedName().toString() : "delegate";
+            final String result = boxed(method.getReturnType());
+            final List<? extends VariableElement> parameters = method.getParameters();
+            final long maximumSize = method.getAnnotation(Memoize.class).maximumSize();
+            final String call = target + "." + method.getSimpleName();
+
+            final String memoType;
+            final String memo;
+            final String lookup;
+            switch (parameters.size()) {
+                case 0 -> {
+                    memoType = "org.purely.control.Eval<" + result + ">";
+                    memo = "org.purely.control.Eval.later(() -> " + call + "())";
+                    lookup = field + ".value()";
+                }
+                case 1 -> {
+                    final String key = boxed(parameters.getFirst().asType());
+                    memoType = "org.purely.functions.Memo<" + key + ", " + result + ">";
+                    memo = "org.purely.functions.Memo.of((" + key + " k) -> " + call + "(k), " + maximumSize + "L)";
+                    lookup = field + ".apply(" + parameters.getFirst().getSimpleName() + ")";
+                }
+                default -> {
+                    final String key = "org.purely.Tuple.Tuple" + parameters.size()
+                            + parameters.stream().map(p -> boxed(p.asType())).collect(Collectors.joining(", ", "<", ">"));
+                    memoType = "org.purely.functions.Memo<" + key + ", " + result + ">";
+                    memo = "org.purely.functions.Memo.of((" + key + " k) -> " + call
+                            + accessors(parameters.size()) + ", " + maximumSize + "L)";
+                    lookup = field + ".apply(org.purely.Tuple.of("
+                            + parameters.stream().map(p -> p.getSimpleName().toString()).collect(Collectors.joining(", ")) + "))";
+                }
+            }
+
+            if (isStatic) {
+                fields.append("    private static final ").append(memoType).append(' ').append(field)
+                        .append(" = ").append(memo).append(";\n");
+            } else {
+                fields.append("    private final ").append(memoType).append(' ').append(field).append(";\n");
+                initializers.append("        this.").append(field).append(" = ").append(memo).append(";\n");
+            }
+
+            delegates.append("\n    /**\n     * Memoized {@link ").append(owner.getQualifiedName()).append('#')
+                    .append(method.getSimpleName()).append("}.\n     */\n    ")
+                    .append(method.getModifiers().contains(Modifier.PUBLIC) ? "public " : "")
+                    .append(isStatic ? "static " : "")
+                    .append(method.getReturnType()).append(' ').append(method.getSimpleName())
+                    .append(parameters.stream().map(p -> p.asType() + " " + p.getSimpleName()).collect(Collectors.joining(", ", "(", ")")))
+                    .append(" {\n        return ").append(lookup).append(";\n    }\n");
+        }
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Caches the results of the {@link org.purely.annotations.Memoize} methods of {@link ")
+                .append(owner.getQualifiedName()).append("}.\n */\n")
+                .append(owner.getModifiers().contains(Modifier.PUBLIC) ? "public " : "")
+                .append("final class ").append(name).append(typeParameters).append(" {\n")
+                .append(fields);
+        if (hasInstanceMethods) {
+            source.append("    private final ").append(ownerType).append(" delegate;\n\n")
+                    .append("    public ").append(name).append('(').append(ownerType).append(" delegate) {\n")
+                    .append("        this.delegate = java.util.Objects.requireNonNull(delegate);\n")
+                    .append(initializers)
+                    .append("    }\n");
+        } else {
+            source.append("\n    private ").append(name).append("() {\n    }\n");
+        }
+        source.append(delegates).append("}\n");
+
+        final String qualifiedName = packageName.isEmpty() ? name : packageName + "." + name;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, owner).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(owner, "could not write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private static String generatedName(TypeElement owner) {
+        final List<String> names = new ArrayList<>();
+        Element e = owner;
+        while (e instanceof TypeElement t) {
+            names.addFirst(t.getSimpleName().toString());
+            e = t.getEnclosingElement();
+        }
+        return String.join("_", names) + "Memoized";
+    }
+
+    private static String typeParameters(TypeElement owner) {
+        if (owner.getTypeParameters().isEmpty()) {
+            return "";
+        }
+        return owner.getTypeParameters().stream().map(p -> {
+            final String bounds = p.getBounds().stream()
+                    .map(TypeMirror::toString)
+                    .filter(b -> !b.equals("java.lang.Object"))
+                    .collect(Collectors.joining(" & "));
+            return bounds.isEmpty() ? p.getSimpleName().toString() : p.getSimpleName() + " extends " + bounds;
+        }).collect(Collectors.joining(", ", "<", ">"));
+    }
+
+    private static String accessors(int arity) {
+        final List<String> names = List.of("first", "second", "third", "fourth", "fifth", "sixth", "seventh", "eighth",
+                "ninth", "tenth");
+        return names.subList(0, arity).stream().map(n -> "k." + n + "()").collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    private String boxed(TypeMirror type) {
+        return type instanceof PrimitiveType p
+                ? types.boxedClass(p).getQualifiedName().toString()
+                : type.toString();
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
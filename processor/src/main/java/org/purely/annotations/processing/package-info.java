@@ -0,0 +1,7 @@
+/**
+ * The annotation processor for {@link org.purely.annotations.Pure} and {@link org.purely.annotations.Memoize}. It
+ * ships separately from the library, as purely-java-processor, and is registered as a service both in
+ * {@code META-INF/services} and in the module descriptor, so adding it to the annotation processor path or the
+ * processor module path is enough to enable it.
+ */
+package org.purely.annotations.processing;
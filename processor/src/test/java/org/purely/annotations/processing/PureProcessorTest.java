@@ -0,0 +1,196 @@
+package org.purely.annotations.processing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.purely.functions.Memo;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void rejectsImpureTypes() throws Exception {
+        final var errors = compile("example.Point", """
+                package example;
+
+                import org.purely.annotations.Pure;
+
+                @Pure
+                public class Point {
+                    private int x;
+                    private volatile String description;
+                    public final java.util.List<int[]> history = java.util.List.of();
+                    private final java.util.List<String> cache = new java.util.ArrayList<>();
+
+                    public void setX(int x) {
+                        this.x = x;
+                    }
+                }
+                """);
+        assertEquals(List.of(
+                "fields of a @Pure type must be final, or private and volatile if lazily computed",
+                "@Pure types cannot expose mutable type java.util.List<int[]>",
+                "@Pure types cannot have setters"), errors);
+
+        assertEquals(List.of("@Pure types cannot expose mutable type java.lang.String[]"), compile("example.Name", """
+                package example;
+
+                @org.purely.annotations.Pure
+                public record Name(String[] parts, java.util.Optional<String> nickname) {
+                }
+                """));
+    }
+
+    @Test
+    void rejectsUncacheableMethods() throws Exception {
+        assertEquals(List.of(
+                "@Memoize methods must be @Pure or belong to a @Pure type",
+                "@Memoize methods cannot declare exceptions",
+                "@Memoize methods must return a value",
+                "@Memoize methods cannot take mutable type int[]"), compile("example.Service", """
+                package example;
+
+                import org.purely.annotations.Memoize;
+                import org.purely.annotations.Pure;
+
+                public class Service {
+                    @Memoize
+                    public int impure(int x) {
+                        return x;
+                    }
+
+                    @Pure
+                    @Memoize
+                    public int throwing(int x) throws java.io.IOException {
+                        return x;
+                    }
+
+                    @Pure
+                    @Memoize
+                    public void nothing(int x) {
+                    }
+
+                    @Pure
+                    @Memoize
+                    public int sum(int[] xs) {
+                        return java.util.Arrays.stream(xs).sum();
+                    }
+                }
+                """));
+    }
+
+    @Test
+    void generatesMemoizingDelegate() throws Exception {
+        assertEquals(List.of(), compile("example.Math", """
+                package example;
+
+                import org.purely.annotations.Memoize;
+                import org.purely.annotations.Pure;
+
+                @Pure
+                public final class Math {
+                    public static int calls = 0;
+                    private final int offset;
+
+                    public Math(int offset) {
+                        this.offset = offset;
+                    }
+
+                    @Memoize
+                    public int answer() {
+                        calls++;
+                        return 42 + offset;
+                    }
+
+                    @Memoize(maximumSize = 16)
+                    public long square(int x) {
+                        calls++;
+                        return (long) x * x + offset;
+                    }
+
+                    @Memoize
+                    public String repeat(String s, int n) {
+                        calls++;
+                        return s.repeat(n);
+                    }
+
+                    @Memoize
+                    public static int twice(int x) {
+                        calls++;
+                        return 2 * x;
+                    }
+                }
+                """));
+
+        try (var loader = new URLClassLoader(new java.net.URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            final Class<?> math = loader.loadClass("example.Math");
+            final Class<?> memoized = loader.loadClass("example.MathMemoized");
+            final Object m = memoized.getConstructor(math).newInstance(math.getConstructor(int.class).newInstance(1));
+            for (int i = 0; i < 2; i++) {
+                assertEquals(43, memoized.getMethod("answer").invoke(m));
+                assertEquals(10L, memoized.getMethod("square", int.class).invoke(m, 3));
+                assertEquals("abab", memoized.getMethod("repeat", String.class, int.class).invoke(m, "ab", 2));
+                assertEquals(6, memoized.getMethod("twice", int.class).invoke(null, 3));
+            }
+            assertEquals(4, math.getField("calls").get(null));
+        }
+    }
+
+    @Test
+    void libraryPassesItsOwnChecks() throws Exception {
+        final List<Path> sources;
+        try (var files = Files.walk(Path.of(System.getProperty("purely.sources")))) {
+            sources = files.filter(p -> p.toString().endsWith(".java") && !p.endsWith("module-info.java")).toList();
+        }
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = compiler.getStandardFileManager(null, null, null)) {
+            final var task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-proc:only", "-d", output.toString()), null,
+                    fileManager.getJavaFileObjectsFromPaths(sources));
+            task.setProcessors(List.of(new PureProcessor()));
+            task.call();
+        }
+        assertEquals(List.of(), diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getSource().getName() + ":" + d.getLineNumber() + ": " + d.getMessage(null))
+                .toList());
+    }
+
+    private List<String> compile(String name, String source) throws Exception {
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final var file = new SimpleJavaFileObject(
+                URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        final String classpath = Path.of(Memo.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toString();
+        final var task = compiler.getTask(null, null, diagnostics,
+                List.of("-classpath", classpath, "-d", output.toString(), "-s", output.toString()),
+                null, List.of(file));
+        task.setProcessors(List.of(new PureProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .toList();
+    }
+}
@@ -4,4 +4,5 @@ module org.purely {
     exports org.purely.annotations;
     exports org.purely.functions;
     exports org.purely.collections;
+    exports org.purely.concurrent;
 }
\ No newline at end of file
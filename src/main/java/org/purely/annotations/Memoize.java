@@ -0,0 +1,25 @@
+package org.purely.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation marks a {@link Pure} method whose results are worth caching.
+ * <p>
+ * When the purely-java-processor artifact is on the annotation processor path, it generates a delegate class for
+ * every class with memoized methods, named after the class with the suffix {@code Memoized}. It wraps an instance of
+ * the class, and caches the results of each of these methods in an {@link org.purely.functions.Memo} keyed by its
+ * arguments. Static methods are cached by static methods of the same class. The method must be {@link Pure} itself or
+ * belong to a {@link Pure} class, must not be private or generic, must not declare any exceptions, and must not take
+ * parameters of mutable types such as arrays.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface Memoize {
+    /**
+     * @return the number of results to keep.
+     */
+    long maximumSize() default 1024;
+}
@@ -13,6 +13,10 @@ import java.lang.annotation.Target;
  * <p>
  * On the method level, this annotation signifies that the method itself is referentially transparent, however the
  * class that contains it may not follow the above rules.
+ * <p>
+ * When the purely-java-processor artifact is on the annotation processor path, it checks that a class marked with
+ * this annotation has only final fields (or private volatile ones for lazily computed state), no setters, and doesn't
+ * expose fields of mutable types, and generates caching delegates for methods marked with {@link Memoize}.
  */
 @Retention(RetentionPolicy.CLASS)
 @Target({ElementType.METHOD, ElementType.TYPE})
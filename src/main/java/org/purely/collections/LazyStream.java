@@ -0,0 +1,52 @@
+package org.purely.collections;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A minimal memoized lazy stream used by {@link PureQueue.RealTimeQueue}. Forcing a stream evaluates its thunk at most
+ * once, and returns either a {@link Cell} or null for the empty stream.
+ */
+final class LazyStream<T> {
+    private static final LazyStream<?> EMPTY = new LazyStream<>(null, null);
+
+    private volatile Supplier<Cell<T>> thunk;
+    private Cell<T> cell;
+
+    LazyStream(Supplier<Cell<T>> thunk) {
+        this(thunk, null);
+    }
+
+    private LazyStream(Supplier<Cell<T>> thunk, Cell<T> cell) {
+        this.thunk = thunk;
+        this.cell = cell;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> LazyStream<T> empty() {
+        return (LazyStream<T>) EMPTY;
+    }
+
+    static <T> LazyStream<T> cons(T head, LazyStream<T> tail) {
+        return new LazyStream<>(null, new Cell<>(head, tail));
+    }
+
+    Cell<T> force() {
+        if (thunk != null) {
+            synchronized (this) {
+                final var t = thunk;
+                if (t != null) {
+                    cell = t.get();
+                    thunk = null;
+                }
+            }
+        }
+        return cell;
+    }
+
+    record Cell<T>(T head, LazyStream<T> tail) {
+        Cell {
+            Objects.requireNonNull(head, "PureQueue cannot contain null elements");
+        }
+    }
+}
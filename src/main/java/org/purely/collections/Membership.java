@@ -0,0 +1,138 @@
+package org.purely.collections;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Membership tests for the bulk operations {@link PureCollection#containsAll(Iterable)},
+ * {@link PureCollection#removeAll(Iterable)} and {@link PureCollection#retainAll(Iterable)}.
+ * <p>
+ * Testing every element of an N element collection against an M element argument with {@code contains} is O(NxM).
+ * Once both sides have at least {@link #HASH_THRESHOLD} elements, the smaller side is copied into a temporary
+ * {@link HashSet} instead, making the operation O(N + M). Arguments that are already sets are used as they are, and
+ * arguments of unknown size are always hashed, since they may not support being iterated more than once.
+ * <p>
+ * The predicates returned by {@link #in(Iterable, PureCollection)} may read the argument each time they are tested, so
+ * they must be used before the operation returns. Lazy operations use {@link #snapshot(Iterable)} instead.
+ */
+final class Membership {
+    /**
+     * Below this many elements on either side, a nested loop is cheaper than hashing.
+     */
+    static final int HASH_THRESHOLD = 16;
+
+    private Membership() {
+    }
+
+    /**
+     * Returns a predicate testing whether an element of the receiver is contained by the iterable.
+     * <p>
+     * runtime and space complexity: O(N + M), or O(1) if the iterable is a set or small enough to scan.
+     */
+    static Predicate<Object> in(Iterable<?> i, PureCollection<?> receiver) {
+        final int n = receiver.size();
+        switch (i) {
+            case PureSet<?> s -> {
+                return s::contains;
+            }
+            case Set<?> s -> {
+                return s::contains;
+            }
+            default -> {
+            }
+        }
+
+        final int m = sizeOf(i);
+        if (m >= 0 && (m < HASH_THRESHOLD || n < HASH_THRESHOLD)) {
+            return o -> {
+                for (Object x : i) {
+                    if (o.equals(x)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+        if (m < 0 || m <= n) {
+            return hash(i)::contains;
+        }
+
+        // Only elements of the receiver can ever be tested, so only those found in the iterable need to be kept.
+        final Set<Object> candidates = hash(receiver);
+        final Set<Object> found = new HashSet<>();
+        for (Object x : i) {
+            if (candidates.contains(x) && found.add(x) && found.size() == candidates.size()) {
+                break;
+            }
+        }
+        return found::contains;
+    }
+
+    /**
+     * Returns a predicate testing whether an element is contained by the iterable as it is now. Unless the iterable is
+     * a {@link PureSet}, which can't change, its elements are copied into a {@link HashSet}, so that later changes to
+     * a mutable argument don't affect the predicate.
+     * <p>
+     * runtime and space complexity: O(M), or O(1) if the iterable is a {@link PureSet}.
+     */
+    static Predicate<Object> snapshot(Iterable<?> i) {
+        if (i instanceof PureSet<?> s) {
+            return s::contains;
+        }
+        return hash(i)::contains;
+    }
+
+    /**
+     * Tests whether the receiver contains every element of the iterable.
+     * <p>
+     * runtime complexity: O(N + M), or O(NxM) if either side is smaller than {@link #HASH_THRESHOLD}.
+     * space complexity: O(min(N, M))
+     */
+    static boolean containsAll(PureCollection<?> receiver, Iterable<?> i) {
+        final int m = sizeOf(i);
+        final int n = receiver.size();
+        if (receiver instanceof PureSet<?> || (m >= 0 && m < HASH_THRESHOLD) || n < HASH_THRESHOLD) {
+            for (Object x : i) {
+                if (!receiver.contains(x)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (m < 0 || m <= n) {
+            final Set<Object> missing = hash(i);
+            for (Object t : receiver) {
+                if (missing.remove(t) && missing.isEmpty()) {
+                    return true;
+                }
+            }
+            return missing.isEmpty();
+        }
+        final Set<Object> present = hash(receiver);
+        for (Object x : i) {
+            if (!present.contains(x)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int sizeOf(Iterable<?> i) {
+        return switch (i) {
+            case PureCollection<?> c -> c.size();
+            case Collection<?> c -> c.size();
+            default -> -1;
+        };
+    }
+
+    private static Set<Object> hash(Iterable<?> i) {
+        final int m = sizeOf(i);
+        final Set<Object> ret = m < 0 ? new HashSet<>() : HashSet.newHashSet(m);
+        for (Object x : i) {
+            ret.add(x);
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,337 @@
+package org.purely.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The bit-partitioned vector trie behind the primitive-specialized collections. It has the same shape as a
+ * {@link PureVector}, a 32-way tree of leaves plus a tail buffer of the last (up to) 32 elements, but its leaves are
+ * primitive arrays of type {@code A}, so an element costs its primitive width instead of a reference plus a boxed
+ * object.
+ * <p>
+ * This class implements the structure of the trie, which never looks inside a leaf. Subclasses read and write the
+ * elements, and supply the leaf type through {@link #newLeaf(int)}.
+ *
+ * @param <A> The leaf array type, such as {@code int[]}.
+ * @param <V> The implementing class.
+ */
+abstract sealed class PrimitiveVector<A, V extends PrimitiveVector<A, V>>
+        permits PureIntList, PureLongVector, PureDoubleVector {
+    static final int BITS = 5;
+    static final int WIDTH = 1 << BITS;
+    static final int MASK = WIDTH - 1;
+    static final Object[] EMPTY_NODE = new Object[0];
+
+    final int size;
+    final int shift;
+    final Object[] root;
+    final A tail;
+
+    PrimitiveVector(int size, int shift, Object[] root, A tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    abstract A newLeaf(int length);
+
+    abstract int leafLength(A leaf);
+
+    abstract V with(int size, int shift, Object[] root, A tail);
+
+    abstract V clear();
+
+    /**
+     * runtime and space complexity: O(1)
+     *
+     * @return the number of elements in this collection.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    final int tailOffset() {
+        return size - leafLength(tail);
+    }
+
+    @SuppressWarnings("unchecked")
+    final A leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > BITS; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return (A) node[(index >>> BITS) & MASK];
+    }
+
+    final A copyOf(A leaf, int length) {
+        final A ret = newLeaf(length);
+        System.arraycopy(leaf, 0, ret, 0, Math.min(length, leafLength(leaf)));
+        return ret;
+    }
+
+    /**
+     * Returns the leaf the caller should write an appended element into: a copy of the tail one element longer, or a
+     * new single-element leaf if the tail is full. The element goes in the last slot, after which the leaf is passed
+     * to {@link #appended(Object)}.
+     */
+    final A appendLeaf() {
+        final int length = leafLength(tail);
+        return length == WIDTH ? newLeaf(1) : copyOf(tail, length + 1);
+    }
+
+    /**
+     * Returns this vector with one element appended, given the leaf returned by {@link #appendLeaf()} with the element
+     * written to it.
+     * <p>
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    final V appended(A newTail) {
+        if (leafLength(tail) < WIDTH) {
+            return with(size + 1, shift, root, newTail);
+        }
+
+        final Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[]{root, newPath(shift, tail)};
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return with(size + 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns this vector without its last element. This vector must not be empty.
+     * <p>
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    final V withoutLast() {
+        if (size == 1) {
+            return clear();
+        }
+        final int length = leafLength(tail);
+        if (length > 1) {
+            return with(size - 1, shift, root, copyOf(tail, length - 1));
+        }
+
+        final A newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.length == 1) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return with(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns this vector with the leaf holding the index replaced, copying the path from the root to it.
+     * <p>
+     * runtime and space complexity: O(log32 N)
+     */
+    final V withLeaf(int index, A leaf) {
+        if (index >= tailOffset()) {
+            return with(size, shift, root, leaf);
+        }
+        return with(size, shift, replaceLeaf(shift, root, index, leaf), tail);
+    }
+
+    /**
+     * Returns the elements from index {@code from}, inclusive, to {@code to}, exclusive, as a new vector. Leaves that
+     * land on a leaf boundary of the new vector are shared rather than copied.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    final V slice(int from, int to) {
+        if (from == 0 && to == size) {
+            return self();
+        }
+        final Builder<A, V> ret = new Builder<>(clear());
+        ret.appendRange(self(), from, to);
+        return ret.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private V self() {
+        return (V) this;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object tailNode) {
+        final int subIdx = ((size - 1) >>> level) & MASK;
+        final Object[] ret = Arrays.copyOf(parent, Math.max(parent.length, subIdx + 1));
+        if (level == BITS) {
+            ret[subIdx] = tailNode;
+        } else if (subIdx < parent.length) {
+            ret[subIdx] = pushTail(level - BITS, (Object[]) parent[subIdx], tailNode);
+        } else {
+            ret[subIdx] = newPath(level - BITS, tailNode);
+        }
+        return ret;
+    }
+
+    private Object[] popTail(int level, Object[] node) {
+        final int subIdx = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            final Object[] newChild = popTail(level - BITS, (Object[]) node[subIdx]);
+            if (newChild == null) {
+                return subIdx == 0 ? null : Arrays.copyOf(node, subIdx);
+            }
+            final Object[] ret = Arrays.copyOf(node, subIdx + 1);
+            ret[subIdx] = newChild;
+            return ret;
+        }
+        return subIdx == 0 ? null : Arrays.copyOf(node, subIdx);
+    }
+
+    private static Object[] newPath(int level, Object node) {
+        return new Object[]{level == BITS ? node : newPath(level - BITS, node)};
+    }
+
+    private static Object[] replaceLeaf(int level, Object[] node, int index, Object leaf) {
+        final Object[] ret = node.clone();
+        final int subIdx = (index >>> level) & MASK;
+        ret[subIdx] = level == BITS ? leaf : replaceLeaf(level - BITS, (Object[]) node[subIdx], index, leaf);
+        return ret;
+    }
+
+    /**
+     * Builds a vector by appending elements into a full-width leaf, sharing whole leaves of other vectors where they
+     * line up with its own leaf boundaries. The tree is only assembled on {@link #build()}, bottom up, in O(N / 32).
+     * <p>
+     * The public builders of the implementing classes wrap this one and write their elements directly into
+     * {@link #current} after {@link #reserve()}.
+     */
+    static final class Builder<A, V extends PrimitiveVector<A, V>> {
+        private final V prototype;
+        private final List<A> leaves;
+        A current;
+        private int count;
+        private int size;
+        private boolean built = false;
+
+        /**
+         * Creates a builder that appends to the seed vector, sharing every leaf of its tree.
+         */
+        Builder(V seed) {
+            this.prototype = seed;
+            this.leaves = new ArrayList<>(seed.tailOffset() >>> BITS);
+            for (int i = 0; i < seed.tailOffset(); i += WIDTH) {
+                leaves.add(seed.leafFor(i));
+            }
+            this.count = seed.leafLength(seed.tail);
+            this.current = seed.copyOf(seed.tail, WIDTH);
+            this.size = seed.size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Makes room for one more element, and returns the index in {@link #current} to write it to.
+         */
+        int reserve() {
+            checkNotBuilt();
+            flushIfFull();
+            size++;
+            return count++;
+        }
+
+        void appendRange(V source, int from, int to) {
+            checkNotBuilt();
+            while (from < to) {
+                final A leaf = source.leafFor(from);
+                final int offset = from & MASK;
+                final int available = Math.min(to - from, source.leafLength(leaf) - offset);
+                if (offset == 0 && available == WIDTH && (count == 0 || count == WIDTH)) {
+                    flushIfFull();
+                    leaves.add(leaf);
+                    size += WIDTH;
+                    from += WIDTH;
+                } else {
+                    flushIfFull();
+                    final int n = Math.min(available, WIDTH - count);
+                    System.arraycopy(leaf, offset, current, count, n);
+                    count += n;
+                    size += n;
+                    from += n;
+                }
+            }
+        }
+
+        void appendArray(A source, int from, int to) {
+            checkNotBuilt();
+            while (from < to) {
+                flushIfFull();
+                final int n = Math.min(to - from, WIDTH - count);
+                System.arraycopy(source, from, current, count, n);
+                count += n;
+                size += n;
+                from += n;
+            }
+        }
+
+        V build() {
+            checkNotBuilt();
+            built = true;
+            if (size == 0) {
+                return prototype.clear();
+            }
+            final A frozenTail;
+            if (count == 0) {
+                frozenTail = leaves.removeLast();
+            } else {
+                frozenTail = count == WIDTH ? current : prototype.copyOf(current, count);
+            }
+            if (leaves.isEmpty()) {
+                return prototype.with(size, BITS, EMPTY_NODE, frozenTail);
+            }
+
+            List<?> level = leaves;
+            int shift = BITS;
+            while (true) {
+                final List<Object[]> parents = new ArrayList<>((level.size() + MASK) >>> BITS);
+                for (int i = 0; i < level.size(); i += WIDTH) {
+                    parents.add(level.subList(i, Math.min(level.size(), i + WIDTH)).toArray());
+                }
+                if (parents.size() == 1) {
+                    return prototype.with(size, shift, parents.getFirst(), frozenTail);
+                }
+                level = parents;
+                shift += BITS;
+            }
+        }
+
+        private void flushIfFull() {
+            if (count == WIDTH) {
+                leaves.add(current);
+                current = prototype.newLeaf(WIDTH);
+                count = 0;
+            }
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("builder has already been built");
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package org.purely.collections;
 import org.purely.annotations.Pure;
 
 import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -92,15 +94,15 @@ public interface PureCollection<T> extends Iterable<T> {
     /**
      * Returns true if this collection contains all elements of the given iterable.
      * <p>
-     * The default implementation is O(NxM) in time and O(1) in space,
-     * where N is the size of the input, and M is the size of this collection.
+     * The default implementation hashes the smaller of this collection and the iterable once both have at least 16
+     * elements, and is O(N + M) in time and O(min(N, M)) in space, where N is the size of this collection and M is the
+     * size of the input. Below that it tests each element with {@link #contains(Object)}.
      *
      * @param i iterable to be checked for containment in this collection.
      * @return true if this collection contains all the elements in the specified collection.
      */
     default boolean containsAll(Iterable<?> i) {
-        return StreamSupport.stream(i.spliterator(), false)
-                .allMatch(this::contains);
+        return Membership.containsAll(this, i);
     }
 
     /**
@@ -148,4 +150,28 @@ public interface PureCollection<T> extends Iterable<T> {
     default Stream<T> stream() {
         return StreamSupport.stream(spliterator(), false);
     }
+
+    /**
+     * Returns a possibly parallel {@link Stream} with this collection as its source.
+     *
+     * @return a possibly parallel {@link Stream} over the elements in this collection.
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the elements in this collection.
+     * <p>
+     * Since a {@link PureCollection} can never change and never contains null, the spliterator reports
+     * {@link Spliterator#IMMUTABLE} and {@link Spliterator#NONNULL}, along with {@link Spliterator#SIZED}. The default
+     * implementation splits the collection's iterator into batches; implementors should override it with a spliterator
+     * that splits along the structure of the collection.
+     *
+     * @return a {@link Spliterator} over the elements in this collection.
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
 }
@@ -0,0 +1,879 @@
+package org.purely.collections;
+
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+import org.purely.annotations.Pure;
+import org.purely.collections.views.PureDequeView;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link PureDeque} is a persistent double-ended sequence backed by a 2-3 finger tree annotated with subtree sizes,
+ * as described by Hinze and Paterson in <i>Finger Trees: A Simple General-purpose Data Structure</i>.
+ * <p>
+ * The tree keeps between one and four elements at each end of every level in "digits", with the rest of the
+ * sequence stored one level down as 2-3 nodes. Since the ends of the sequence are always within reach of the root,
+ * {@link #addFirst(Object)}, {@link #addLast(Object)}, {@link #removeFirst()}, {@link #removeLast()},
+ * {@link #getFirst()} and {@link #getLast()} are all O(1) amortized.
+ * <p>
+ * Because every node knows its size, the tree can also be split at any index in O(log N), and two trees can be
+ * concatenated in O(log(min(N, M))). This makes {@link #addAll(Iterable)} of another {@link PureDeque},
+ * {@link #splitAt(int)}, {@link #subList(int, int)}, {@link #add(int, Object)} and {@link #remove(int)} all
+ * logarithmic. Indexed reads and writes with {@link #get(int)} and {@link #set(int, Object)} are O(log N).
+ * <p>
+ * The middle of each level is evaluated eagerly, so the amortized bounds hold for a single-threaded history of
+ * operations. Repeatedly operating on the same old version of a deque may cost up to O(log N) per operation.
+ *
+ * @param <T> The type contained by the {@link PureDeque}
+ */
+@Pure
+public final class PureDeque<T> implements PureList<T> {
+    private static final PureDeque<?> EMPTY = new PureDeque<>(Empty.INSTANCE);
+
+    private final Tree root;
+
+    private PureDeque(Tree root) {
+        this.root = root;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PureDeque<T> empty() {
+        return (PureDeque<T>) EMPTY;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SafeVarargs
+    public static <T> PureDeque<T> of(T... values) {
+        PureDeque<T> ret = PureDeque.empty();
+        for (T value : values) {
+            ret = ret.addLast(value);
+        }
+        return ret;
+    }
+
+    /**
+     * Creates a new {@link PureDeque} from the elements of the {@link Iterable}. If the iterable is a view created by
+     * {@link #toMutable()}, the underlying deque is returned in O(1).
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static <T> PureDeque<T> from(Iterable<T> it) {
+        if (it instanceof PureDequeView<T> v) {
+            return v.toPure();
+        }
+
+        PureDeque<T> ret = PureDeque.empty();
+        for (T t : it) {
+            ret = ret.addLast(t);
+        }
+        return ret;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public List<T> toMutable() {
+        return new PureDequeView<>(this);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return root.size();
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public boolean isEmpty() {
+        return root instanceof Empty;
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(log N)
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o).isPresent();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T[] toArray() {
+        return (T[]) this.stream().toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Equivalent to {@link #addLast(Object)}.
+     */
+    @Override
+    public PureDeque<T> add(T t) {
+        return addLast(t);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the element is not present, this same deque is returned.
+     * <p>
+     * runtime complexity: O(N)
+     * space complexity: O(log N)
+     */
+    @Override
+    public PureDeque<T> remove(Object o) {
+        return indexOf(o)
+                .flatMap(idx -> remove(idx.intValue()))
+                .map(Tuple2::second)
+                .orElse(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the {@link Iterable} is another {@link PureDeque}, the two trees are concatenated. Otherwise, each element is
+     * appended in turn.
+     * <p>
+     * runtime and space complexity: O(log(min(N, M))) for a {@link PureDeque}, otherwise O(M), where M is the number
+     * of elements added.
+     */
+    @Override
+    public PureDeque<T> addAll(Iterable<? extends T> i) {
+        if (i instanceof PureDeque<? extends T> other) {
+            return new PureDeque<>(concat(root, new Object[0], other.root));
+        }
+        if (i instanceof PureDequeView<? extends T> view) {
+            return addAll(view.toPure());
+        }
+        Tree ret = root;
+        for (T t : i) {
+            ret = pushBack(ret, Objects.requireNonNull(t, "PureDeque cannot contain null elements"));
+        }
+        return new PureDeque<>(ret);
+    }
+
+    /**
+     * Removes every element that is also contained by the {@link Iterable}.
+     * <p>
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
+    @Override
+    public PureDeque<T> removeAll(Iterable<?> i) {
+        return filter(i, false);
+    }
+
+    /**
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
+    @Override
+    public PureDeque<T> retainAll(Iterable<?> i) {
+        return filter(i, true);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureDeque<T> clear() {
+        return PureDeque.empty();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public PureDeque<T> reversed() {
+        Tree ret = Empty.INSTANCE;
+        for (T t : this) {
+            ret = pushFront(ret, t);
+        }
+        return new PureDeque<>(ret);
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized
+     */
+    @Override
+    public PureDeque<T> addFirst(T t) {
+        return new PureDeque<>(pushFront(root, Objects.requireNonNull(t, "PureDeque cannot contain null elements")));
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized
+     */
+    @Override
+    public PureDeque<T> addLast(T t) {
+        return new PureDeque<>(pushBack(root, Objects.requireNonNull(t, "PureDeque cannot contain null elements")));
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<T> getFirst() {
+        return switch (root) {
+            case Empty ignore -> Optional.empty();
+            case Single(var value) -> Optional.of((T) value);
+            case Deep(var ignore, var prefix, var middle, var suffix) -> Optional.of((T) prefix[0]);
+        };
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<T> getLast() {
+        return switch (root) {
+            case Empty ignore -> Optional.empty();
+            case Single(var value) -> Optional.of((T) value);
+            case Deep(var ignore, var prefix, var middle, var suffix) -> Optional.of((T) suffix[suffix.length - 1]);
+        };
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<Tuple2<T, PureDeque<T>>> removeFirst() {
+        final var view = viewFront(root);
+        return view == null ? Optional.empty() : Optional.of(Tuple.of((T) view.element(), new PureDeque<>(view.rest())));
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<Tuple2<T, PureDeque<T>>> removeLast() {
+        final var view = viewBack(root);
+        return view == null ? Optional.empty() : Optional.of(Tuple.of((T) view.element(), new PureDeque<>(view.rest())));
+    }
+
+    /**
+     * Splits this deque into the elements before the index and the elements from the index onward.
+     * <p>
+     * runtime and space complexity: O(log N)
+     *
+     * @param index the index of the first element of the second deque.
+     * @return the two halves of the deque, or {@code Optional.empty()} if the index is out of bounds.
+     */
+    public Optional<Tuple2<PureDeque<T>, PureDeque<T>>> splitAt(int index) {
+        if (index < 0 || index > size()) {
+            return Optional.empty();
+        }
+        if (index == size()) {
+            return Optional.of(Tuple.of(this, PureDeque.empty()));
+        }
+        final var split = splitTree(root, index);
+        return Optional.of(Tuple.of(new PureDeque<>(split.left()), new PureDeque<>(pushFront(split.right(), split.element()))));
+    }
+
+    /**
+     * runtime and space complexity: O(log N + M), where M is the number of elements added.
+     */
+    @Override
+    public Optional<PureDeque<T>> addAll(int index, Iterable<? extends T> element) {
+        return splitAt(index).map(halves -> halves.first().addAll(element).addAll(halves.second()));
+    }
+
+    /**
+     * runtime complexity: O(log N)
+     * space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<T> get(int index) {
+        if (index < 0 || index >= size()) {
+            return Optional.empty();
+        }
+        return Optional.of((T) lookup(root, index));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<Tuple2<T, PureDeque<T>>> set(int index, T element) {
+        Objects.requireNonNull(element, "PureDeque cannot contain null elements");
+        return get(index).map(old -> Tuple.of(old, new PureDeque<>(setTree(root, index, element))));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<PureDeque<T>> add(int index, T value) {
+        Objects.requireNonNull(value, "PureDeque cannot contain null elements");
+        return splitAt(index).map(halves -> new PureDeque<>(concat(halves.first().root, new Object[]{value}, halves.second().root)));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<Tuple2<T, PureDeque<T>>> remove(int index) {
+        if (index < 0 || index >= size()) {
+            return Optional.empty();
+        }
+        final var split = splitTree(root, index);
+        return Optional.of(Tuple.of((T) split.element(), new PureDeque<>(concat(split.left(), new Object[0], split.right()))));
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(log N)
+     */
+    @Override
+    public Optional<Integer> indexOf(Object o) {
+        int idx = 0;
+        for (T t : this) {
+            if (t.equals(o)) {
+                return Optional.of(idx);
+            }
+            idx++;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(log N)
+     */
+    @Override
+    public Optional<Integer> lastIndexOf(Object o) {
+        Optional<Integer> ret = Optional.empty();
+        int idx = 0;
+        for (T t : this) {
+            if (t.equals(o)) {
+                ret = Optional.of(idx);
+            }
+            idx++;
+        }
+        return ret;
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new DequeListIterator<>(this, 0);
+    }
+
+    @Override
+    public Optional<ListIterator<T>> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            return Optional.empty();
+        }
+        return Optional.of(new DequeListIterator<>(this, index));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<PureDeque<T>> subList(int from, int to) {
+        if (from > to) {
+            return Optional.empty();
+        }
+        return splitAt(to).flatMap(front -> front.first().splitAt(from)).map(Tuple2::second);
+    }
+
+    /**
+     * Splits with {@link #splitAt(int)} at the midpoint in O(log N), so both halves are exactly balanced and sized.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SliceSpliterator<>(this, size(), (d, n) -> d.splitAt(n).orElseThrow(),
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+
+    /**
+     * Iterates the tree in order, using an explicit stack of the digits, nodes and subtrees left to visit.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Object> stack = new ArrayDeque<>(List.of(root));
+            private Object next = advance();
+
+            private Object advance() {
+                while (!stack.isEmpty()) {
+                    switch (stack.pop()) {
+                        case Empty ignore -> {
+                        }
+                        case Single(var value) -> stack.push(value);
+                        case Deep(var ignore, var prefix, var middle, var suffix) -> {
+                            pushAll(suffix);
+                            stack.push(middle);
+                            pushAll(prefix);
+                        }
+                        case Node(var ignore, var items) -> pushAll(items);
+                        case Object element -> {
+                            return element;
+                        }
+                    }
+                }
+                return null;
+            }
+
+            private void pushAll(Object[] items) {
+                for (int i = items.length - 1; i >= 0; i--) {
+                    stack.push(items[i]);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                final Object ret = next;
+                next = advance();
+                return (T) ret;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PureDeque<?> other) || other.size() != size()) {
+            return false;
+        }
+        final Iterator<?> it = other.iterator();
+        for (T t : this) {
+            if (!t.equals(it.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int ret = 1;
+        for (T t : this) {
+            ret = 31 * ret + t.hashCode();
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + this.stream().map(Object::toString).collect(Collectors.joining(", ")) + "]";
+    }
+
+    private PureDeque<T> filter(Iterable<?> i, boolean keepMatches) {
+        final Predicate<Object> matches = Membership.in(i, this);
+        Tree ret = Empty.INSTANCE;
+        for (T t : this) {
+            if (matches.test(t) == keepMatches) {
+                ret = pushBack(ret, t);
+            }
+        }
+        return ret.size() == size() ? this : new PureDeque<>(ret);
+    }
+
+    /*
+     * The finger tree itself is untyped: the elements of the top level are the values of the deque, and the elements
+     * of every deeper level are Nodes. Users can never create a Node, so any other object is a value of size 1.
+     */
+
+    private sealed interface Tree permits Empty, Single, Deep {
+        int size();
+    }
+
+    private enum Empty implements Tree {
+        INSTANCE;
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    }
+
+    private record Single(Object value) implements Tree {
+        @Override
+        public int size() {
+            return sizeOf(value);
+        }
+    }
+
+    private record Deep(int size, Object[] prefix, Tree middle, Object[] suffix) implements Tree {
+    }
+
+    private record Node(int size, Object[] items) {
+    }
+
+    private record View(Object element, Tree rest) {
+    }
+
+    private record Split(Tree left, Object element, Tree right) {
+    }
+
+    private record DigitSplit(Object[] left, Object element, Object[] right) {
+    }
+
+    private static int sizeOf(Object element) {
+        return element instanceof Node n ? n.size() : 1;
+    }
+
+    private static int sizeOf(Object[] digit) {
+        int ret = 0;
+        for (Object element : digit) {
+            ret += sizeOf(element);
+        }
+        return ret;
+    }
+
+    private static Node node(Object... items) {
+        return new Node(sizeOf(items), items);
+    }
+
+    private static Deep deep(Object[] prefix, Tree middle, Object[] suffix) {
+        return new Deep(sizeOf(prefix) + middle.size() + sizeOf(suffix), prefix, middle, suffix);
+    }
+
+    private static Tree pushFront(Tree tree, Object element) {
+        return switch (tree) {
+            case Empty ignore -> new Single(element);
+            case Single(var value) -> deep(new Object[]{element}, Empty.INSTANCE, new Object[]{value});
+            case Deep(var size, var prefix, var middle, var suffix) when prefix.length == 4 -> new Deep(
+                    size + sizeOf(element),
+                    new Object[]{element, prefix[0]},
+                    pushFront(middle, node(prefix[1], prefix[2], prefix[3])),
+                    suffix);
+            case Deep(var size, var prefix, var middle, var suffix) -> {
+                final Object[] newPrefix = new Object[prefix.length + 1];
+                newPrefix[0] = element;
+                System.arraycopy(prefix, 0, newPrefix, 1, prefix.length);
+                yield new Deep(size + sizeOf(element), newPrefix, middle, suffix);
+            }
+        };
+    }
+
+    private static Tree pushBack(Tree tree, Object element) {
+        return switch (tree) {
+            case Empty ignore -> new Single(element);
+            case Single(var value) -> deep(new Object[]{value}, Empty.INSTANCE, new Object[]{element});
+            case Deep(var size, var prefix, var middle, var suffix) when suffix.length == 4 -> new Deep(
+                    size + sizeOf(element),
+                    prefix,
+                    pushBack(middle, node(suffix[0], suffix[1], suffix[2])),
+                    new Object[]{suffix[3], element});
+            case Deep(var size, var prefix, var middle, var suffix) -> {
+                final Object[] newSuffix = Arrays.copyOf(suffix, suffix.length + 1);
+                newSuffix[suffix.length] = element;
+                yield new Deep(size + sizeOf(element), prefix, middle, newSuffix);
+            }
+        };
+    }
+
+    private static Tree digitToTree(Object[] digit) {
+        Tree ret = Empty.INSTANCE;
+        for (Object element : digit) {
+            ret = pushBack(ret, element);
+        }
+        return ret;
+    }
+
+    private static View viewFront(Tree tree) {
+        return switch (tree) {
+            case Empty ignore -> null;
+            case Single(var value) -> new View(value, Empty.INSTANCE);
+            case Deep(var ignore, var prefix, var middle, var suffix) ->
+                    new View(prefix[0], deepFront(Arrays.copyOfRange(prefix, 1, prefix.length), middle, suffix));
+        };
+    }
+
+    private static View viewBack(Tree tree) {
+        return switch (tree) {
+            case Empty ignore -> null;
+            case Single(var value) -> new View(value, Empty.INSTANCE);
+            case Deep(var ignore, var prefix, var middle, var suffix) ->
+                    new View(suffix[suffix.length - 1], deepBack(prefix, middle, Arrays.copyOf(suffix, suffix.length - 1)));
+        };
+    }
+
+    /**
+     * Builds a tree from a possibly empty prefix, borrowing a node from the middle tree if needed.
+     */
+    private static Tree deepFront(Object[] prefix, Tree middle, Object[] suffix) {
+        if (prefix.length > 0) {
+            return deep(prefix, middle, suffix);
+        }
+        final var view = viewFront(middle);
+        if (view == null) {
+            return digitToTree(suffix);
+        }
+        return deep(((Node) view.element()).items(), view.rest(), suffix);
+    }
+
+    /**
+     * Builds a tree from a possibly empty suffix, borrowing a node from the middle tree if needed.
+     */
+    private static Tree deepBack(Object[] prefix, Tree middle, Object[] suffix) {
+        if (suffix.length > 0) {
+            return deep(prefix, middle, suffix);
+        }
+        final var view = viewBack(middle);
+        if (view == null) {
+            return digitToTree(prefix);
+        }
+        return deep(prefix, view.rest(), ((Node) view.element()).items());
+    }
+
+    /**
+     * Concatenates two trees with a small array of elements between them. The digits facing each other are packed
+     * into nodes and pushed down into the concatenation of the two middle trees.
+     */
+    private static Tree concat(Tree left, Object[] between, Tree right) {
+        if (left instanceof Empty) {
+            Tree ret = right;
+            for (int i = between.length - 1; i >= 0; i--) {
+                ret = pushFront(ret, between[i]);
+            }
+            return ret;
+        }
+        if (right instanceof Empty) {
+            Tree ret = left;
+            for (Object element : between) {
+                ret = pushBack(ret, element);
+            }
+            return ret;
+        }
+        if (left instanceof Single(var value)) {
+            return pushFront(concat(Empty.INSTANCE, between, right), value);
+        }
+        if (right instanceof Single(var value)) {
+            return pushBack(concat(left, between, Empty.INSTANCE), value);
+        }
+        final var l = (Deep) left;
+        final var r = (Deep) right;
+        final Object[] seam = new Object[l.suffix().length + between.length + r.prefix().length];
+        System.arraycopy(l.suffix(), 0, seam, 0, l.suffix().length);
+        System.arraycopy(between, 0, seam, l.suffix().length, between.length);
+        System.arraycopy(r.prefix(), 0, seam, l.suffix().length + between.length, r.prefix().length);
+        return deep(l.prefix(), concat(l.middle(), nodes(seam), r.middle()), r.suffix());
+    }
+
+    /**
+     * Packs between 2 and 12 elements into 2-3 nodes, preferring 3-nodes.
+     */
+    private static Object[] nodes(Object[] elements) {
+        final List<Object> ret = new ArrayList<>(4);
+        int i = 0;
+        while (elements.length - i > 4) {
+            ret.add(node(elements[i], elements[i + 1], elements[i + 2]));
+            i += 3;
+        }
+        switch (elements.length - i) {
+            case 2 -> ret.add(node(elements[i], elements[i + 1]));
+            case 3 -> ret.add(node(elements[i], elements[i + 1], elements[i + 2]));
+            default -> {
+                ret.add(node(elements[i], elements[i + 1]));
+                ret.add(node(elements[i + 2], elements[i + 3]));
+            }
+        }
+        return ret.toArray();
+    }
+
+    /**
+     * Splits a non-empty tree around the element containing the index, where {@code 0 <= index < tree.size()}.
+     */
+    private static Split splitTree(Tree tree, int index) {
+        return switch (tree) {
+            case Empty ignore -> throw new IllegalStateException("cannot split an empty tree");
+            case Single(var value) -> new Split(Empty.INSTANCE, value, Empty.INSTANCE);
+            case Deep(var ignore, var prefix, var middle, var suffix) -> {
+                final int prefixSize = sizeOf(prefix);
+                if (index < prefixSize) {
+                    final var split = splitDigit(prefix, index);
+                    yield new Split(digitToTree(split.left()), split.element(), deepFront(split.right(), middle, suffix));
+                }
+                final int middleSize = middle.size();
+                if (index < prefixSize + middleSize) {
+                    final var middleSplit = splitTree(middle, index - prefixSize);
+                    final var node = (Node) middleSplit.element();
+                    final var split = splitDigit(node.items(), index - prefixSize - middleSplit.left().size());
+                    yield new Split(
+                            deepBack(prefix, middleSplit.left(), split.left()),
+                            split.element(),
+                            deepFront(split.right(), middleSplit.right(), suffix));
+                }
+                final var split = splitDigit(suffix, index - prefixSize - middleSize);
+                yield new Split(deepBack(prefix, middle, split.left()), split.element(), digitToTree(split.right()));
+            }
+        };
+    }
+
+    private static DigitSplit splitDigit(Object[] digit, int index) {
+        int i = 0;
+        int remaining = index;
+        while (remaining >= sizeOf(digit[i])) {
+            remaining -= sizeOf(digit[i]);
+            i++;
+        }
+        return new DigitSplit(Arrays.copyOfRange(digit, 0, i), digit[i], Arrays.copyOfRange(digit, i + 1, digit.length));
+    }
+
+    private static Object lookup(Tree tree, int index) {
+        return switch (tree) {
+            case Empty ignore -> throw new IndexOutOfBoundsException(index);
+            case Single(var value) -> lookupIn(value, index);
+            case Deep(var ignore, var prefix, var middle, var suffix) -> {
+                final int prefixSize = sizeOf(prefix);
+                if (index < prefixSize) {
+                    yield lookupIn(prefix, index);
+                }
+                if (index < prefixSize + middle.size()) {
+                    yield lookup(middle, index - prefixSize);
+                }
+                yield lookupIn(suffix, index - prefixSize - middle.size());
+            }
+        };
+    }
+
+    private static Object lookupIn(Object element, int index) {
+        while (element instanceof Node(var ignore, var items)) {
+            int i = 0;
+            while (index >= sizeOf(items[i])) {
+                index -= sizeOf(items[i]);
+                i++;
+            }
+            element = items[i];
+        }
+        return element;
+    }
+
+    private static Object lookupIn(Object[] digit, int index) {
+        int i = 0;
+        while (index >= sizeOf(digit[i])) {
+            index -= sizeOf(digit[i]);
+            i++;
+        }
+        return lookupIn(digit[i], index);
+    }
+
+    private static Tree setTree(Tree tree, int index, Object value) {
+        return switch (tree) {
+            case Empty ignore -> throw new IndexOutOfBoundsException(index);
+            case Single(var element) -> new Single(setIn(element, index, value));
+            case Deep(var size, var prefix, var middle, var suffix) -> {
+                final int prefixSize = sizeOf(prefix);
+                if (index < prefixSize) {
+                    yield new Deep(size, setIn(prefix, index, value), middle, suffix);
+                }
+                if (index < prefixSize + middle.size()) {
+                    yield new Deep(size, prefix, setTree(middle, index - prefixSize, value), suffix);
+                }
+                yield new Deep(size, prefix, middle, setIn(suffix, index - prefixSize - middle.size(), value));
+            }
+        };
+    }
+
+    private static Object setIn(Object element, int index, Object value) {
+        if (element instanceof Node(var size, var items)) {
+            return new Node(size, setIn(items, index, value));
+        }
+        return value;
+    }
+
+    private static Object[] setIn(Object[] digit, int index, Object value) {
+        int i = 0;
+        while (index >= sizeOf(digit[i])) {
+            index -= sizeOf(digit[i]);
+            i++;
+        }
+        final Object[] ret = digit.clone();
+        ret[i] = setIn(digit[i], index, value);
+        return ret;
+    }
+
+    private static final class DequeListIterator<T> implements ListIterator<T> {
+        private final PureDeque<T> deque;
+        private int idx;
+
+        private DequeListIterator(PureDeque<T> deque, int index) {
+            this.deque = deque;
+            this.idx = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return idx < deque.size();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return deque.get(idx++).orElseThrow();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return idx > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return deque.get(--idx).orElseThrow();
+        }
+
+        @Override
+        public int nextIndex() {
+            return idx;
+        }
+
+        @Override
+        public int previousIndex() {
+            return idx - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(T t) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(T t) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,613 @@
+package org.purely.collections;
+
+import org.purely.annotations.Pure;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent vector of {@code double}s. It has the same structure and complexity as a {@link PureVector}, a 32-way
+ * trie with a tail buffer, but keeps its elements unboxed in {@code double[]} leaves. An element costs 8 bytes, where a
+ * {@code PureVector<Double>} spends a reference and a 24 byte {@link Double} on it.
+ * <p>
+ * The operations mirror {@link PureList}, taking and returning {@code double}s and {@link OptionalDouble}s. Where a
+ * {@link PureList} returns the removed or replaced element together with the new vector, this class only returns the
+ * new vector, so that nothing is boxed; read the element with {@link #get(int)} first if it's needed.
+ * {@link #boxed()} and {@link #from(Iterable)} convert to and from the generic collections.
+ * <p>
+ * Elements are compared as by {@link Double#equals(Object)}, so {@code NaN} is equal to itself and {@code 0.0} is not
+ * equal to {@code -0.0}, the same as in a {@code PureVector<Double>}.
+ */
+@Pure
+public final class PureDoubleVector extends PrimitiveVector<double[], PureDoubleVector> implements Iterable<Double> {
+    private static final double[] EMPTY_LEAF = new double[0];
+    private static final PureDoubleVector EMPTY = new PureDoubleVector(0, BITS, EMPTY_NODE, EMPTY_LEAF);
+
+    private PureDoubleVector(int size, int shift, Object[] root, double[] tail) {
+        super(size, shift, root, tail);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    public static PureDoubleVector empty() {
+        return EMPTY;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public static PureDoubleVector of(double... values) {
+        return builder().addAll(values).build();
+    }
+
+    /**
+     * Creates a new {@link PureDoubleVector} from the elements of the {@link Iterable}, unboxing each of them. If the
+     * iterable is already a {@link PureDoubleVector}, it is returned in O(1).
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static PureDoubleVector from(Iterable<Double> it) {
+        if (it instanceof PureDoubleVector l) {
+            return l;
+        }
+        final Builder ret = builder();
+        for (Double i : it) {
+            ret.add(Objects.requireNonNull(i, "PureDoubleVector cannot contain null elements"));
+        }
+        return ret.build();
+    }
+
+    /**
+     * Creates a new {@link PureDoubleVector} from the elements of the {@link DoubleStream}, in encounter order.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static PureDoubleVector from(DoubleStream stream) {
+        final Builder ret = builder();
+        stream.forEachOrdered(ret::add);
+        return ret.build();
+    }
+
+    /**
+     * Returns a new, empty {@link Builder}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static Builder builder() {
+        return new Builder(EMPTY);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureDoubleVector clear() {
+        return EMPTY;
+    }
+
+    /**
+     * runtime complexity: O(log32 N)
+     * space complexity: O(1)
+     */
+    public OptionalDouble get(int index) {
+        if (index < 0 || index >= size) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(unsafeGet(index));
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    public OptionalDouble getFirst() {
+        return get(0);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    public OptionalDouble getLast() {
+        return size == 0 ? OptionalDouble.empty() : OptionalDouble.of(tail[tail.length - 1]);
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public boolean contains(double value) {
+        return indexOf(value).isPresent();
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public OptionalDouble indexOf(double value) {
+        for (int i = 0; i < size; i += WIDTH) {
+            final double[] leaf = leafFor(i);
+            for (int j = 0; j < leaf.length; j++) {
+                if (Double.compare(leaf[j], value) == 0) {
+                    return OptionalDouble.of(i + j);
+                }
+            }
+        }
+        return OptionalDouble.empty();
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public OptionalDouble lastIndexOf(double value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Double.compare(unsafeGet(i), value) == 0) {
+                return OptionalDouble.of(i);
+            }
+        }
+        return OptionalDouble.empty();
+    }
+
+    /**
+     * Equivalent to {@link #addLast(double)}.
+     * <p>
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    public PureDoubleVector add(double value) {
+        return addLast(value);
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    public PureDoubleVector addLast(double value) {
+        final double[] newTail = appendLeaf();
+        newTail[newTail.length - 1] = value;
+        return appended(newTail);
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public PureDoubleVector addFirst(double value) {
+        return builder().add(value).addAll(this).build();
+    }
+
+    /**
+     * Inserting at the end of the vector is equivalent to {@link #addLast(double)}. Any other index requires rebuilding
+     * the vector after the index.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureDoubleVector> add(int index, double value) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        if (index == size) {
+            return Optional.of(addLast(value));
+        }
+        return Optional.of(builder().addAll(this, 0, index).add(value).addAll(this, index, size).build());
+    }
+
+    /**
+     * Appends the elements in place through a {@link Builder} seeded with this vector, sharing every leaf of this vector.
+     * <p>
+     * runtime and space complexity: O(M + N / 32), where M is the number of elements added.
+     */
+    public PureDoubleVector addAll(double... values) {
+        return values.length == 0 ? this : new Builder(this).addAll(values).build();
+    }
+
+    /**
+     * runtime and space complexity: O(M + N / 32), where M is the number of elements added.
+     */
+    public PureDoubleVector addAll(PureDoubleVector values) {
+        return values.isEmpty() ? this : new Builder(this).addAll(values).build();
+    }
+
+    /**
+     * runtime and space complexity: O(N + M), where M is the number of elements added.
+     */
+    public Optional<PureDoubleVector> addAll(int index, PureDoubleVector values) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        return Optional.of(builder().addAll(this, 0, index).addAll(values).addAll(this, index, size).build());
+    }
+
+    /**
+     * Returns a vector with the element at the index replaced.
+     * <p>
+     * runtime and space complexity: O(log32 N)
+     */
+    public Optional<PureDoubleVector> set(int index, double value) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        final double[] leaf = leafFor(index).clone();
+        leaf[index & MASK] = value;
+        return Optional.of(withLeaf(index, leaf));
+    }
+
+    /**
+     * Returns a vector without the element at the index. Removing the last element is equivalent to
+     * {@link #removeLast()}. Any other index requires rebuilding the vector after the index.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureDoubleVector> removeAt(int index) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        if (index == size - 1) {
+            return removeLast();
+        }
+        return Optional.of(builder().addAll(this, 0, index).addAll(this, index + 1, size).build());
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureDoubleVector> removeFirst() {
+        return removeAt(0);
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    public Optional<PureDoubleVector> removeLast() {
+        return size == 0 ? Optional.empty() : Optional.of(withoutLast());
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureDoubleVector> subList(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            return Optional.empty();
+        }
+        return Optional.of(slice(from, to));
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public PureDoubleVector reversed() {
+        final Builder ret = builder();
+        for (int i = size - 1; i >= 0; i--) {
+            ret.add(unsafeGet(i));
+        }
+        return ret.build();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public PureDoubleVector map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        final Builder ret = builder();
+        for (int i = 0; i < size; i += WIDTH) {
+            for (double value : leafFor(i)) {
+                ret.add(mapper.applyAsDouble(value));
+            }
+        }
+        return ret.build();
+    }
+
+    /**
+     * Returns a vector of the elements matching the predicate. If every element matches, this same vector is returned.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public PureDoubleVector filter(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        final Builder ret = builder();
+        for (int i = 0; i < size; i += WIDTH) {
+            for (double value : leafFor(i)) {
+                if (predicate.test(value)) {
+                    ret.add(value);
+                }
+            }
+        }
+        return ret.size() == size ? this : ret.build();
+    }
+
+    /**
+     * Folds the elements from first to last into the identity with the operator.
+     * <p>
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public double fold(double identity, DoubleBinaryOperator op) {
+        Objects.requireNonNull(op);
+        double ret = identity;
+        for (int i = 0; i < size; i += WIDTH) {
+            for (double value : leafFor(i)) {
+                ret = op.applyAsDouble(ret, value);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public double[] toArray() {
+        final double[] ret = new double[size];
+        for (int i = 0; i < size; i += WIDTH) {
+            final double[] leaf = leafFor(i);
+            System.arraycopy(leaf, 0, ret, i, leaf.length);
+        }
+        return ret;
+    }
+
+    /**
+     * Converts this vector into a {@link PureVector} of boxed {@link Double}s.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public PureVector<Double> boxed() {
+        final PureVector.Builder<Double> ret = PureVector.builder();
+        for (int i = 0; i < size; i += WIDTH) {
+            for (double value : leafFor(i)) {
+                ret.add(value);
+            }
+        }
+        return ret.build();
+    }
+
+    /**
+     * Returns a sequential {@link DoubleStream} over the elements of this vector.
+     *
+     * @return a sequential {@link DoubleStream} over the elements of this vector.
+     */
+    public DoubleStream stream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link DoubleStream} over the elements of this vector.
+     *
+     * @return a possibly parallel {@link DoubleStream} over the elements of this vector.
+     */
+    public DoubleStream parallelStream() {
+        return StreamSupport.doubleStream(spliterator(), true);
+    }
+
+    /**
+     * Splits the index range at its midpoint in O(1), and traverses a leaf array at a time.
+     */
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return new DoubleVectorSpliterator(this, 0, size);
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private int idx = 0;
+            private double[] leaf = leafFor(0);
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (idx != 0 && (idx & MASK) == 0) {
+                    leaf = leafFor(idx);
+                }
+                return leaf[idx++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PureDoubleVector other) || other.size != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i += WIDTH) {
+            if (!Arrays.equals(leafFor(i), other.leafFor(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the elements in the same way as {@link java.util.List#hashCode()}, so a vector hashes the same as its
+     * {@link #boxed()} counterpart.
+     */
+    @Override
+    public int hashCode() {
+        int ret = 1;
+        for (int i = 0; i < size; i += WIDTH) {
+            for (double value : leafFor(i)) {
+                ret = 31 * ret + Double.hashCode(value);
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder ret = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                ret.append(", ");
+            }
+            ret.append(unsafeGet(i));
+        }
+        return ret.append(']').toString();
+    }
+
+    @Override
+    double[] newLeaf(int length) {
+        return new double[length];
+    }
+
+    @Override
+    int leafLength(double[] leaf) {
+        return leaf.length;
+    }
+
+    @Override
+    PureDoubleVector with(int size, int shift, Object[] root, double[] tail) {
+        return new PureDoubleVector(size, shift, root, tail);
+    }
+
+    private double unsafeGet(int index) {
+        return leafFor(index)[index & MASK];
+    }
+
+    /**
+     * A transient vector for building a {@link PureDoubleVector} by appending elements in place. Whole leaves of the vectors
+     * passed to {@link #addAll(PureDoubleVector)} are shared rather than copied when they line up with the leaves of the
+     * vector being built.
+     * <p>
+     * A builder is not thread safe, and may not be used after {@link #build()} has been called, since the built vector
+     * shares its leaves.
+     */
+    public static final class Builder {
+        private final PrimitiveVector.Builder<double[], PureDoubleVector> trie;
+
+        private Builder(PureDoubleVector seed) {
+            this.trie = new PrimitiveVector.Builder<>(seed);
+        }
+
+        /**
+         * Appends an element to the vector being built.
+         * <p>
+         * runtime and space complexity: amortized O(1)
+         *
+         * @param value the element to append.
+         * @return this builder.
+         */
+        public Builder add(double value) {
+            final int idx = trie.reserve();
+            trie.current[idx] = value;
+            return this;
+        }
+
+        /**
+         * Appends every element of the array to the vector being built.
+         * <p>
+         * runtime and space complexity: O(M), where M is the number of elements added.
+         *
+         * @param values the elements to append.
+         * @return this builder.
+         */
+        public Builder addAll(double... values) {
+            trie.appendArray(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Appends every element of the vector to the vector being built.
+         * <p>
+         * runtime and space complexity: O(M), where M is the number of elements added.
+         *
+         * @param values the elements to append.
+         * @return this builder.
+         */
+        public Builder addAll(PureDoubleVector values) {
+            return addAll(values, 0, values.size);
+        }
+
+        private Builder addAll(PureDoubleVector values, int from, int to) {
+            trie.appendRange(values, from, to);
+            return this;
+        }
+
+        /**
+         * @return the number of elements in the vector being built.
+         */
+        public int size() {
+            return trie.size();
+        }
+
+        /**
+         * Freezes the builder into a {@link PureDoubleVector}.
+         * <p>
+         * runtime and space complexity: O(N / 32)
+         *
+         * @return the built vector.
+         */
+        public PureDoubleVector build() {
+            return trie.build();
+        }
+    }
+
+    private static final class DoubleVectorSpliterator implements Spliterator.OfDouble {
+        private final PureDoubleVector vector;
+        private int idx;
+        private final int fence;
+
+        private DoubleVectorSpliterator(PureDoubleVector vector, int idx, int fence) {
+            this.vector = vector;
+            this.idx = idx;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (idx >= fence) {
+                return false;
+            }
+            action.accept(vector.unsafeGet(idx++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            while (idx < fence) {
+                final double[] leaf = vector.leafFor(idx);
+                final int end = Math.min(fence, (idx | MASK) + 1);
+                for (int i = idx & MASK; idx < end; i++, idx++) {
+                    action.accept(leaf[i]);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            final int mid = (idx + fence) >>> 1;
+            if (mid <= idx) {
+                return null;
+            }
+            final var ret = new DoubleVectorSpliterator(vector, idx, mid);
+            idx = mid;
+            return ret;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - idx;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,731 @@
+package org.purely.collections;
+
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+import org.purely.annotations.Pure;
+import org.purely.collections.views.PureHashMapView;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link PureHashMap} is a persistent hash map implemented as a Hash Array Mapped Trie, as described by Phil Bagwell
+ * in <i>Ideal Hash Trees</i> and popularized by Clojure's {@code PersistentHashMap}.
+ * <p>
+ * Each level of the trie consumes 5 bits of the key's hash to pick one of 32 possible branches. Rather than allocating
+ * all 32 slots, every node keeps a 32-bit bitmap of which branches are present, and a compact array holding only those
+ * branches, found by counting the bits set below the branch's position. Entries are stored inline in the node where
+ * their hash prefix first becomes unique, and keys whose hashes collide completely share a collision node.
+ * <p>
+ * This keeps the trie at most log32(N) levels deep, so {@link #get(Object)}, {@link #put(Object, Object)} and
+ * {@link #remove(Object)} run in O(log32 N), effectively constant time. Updates copy only the nodes on the path from
+ * the root to the changed entry, sharing everything else with the source map.
+ *
+ * @param <K> The type of the keys in the map.
+ * @param <V> The type of the values in the map.
+ */
+@Pure
+public final class PureHashMap<K, V> implements PureMap<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final Object NOT_FOUND = new Object();
+    private static final PureHashMap<?, ?> EMPTY = new PureHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PureHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PureHashMap<K, V> empty() {
+        return (PureHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Creates a new {@link PureHashMap} from the entries of the {@link Map}. If the map is a view created by
+     * {@link #toMutable()}, the underlying map is returned in O(1).
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static <K, V> PureHashMap<K, V> from(Map<K, V> m) {
+        if (m instanceof PureHashMapView<K, V> v) {
+            return v.toPure();
+        }
+        return PureHashMap.<K, V>builder().putAll(m).build();
+    }
+
+    /**
+     * Returns a new, empty {@link Builder}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>(PureHashMap.empty());
+    }
+
+    /**
+     * Creates a new {@link PureHashMap} from an {@link Iterable} of key value pairs. Later pairs replace earlier pairs
+     * with the same key.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static <K, V> PureHashMap<K, V> fromEntries(Iterable<? extends Tuple2<? extends K, ? extends V>> entries) {
+        final Builder<K, V> ret = PureHashMap.builder();
+        for (var entry : entries) {
+            ret.put(entry.first(), entry.second());
+        }
+        return ret.build();
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public Map<K, V> toMutable() {
+        return new PureHashMapView<>(this);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * runtime complexity: O(log32 N)
+     * space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<V> get(Object key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        final Object ret = root.find(0, hash(key), key);
+        return ret == NOT_FOUND ? Optional.empty() : Optional.of((V) ret);
+    }
+
+    /**
+     * runtime complexity: O(log32 N)
+     * space complexity: O(1)
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && root.find(0, hash(key), key) != NOT_FOUND;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the key is already associated with the same value instance, this same map is returned.
+     * <p>
+     * runtime and space complexity: O(log32 N)
+     */
+    @Override
+    public PureHashMap<K, V> put(K key, V value) {
+        Objects.requireNonNull(key, "PureHashMap cannot contain null keys");
+        Objects.requireNonNull(value, "PureHashMap cannot contain null values");
+        final var change = new Change();
+        final Node newRoot = root.put(0, hash(key), key, value, null, change);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PureHashMap<>(newRoot, change.sizeChanged ? size + 1 : size);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the key is not present, this same map is returned.
+     * <p>
+     * runtime and space complexity: O(log32 N)
+     */
+    @Override
+    public PureHashMap<K, V> remove(Object key) {
+        if (key == null) {
+            return this;
+        }
+        final var change = new Change();
+        final Node newRoot = root.remove(0, hash(key), key, null, change);
+        if (!change.sizeChanged) {
+            return this;
+        }
+        return new PureHashMap<>(newRoot == null ? BitmapNode.EMPTY : newRoot, size - 1);
+    }
+
+    /**
+     * Adds the entries in place through a {@link Builder} seeded with this map.
+     * <p>
+     * runtime and space complexity: O(M log32 N), where M is the number of entries added.
+     */
+    @Override
+    public PureHashMap<K, V> putAll(Map<? extends K, ? extends V> m) {
+        return new Builder<>(this).putAll(m).buildOr(this);
+    }
+
+    /**
+     * Adds the entries in place through a {@link Builder} seeded with this map.
+     * <p>
+     * runtime and space complexity: O(M log32 N), where M is the number of entries added.
+     */
+    @Override
+    public PureHashMap<K, V> putAll(PureMap<? extends K, ? extends V> m) {
+        return new Builder<>(this).putAll(m).buildOr(this);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureHashMap<K, V> clear() {
+        return PureHashMap.empty();
+    }
+
+    /**
+     * Splits by handing half of the pending subtrees to the new spliterator. Subtree sizes are not tracked, so only
+     * the unsplit spliterator is sized.
+     */
+    @Override
+    public Spliterator<Tuple2<K, V>> spliterator() {
+        final var nodes = new ArrayDeque<Node>();
+        nodes.add(root);
+        return new TrieSpliterator<>(nodes, size, Spliterator.SIZED);
+    }
+
+    @Override
+    public Iterator<Tuple2<K, V>> iterator() {
+        return new Iterator<>() {
+            private final Deque<Object[]> arrays = new ArrayDeque<>();
+            private final Deque<Integer> positions = new ArrayDeque<>();
+            private Tuple2<K, V> next;
+
+            {
+                push(root);
+                next = advance();
+            }
+
+            private void push(Node node) {
+                arrays.push(switch (node) {
+                    case BitmapNode b -> b.array;
+                    case CollisionNode c -> c.array;
+                });
+                positions.push(0);
+            }
+
+            @SuppressWarnings("unchecked")
+            private Tuple2<K, V> advance() {
+                while (!arrays.isEmpty()) {
+                    final Object[] array = arrays.peek();
+                    final int position = positions.pop();
+                    if (position >= array.length) {
+                        arrays.pop();
+                        continue;
+                    }
+                    positions.push(position + 2);
+                    if (array[position] == null) {
+                        push((Node) array[position + 1]);
+                    } else {
+                        return Tuple.of((K) array[position], (V) array[position + 1]);
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Tuple2<K, V> next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                final var ret = next;
+                next = advance();
+                return ret;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PureMap<?, ?> other) || other.size() != size) {
+            return false;
+        }
+        try {
+            for (var entry : this) {
+                if (!other.get(entry.first()).map(entry.second()::equals).orElse(false)) {
+                    return false;
+                }
+            }
+        } catch (ClassCastException e) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int ret = 0;
+        for (var entry : this) {
+            ret += entry.first().hashCode() ^ entry.second().hashCode();
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return "{" + this.stream().map(e -> e.first() + "=" + e.second()).collect(Collectors.joining(", ")) + "}";
+    }
+
+    private static int hash(Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Records whether an update added or removed an entry, so the size can be maintained without a second lookup.
+     */
+    private static final class Change {
+        private boolean sizeChanged = false;
+    }
+
+    /**
+     * A transient map for building a {@link PureHashMap} by editing nodes in place.
+     * <p>
+     * Every node records the builder, if any, that created it. A persistent update copies each node on the path to
+     * the changed entry; an update through a builder copies a node only the first time it touches it, and edits the
+     * nodes it created in place from then on. {@link #build()} wraps the current root in O(1) and retires the builder,
+     * after which none of its nodes can be edited again.
+     * <p>
+     * A builder is not thread safe, and may not be used after {@link #build()} has been called.
+     *
+     * @param <K> The type of the keys in the map.
+     * @param <V> The type of the values in the map.
+     */
+    public static final class Builder<K, V> {
+        private final Object owner = new Object();
+        private Node root;
+        private int size;
+        private boolean built = false;
+
+        private Builder(PureHashMap<K, V> from) {
+            this.root = from.root;
+            this.size = from.size;
+        }
+
+        /**
+         * Associates the key with the value in the map being built, replacing any previous association.
+         * <p>
+         * runtime and space complexity: O(log32 N)
+         *
+         * @param key   the key to associate.
+         * @param value the value to associate with the key.
+         * @return this builder.
+         */
+        public Builder<K, V> put(K key, V value) {
+            Objects.requireNonNull(key, "PureHashMap cannot contain null keys");
+            Objects.requireNonNull(value, "PureHashMap cannot contain null values");
+            if (built) {
+                throw new IllegalStateException("builder has already been built");
+            }
+            final var change = new Change();
+            root = root.put(0, hash(key), key, value, owner, change);
+            if (change.sizeChanged) {
+                size++;
+            }
+            return this;
+        }
+
+        /**
+         * Adds every entry of the {@link Map} to the map being built.
+         * <p>
+         * runtime and space complexity: O(M log32 N), where M is the number of entries added.
+         *
+         * @param m the entries to add.
+         * @return this builder.
+         */
+        public Builder<K, V> putAll(Map<? extends K, ? extends V> m) {
+            for (var entry : m.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Adds every entry of the {@link PureMap} to the map being built.
+         * <p>
+         * runtime and space complexity: O(M log32 N), where M is the number of entries added.
+         *
+         * @param m the entries to add.
+         * @return this builder.
+         */
+        public Builder<K, V> putAll(PureMap<? extends K, ? extends V> m) {
+            for (var entry : m) {
+                put(entry.first(), entry.second());
+            }
+            return this;
+        }
+
+        /**
+         * @return the number of entries in the map being built.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Freezes the builder into a {@link PureHashMap}.
+         * <p>
+         * runtime and space complexity: O(1)
+         *
+         * @return the built map.
+         */
+        public PureHashMap<K, V> build() {
+            if (built) {
+                throw new IllegalStateException("builder has already been built");
+            }
+            built = true;
+            return size == 0 ? PureHashMap.empty() : new PureHashMap<>(root, size);
+        }
+
+        /**
+         * Freezes the builder, or returns the map it was seeded with if nothing was changed.
+         */
+        private PureHashMap<K, V> buildOr(PureHashMap<K, V> seed) {
+            return root == seed.root ? seed : build();
+        }
+    }
+
+    private static final class TrieSpliterator<K, V> implements Spliterator<Tuple2<K, V>> {
+        private final ArrayDeque<Node> nodes;
+        private int sized;
+        private Object[] array = new Object[0];
+        private int idx = 0;
+        private long estimate;
+
+        private TrieSpliterator(ArrayDeque<Node> nodes, long estimate, int sized) {
+            this.nodes = nodes;
+            this.estimate = estimate;
+            this.sized = sized;
+        }
+
+        /**
+         * Makes the entries stored inline in the next pending node current, and queues its children.
+         */
+        private void expand() {
+            array = switch (nodes.poll()) {
+                case BitmapNode b -> b.array;
+                case CollisionNode c -> c.array;
+            };
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) {
+                    nodes.addFirst((Node) array[i + 1]);
+                }
+            }
+            idx = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super Tuple2<K, V>> action) {
+            while (true) {
+                while (idx < array.length) {
+                    final Object key = array[idx];
+                    final Object value = array[idx + 1];
+                    idx += 2;
+                    if (key != null) {
+                        estimate--;
+                        action.accept(Tuple.of((K) key, (V) value));
+                        return true;
+                    }
+                }
+                if (nodes.isEmpty()) {
+                    return false;
+                }
+                expand();
+            }
+        }
+
+        @Override
+        public Spliterator<Tuple2<K, V>> trySplit() {
+            while (idx == array.length && nodes.size() == 1) {
+                expand();
+            }
+            if (nodes.size() < 2) {
+                return null;
+            }
+            final var split = new ArrayDeque<Node>();
+            for (int i = nodes.size() / 2; i > 0; i--) {
+                split.add(nodes.poll());
+            }
+            // Neither half knows its exact size any more.
+            sized = 0;
+            estimate >>>= 1;
+            return new TrieSpliterator<>(split, estimate, 0);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL | sized;
+        }
+    }
+
+    private sealed interface Node permits BitmapNode, CollisionNode {
+        Object find(int shift, int hash, Object key);
+
+        /**
+         * Associates the key with the value below this node. Nodes created by the owner are edited in place, and any
+         * other node on the path is copied. A null owner copies every node.
+         *
+         * @return the updated node, which may be this same node.
+         */
+        Node put(int shift, int hash, Object key, Object value, Object owner, Change change);
+
+        /**
+         * Removes the key below this node, copying every node on the path, or editing those created by the owner.
+         *
+         * @return the updated node, or null if the node is now empty.
+         */
+        Node remove(int shift, int hash, Object key, Object owner, Change change);
+    }
+
+    /**
+     * A trie node holding up to 32 branches. The array holds a pair of slots per branch present in the bitmap: either
+     * a key and its value, or null and a child node.
+     * <p>
+     * The fields are only ever assigned while the node is owned by a {@link Builder} that has not been built, before
+     * the node is reachable from any {@link PureHashMap}.
+     */
+    private static final class BitmapNode implements Node {
+        private static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        private final Object owner;
+        private int bitmap;
+        private Object[] array;
+
+        private BitmapNode(Object owner, int bitmap, Object[] array) {
+            this.owner = owner;
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private boolean ownedBy(Object owner) {
+            return owner != null && owner == this.owner;
+        }
+
+        private int index(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            final int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            final int idx = index(bit);
+            final Object k = array[idx];
+            if (k == null) {
+                return ((Node) array[idx + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? array[idx + 1] : NOT_FOUND;
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, Object owner, Change change) {
+            final int bit = bitFor(hash, shift);
+            final int idx = index(bit);
+            if ((bitmap & bit) == 0) {
+                final Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, idx);
+                newArray[idx] = key;
+                newArray[idx + 1] = value;
+                System.arraycopy(array, idx, newArray, idx + 2, array.length - idx);
+                change.sizeChanged = true;
+                if (ownedBy(owner)) {
+                    bitmap |= bit;
+                    array = newArray;
+                    return this;
+                }
+                return new BitmapNode(owner, bitmap | bit, newArray);
+            }
+            final Object k = array[idx];
+            final Object v = array[idx + 1];
+            if (k == null) {
+                final Node child = ((Node) v).put(shift + BITS, hash, key, value, owner, change);
+                return child == v ? this : with(idx, null, child, owner);
+            }
+            if (key.equals(k)) {
+                return value == v ? this : with(idx, k, value, owner);
+            }
+            change.sizeChanged = true;
+            return with(idx, null, pair(shift + BITS, k, v, hash, key, value, owner), owner);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key, Object owner, Change change) {
+            final int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            final int idx = index(bit);
+            final Object k = array[idx];
+            final Object v = array[idx + 1];
+            if (k == null) {
+                final Node child = ((Node) v).remove(shift + BITS, hash, key, owner, change);
+                if (!change.sizeChanged) {
+                    return this;
+                }
+                if (child == null) {
+                    return without(bit, idx, owner);
+                }
+                return child == v ? this : with(idx, null, child, owner);
+            }
+            if (!key.equals(k)) {
+                return this;
+            }
+            change.sizeChanged = true;
+            return without(bit, idx, owner);
+        }
+
+        private BitmapNode with(int idx, Object key, Object value, Object owner) {
+            if (ownedBy(owner)) {
+                array[idx] = key;
+                array[idx + 1] = value;
+                return this;
+            }
+            final Object[] newArray = array.clone();
+            newArray[idx] = key;
+            newArray[idx + 1] = value;
+            return new BitmapNode(owner, bitmap, newArray);
+        }
+
+        private BitmapNode without(int bit, int idx, Object owner) {
+            if (bitmap == bit) {
+                return null;
+            }
+            final Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            System.arraycopy(array, idx + 2, newArray, idx, array.length - idx - 2);
+            if (ownedBy(owner)) {
+                bitmap ^= bit;
+                array = newArray;
+                return this;
+            }
+            return new BitmapNode(owner, bitmap ^ bit, newArray);
+        }
+
+        /**
+         * Creates the smallest subtree holding two distinct keys whose hashes agree up to the given shift.
+         */
+        private static Node pair(int shift, Object key1, Object value1, int hash2, Object key2, Object value2,
+                                 Object owner) {
+            final int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(owner, hash1, new Object[]{key1, value1, key2, value2});
+            }
+            final var ignore = new Change();
+            return EMPTY.put(shift, hash1, key1, value1, owner, ignore)
+                    .put(shift, hash2, key2, value2, owner, ignore);
+        }
+    }
+
+    /**
+     * Holds every entry whose key has exactly the same hash, as alternating keys and values.
+     */
+    private static final class CollisionNode implements Node {
+        private final Object owner;
+        private final int hash;
+        private Object[] array;
+
+        private CollisionNode(Object owner, int hash, Object[] array) {
+            this.owner = owner;
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            final int idx = indexOf(key);
+            return idx < 0 ? NOT_FOUND : array[idx + 1];
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, Object owner, Change change) {
+            if (hash != this.hash) {
+                return new BitmapNode(owner, bitFor(this.hash, shift), new Object[]{null, this})
+                        .put(shift, hash, key, value, owner, change);
+            }
+            final int idx = indexOf(key);
+            if (idx >= 0) {
+                if (array[idx + 1] == value) {
+                    return this;
+                }
+                final Object[] newArray = array.clone();
+                newArray[idx + 1] = value;
+                return withArray(newArray, owner);
+            }
+            change.sizeChanged = true;
+            final Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            return withArray(newArray, owner);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key, Object owner, Change change) {
+            final int idx = indexOf(key);
+            if (idx < 0) {
+                return this;
+            }
+            change.sizeChanged = true;
+            if (array.length == 2) {
+                return null;
+            }
+            final Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            System.arraycopy(array, idx + 2, newArray, idx, array.length - idx - 2);
+            return withArray(newArray, owner);
+        }
+
+        private CollisionNode withArray(Object[] newArray, Object owner) {
+            if (owner != null && owner == this.owner) {
+                array = newArray;
+                return this;
+            }
+            return new CollisionNode(owner, hash, newArray);
+        }
+    }
+}
@@ -0,0 +1,822 @@
+package org.purely.collections;
+
+import org.purely.annotations.Pure;
+import org.purely.collections.views.PureHashSetView;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link PureHashSet} is a persistent hash set implemented as a Compressed Hash-Array Mapped Prefix-tree (CHAMP), as
+ * described by Steindorfer and Vinju in <i>Optimizing Hash-Array Mapped Tries for Fast and Lean Immutable JVM
+ * Collections</i>.
+ * <p>
+ * Like a classic hash array mapped trie, each level consumes 5 bits of an element's hash to pick one of 32 branches.
+ * Unlike the classic layout, each node keeps two bitmaps, one for elements stored inline and one for child nodes, and
+ * groups all inline elements at the front of its array and all children at the back. Iteration therefore walks
+ * contiguous runs of elements without type checks, and no slot is spent marking whether an entry is an element or a
+ * node.
+ * <p>
+ * Removal keeps the trie in a canonical form: a child left with a single element is inlined into its parent. Two equal
+ * sets therefore always have the same shape, which lets {@link #equals(Object)} compare nodes structurally instead of
+ * looking up every element.
+ * <p>
+ * {@link #contains(Object)}, {@link #add(Object)} and {@link #remove(Object)} run in O(log32 N), effectively constant
+ * time, and updates copy only the path from the root to the changed element.
+ *
+ * @param <T> The type of the elements in the set.
+ */
+@Pure
+public final class PureHashSet<T> implements PureSet<T> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_SHIFT = 30;
+    private static final PureHashSet<?> EMPTY = new PureHashSet<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PureHashSet(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PureHashSet<T> empty() {
+        return (PureHashSet<T>) EMPTY;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SafeVarargs
+    public static <T> PureHashSet<T> of(T... values) {
+        final Builder<T> ret = PureHashSet.builder();
+        for (T value : values) {
+            ret.add(value);
+        }
+        return ret.build();
+    }
+
+    /**
+     * Creates a new {@link PureHashSet} from the elements of the {@link Iterable}. If the iterable is a view created by
+     * {@link #toMutable()}, the underlying set is returned in O(1).
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static <T> PureHashSet<T> from(Iterable<T> it) {
+        if (it instanceof PureHashSetView<T> v) {
+            return v.toPure();
+        }
+        return PureHashSet.<T>builder().addAll(it).build();
+    }
+
+    /**
+     * Returns a new, empty {@link Builder}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>(PureHashSet.empty());
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public Set<T> toMutable() {
+        return new PureHashSetView<>(this);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * runtime complexity: O(log32 N)
+     * space complexity: O(1)
+     */
+    @Override
+    public boolean contains(Object o) {
+        return o != null && root.contains(o, hash(o), 0);
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T[] toArray() {
+        final Object[] ret = new Object[size];
+        int i = 0;
+        for (T t : this) {
+            ret[i++] = t;
+        }
+        return (T[]) ret;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the element is already present, this same set is returned.
+     * <p>
+     * runtime and space complexity: O(log32 N)
+     */
+    @Override
+    public PureHashSet<T> add(T t) {
+        Objects.requireNonNull(t, "PureHashSet cannot contain null elements");
+        final var change = new Change();
+        final Node newRoot = root.add(t, hash(t), 0, null, change);
+        return change.sizeChanged ? new PureHashSet<>(newRoot, size + 1) : this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the element is not present, this same set is returned.
+     * <p>
+     * runtime and space complexity: O(log32 N)
+     */
+    @Override
+    public PureHashSet<T> remove(Object o) {
+        if (o == null) {
+            return this;
+        }
+        final var change = new Change();
+        final Node newRoot = root.remove(o, hash(o), 0, null, change);
+        return change.sizeChanged ? new PureHashSet<>(newRoot, size - 1) : this;
+    }
+
+    /**
+     * Adds the elements in place through a {@link Builder} seeded with this set.
+     * <p>
+     * runtime and space complexity: O(M log32 N), where M is the number of elements added.
+     */
+    @Override
+    public PureHashSet<T> addAll(Iterable<? extends T> i) {
+        return new Builder<>(this).addAll(i).buildOr(this);
+    }
+
+    /**
+     * Removes the elements in place through a {@link Builder} seeded with this set.
+     * <p>
+     * runtime and space complexity: O(M log32 N), where M is the number of elements removed.
+     */
+    @Override
+    public PureHashSet<T> removeAll(Iterable<?> i) {
+        final Builder<T> ret = new Builder<>(this);
+        for (Object o : i) {
+            ret.remove(o);
+        }
+        return ret.buildOr(this);
+    }
+
+    /**
+     * If the iterable is not already a {@link PureSet} or {@link Set}, the smaller of it and this set is first hashed
+     * into a temporary index so each membership test is near-constant time.
+     * <p>
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
+    @Override
+    public PureHashSet<T> retainAll(Iterable<?> i) {
+        final Predicate<Object> keep = Membership.in(i, this);
+        final Builder<T> ret = new Builder<>(this);
+        for (T t : this) {
+            if (!keep.test(t)) {
+                ret.remove(t);
+            }
+        }
+        return ret.buildOr(this);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureHashSet<T> clear() {
+        return PureHashSet.empty();
+    }
+
+    /**
+     * Splits by handing half of the pending subtrees to the new spliterator. Subtree sizes are not tracked, so only
+     * the unsplit spliterator is sized.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        final var nodes = new ArrayDeque<Node>();
+        nodes.add(root);
+        return new TrieSpliterator<>(nodes, size, Spliterator.SIZED);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node> pending = new ArrayDeque<>();
+            private Object[] payload = new Object[0];
+            private int idx = 0;
+            private int end = 0;
+
+            {
+                pending.push(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (idx == end && !pending.isEmpty()) {
+                    switch (pending.pop()) {
+                        case BitmapNode b -> {
+                            for (int i = b.content.length - 1; i >= b.payloadArity(); i--) {
+                                pending.push((Node) b.content[i]);
+                            }
+                            payload = b.content;
+                            end = b.payloadArity();
+                        }
+                        case CollisionNode c -> {
+                            payload = c.elements;
+                            end = c.elements.length;
+                        }
+                    }
+                    idx = 0;
+                }
+                return idx < end;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) payload[idx++];
+            }
+        };
+    }
+
+    /**
+     * Since the trie is kept in canonical form, two sets are compared node by node, skipping any subtree the two sets
+     * share.
+     * <p>
+     * runtime complexity: O(N)
+     * space complexity: O(log32 N)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof PureHashSet<?> other && other.size == size && root.equals(other.root);
+    }
+
+    @Override
+    public int hashCode() {
+        int ret = 0;
+        for (T t : this) {
+            ret += t.hashCode();
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + this.stream().map(Object::toString).collect(Collectors.joining(", ")) + "]";
+    }
+
+    private static int hash(Object o) {
+        final int h = o.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Creates the smallest subtree holding two distinct elements, both of which belong below the given shift.
+     */
+    private static Node merge(Object o1, int hash1, Object o2, int hash2, int shift, Object owner) {
+        if (shift > MAX_SHIFT) {
+            return new CollisionNode(owner, hash1, new Object[]{o1, o2});
+        }
+        final int bit1 = bitFor(hash1, shift);
+        final int bit2 = bitFor(hash2, shift);
+        if (bit1 == bit2) {
+            return new BitmapNode(owner, 0, bit1, new Object[]{merge(o1, hash1, o2, hash2, shift + BITS, owner)});
+        }
+        return new BitmapNode(owner, bit1 | bit2, 0, Integer.compareUnsigned(bit1, bit2) < 0
+                ? new Object[]{o1, o2}
+                : new Object[]{o2, o1});
+    }
+
+    /**
+     * Records whether an update added or removed an element. Updates through a {@link Builder} may edit nodes in place,
+     * so a change cannot be detected by comparing the returned node to the original.
+     */
+    private static final class Change {
+        private boolean sizeChanged = false;
+    }
+
+    /**
+     * A transient set for building a {@link PureHashSet} by editing nodes in place.
+     * <p>
+     * Every node records the builder, if any, that created it. A persistent update copies each node on the path to
+     * the changed element; an update through a builder copies a node only the first time it touches it, and edits
+     * the nodes it created in place from then on. {@link #build()} wraps the current root in O(1) and retires the
+     * builder, after which none of its nodes can be edited again.
+     * <p>
+     * A builder is not thread safe, and may not be used after {@link #build()} has been called.
+     *
+     * @param <T> The type of the elements in the set.
+     */
+    public static final class Builder<T> {
+        private final Object owner = new Object();
+        private Node root;
+        private int size;
+        private boolean built = false;
+
+        private Builder(PureHashSet<T> from) {
+            this.root = from.root;
+            this.size = from.size;
+        }
+
+        /**
+         * Adds an element to the set being built, if it is not already present.
+         * <p>
+         * runtime and space complexity: O(log32 N)
+         *
+         * @param t the element to add.
+         * @return this builder.
+         */
+        public Builder<T> add(T t) {
+            Objects.requireNonNull(t, "PureHashSet cannot contain null elements");
+            checkNotBuilt();
+            final var change = new Change();
+            root = root.add(t, hash(t), 0, owner, change);
+            if (change.sizeChanged) {
+                size++;
+            }
+            return this;
+        }
+
+        /**
+         * Adds every element of the {@link Iterable} to the set being built.
+         * <p>
+         * runtime and space complexity: O(M log32 N), where M is the number of elements added.
+         *
+         * @param i the elements to add.
+         * @return this builder.
+         */
+        public Builder<T> addAll(Iterable<? extends T> i) {
+            for (T t : i) {
+                add(t);
+            }
+            return this;
+        }
+
+        /**
+         * Removes an element from the set being built, if it is present.
+         * <p>
+         * runtime and space complexity: O(log32 N)
+         *
+         * @param o the element to remove.
+         * @return this builder.
+         */
+        public Builder<T> remove(Object o) {
+            checkNotBuilt();
+            if (o == null) {
+                return this;
+            }
+            final var change = new Change();
+            root = root.remove(o, hash(o), 0, owner, change);
+            if (change.sizeChanged) {
+                size--;
+            }
+            return this;
+        }
+
+        /**
+         * @return the number of elements in the set being built.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Freezes the builder into a {@link PureHashSet}.
+         * <p>
+         * runtime and space complexity: O(1)
+         *
+         * @return the built set.
+         */
+        public PureHashSet<T> build() {
+            checkNotBuilt();
+            built = true;
+            return size == 0 ? PureHashSet.empty() : new PureHashSet<>(root, size);
+        }
+
+        /**
+         * Freezes the builder, or returns the set it was seeded with if nothing was changed.
+         */
+        private PureHashSet<T> buildOr(PureHashSet<T> seed) {
+            return root == seed.root ? seed : build();
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("builder has already been built");
+            }
+        }
+    }
+
+    private static final class TrieSpliterator<T> implements Spliterator<T> {
+        private final ArrayDeque<Node> nodes;
+        private int sized;
+        private Object[] payload = new Object[0];
+        private int idx = 0;
+        private int end = 0;
+        private long estimate;
+
+        private TrieSpliterator(ArrayDeque<Node> nodes, long estimate, int sized) {
+            this.nodes = nodes;
+            this.estimate = estimate;
+            this.sized = sized;
+        }
+
+        /**
+         * Makes the elements stored inline in the next pending node current, and queues its children.
+         */
+        private void expand() {
+            switch (nodes.poll()) {
+                case BitmapNode b -> {
+                    for (int i = b.payloadArity(); i < b.content.length; i++) {
+                        nodes.addFirst((Node) b.content[i]);
+                    }
+                    payload = b.content;
+                    end = b.payloadArity();
+                }
+                case CollisionNode c -> {
+                    payload = c.elements;
+                    end = c.elements.length;
+                }
+            }
+            idx = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (idx == end) {
+                if (nodes.isEmpty()) {
+                    return false;
+                }
+                expand();
+            }
+            estimate--;
+            action.accept((T) payload[idx++]);
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            while (idx == end && nodes.size() == 1) {
+                expand();
+            }
+            if (nodes.size() < 2) {
+                return null;
+            }
+            final var split = new ArrayDeque<Node>();
+            for (int i = nodes.size() / 2; i > 0; i--) {
+                split.add(nodes.poll());
+            }
+            // Neither half knows its exact size any more.
+            sized = 0;
+            estimate >>>= 1;
+            return new TrieSpliterator<>(split, estimate, 0);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL | sized;
+        }
+    }
+
+    private sealed interface Node permits BitmapNode, CollisionNode {
+        boolean contains(Object o, int hash, int shift);
+
+        /**
+         * Adds an element below this node. Nodes created by the owner are edited in place, and any other node on the
+         * path is copied. A null owner copies every node.
+         *
+         * @return the updated node, which may be this same node.
+         */
+        Node add(Object o, int hash, int shift, Object owner, Change change);
+
+        /**
+         * Removes an element below this node, editing or copying nodes as for
+         * {@link #add(Object, int, int, Object, Change)}.
+         *
+         * @return the updated node, which may be this same node.
+         */
+        Node remove(Object o, int hash, int shift, Object owner, Change change);
+
+        /**
+         * @return the only element below this node, or null if there is more than one.
+         */
+        Object singleElement();
+    }
+
+    /**
+     * A trie node whose array holds the inline elements selected by {@code dataMap} in bit order, followed by the
+     * child nodes selected by {@code nodeMap} in reverse bit order.
+     * <p>
+     * The fields are only ever assigned while the node is owned by a {@link Builder} that has not been built, before
+     * the node is reachable from any {@link PureHashSet}.
+     */
+    private static final class BitmapNode implements Node {
+        private static final BitmapNode EMPTY = new BitmapNode(null, 0, 0, new Object[0]);
+
+        private final Object owner;
+        private int dataMap;
+        private int nodeMap;
+        private Object[] content;
+
+        private BitmapNode(Object owner, int dataMap, int nodeMap, Object[] content) {
+            this.owner = owner;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private boolean ownedBy(Object owner) {
+            return owner != null && owner == this.owner;
+        }
+
+        private int payloadArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit) {
+            return content.length - 1 - Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        @Override
+        public boolean contains(Object o, int hash, int shift) {
+            final int bit = bitFor(hash, shift);
+            if ((dataMap & bit) != 0) {
+                return o.equals(content[dataIndex(bit)]);
+            }
+            if ((nodeMap & bit) != 0) {
+                return ((Node) content[nodeIndex(bit)]).contains(o, hash, shift + BITS);
+            }
+            return false;
+        }
+
+        @Override
+        public Node add(Object o, int hash, int shift, Object owner, Change change) {
+            final int bit = bitFor(hash, shift);
+            if ((dataMap & bit) != 0) {
+                final int idx = dataIndex(bit);
+                final Object existing = content[idx];
+                if (o.equals(existing)) {
+                    return this;
+                }
+                change.sizeChanged = true;
+                return inlineToNode(bit, idx, merge(existing, hash(existing), o, hash, shift + BITS, owner), owner);
+            }
+            if ((nodeMap & bit) != 0) {
+                final int idx = nodeIndex(bit);
+                final Node child = (Node) content[idx];
+                final Node newChild = child.add(o, hash, shift + BITS, owner, change);
+                return newChild == child ? this : withNode(idx, newChild, owner);
+            }
+            change.sizeChanged = true;
+            final int idx = dataIndex(bit);
+            final Object[] newContent = new Object[content.length + 1];
+            System.arraycopy(content, 0, newContent, 0, idx);
+            newContent[idx] = o;
+            System.arraycopy(content, idx, newContent, idx + 1, content.length - idx);
+            if (ownedBy(owner)) {
+                dataMap |= bit;
+                content = newContent;
+                return this;
+            }
+            return new BitmapNode(owner, dataMap | bit, nodeMap, newContent);
+        }
+
+        @Override
+        public Node remove(Object o, int hash, int shift, Object owner, Change change) {
+            final int bit = bitFor(hash, shift);
+            if ((dataMap & bit) != 0) {
+                final int idx = dataIndex(bit);
+                if (!o.equals(content[idx])) {
+                    return this;
+                }
+                change.sizeChanged = true;
+                final Object[] newContent = new Object[content.length - 1];
+                System.arraycopy(content, 0, newContent, 0, idx);
+                System.arraycopy(content, idx + 1, newContent, idx, content.length - idx - 1);
+                if (ownedBy(owner)) {
+                    dataMap ^= bit;
+                    content = newContent;
+                    return this;
+                }
+                return new BitmapNode(owner, dataMap ^ bit, nodeMap, newContent);
+            }
+            if ((nodeMap & bit) != 0) {
+                final int idx = nodeIndex(bit);
+                final Node child = (Node) content[idx];
+                final Node newChild = child.remove(o, hash, shift + BITS, owner, change);
+                if (!change.sizeChanged) {
+                    return this;
+                }
+                final Object single = newChild.singleElement();
+                if (single != null) {
+                    return nodeToInline(bit, idx, single, owner);
+                }
+                return newChild == child ? this : withNode(idx, newChild, owner);
+            }
+            return this;
+        }
+
+        @Override
+        public Object singleElement() {
+            return nodeMap == 0 && content.length == 1 ? content[0] : null;
+        }
+
+        private BitmapNode withNode(int idx, Node node, Object owner) {
+            if (ownedBy(owner)) {
+                content[idx] = node;
+                return this;
+            }
+            final Object[] newContent = content.clone();
+            newContent[idx] = node;
+            return new BitmapNode(owner, dataMap, nodeMap, newContent);
+        }
+
+        /**
+         * Replaces the inline element at {@code dataIdx} with a child node holding it and its new sibling.
+         */
+        private BitmapNode inlineToNode(int bit, int dataIdx, Node node, Object owner) {
+            final int nodeIdx = content.length - 1 - Integer.bitCount(nodeMap & (bit - 1));
+            final boolean inPlace = ownedBy(owner);
+            final Object[] newContent = inPlace ? content : new Object[content.length];
+            System.arraycopy(content, 0, newContent, 0, inPlace ? 0 : dataIdx);
+            System.arraycopy(content, dataIdx + 1, newContent, dataIdx, nodeIdx - dataIdx);
+            newContent[nodeIdx] = node;
+            System.arraycopy(content, nodeIdx + 1, newContent, nodeIdx + 1, inPlace ? 0 : content.length - nodeIdx - 1);
+            if (inPlace) {
+                dataMap ^= bit;
+                nodeMap |= bit;
+                return this;
+            }
+            return new BitmapNode(owner, dataMap ^ bit, nodeMap | bit, newContent);
+        }
+
+        /**
+         * Replaces the child node at {@code nodeIdx} with its only remaining element, stored inline.
+         */
+        private BitmapNode nodeToInline(int bit, int nodeIdx, Object element, Object owner) {
+            final int dataIdx = dataIndex(bit);
+            final boolean inPlace = ownedBy(owner);
+            final Object[] newContent = inPlace ? content : new Object[content.length];
+            System.arraycopy(content, 0, newContent, 0, inPlace ? 0 : dataIdx);
+            System.arraycopy(content, dataIdx, newContent, dataIdx + 1, nodeIdx - dataIdx);
+            newContent[dataIdx] = element;
+            System.arraycopy(content, nodeIdx + 1, newContent, nodeIdx + 1, inPlace ? 0 : content.length - nodeIdx - 1);
+            if (inPlace) {
+                dataMap |= bit;
+                nodeMap ^= bit;
+                return this;
+            }
+            return new BitmapNode(owner, dataMap | bit, nodeMap ^ bit, newContent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BitmapNode other) || other.dataMap != dataMap || other.nodeMap != nodeMap) {
+                return false;
+            }
+            return Arrays.equals(content, other.content);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * dataMap + nodeMap) + Arrays.hashCode(content);
+        }
+    }
+
+    /**
+     * Holds every element whose hash is exactly the same, below the last level of the trie.
+     */
+    private static final class CollisionNode implements Node {
+        private final Object owner;
+        private final int hash;
+        private Object[] elements;
+
+        private CollisionNode(Object owner, int hash, Object[] elements) {
+            this.owner = owner;
+            this.hash = hash;
+            this.elements = elements;
+        }
+
+        private int indexOf(Object o) {
+            for (int i = 0; i < elements.length; i++) {
+                if (o.equals(elements[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean contains(Object o, int hash, int shift) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public Node add(Object o, int hash, int shift, Object owner, Change change) {
+            if (indexOf(o) >= 0) {
+                return this;
+            }
+            change.sizeChanged = true;
+            final Object[] newElements = Arrays.copyOf(elements, elements.length + 1);
+            newElements[elements.length] = o;
+            return withElements(newElements, owner);
+        }
+
+        @Override
+        public Node remove(Object o, int hash, int shift, Object owner, Change change) {
+            final int idx = indexOf(o);
+            if (idx < 0) {
+                return this;
+            }
+            change.sizeChanged = true;
+            final Object[] newElements = new Object[elements.length - 1];
+            System.arraycopy(elements, 0, newElements, 0, idx);
+            System.arraycopy(elements, idx + 1, newElements, idx, elements.length - idx - 1);
+            return withElements(newElements, owner);
+        }
+
+        private CollisionNode withElements(Object[] newElements, Object owner) {
+            if (owner != null && owner == this.owner) {
+                elements = newElements;
+                return this;
+            }
+            return new CollisionNode(owner, hash, newElements);
+        }
+
+        @Override
+        public Object singleElement() {
+            return elements.length == 1 ? elements[0] : null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CollisionNode other) || other.hash != hash || other.elements.length != elements.length) {
+                return false;
+            }
+            for (Object e : elements) {
+                if (other.indexOf(e) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,605 @@
+package org.purely.collections;
+
+import org.purely.annotations.Pure;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent list of {@code int}s. It has the same structure and complexity as a {@link PureVector}, a 32-way trie
+ * with a tail buffer, but keeps its elements unboxed in {@code int[]} leaves. An element costs 4 bytes, where a
+ * {@code PureVector<Integer>} spends a reference and a 16 byte {@link Integer} on it, and a
+ * {@code PureLinkedList<Integer>} an {@link Integer} and a {@link PureLinkedList.Cons} cell.
+ * <p>
+ * The operations mirror {@link PureList}, taking and returning {@code int}s and {@link OptionalInt}s. Where a
+ * {@link PureList} returns the removed or replaced element together with the new list, this class only returns the new
+ * list, so that nothing is boxed; read the element with {@link #get(int)} first if it's needed. {@link #boxed()} and
+ * {@link #from(Iterable)} convert to and from the generic collections.
+ */
+@Pure
+public final class PureIntList extends PrimitiveVector<int[], PureIntList> implements Iterable<Integer> {
+    private static final int[] EMPTY_LEAF = new int[0];
+    private static final PureIntList EMPTY = new PureIntList(0, BITS, EMPTY_NODE, EMPTY_LEAF);
+
+    private PureIntList(int size, int shift, Object[] root, int[] tail) {
+        super(size, shift, root, tail);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    public static PureIntList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public static PureIntList of(int... values) {
+        return builder().addAll(values).build();
+    }
+
+    /**
+     * Creates a new {@link PureIntList} from the elements of the {@link Iterable}, unboxing each of them. If the
+     * iterable is already a {@link PureIntList}, it is returned in O(1).
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static PureIntList from(Iterable<Integer> it) {
+        if (it instanceof PureIntList l) {
+            return l;
+        }
+        final Builder ret = builder();
+        for (Integer i : it) {
+            ret.add(Objects.requireNonNull(i, "PureIntList cannot contain null elements"));
+        }
+        return ret.build();
+    }
+
+    /**
+     * Creates a new {@link PureIntList} from the elements of the {@link IntStream}, in encounter order.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static PureIntList from(IntStream stream) {
+        final Builder ret = builder();
+        stream.forEachOrdered(ret::add);
+        return ret.build();
+    }
+
+    /**
+     * Returns a new, empty {@link Builder}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static Builder builder() {
+        return new Builder(EMPTY);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureIntList clear() {
+        return EMPTY;
+    }
+
+    /**
+     * runtime complexity: O(log32 N)
+     * space complexity: O(1)
+     */
+    public OptionalInt get(int index) {
+        if (index < 0 || index >= size) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(unsafeGet(index));
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    public OptionalInt getFirst() {
+        return get(0);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    public OptionalInt getLast() {
+        return size == 0 ? OptionalInt.empty() : OptionalInt.of(tail[tail.length - 1]);
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public boolean contains(int value) {
+        return indexOf(value).isPresent();
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public OptionalInt indexOf(int value) {
+        for (int i = 0; i < size; i += WIDTH) {
+            final int[] leaf = leafFor(i);
+            for (int j = 0; j < leaf.length; j++) {
+                if (leaf[j] == value) {
+                    return OptionalInt.of(i + j);
+                }
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public OptionalInt lastIndexOf(int value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (unsafeGet(i) == value) {
+                return OptionalInt.of(i);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Equivalent to {@link #addLast(int)}.
+     * <p>
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    public PureIntList add(int value) {
+        return addLast(value);
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    public PureIntList addLast(int value) {
+        final int[] newTail = appendLeaf();
+        newTail[newTail.length - 1] = value;
+        return appended(newTail);
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public PureIntList addFirst(int value) {
+        return builder().add(value).addAll(this).build();
+    }
+
+    /**
+     * Inserting at the end of the list is equivalent to {@link #addLast(int)}. Any other index requires rebuilding
+     * the list after the index.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureIntList> add(int index, int value) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        if (index == size) {
+            return Optional.of(addLast(value));
+        }
+        return Optional.of(builder().addAll(this, 0, index).add(value).addAll(this, index, size).build());
+    }
+
+    /**
+     * Appends the elements in place through a {@link Builder} seeded with this list, sharing every leaf of this list.
+     * <p>
+     * runtime and space complexity: O(M + N / 32), where M is the number of elements added.
+     */
+    public PureIntList addAll(int... values) {
+        return values.length == 0 ? this : new Builder(this).addAll(values).build();
+    }
+
+    /**
+     * runtime and space complexity: O(M + N / 32), where M is the number of elements added.
+     */
+    public PureIntList addAll(PureIntList values) {
+        return values.isEmpty() ? this : new Builder(this).addAll(values).build();
+    }
+
+    /**
+     * runtime and space complexity: O(N + M), where M is the number of elements added.
+     */
+    public Optional<PureIntList> addAll(int index, PureIntList values) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        return Optional.of(builder().addAll(this, 0, index).addAll(values).addAll(this, index, size).build());
+    }
+
+    /**
+     * Returns a list with the element at the index replaced.
+     * <p>
+     * runtime and space complexity: O(log32 N)
+     */
+    public Optional<PureIntList> set(int index, int value) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        final int[] leaf = leafFor(index).clone();
+        leaf[index & MASK] = value;
+        return Optional.of(withLeaf(index, leaf));
+    }
+
+    /**
+     * Returns a list without the element at the index. Removing the last element is equivalent to
+     * {@link #removeLast()}. Any other index requires rebuilding the list after the index.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureIntList> removeAt(int index) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        if (index == size - 1) {
+            return removeLast();
+        }
+        return Optional.of(builder().addAll(this, 0, index).addAll(this, index + 1, size).build());
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureIntList> removeFirst() {
+        return removeAt(0);
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    public Optional<PureIntList> removeLast() {
+        return size == 0 ? Optional.empty() : Optional.of(withoutLast());
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureIntList> subList(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            return Optional.empty();
+        }
+        return Optional.of(slice(from, to));
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public PureIntList reversed() {
+        final Builder ret = builder();
+        for (int i = size - 1; i >= 0; i--) {
+            ret.add(unsafeGet(i));
+        }
+        return ret.build();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public PureIntList map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        final Builder ret = builder();
+        for (int i = 0; i < size; i += WIDTH) {
+            for (int value : leafFor(i)) {
+                ret.add(mapper.applyAsInt(value));
+            }
+        }
+        return ret.build();
+    }
+
+    /**
+     * Returns a list of the elements matching the predicate. If every element matches, this same list is returned.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public PureIntList filter(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        final Builder ret = builder();
+        for (int i = 0; i < size; i += WIDTH) {
+            for (int value : leafFor(i)) {
+                if (predicate.test(value)) {
+                    ret.add(value);
+                }
+            }
+        }
+        return ret.size() == size ? this : ret.build();
+    }
+
+    /**
+     * Folds the elements from first to last into the identity with the operator.
+     * <p>
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public int fold(int identity, IntBinaryOperator op) {
+        Objects.requireNonNull(op);
+        int ret = identity;
+        for (int i = 0; i < size; i += WIDTH) {
+            for (int value : leafFor(i)) {
+                ret = op.applyAsInt(ret, value);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public int[] toArray() {
+        final int[] ret = new int[size];
+        for (int i = 0; i < size; i += WIDTH) {
+            final int[] leaf = leafFor(i);
+            System.arraycopy(leaf, 0, ret, i, leaf.length);
+        }
+        return ret;
+    }
+
+    /**
+     * Converts this list into a {@link PureVector} of boxed {@link Integer}s.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public PureVector<Integer> boxed() {
+        final PureVector.Builder<Integer> ret = PureVector.builder();
+        for (int i = 0; i < size; i += WIDTH) {
+            for (int value : leafFor(i)) {
+                ret.add(value);
+            }
+        }
+        return ret.build();
+    }
+
+    /**
+     * Returns a sequential {@link IntStream} over the elements of this list.
+     *
+     * @return a sequential {@link IntStream} over the elements of this list.
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link IntStream} over the elements of this list.
+     *
+     * @return a possibly parallel {@link IntStream} over the elements of this list.
+     */
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    /**
+     * Splits the index range at its midpoint in O(1), and traverses a leaf array at a time.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntListSpliterator(this, 0, size);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int idx = 0;
+            private int[] leaf = leafFor(0);
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (idx != 0 && (idx & MASK) == 0) {
+                    leaf = leafFor(idx);
+                }
+                return leaf[idx++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PureIntList other) || other.size != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i += WIDTH) {
+            if (!Arrays.equals(leafFor(i), other.leafFor(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the elements in the same way as {@link java.util.List#hashCode()}, so a list hashes the same as its
+     * {@link #boxed()} counterpart.
+     */
+    @Override
+    public int hashCode() {
+        return fold(1, (ret, value) -> 31 * ret + Integer.hashCode(value));
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder ret = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                ret.append(", ");
+            }
+            ret.append(unsafeGet(i));
+        }
+        return ret.append(']').toString();
+    }
+
+    @Override
+    int[] newLeaf(int length) {
+        return new int[length];
+    }
+
+    @Override
+    int leafLength(int[] leaf) {
+        return leaf.length;
+    }
+
+    @Override
+    PureIntList with(int size, int shift, Object[] root, int[] tail) {
+        return new PureIntList(size, shift, root, tail);
+    }
+
+    private int unsafeGet(int index) {
+        return leafFor(index)[index & MASK];
+    }
+
+    /**
+     * A transient list for building a {@link PureIntList} by appending elements in place. Whole leaves of the lists
+     * passed to {@link #addAll(PureIntList)} are shared rather than copied when they line up with the leaves of the
+     * list being built.
+     * <p>
+     * A builder is not thread safe, and may not be used after {@link #build()} has been called, since the built list
+     * shares its leaves.
+     */
+    public static final class Builder {
+        private final PrimitiveVector.Builder<int[], PureIntList> trie;
+
+        private Builder(PureIntList seed) {
+            this.trie = new PrimitiveVector.Builder<>(seed);
+        }
+
+        /**
+         * Appends an element to the list being built.
+         * <p>
+         * runtime and space complexity: amortized O(1)
+         *
+         * @param value the element to append.
+         * @return this builder.
+         */
+        public Builder add(int value) {
+            final int idx = trie.reserve();
+            trie.current[idx] = value;
+            return this;
+        }
+
+        /**
+         * Appends every element of the array to the list being built.
+         * <p>
+         * runtime and space complexity: O(M), where M is the number of elements added.
+         *
+         * @param values the elements to append.
+         * @return this builder.
+         */
+        public Builder addAll(int... values) {
+            trie.appendArray(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Appends every element of the list to the list being built.
+         * <p>
+         * runtime and space complexity: O(M), where M is the number of elements added.
+         *
+         * @param values the elements to append.
+         * @return this builder.
+         */
+        public Builder addAll(PureIntList values) {
+            return addAll(values, 0, values.size);
+        }
+
+        private Builder addAll(PureIntList values, int from, int to) {
+            trie.appendRange(values, from, to);
+            return this;
+        }
+
+        /**
+         * @return the number of elements in the list being built.
+         */
+        public int size() {
+            return trie.size();
+        }
+
+        /**
+         * Freezes the builder into a {@link PureIntList}.
+         * <p>
+         * runtime and space complexity: O(N / 32)
+         *
+         * @return the built list.
+         */
+        public PureIntList build() {
+            return trie.build();
+        }
+    }
+
+    private static final class IntListSpliterator implements Spliterator.OfInt {
+        private final PureIntList list;
+        private int idx;
+        private final int fence;
+
+        private IntListSpliterator(PureIntList list, int idx, int fence) {
+            this.list = list;
+            this.idx = idx;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (idx >= fence) {
+                return false;
+            }
+            action.accept(list.unsafeGet(idx++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (idx < fence) {
+                final int[] leaf = list.leafFor(idx);
+                final int end = Math.min(fence, (idx | MASK) + 1);
+                for (int i = idx & MASK; idx < end; i++, idx++) {
+                    action.accept(leaf[i]);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            final int mid = (idx + fence) >>> 1;
+            if (mid <= idx) {
+                return null;
+            }
+            final var ret = new IntListSpliterator(list, idx, mid);
+            idx = mid;
+            return ret;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - idx;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,820 @@
+package org.purely.collections;
+
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+import org.purely.annotations.Pure;
+import org.purely.collections.views.PureLazyListView;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * A {@link PureLazyList} is a singly linked list whose cells are only computed when they are first needed, and then
+ * remembered. Each list is either an evaluated cell, holding a head and a lazy tail, or a thunk that computes one.
+ * Evaluating a thunk is thread safe, and happens at most once no matter how many threads or copies of the list reach
+ * it.
+ * <p>
+ * Since nothing is computed ahead of time, a {@link PureLazyList} may be infinite, as with {@link #iterate(Object,
+ * UnaryOperator)} and {@link #generate(Supplier)}, or may stream a large input through {@link #from(Iterable)} without
+ * copying it. The transformations {@link #map(Function)}, {@link #filter(Predicate)}, {@link #takeWhile(Predicate)},
+ * {@link #dropWhile(Predicate)}, {@link #take(int)} and {@link #drop(int)} are lazy as well, and only evaluate as much
+ * of their source as their result is asked for. So are {@link #addLast(Object)}, {@link #addAll(Iterable)},
+ * {@link #remove(Object)}, {@link #removeAll(Iterable)} and {@link #retainAll(Iterable)}.
+ * <p>
+ * The remaining {@link PureList} operations evaluate as much of the list as they need to, which for operations like
+ * {@link #size()}, {@link #getLast()} or {@link #reversed()} is all of it; on an infinite list they never return. The
+ * runtime complexity of each operation counts the cells it evaluates, but not the cost of evaluating them.
+ * {@link #stream()} is lazy, so {@code PureLazyList.iterate(1, i -> i * 2).stream().limit(10)} terminates.
+ * <p>
+ * Holding on to the head of a list keeps every cell evaluated from it reachable. To process a long or infinite list
+ * in constant memory, iterate over it or over its stream without keeping a reference to the start.
+ *
+ * @param <T> The type contained by the {@link PureLazyList}
+ */
+@Pure
+public final class PureLazyList<T> implements PureList<T> {
+    private static final PureLazyList<?> EMPTY = new PureLazyList<>(null, null);
+    private static final Supplier<?> EVALUATING = () -> {
+        throw new IllegalStateException("PureLazyList is defined in terms of itself");
+    };
+
+    // Lazily computed state, written once by force(). Both fields are volatile, as @Pure requires of mutable fields.
+    private volatile Supplier<Cell<T>> thunk;
+    private volatile Cell<T> cell;
+
+    private PureLazyList(Supplier<Cell<T>> thunk, Cell<T> cell) {
+        this.thunk = thunk;
+        this.cell = cell;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PureLazyList<T> empty() {
+        return (PureLazyList<T>) EMPTY;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SafeVarargs
+    public static <T> PureLazyList<T> of(T... values) {
+        PureLazyList<T> ret = PureLazyList.empty();
+        for (int i = values.length - 1; i >= 0; i--) {
+            ret = evaluated(values[i], ret);
+        }
+        return ret;
+    }
+
+    /**
+     * Creates a new {@link PureLazyList} that reads the elements of the {@link Iterable} as they are needed, rather
+     * than copying them up front. Each element is read from the iterable's iterator at most once, so the iterable may
+     * be a single-use source like a stream's {@link Stream#iterator()}, and must not be modified until the list has
+     * been fully evaluated. If the iterable is already a {@link PureLazyList}, or a view created by
+     * {@link #toMutable()}, the underlying list is returned.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static <T> PureLazyList<T> from(Iterable<T> it) {
+        return switch (it) {
+            case PureLazyList<T> l -> l;
+            case PureLazyListView<T> v -> v.toPure();
+            default -> fromIterator(it.iterator());
+        };
+    }
+
+    /**
+     * Creates a new {@link PureLazyList} that pulls the elements of the {@link Stream} as they are needed.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static <T> PureLazyList<T> from(Stream<T> stream) {
+        return fromIterator(stream.iterator());
+    }
+
+    /**
+     * Creates a list from a head and a function computing the rest of the list, which is only called when the tail
+     * is first needed. Since the tail may refer back to the list being defined, this is the building block for
+     * recursively defined sequences.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static <T> PureLazyList<T> cons(T head, Supplier<PureLazyList<T>> tail) {
+        Objects.requireNonNull(tail);
+        return evaluated(head, lazy(() -> tail.get().force()));
+    }
+
+    /**
+     * Creates the infinite list {@code seed, f(seed), f(f(seed)), ...}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static <T> PureLazyList<T> iterate(T seed, UnaryOperator<T> f) {
+        Objects.requireNonNull(f);
+        return lazy(() -> new Cell<>(seed, lazy(() -> iterate(f.apply(seed), f).force())));
+    }
+
+    /**
+     * Creates an infinite list of the values returned by the {@link Supplier}, called once per element as the list
+     * is evaluated.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static <T> PureLazyList<T> generate(Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier);
+        return lazy(() -> new Cell<>(supplier.get(), generate(supplier)));
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public List<T> toMutable() {
+        return new PureLazyListView<>(this);
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        int ret = 0;
+        for (Cell<T> c = force(); c != null; c = c.tail.force()) {
+            ret++;
+        }
+        return ret;
+    }
+
+    /**
+     * Evaluates the first cell of the list only.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public boolean isEmpty() {
+        return force() == null;
+    }
+
+    /**
+     * Evaluates the list up to the first occurrence of the element.
+     * <p>
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o).isPresent();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T[] toArray() {
+        final List<T> ret = new ArrayList<>();
+        for (T t : this) {
+            ret.add(t);
+        }
+        return (T[]) ret.toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Equivalent to {@link #addLast(Object)}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureLazyList<T> add(T t) {
+        return addLast(t);
+    }
+
+    /**
+     * Lazily removes the first occurrence of the element. Since the list is not evaluated, a new list is returned
+     * even if the element is not present.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureLazyList<T> remove(Object o) {
+        return lazy(() -> {
+            final Cell<T> c = force();
+            if (c == null) {
+                return null;
+            }
+            return c.head.equals(o) ? c.tail.force() : new Cell<>(c.head, c.tail.remove(o));
+        });
+    }
+
+    /**
+     * Evaluates the list until every element of the iterable has been found, so it terminates on an infinite list
+     * that contains all of them.
+     * <p>
+     * runtime and space complexity: O(N + M)
+     */
+    @Override
+    public boolean containsAll(Iterable<?> i) {
+        final Set<Object> missing = new HashSet<>();
+        for (Object o : i) {
+            missing.add(o);
+        }
+        if (missing.isEmpty()) {
+            return true;
+        }
+        for (T t : this) {
+            if (missing.remove(t) && missing.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lazily appends the elements of the {@link Iterable}, which are read as described by {@link #from(Iterable)}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureLazyList<T> addAll(Iterable<? extends T> i) {
+        return concat(PureLazyList.<T>fromIterator(i.iterator()));
+    }
+
+    /**
+     * Lazily removes every occurrence of every element that is also contained by the {@link Iterable}. Unless the
+     * iterable is a {@link PureSet}, its elements are copied up front, so changing it afterwards doesn't change the
+     * result.
+     * <p>
+     * runtime and space complexity: O(M), where M is the size of the iterable.
+     */
+    @Override
+    public PureLazyList<T> removeAll(Iterable<?> i) {
+        return filter(Membership.snapshot(i).negate());
+    }
+
+    /**
+     * Lazily keeps only the elements that are also contained by the {@link Iterable}. Unless the iterable is a
+     * {@link PureSet}, its elements are copied up front, so changing it afterwards doesn't change the result.
+     * <p>
+     * runtime and space complexity: O(M), where M is the size of the iterable.
+     */
+    @Override
+    public PureLazyList<T> retainAll(Iterable<?> i) {
+        return filter(Membership.snapshot(i));
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureLazyList<T> clear() {
+        return PureLazyList.empty();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public PureLazyList<T> reversed() {
+        PureLazyList<T> ret = PureLazyList.empty();
+        for (T t : this) {
+            ret = evaluated(t, ret);
+        }
+        return ret;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureLazyList<T> addFirst(T t) {
+        return evaluated(t, this);
+    }
+
+    /**
+     * Lazily appends the element. Appending repeatedly nests one level of laziness per append, so to build a long
+     * list, prefer {@link #addAll(Iterable)} or {@link #from(Iterable)}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureLazyList<T> addLast(T t) {
+        return concat(PureLazyList.of(t));
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public Optional<T> getFirst() {
+        final Cell<T> c = force();
+        return c == null ? Optional.empty() : Optional.of(c.head);
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<T> getLast() {
+        T ret = null;
+        for (T t : this) {
+            ret = t;
+        }
+        return Optional.ofNullable(ret);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public Optional<Tuple2<T, PureLazyList<T>>> removeFirst() {
+        final Cell<T> c = force();
+        return c == null ? Optional.empty() : Optional.of(Tuple.of(c.head, c.tail));
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public Optional<Tuple2<T, PureLazyList<T>>> removeLast() {
+        final List<T> front = new ArrayList<>();
+        for (T t : this) {
+            front.add(t);
+        }
+        if (front.isEmpty()) {
+            return Optional.empty();
+        }
+        final T last = front.removeLast();
+        return Optional.of(Tuple.of(last, prepend(front, PureLazyList.empty())));
+    }
+
+    /**
+     * Evaluates the list up to the index, after which the elements are inserted lazily.
+     * <p>
+     * runtime and space complexity: O(index)
+     */
+    @Override
+    public Optional<PureLazyList<T>> addAll(int index, Iterable<? extends T> element) {
+        return splitAt(index).map(s -> prepend(s.first(), PureLazyList.<T>fromIterator(element.iterator()).concat(s.second())));
+    }
+
+    /**
+     * runtime complexity: O(index)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<T> get(int index) {
+        return index < 0 ? Optional.empty() : drop(index).getFirst();
+    }
+
+    /**
+     * The cells after the index are shared with this list.
+     * <p>
+     * runtime and space complexity: O(index)
+     */
+    @Override
+    public Optional<Tuple2<T, PureLazyList<T>>> set(int index, T element) {
+        Objects.requireNonNull(element, "PureLazyList cannot contain null elements");
+        return splitAt(index)
+                .flatMap(s -> s.second().removeFirst()
+                        .map(r -> Tuple.of(r.first(), prepend(s.first(), evaluated(element, r.second())))));
+    }
+
+    /**
+     * The cells from the index on are shared with this list.
+     * <p>
+     * runtime and space complexity: O(index)
+     */
+    @Override
+    public Optional<PureLazyList<T>> add(int index, T value) {
+        return splitAt(index).map(s -> prepend(s.first(), evaluated(value, s.second())));
+    }
+
+    /**
+     * The cells after the index are shared with this list.
+     * <p>
+     * runtime and space complexity: O(index)
+     */
+    @Override
+    public Optional<Tuple2<T, PureLazyList<T>>> remove(int index) {
+        return splitAt(index)
+                .flatMap(s -> s.second().removeFirst()
+                        .map(r -> Tuple.of(r.first(), prepend(s.first(), r.second()))));
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Integer> indexOf(Object o) {
+        int idx = 0;
+        for (T t : this) {
+            if (t.equals(o)) {
+                return Optional.of(idx);
+            }
+            idx++;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Integer> lastIndexOf(Object o) {
+        int idx = 0;
+        Optional<Integer> ret = Optional.empty();
+        for (T t : this) {
+            if (t.equals(o)) {
+                ret = Optional.of(idx);
+            }
+            idx++;
+        }
+        return ret;
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new LazyListIterator<>(this);
+    }
+
+    /**
+     * runtime complexity: O(index)
+     */
+    @Override
+    public Optional<ListIterator<T>> listIterator(int index) {
+        if (index < 0) {
+            return Optional.empty();
+        }
+        final ListIterator<T> ret = listIterator();
+        for (int i = 0; i < index; i++) {
+            if (!ret.hasNext()) {
+                return Optional.empty();
+            }
+            ret.next();
+        }
+        return Optional.of(ret);
+    }
+
+    /**
+     * Evaluates the list up to {@code to}, to check that the range exists.
+     * <p>
+     * runtime complexity: O(to)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<PureLazyList<T>> subList(int from, int to) {
+        if (from < 0 || from > to || (to > 0 && drop(to - 1).isEmpty())) {
+            return Optional.empty();
+        }
+        return Optional.of(drop(from).take(to - from));
+    }
+
+    /**
+     * Lazily applies the mapper to each element as it is evaluated.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public <R> PureLazyList<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return lazy(() -> {
+            final Cell<T> c = force();
+            return c == null ? null : new Cell<>(mapper.apply(c.head), c.tail.map(mapper));
+        });
+    }
+
+    /**
+     * Lazily keeps the elements matching the predicate. Evaluating a cell of the result evaluates the source up to
+     * the next matching element, so filtering an infinite list with no further matches never returns.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public PureLazyList<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return lazy(() -> {
+            for (Cell<T> c = force(); c != null; c = c.tail.force()) {
+                if (predicate.test(c.head)) {
+                    return new Cell<>(c.head, c.tail.filter(predicate));
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Lazily keeps the longest prefix of elements matching the predicate.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public PureLazyList<T> takeWhile(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return lazy(() -> {
+            final Cell<T> c = force();
+            return c != null && predicate.test(c.head) ? new Cell<>(c.head, c.tail.takeWhile(predicate)) : null;
+        });
+    }
+
+    /**
+     * Lazily drops the longest prefix of elements matching the predicate. The rest of the list is shared with this
+     * list.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public PureLazyList<T> dropWhile(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return lazy(() -> {
+            Cell<T> c = force();
+            while (c != null && predicate.test(c.head)) {
+                c = c.tail.force();
+            }
+            return c;
+        });
+    }
+
+    /**
+     * Lazily keeps the first n elements.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public PureLazyList<T> take(int n) {
+        if (n <= 0) {
+            return PureLazyList.empty();
+        }
+        return lazy(() -> {
+            final Cell<T> c = force();
+            return c == null ? null : new Cell<>(c.head, c.tail.take(n - 1));
+        });
+    }
+
+    /**
+     * Lazily drops the first n elements. The rest of the list is shared with this list.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public PureLazyList<T> drop(int n) {
+        if (n <= 0) {
+            return this;
+        }
+        return lazy(() -> {
+            Cell<T> c = force();
+            for (int i = 0; i < n && c != null; i++) {
+                c = c.tail.force();
+            }
+            return c;
+        });
+    }
+
+    /**
+     * Returns whether the first cell of this list has been evaluated yet. Mostly useful for testing laziness.
+     * <p>
+     * runtime and space complexity: O(1)
+     *
+     * @return true if the first cell has been evaluated.
+     */
+    public boolean isEvaluated() {
+        return thunk == null;
+    }
+
+    /**
+     * Streams the list lazily, without evaluating it up front. The stream's size is unknown.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private PureLazyList<T> cur = PureLazyList.this;
+
+            @Override
+            public boolean hasNext() {
+                return cur.force() != null;
+            }
+
+            @Override
+            public T next() {
+                final Cell<T> c = cur.force();
+                if (c == null) {
+                    throw new NoSuchElementException();
+                }
+                cur = c.tail;
+                return c.head;
+            }
+        };
+    }
+
+    /**
+     * Evaluates both lists until they differ, so comparing two equal infinite lists never returns.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PureLazyList<?> other)) {
+            return false;
+        }
+        Cell<T> a = force();
+        Cell<?> b = other.force();
+        while (a != null && b != null) {
+            if (a.tail == b.tail) {
+                return a.head.equals(b.head);
+            }
+            if (!a.head.equals(b.head)) {
+                return false;
+            }
+            a = a.tail.force();
+            b = b.tail.force();
+        }
+        return a == b;
+    }
+
+    @Override
+    public int hashCode() {
+        int ret = 1;
+        for (T t : this) {
+            ret = 31 * ret + t.hashCode();
+        }
+        return ret;
+    }
+
+    /**
+     * Shows the elements that have already been evaluated, followed by {@code ...} if the rest of the list has not
+     * been. Never evaluates the list.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder ret = new StringBuilder("[");
+        PureLazyList<T> cur = this;
+        while (cur.thunk == null && cur.cell != null) {
+            if (cur != this) {
+                ret.append(", ");
+            }
+            ret.append(cur.cell.head);
+            cur = cur.cell.tail;
+        }
+        if (cur.thunk != null) {
+            ret.append(cur == this ? "..." : ", ...");
+        }
+        return ret.append(']').toString();
+    }
+
+    /**
+     * Evaluates the first cell of this list, returning null if the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    private Cell<T> force() {
+        if (thunk != null) {
+            synchronized (this) {
+                final var t = thunk;
+                if (t != null) {
+                    if (t == EVALUATING) {
+                        t.get();
+                    }
+                    thunk = (Supplier<Cell<T>>) EVALUATING;
+                    try {
+                        cell = t.get();
+                    } catch (Throwable e) {
+                        thunk = t;
+                        throw e;
+                    }
+                    thunk = null;
+                }
+            }
+        }
+        return cell;
+    }
+
+    private PureLazyList<T> concat(PureLazyList<T> other) {
+        return lazy(() -> {
+            final Cell<T> c = force();
+            return c == null ? other.force() : new Cell<>(c.head, c.tail.concat(other));
+        });
+    }
+
+    /**
+     * Evaluates the first n elements into a list, and returns them along with the rest of the list, or empty if the
+     * list has fewer than n elements.
+     */
+    private Optional<Tuple2<List<T>, PureLazyList<T>>> splitAt(int n) {
+        if (n < 0) {
+            return Optional.empty();
+        }
+        final List<T> front = new ArrayList<>();
+        PureLazyList<T> rest = this;
+        while (front.size() < n) {
+            final Cell<T> c = rest.force();
+            if (c == null) {
+                return Optional.empty();
+            }
+            front.add(c.head);
+            rest = c.tail;
+        }
+        return Optional.of(Tuple.of(front, rest));
+    }
+
+    private static <T> PureLazyList<T> prepend(List<T> front, PureLazyList<T> tail) {
+        PureLazyList<T> ret = tail;
+        for (int i = front.size() - 1; i >= 0; i--) {
+            ret = evaluated(front.get(i), ret);
+        }
+        return ret;
+    }
+
+    private static <T> PureLazyList<T> fromIterator(Iterator<? extends T> it) {
+        return lazy(() -> it.hasNext() ? new Cell<>(it.next(), fromIterator(it)) : null);
+    }
+
+    private static <T> PureLazyList<T> lazy(Supplier<Cell<T>> thunk) {
+        return new PureLazyList<>(thunk, null);
+    }
+
+    private static <T> PureLazyList<T> evaluated(T head, PureLazyList<T> tail) {
+        return new PureLazyList<>(null, new Cell<>(head, tail));
+    }
+
+    private record Cell<T>(T head, PureLazyList<T> tail) {
+        Cell {
+            Objects.requireNonNull(head, "PureLazyList cannot contain null elements");
+        }
+    }
+
+    private static final class LazyListIterator<T> implements ListIterator<T> {
+        private final List<T> seen = new ArrayList<>();
+        private PureLazyList<T> rest;
+        private int idx = 0;
+
+        private LazyListIterator(PureLazyList<T> list) {
+            this.rest = list;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return idx < seen.size() || !rest.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (idx == seen.size()) {
+                final Cell<T> c = rest.force();
+                if (c == null) {
+                    throw new NoSuchElementException();
+                }
+                seen.add(c.head);
+                rest = c.tail;
+            }
+            return seen.get(idx++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return idx > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return seen.get(--idx);
+        }
+
+        @Override
+        public int nextIndex() {
+            return idx;
+        }
+
+        @Override
+        public int previousIndex() {
+            return idx - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(T t) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(T t) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.purely.annotations.Pure;
 import org.purely.collections.views.PureLinkedListView;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -24,8 +26,8 @@ import java.util.stream.Collectors;
  * <pre>{@code
  * default boolean contains(Object o) {
  *  return switch(this) {
- *      case Cons(var head, var ignore) when head.equals(o) -> true;
- *      case Cons(var head, var tail) -> tail.contains(o);
+ *      case Cons(var head, var tail, var size) when head.equals(o) -> true;
+ *      case Cons(var head, var tail, var size) -> tail.contains(o);
  *      default -> false;
  *  }
  * }
@@ -44,26 +46,40 @@ import java.util.stream.Collectors;
  */
 @Pure
 public sealed interface PureLinkedList<T> extends PureList<T> {
+    /**
+     * Creates a new {@link PureLinkedList} from the elements of the {@link Iterable}. If the iterable is a view created
+     * by {@link #toMutable()}, the underlying list is returned in O(1).
+     * <p>
+     * runtime and space complexity: O(N)
+     */
     static <T> PureLinkedList<T> from(Iterable<T> it) {
         if (it instanceof PureLinkedListView<T> v) {
             return v.toPure();
         }
-
-        PureLinkedList<T> ret = PureLinkedList.empty();
-        for (T t : it) {
-            ret = ret.addFirst(t);
-        }
-        return ret.reversed();
+        return PureLinkedList.<T>builder().addAll(it).build();
     }
 
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SafeVarargs
     static <T> PureLinkedList<T> of(T... values) {
         PureLinkedList<T> ret = PureLinkedList.empty();
-        for (int i = 0; i < values.length; i++) {
+        for (int i = values.length - 1; i >= 0; i--) {
             ret = ret.addFirst(values[i]);
         }
         return ret;
     }
 
+    /**
+     * Returns a new {@link Builder} for constructing a {@link PureLinkedList} from front to back.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -105,7 +121,7 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
      */
     @Override
     default PureLinkedList<T> addLast(T t) {
-        return this.reversed().addFirst(t).reversed();
+        return PureLinkedList.<T>builder().addAll(this).add(t).build();
     }
 
     /**
@@ -143,23 +159,18 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
 
     @Override
     default List<T> toMutable() {
-        throw new UnsupportedOperationException("TODO");
+        return new PureLinkedListView<>(this);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * runtime complexity: O(N)
-     * space complexity: O(1)
+     * Each {@link Cons} cell records the length of the list it heads, so this does not traverse the list.
+     * <p>
+     * runtime and space complexity: O(1)
      */
     @Override
-    default int size() {
-        int ret = 0;
-        for (T ignore : this) {
-            ret++;
-        }
-        return ret;
-    }
+    int size();
 
     /**
      * {@inheritDoc}
@@ -208,52 +219,60 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
         return this.addLast(t);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the element is not present, this same list is returned without any copying.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
     @Override
     default PureLinkedList<T> remove(Object o) {
-        PureLinkedList<T> front = Nil.instance();
+        final Builder<T> front = PureLinkedList.builder();
         PureLinkedList<T> back = this;
-        while (back instanceof Cons(var head, var tail)) {
+        while (back instanceof Cons(var head, var tail, var ignore)) {
             back = tail;
             if (head.equals(o)) {
-                break;
+                return front.buildOnto(back);
             }
-            front = front.addFirst(head);
-        }
-        for (T t : front) {
-            back = back.addFirst(t);
+            front.add(head);
         }
-        return back;
+        return this;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * runtime and space complexity: O(N + M), where M is the number of elements added.
+     */
     @Override
     default PureLinkedList<T> addAll(Iterable<? extends T> i) {
-        var ret = this.reversed();
-        for (T t : i) {
-            ret = ret.addFirst(t);
-        }
-        return ret.reversed();
+        final Builder<T> ret = PureLinkedList.<T>builder().addAll(this);
+        final int size = ret.size();
+        ret.addAll(i);
+        return ret.size() == size ? this : ret.build();
     }
 
+    /**
+     * Removes every occurrence of every element that is also contained by the {@link Iterable}. The cells after the
+     * last removed element are shared with this list, and if nothing is removed this same list is returned.
+     * <p>
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
     @Override
     default PureLinkedList<T> removeAll(Iterable<?> i) {
-        var ret = this;
-        for (var t : i) {
-            ret = ret.remove(t);
-        }
-        return ret;
+        return filter(Membership.in(i, this), false);
     }
 
+    /**
+     * Keeps only the elements that are also contained by the {@link Iterable}. The cells after the last removed
+     * element are shared with this list, and if nothing is removed this same list is returned.
+     * <p>
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
     @Override
     default PureLinkedList<T> retainAll(Iterable<?> i) {
-        PureLinkedList<T> ret = Nil.instance();
-        for (T t : this) {
-            for (Object o : i) {
-                if (t.equals(o)) {
-                    ret = ret.addFirst(t);
-                }
-            }
-        }
-        return ret.reversed();
+        return filter(Membership.in(i, this), true);
     }
 
     @Override
@@ -261,6 +280,23 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
         return PureLinkedList.empty();
     }
 
+    private PureLinkedList<T> filter(Predicate<Object> matches, boolean keepMatches) {
+        final Builder<T> kept = PureLinkedList.builder();
+        PureLinkedList<T> shared = this;
+        int keptBeforeShared = 0;
+        PureLinkedList<T> cur = this;
+        while (cur instanceof Cons(var head, var tail, var ignore)) {
+            if (matches.test(head) == keepMatches) {
+                kept.add(head);
+            } else {
+                shared = tail;
+                keptBeforeShared = kept.size();
+            }
+            cur = tail;
+        }
+        return shared == this ? this : kept.buildOnto(shared, keptBeforeShared);
+    }
+
     @Override
     default Iterator<T> iterator() {
         return new Iterator<>() {
@@ -274,7 +310,7 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
             @Override
             public T next() {
                 return switch (cur) {
-                    case Cons(var head, var tail) -> {
+                    case Cons(var head, var tail, var ignore) -> {
                         cur = tail;
                         yield head;
                     }
@@ -284,40 +320,94 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
         };
     }
 
+    /**
+     * Splits by copying the first half of the remaining list into an array, which then splits in O(1). Since each
+     * {@link Cons} cell knows its size, the remaining list is always exactly sized.
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return new Spliterator<>() {
+            /**
+             * The largest prefix to copy in one split, as in {@link java.util.LinkedList}.
+             */
+            private static final int MAX_BATCH = 1 << 25;
+
+            private PureLinkedList<T> cur = PureLinkedList.this;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (cur instanceof Cons(var head, var tail, var ignore)) {
+                    cur = tail;
+                    action.accept(head);
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                final int batch = Math.min(cur.size() / 2, MAX_BATCH);
+                if (batch == 0) {
+                    return null;
+                }
+                final Object[] prefix = new Object[batch];
+                for (int i = 0; i < batch; i++) {
+                    final Cons<T> c = (Cons<T>) cur;
+                    prefix[i] = c.head();
+                    cur = c.tail();
+                }
+                return Spliterators.spliterator(prefix, characteristics());
+            }
+
+            @Override
+            public long estimateSize() {
+                return cur.size();
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                        | Spliterator.NONNULL;
+            }
+        };
+    }
+
     @Override
     default Optional<Tuple2<T, PureLinkedList<T>>> removeFirst() {
         return switch (this) {
-            case Cons(var head, var tail) -> Optional.of(Tuple.of(head, tail));
+            case Cons(var head, var tail, var ignore) -> Optional.of(Tuple.of(head, tail));
             default -> Optional.empty();
         };
     }
 
     @Override
     default Optional<Tuple2<T, PureLinkedList<T>>> removeLast() {
-        return this.reversed().removeFirst().map(i -> Tuple.of(i.first(), i.second().reversed()));
+        final Builder<T> front = PureLinkedList.builder();
+        PureLinkedList<T> cur = this;
+        while (cur instanceof Cons(var head, var tail, var ignore)) {
+            if (tail.isEmpty()) {
+                return Optional.of(Tuple.of(head, front.build()));
+            }
+            front.add(head);
+            cur = tail;
+        }
+        return Optional.empty();
     }
 
     @Override
     default Optional<PureLinkedList<T>> addAll(int index, Iterable<? extends T> element) {
-        PureLinkedList<T> front = PureLinkedList.empty();
+        final Builder<T> front = PureLinkedList.builder();
         PureLinkedList<T> rear = this;
         var curIdx = index;
-        while (curIdx > 0 && rear instanceof Cons(var head, var tail)) {
+        while (curIdx > 0 && rear instanceof Cons(var head, var tail, var ignore)) {
             curIdx--;
-            front = front.addFirst(head);
+            front.add(head);
             rear = tail;
         }
-        if (curIdx != 0) {
+        if (curIdx != 0 || index < 0) {
             return Optional.empty();
         }
-        for (T t : element) {
-            front = front.addFirst(t);
-        }
-        while (front instanceof Cons(var head, var tail)) {
-            front = tail;
-            rear = rear.addFirst(head);
-        }
-        return Optional.of(rear);
+        return Optional.of(front.addAll(element).buildOnto(rear));
     }
 
     @Override
@@ -335,66 +425,54 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
 
     @Override
     default Optional<Tuple2<T, PureLinkedList<T>>> set(int index, T element) {
-        PureLinkedList<T> front = PureLinkedList.empty();
+        final Builder<T> front = PureLinkedList.builder();
         PureLinkedList<T> rear = this;
         var curIdx = index;
-        while (curIdx > 0 && rear instanceof Cons(var head, PureLinkedList<T> tail)) {
-            front = front.addFirst(head);
+        while (curIdx > 0 && rear instanceof Cons(var head, PureLinkedList<T> tail, var ignore)) {
+            front.add(head);
             rear = tail;
             curIdx--;
         }
         if (curIdx != 0) {
             return Optional.empty();
         }
-        if (rear instanceof Cons(var head, var tail)) {
-            rear = new Cons<>(element, tail);
-            for (T t : front) {
-                rear = rear.addFirst(t);
-            }
-            return Optional.of(Tuple.of(head, rear));
+        if (rear instanceof Cons(var head, var tail, var ignore)) {
+            return Optional.of(Tuple.of(head, front.buildOnto(new Cons<>(element, tail))));
         }
         return Optional.empty();
     }
 
     @Override
     default Optional<PureLinkedList<T>> add(int index, T value) {
-        PureLinkedList<T> front = PureLinkedList.empty();
+        final Builder<T> front = PureLinkedList.builder();
         PureLinkedList<T> rear = this;
         int curIdx = index;
-        while (curIdx > 0 && rear instanceof Cons(var head, var tail)) {
+        while (curIdx > 0 && rear instanceof Cons(var head, var tail, var ignore)) {
             curIdx--;
-            front = front.addFirst(head);
+            front.add(head);
             rear = tail;
         }
-        if (curIdx != 0) {
+        if (curIdx != 0 || index < 0) {
             return Optional.empty();
         }
-        rear = new Cons<>(value, rear);
-        for (T t : front) {
-            rear = rear.addFirst(t);
-        }
-        return Optional.of(rear);
+        return Optional.of(front.buildOnto(new Cons<>(value, rear)));
     }
 
     @Override
     default Optional<Tuple2<T, PureLinkedList<T>>> remove(int index) {
-        PureLinkedList<T> front = PureLinkedList.empty();
+        final Builder<T> front = PureLinkedList.builder();
         PureLinkedList<T> rear = this;
         var curIdx = index;
-        while (curIdx > 0 && rear instanceof Cons(var head, var tail)) {
+        while (curIdx > 0 && rear instanceof Cons(var head, var tail, var ignore)) {
             curIdx--;
-            front = front.addFirst(head);
+            front.add(head);
             rear = tail;
         }
         if (curIdx != 0) {
             return Optional.empty();
         }
-        if (rear instanceof Cons(var head, var tail)) {
-            rear = tail;
-            for (T t : front) {
-                rear = rear.addFirst(t);
-            }
-            return Optional.of(Tuple.of(head, rear));
+        if (rear instanceof Cons(var head, var tail, var ignore)) {
+            return Optional.of(Tuple.of(head, front.buildOnto(tail)));
         }
         return Optional.empty();
     }
@@ -443,32 +521,86 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
 
     @Override
     default Optional<PureLinkedList<T>> subList(int from, int to) {
-        var cur = this;
-        int curFrom = from;
-        while (curFrom >= 0 && cur instanceof Cons(var head, var tail)) {
-            cur = tail;
-            curFrom--;
-        }
-        if (curFrom != 0) {
+        if (from < 0 || from > to || to > size()) {
             return Optional.empty();
         }
-        PureLinkedList<T> ret = PureLinkedList.empty();
-        int curTo = to - 1;
-        while (curTo >= 0 && cur instanceof Cons(var head, var tail)) {
-            ret = ret.addFirst(head);
+        var cur = this;
+        for (int i = 0; i < from; i++) {
+            cur = ((Cons<T>) cur).tail();
         }
-        if (curTo != 0) {
-            return Optional.empty();
+        if (to == size()) {
+            return Optional.of(cur);
         }
-        return Optional.of(ret.reversed());
-
+        final Builder<T> ret = PureLinkedList.builder();
+        for (int i = from; i < to; i++) {
+            final Cons<T> c = (Cons<T>) cur;
+            ret.add(c.head());
+            cur = c.tail();
+        }
+        return Optional.of(ret.build());
     }
 
+    /**
+     * A single cell of a non-empty {@link PureLinkedList}. Alongside the head and tail, each cell records the number
+     * of elements in the list it heads, which is what allows {@link #size()} to run in constant time.
+     *
+     * @param head the first element of the list.
+     * @param tail the rest of the list.
+     * @param size the number of elements in this list, always {@code tail.size() + 1}.
+     * @param <T>  The type contained by the {@link PureLinkedList}
+     */
     @Pure
-    record Cons<T>(T head, PureLinkedList<T> tail) implements PureLinkedList<T> {
+    record Cons<T>(T head, PureLinkedList<T> tail, int size) implements PureLinkedList<T> {
         public Cons {
             Objects.requireNonNull(head, "head cannot be null");
             Objects.requireNonNull(tail, "tail cannot be null");
+            if (size != tail.size() + 1) {
+                throw new IllegalArgumentException("size must be one greater than the size of the tail");
+            }
+        }
+
+        public Cons(T head, PureLinkedList<T> tail) {
+            this(head, tail, Objects.requireNonNull(tail, "tail cannot be null").size() + 1);
+        }
+
+        /**
+         * Compares the lists element by element. The generated record equality would recurse once per element through
+         * {@link #tail()}, overflowing the stack on long lists, so this walks both lists in a loop instead.
+         * <p>
+         * runtime complexity: O(N)
+         * space complexity: O(1)
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Cons<?> other) || other.size != size) {
+                return false;
+            }
+            PureLinkedList<?> a = this;
+            PureLinkedList<?> b = other;
+            while (a != b && a instanceof Cons<?> x && b instanceof Cons<?> y) {
+                if (!x.head.equals(y.head)) {
+                    return false;
+                }
+                a = x.tail;
+                b = y.tail;
+            }
+            return true;
+        }
+
+        /**
+         * Computes the same hash as {@link java.util.List#hashCode()} would for these elements, in a loop rather than
+         * by recursing through {@link #tail()}.
+         * <p>
+         * runtime complexity: O(N)
+         * space complexity: O(1)
+         */
+        @Override
+        public int hashCode() {
+            int h = 1;
+            for (T t : this) {
+                h = 31 * h + t.hashCode();
+            }
+            return h;
         }
 
         @Override
@@ -490,12 +622,124 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
             return (Nil<T>) INSTANCE;
         }
 
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        /**
+         * Returns 1, the hash of an empty {@link java.util.List}, which is also where {@link Cons#hashCode()} starts.
+         */
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+
         @Override
         public String toString() {
             return "[]";
         }
     }
 
+    /**
+     * Collects elements front to back for a new {@link PureLinkedList}.
+     * <p>
+     * Since {@link Cons} is a record, a cell's tail cannot be filled in after the cell is created, so a list can only
+     * be built from its last element backwards. Building one in order with {@link #addFirst(Object)} therefore means
+     * building it reversed and then reversing it, allocating every cell twice. A builder instead buffers the elements
+     * in a growable array that is never shared, and {@link #build()} creates each cell exactly once.
+     * <p>
+     * A builder is not thread safe, and may not be used after {@link #build()} has been called.
+     *
+     * @param <T> The type contained by the {@link PureLinkedList}
+     */
+    final class Builder<T> {
+        private Object[] elements = new Object[8];
+        private int size = 0;
+        private boolean built = false;
+
+        private Builder() {
+        }
+
+        /**
+         * Appends an element to the list being built.
+         * <p>
+         * runtime and space complexity: amortized O(1)
+         *
+         * @param t the element to append.
+         * @return this builder.
+         */
+        public Builder<T> add(T t) {
+            Objects.requireNonNull(t, "PureLinkedList cannot contain null elements");
+            if (built) {
+                throw new IllegalStateException("builder has already been built");
+            }
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = t;
+            return this;
+        }
+
+        /**
+         * Appends every element of the {@link Iterable} to the list being built.
+         * <p>
+         * runtime and space complexity: amortized O(M), where M is the number of elements added.
+         *
+         * @param i the elements to append.
+         * @return this builder.
+         */
+        public Builder<T> addAll(Iterable<? extends T> i) {
+            for (T t : i) {
+                add(t);
+            }
+            return this;
+        }
+
+        /**
+         * @return the number of elements added so far.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Creates the {@link PureLinkedList} holding the added elements in the order they were added.
+         * <p>
+         * runtime and space complexity: O(N)
+         *
+         * @return the built list.
+         */
+        public PureLinkedList<T> build() {
+            return buildOnto(PureLinkedList.empty());
+        }
+
+        /**
+         * Creates a {@link PureLinkedList} holding the added elements followed by the elements of {@code tail}, which
+         * is shared rather than copied.
+         */
+        PureLinkedList<T> buildOnto(PureLinkedList<T> tail) {
+            return buildOnto(tail, size);
+        }
+
+        /**
+         * Same as {@link #buildOnto(PureLinkedList)}, but only keeps the first {@code length} added elements.
+         */
+        @SuppressWarnings("unchecked")
+        PureLinkedList<T> buildOnto(PureLinkedList<T> tail, int length) {
+            if (built) {
+                throw new IllegalStateException("builder has already been built");
+            }
+            built = true;
+            PureLinkedList<T> ret = tail;
+            for (int i = length - 1; i >= 0; i--) {
+                ret = new Cons<>((T) elements[i], ret);
+            }
+            elements = null;
+            return ret;
+        }
+    }
+
     class MyListIterator<T> implements ListIterator<T> {
         private PureLinkedList<T> front;
         private PureLinkedList<T> rear;
@@ -515,7 +759,7 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
         @Override
         public T next() {
             return switch (rear) {
-                case Cons(var head, var tail) -> {
+                case Cons(var head, var tail, var ignore) -> {
                     front = front.addFirst(head);
                     rear = tail;
                     idx++;
@@ -533,7 +777,7 @@ public sealed interface PureLinkedList<T> extends PureList<T> {
         @Override
         public T previous() {
             return switch (front) {
-                case Cons(var head, var tail) -> {
+                case Cons(var head, var tail, var ignore) -> {
                     front = tail;
                     rear = rear.addFirst(head);
                     idx--;
@@ -0,0 +1,610 @@
+package org.purely.collections;
+
+import org.purely.annotations.Pure;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent vector of {@code long}s. It has the same structure and complexity as a {@link PureVector}, a 32-way
+ * trie with a tail buffer, but keeps its elements unboxed in {@code long[]} leaves. An element costs 8 bytes, where a
+ * {@code PureVector<Long>} spends a reference and a 24 byte {@link Long} on it.
+ * <p>
+ * The operations mirror {@link PureList}, taking and returning {@code long}s and {@link OptionalLong}s. Where a
+ * {@link PureList} returns the removed or replaced element together with the new vector, this class only returns the
+ * new vector, so that nothing is boxed; read the element with {@link #get(int)} first if it's needed.
+ * {@link #boxed()} and {@link #from(Iterable)} convert to and from the generic collections.
+ */
+@Pure
+public final class PureLongVector extends PrimitiveVector<long[], PureLongVector> implements Iterable<Long> {
+    private static final long[] EMPTY_LEAF = new long[0];
+    private static final PureLongVector EMPTY = new PureLongVector(0, BITS, EMPTY_NODE, EMPTY_LEAF);
+
+    private PureLongVector(int size, int shift, Object[] root, long[] tail) {
+        super(size, shift, root, tail);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    public static PureLongVector empty() {
+        return EMPTY;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public static PureLongVector of(long... values) {
+        return builder().addAll(values).build();
+    }
+
+    /**
+     * Creates a new {@link PureLongVector} from the elements of the {@link Iterable}, unboxing each of them. If the
+     * iterable is already a {@link PureLongVector}, it is returned in O(1).
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static PureLongVector from(Iterable<Long> it) {
+        if (it instanceof PureLongVector l) {
+            return l;
+        }
+        final Builder ret = builder();
+        for (Long i : it) {
+            ret.add(Objects.requireNonNull(i, "PureLongVector cannot contain null elements"));
+        }
+        return ret.build();
+    }
+
+    /**
+     * Creates a new {@link PureLongVector} from the elements of the {@link LongStream}, in encounter order.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static PureLongVector from(LongStream stream) {
+        final Builder ret = builder();
+        stream.forEachOrdered(ret::add);
+        return ret.build();
+    }
+
+    /**
+     * Returns a new, empty {@link Builder}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static Builder builder() {
+        return new Builder(EMPTY);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureLongVector clear() {
+        return EMPTY;
+    }
+
+    /**
+     * runtime complexity: O(log32 N)
+     * space complexity: O(1)
+     */
+    public OptionalLong get(int index) {
+        if (index < 0 || index >= size) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(unsafeGet(index));
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    public OptionalLong getFirst() {
+        return get(0);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    public OptionalLong getLast() {
+        return size == 0 ? OptionalLong.empty() : OptionalLong.of(tail[tail.length - 1]);
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public boolean contains(long value) {
+        return indexOf(value).isPresent();
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public OptionalLong indexOf(long value) {
+        for (int i = 0; i < size; i += WIDTH) {
+            final long[] leaf = leafFor(i);
+            for (int j = 0; j < leaf.length; j++) {
+                if (leaf[j] == value) {
+                    return OptionalLong.of(i + j);
+                }
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public OptionalLong lastIndexOf(long value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (unsafeGet(i) == value) {
+                return OptionalLong.of(i);
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Equivalent to {@link #addLast(long)}.
+     * <p>
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    public PureLongVector add(long value) {
+        return addLast(value);
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    public PureLongVector addLast(long value) {
+        final long[] newTail = appendLeaf();
+        newTail[newTail.length - 1] = value;
+        return appended(newTail);
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public PureLongVector addFirst(long value) {
+        return builder().add(value).addAll(this).build();
+    }
+
+    /**
+     * Inserting at the end of the vector is equivalent to {@link #addLast(long)}. Any other index requires rebuilding
+     * the vector after the index.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureLongVector> add(int index, long value) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        if (index == size) {
+            return Optional.of(addLast(value));
+        }
+        return Optional.of(builder().addAll(this, 0, index).add(value).addAll(this, index, size).build());
+    }
+
+    /**
+     * Appends the elements in place through a {@link Builder} seeded with this vector, sharing every leaf of this vector.
+     * <p>
+     * runtime and space complexity: O(M + N / 32), where M is the number of elements added.
+     */
+    public PureLongVector addAll(long... values) {
+        return values.length == 0 ? this : new Builder(this).addAll(values).build();
+    }
+
+    /**
+     * runtime and space complexity: O(M + N / 32), where M is the number of elements added.
+     */
+    public PureLongVector addAll(PureLongVector values) {
+        return values.isEmpty() ? this : new Builder(this).addAll(values).build();
+    }
+
+    /**
+     * runtime and space complexity: O(N + M), where M is the number of elements added.
+     */
+    public Optional<PureLongVector> addAll(int index, PureLongVector values) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        return Optional.of(builder().addAll(this, 0, index).addAll(values).addAll(this, index, size).build());
+    }
+
+    /**
+     * Returns a vector with the element at the index replaced.
+     * <p>
+     * runtime and space complexity: O(log32 N)
+     */
+    public Optional<PureLongVector> set(int index, long value) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        final long[] leaf = leafFor(index).clone();
+        leaf[index & MASK] = value;
+        return Optional.of(withLeaf(index, leaf));
+    }
+
+    /**
+     * Returns a vector without the element at the index. Removing the last element is equivalent to
+     * {@link #removeLast()}. Any other index requires rebuilding the vector after the index.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureLongVector> removeAt(int index) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        if (index == size - 1) {
+            return removeLast();
+        }
+        return Optional.of(builder().addAll(this, 0, index).addAll(this, index + 1, size).build());
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureLongVector> removeFirst() {
+        return removeAt(0);
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    public Optional<PureLongVector> removeLast() {
+        return size == 0 ? Optional.empty() : Optional.of(withoutLast());
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public Optional<PureLongVector> subList(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            return Optional.empty();
+        }
+        return Optional.of(slice(from, to));
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public PureLongVector reversed() {
+        final Builder ret = builder();
+        for (int i = size - 1; i >= 0; i--) {
+            ret.add(unsafeGet(i));
+        }
+        return ret.build();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public PureLongVector map(LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        final Builder ret = builder();
+        for (int i = 0; i < size; i += WIDTH) {
+            for (long value : leafFor(i)) {
+                ret.add(mapper.applyAsLong(value));
+            }
+        }
+        return ret.build();
+    }
+
+    /**
+     * Returns a vector of the elements matching the predicate. If every element matches, this same vector is returned.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public PureLongVector filter(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        final Builder ret = builder();
+        for (int i = 0; i < size; i += WIDTH) {
+            for (long value : leafFor(i)) {
+                if (predicate.test(value)) {
+                    ret.add(value);
+                }
+            }
+        }
+        return ret.size() == size ? this : ret.build();
+    }
+
+    /**
+     * Folds the elements from first to last into the identity with the operator.
+     * <p>
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    public long fold(long identity, LongBinaryOperator op) {
+        Objects.requireNonNull(op);
+        long ret = identity;
+        for (int i = 0; i < size; i += WIDTH) {
+            for (long value : leafFor(i)) {
+                ret = op.applyAsLong(ret, value);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    public long[] toArray() {
+        final long[] ret = new long[size];
+        for (int i = 0; i < size; i += WIDTH) {
+            final long[] leaf = leafFor(i);
+            System.arraycopy(leaf, 0, ret, i, leaf.length);
+        }
+        return ret;
+    }
+
+    /**
+     * Converts this vector into a {@link PureVector} of boxed {@link Long}s.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public PureVector<Long> boxed() {
+        final PureVector.Builder<Long> ret = PureVector.builder();
+        for (int i = 0; i < size; i += WIDTH) {
+            for (long value : leafFor(i)) {
+                ret.add(value);
+            }
+        }
+        return ret.build();
+    }
+
+    /**
+     * Returns a sequential {@link LongStream} over the elements of this vector.
+     *
+     * @return a sequential {@link LongStream} over the elements of this vector.
+     */
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link LongStream} over the elements of this vector.
+     *
+     * @return a possibly parallel {@link LongStream} over the elements of this vector.
+     */
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    /**
+     * Splits the index range at its midpoint in O(1), and traverses a leaf array at a time.
+     */
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new LongVectorSpliterator(this, 0, size);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int idx = 0;
+            private long[] leaf = leafFor(0);
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (idx != 0 && (idx & MASK) == 0) {
+                    leaf = leafFor(idx);
+                }
+                return leaf[idx++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PureLongVector other) || other.size != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i += WIDTH) {
+            if (!Arrays.equals(leafFor(i), other.leafFor(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the elements in the same way as {@link java.util.List#hashCode()}, so a vector hashes the same as its
+     * {@link #boxed()} counterpart.
+     */
+    @Override
+    public int hashCode() {
+        int ret = 1;
+        for (int i = 0; i < size; i += WIDTH) {
+            for (long value : leafFor(i)) {
+                ret = 31 * ret + Long.hashCode(value);
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder ret = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                ret.append(", ");
+            }
+            ret.append(unsafeGet(i));
+        }
+        return ret.append(']').toString();
+    }
+
+    @Override
+    long[] newLeaf(int length) {
+        return new long[length];
+    }
+
+    @Override
+    int leafLength(long[] leaf) {
+        return leaf.length;
+    }
+
+    @Override
+    PureLongVector with(int size, int shift, Object[] root, long[] tail) {
+        return new PureLongVector(size, shift, root, tail);
+    }
+
+    private long unsafeGet(int index) {
+        return leafFor(index)[index & MASK];
+    }
+
+    /**
+     * A transient vector for building a {@link PureLongVector} by appending elements in place. Whole leaves of the vectors
+     * passed to {@link #addAll(PureLongVector)} are shared rather than copied when they line up with the leaves of the
+     * vector being built.
+     * <p>
+     * A builder is not thread safe, and may not be used after {@link #build()} has been called, since the built vector
+     * shares its leaves.
+     */
+    public static final class Builder {
+        private final PrimitiveVector.Builder<long[], PureLongVector> trie;
+
+        private Builder(PureLongVector seed) {
+            this.trie = new PrimitiveVector.Builder<>(seed);
+        }
+
+        /**
+         * Appends an element to the vector being built.
+         * <p>
+         * runtime and space complexity: amortized O(1)
+         *
+         * @param value the element to append.
+         * @return this builder.
+         */
+        public Builder add(long value) {
+            final int idx = trie.reserve();
+            trie.current[idx] = value;
+            return this;
+        }
+
+        /**
+         * Appends every element of the array to the vector being built.
+         * <p>
+         * runtime and space complexity: O(M), where M is the number of elements added.
+         *
+         * @param values the elements to append.
+         * @return this builder.
+         */
+        public Builder addAll(long... values) {
+            trie.appendArray(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Appends every element of the vector to the vector being built.
+         * <p>
+         * runtime and space complexity: O(M), where M is the number of elements added.
+         *
+         * @param values the elements to append.
+         * @return this builder.
+         */
+        public Builder addAll(PureLongVector values) {
+            return addAll(values, 0, values.size);
+        }
+
+        private Builder addAll(PureLongVector values, int from, int to) {
+            trie.appendRange(values, from, to);
+            return this;
+        }
+
+        /**
+         * @return the number of elements in the vector being built.
+         */
+        public int size() {
+            return trie.size();
+        }
+
+        /**
+         * Freezes the builder into a {@link PureLongVector}.
+         * <p>
+         * runtime and space complexity: O(N / 32)
+         *
+         * @return the built vector.
+         */
+        public PureLongVector build() {
+            return trie.build();
+        }
+    }
+
+    private static final class LongVectorSpliterator implements Spliterator.OfLong {
+        private final PureLongVector vector;
+        private int idx;
+        private final int fence;
+
+        private LongVectorSpliterator(PureLongVector vector, int idx, int fence) {
+            this.vector = vector;
+            this.idx = idx;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (idx >= fence) {
+                return false;
+            }
+            action.accept(vector.unsafeGet(idx++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            while (idx < fence) {
+                final long[] leaf = vector.leafFor(idx);
+                final int end = Math.min(fence, (idx | MASK) + 1);
+                for (int i = idx & MASK; idx < end; i++, idx++) {
+                    action.accept(leaf[i]);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            final int mid = (idx + fence) >>> 1;
+            if (mid <= idx) {
+                return null;
+            }
+            final var ret = new LongVectorSpliterator(vector, idx, mid);
+            idx = mid;
+            return ret;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - idx;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.purely.collections;
+
+import org.purely.Tuple.Tuple2;
+import org.purely.annotations.Pure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The persistent analogue to {@link java.util.Map}. As with {@link PureCollection}, this interface does not implement
+ * {@link java.util.Map}, since every mutating operation would have to throw an {@link UnsupportedOperationException}.
+ * Instead, operations like {@link #put(Object, Object)} and {@link #remove(Object)} return a new map, and
+ * {@link #toMutable()} returns an O(1) view implementing {@link java.util.Map} for interop with standard Java APIs.
+ * <p>
+ * Lookups return an {@link Optional} rather than null. Implementations do not permit null keys or values.
+ * <p>
+ * A {@link PureMap} iterates over its entries as {@link Tuple2}s of key and value.
+ * <p>
+ * All operations on implementing classes should explain their O(n) runtime complexity.
+ *
+ * @param <K> The type of the keys in the map.
+ * @param <V> The type of the values in the map.
+ */
+@Pure
+public interface PureMap<K, V> extends Iterable<Tuple2<K, V>> {
+    /**
+     * Converts this PureMap into a {@link Map}, implementing all mutability methods fully.
+     * This method is guaranteed to be O(1) in time.
+     *
+     * @return a {@link Map} view for the given {@link PureMap}
+     */
+    Map<K, V> toMutable();
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return the number of entries in this map.
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if this map contains no entries.
+     *
+     * @return {@code true} if this map contains no entries.
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the value associated with the key, if present.
+     *
+     * @param key the key whose value is to be returned.
+     * @return an {@link Optional} containing the value associated with the key, or an empty {@link Optional}.
+     */
+    Optional<V> get(Object key);
+
+    /**
+     * Returns {@code true} if this map contains an entry for the key.
+     *
+     * @param key the key whose presence in the map is to be tested.
+     * @return {@code true} if this map contains an entry for the key.
+     */
+    default boolean containsKey(Object key) {
+        return get(key).isPresent();
+    }
+
+    /**
+     * Returns {@code true} if any key in this map is associated with the value.
+     * <p>
+     * The default implementation is O(N) in time and O(1) in space.
+     *
+     * @param value the value whose presence in the map is to be tested.
+     * @return {@code true} if any key in this map is associated with the value.
+     */
+    default boolean containsValue(Object value) {
+        for (Tuple2<K, V> entry : this) {
+            if (entry.second().equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a new {@link PureMap} with the key associated with the value, replacing any previous association.
+     * <p>
+     * Implementors of this method should specialize the return type to the implementing class's type.
+     *
+     * @param key   the key to associate.
+     * @param value the value to associate with the key.
+     * @return a new {@link PureMap} containing the association.
+     */
+    PureMap<K, V> put(K key, V value);
+
+    /**
+     * Returns a new {@link PureMap} without any association for the key.
+     * <p>
+     * Implementors of this method should specialize the return type to the implementing class's type.
+     *
+     * @param key the key to remove.
+     * @return a new {@link PureMap} without the key.
+     */
+    PureMap<K, V> remove(Object key);
+
+    /**
+     * Returns a new {@link PureMap} with all the entries of the {@link Map} added, replacing any previous associations.
+     * <p>
+     * Implementors of this method should specialize the return type to the implementing class's type.
+     *
+     * @param m the entries to add.
+     * @return a new {@link PureMap} with all the entries added.
+     */
+    PureMap<K, V> putAll(Map<? extends K, ? extends V> m);
+
+    /**
+     * Returns a new {@link PureMap} with all the entries of the {@link PureMap} added, replacing any previous
+     * associations.
+     * <p>
+     * Implementors of this method should specialize the return type to the implementing class's type.
+     *
+     * @param m the entries to add.
+     * @return a new {@link PureMap} with all the entries added.
+     */
+    PureMap<K, V> putAll(PureMap<? extends K, ? extends V> m);
+
+    /**
+     * Returns the empty value for this map.
+     * <p>
+     * Implementors of this method should specialize the return type to the implementing class's type.
+     *
+     * @return The empty value for this map.
+     */
+    PureMap<K, V> clear();
+
+    /**
+     * Returns a sequential {@link Stream} over the entries of this map.
+     *
+     * @return a sequential {@link Stream} over the entries of this map.
+     */
+    default Stream<Tuple2<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link Stream} over the entries of this map.
+     *
+     * @return a possibly parallel {@link Stream} over the entries of this map.
+     */
+    default Stream<Tuple2<K, V>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the entries of this map, reporting {@link Spliterator#SIZED},
+     * {@link Spliterator#DISTINCT}, {@link Spliterator#IMMUTABLE} and {@link Spliterator#NONNULL}. The default
+     * implementation splits the map's iterator into batches; implementors should override it with a spliterator that
+     * splits along the structure of the map.
+     *
+     * @return a {@link Spliterator} over the entries of this map.
+     */
+    @Override
+    default Spliterator<Tuple2<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the keys of this map.
+     *
+     * @return a sequential {@link Stream} over the keys of this map.
+     */
+    default Stream<K> keys() {
+        return stream().map(Tuple2::first);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the values of this map.
+     *
+     * @return a sequential {@link Stream} over the values of this map.
+     */
+    default Stream<V> values() {
+        return stream().map(Tuple2::second);
+    }
+}
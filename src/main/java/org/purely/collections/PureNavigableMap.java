@@ -0,0 +1,109 @@
+package org.purely.collections;
+
+import org.purely.Tuple.Tuple2;
+import org.purely.annotations.Pure;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The persistent analogue to {@link java.util.NavigableMap} in the {@link PureMap} hierarchy, adding searches for the
+ * closest match to a key and ranges with explicit inclusive or exclusive bounds.
+ */
+@Pure
+public interface PureNavigableMap<K, V> extends PureSortedMap<K, V> {
+    /**
+     * Returns the entry with the greatest key strictly less than the given key, if any.
+     *
+     * @param key the key to search from.
+     * @return an {@link Optional} containing the matching entry, or an empty {@link Optional}.
+     */
+    Optional<Tuple2<K, V>> lowerEntry(K key);
+
+    /**
+     * Returns the entry with the greatest key less than or equal to the given key, if any.
+     *
+     * @param key the key to search from.
+     * @return an {@link Optional} containing the matching entry, or an empty {@link Optional}.
+     */
+    Optional<Tuple2<K, V>> floorEntry(K key);
+
+    /**
+     * Returns the entry with the least key greater than or equal to the given key, if any.
+     *
+     * @param key the key to search from.
+     * @return an {@link Optional} containing the matching entry, or an empty {@link Optional}.
+     */
+    Optional<Tuple2<K, V>> ceilingEntry(K key);
+
+    /**
+     * Returns the entry with the least key strictly greater than the given key, if any.
+     *
+     * @param key the key to search from.
+     * @return an {@link Optional} containing the matching entry, or an empty {@link Optional}.
+     */
+    Optional<Tuple2<K, V>> higherEntry(K key);
+
+    /**
+     * Returns a new {@link PureNavigableMap} containing the entries whose keys are less than, or equal to if
+     * {@code inclusive} is true, {@code toKey}.
+     *
+     * @param toKey     the upper bound of the keys in the returned map.
+     * @param inclusive whether the upper bound is included in the returned map.
+     * @return a new {@link PureNavigableMap} containing the entries below the bound.
+     */
+    PureNavigableMap<K, V> headMap(K toKey, boolean inclusive);
+
+    /**
+     * Returns a new {@link PureNavigableMap} containing the entries whose keys are greater than, or equal to if
+     * {@code inclusive} is true, {@code fromKey}.
+     *
+     * @param fromKey   the lower bound of the keys in the returned map.
+     * @param inclusive whether the lower bound is included in the returned map.
+     * @return a new {@link PureNavigableMap} containing the entries above the bound.
+     */
+    PureNavigableMap<K, V> tailMap(K fromKey, boolean inclusive);
+
+    /**
+     * Returns a new {@link PureNavigableMap} containing the entries whose keys range from {@code fromKey} to
+     * {@code toKey}.
+     *
+     * @param fromKey       the lower bound of the keys in the returned map.
+     * @param fromInclusive whether the lower bound is included in the returned map.
+     * @param toKey         the upper bound of the keys in the returned map.
+     * @param toInclusive   whether the upper bound is included in the returned map.
+     * @return a new {@link PureNavigableMap} containing the entries in the range.
+     * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}.
+     */
+    PureNavigableMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive);
+
+    @Override
+    default PureNavigableMap<K, V> headMap(K toKey) {
+        return headMap(toKey, false);
+    }
+
+    @Override
+    default PureNavigableMap<K, V> tailMap(K fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    @Override
+    default PureNavigableMap<K, V> subMap(K fromKey, K toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    @Override
+    PureNavigableMap<K, V> put(K key, V value);
+
+    @Override
+    PureNavigableMap<K, V> remove(Object key);
+
+    @Override
+    PureNavigableMap<K, V> putAll(Map<? extends K, ? extends V> m);
+
+    @Override
+    PureNavigableMap<K, V> putAll(PureMap<? extends K, ? extends V> m);
+
+    @Override
+    PureNavigableMap<K, V> clear();
+}
@@ -0,0 +1,600 @@
+package org.purely.collections;
+
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+import org.purely.annotations.Pure;
+import org.purely.collections.PureLinkedList.Cons;
+import org.purely.collections.views.PureQueueView;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link PureQueue} is a persistent first-in-first-out sequence. Elements are added to the back of the queue with
+ * {@link #addLast(Object)} and taken from the front with {@link #removeFirst()}, both in O(1) time.
+ * <p>
+ * Two implementations are provided, following Chris Okasaki's <i>Purely Functional Data Structures</i>:
+ * <ul>
+ *     <li>{@link BankersQueue}, created by {@link #empty()}, keeps a front list and a reversed rear list, and reverses
+ *     the rear into the front whenever the front runs out. Every operation is O(1) amortized, but an individual
+ *     {@link #removeFirst()} may take O(N) to perform the reversal.</li>
+ *     <li>{@link RealTimeQueue}, created by {@link #emptyRealTime()}, performs the same reversal lazily and
+ *     incrementally, forcing one step of it on every operation. Every operation is O(1) in the worst case, at the
+ *     cost of a higher constant factor. Use it for latency sensitive paths where a sudden O(N) pause is unacceptable.</li>
+ * </ul>
+ *
+ * @param <T> The type contained by the {@link PureQueue}
+ */
+@Pure
+public sealed interface PureQueue<T> extends PureSequencedCollection<T> {
+    /**
+     * Returns an empty {@link BankersQueue}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    static <T> PureQueue<T> empty() {
+        return BankersQueue.instance();
+    }
+
+    /**
+     * Returns an empty {@link RealTimeQueue}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    static <T> PureQueue<T> emptyRealTime() {
+        return RealTimeQueue.instance();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SafeVarargs
+    static <T> PureQueue<T> of(T... values) {
+        PureQueue<T> ret = PureQueue.empty();
+        for (T value : values) {
+            ret = ret.addLast(value);
+        }
+        return ret;
+    }
+
+    /**
+     * Creates a new {@link BankersQueue} from the elements of the {@link Iterable}. If the iterable is a view created
+     * by {@link #toMutable()}, the underlying queue is returned in O(1).
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    static <T> PureQueue<T> from(Iterable<T> it) {
+        if (it instanceof PureQueueView<T> v) {
+            return v.toPure();
+        }
+        return PureQueue.<T>empty().addAll(it);
+    }
+
+    @Override
+    PureQueue<T> reversed();
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    PureQueue<T> addFirst(T t);
+
+    /**
+     * runtime and space complexity: O(1), amortized for a {@link BankersQueue}.
+     */
+    @Override
+    PureQueue<T> addLast(T t);
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    Optional<T> getFirst();
+
+    /**
+     * runtime and space complexity: O(1), amortized for a {@link BankersQueue}.
+     */
+    @Override
+    Optional<Tuple2<T, PureQueue<T>>> removeFirst();
+
+    @Override
+    Optional<Tuple2<T, PureQueue<T>>> removeLast();
+
+    @Override
+    PureQueue<T> clear();
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    default Queue<T> toMutable() {
+        return new PureQueueView<>(this);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    default boolean contains(Object o) {
+        for (T t : this) {
+            if (t.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default T[] toArray() {
+        return (T[]) this.stream().toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Equivalent to {@link #addLast(Object)}.
+     */
+    @Override
+    default PureQueue<T> add(T t) {
+        return addLast(t);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the element is not present, this same queue is returned.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    default PureQueue<T> remove(Object o) {
+        if (!contains(o)) {
+            return this;
+        }
+        PureQueue<T> ret = clear();
+        boolean removed = false;
+        for (T t : this) {
+            if (!removed && t.equals(o)) {
+                removed = true;
+            } else {
+                ret = ret.addLast(t);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * runtime and space complexity: O(M), where M is the number of elements added.
+     */
+    @Override
+    default PureQueue<T> addAll(Iterable<? extends T> i) {
+        PureQueue<T> ret = this;
+        for (T t : i) {
+            ret = ret.addLast(t);
+        }
+        return ret;
+    }
+
+    /**
+     * Removes every element that is also contained by the {@link Iterable}.
+     * <p>
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
+    @Override
+    default PureQueue<T> removeAll(Iterable<?> i) {
+        return filter(i, false);
+    }
+
+    /**
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
+    @Override
+    default PureQueue<T> retainAll(Iterable<?> i) {
+        return filter(i, true);
+    }
+
+    private PureQueue<T> filter(Iterable<?> i, boolean keepMatches) {
+        final Predicate<Object> matches = Membership.in(i, this);
+        PureQueue<T> ret = clear();
+        for (T t : this) {
+            if (matches.test(t) == keepMatches) {
+                ret = ret.addLast(t);
+            }
+        }
+        return ret.size() == size() ? this : ret;
+    }
+
+    private static boolean sameElements(PureQueue<?> queue, Object o) {
+        if (queue == o) {
+            return true;
+        }
+        if (!(o instanceof PureQueue<?> other) || other.size() != queue.size()) {
+            return false;
+        }
+        final Iterator<?> it = other.iterator();
+        for (Object t : queue) {
+            if (!t.equals(it.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(PureQueue<?> queue) {
+        int ret = 1;
+        for (Object t : queue) {
+            ret = 31 * ret + t.hashCode();
+        }
+        return ret;
+    }
+
+    private static String show(PureQueue<?> queue) {
+        return "[" + queue.stream().map(Object::toString).collect(Collectors.joining(", ")) + "]";
+    }
+
+    /**
+     * The two-list banker's queue. Elements are taken from the front list and added to the rear list, which is
+     * reversed into the front whenever the front becomes empty. Each element is moved by a reversal at most once, so
+     * the cost of a reversal is paid for by the additions that preceded it.
+     * <p>
+     * {@link #removeLast()} splits the front list in half when the rear list is empty, so that alternating between
+     * the two ends of the queue does not reverse the whole queue every time.
+     *
+     * @param <T> The type contained by the {@link PureQueue}
+     */
+    @Pure
+    final class BankersQueue<T> implements PureQueue<T> {
+        private static final BankersQueue<?> INSTANCE = new BankersQueue<>(PureLinkedList.empty(), PureLinkedList.empty());
+
+        private final PureLinkedList<T> front;
+        private final PureLinkedList<T> rear;
+
+        private BankersQueue(PureLinkedList<T> front, PureLinkedList<T> rear) {
+            this.front = front;
+            this.rear = rear;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> BankersQueue<T> instance() {
+            return (BankersQueue<T>) INSTANCE;
+        }
+
+        private static <T> BankersQueue<T> check(PureLinkedList<T> front, PureLinkedList<T> rear) {
+            if (front.isEmpty()) {
+                return rear.isEmpty() ? instance() : new BankersQueue<>(rear.reversed(), PureLinkedList.empty());
+            }
+            return new BankersQueue<>(front, rear);
+        }
+
+        /**
+         * runtime and space complexity: O(1)
+         */
+        @Override
+        public int size() {
+            return front.size() + rear.size();
+        }
+
+        /**
+         * Swaps the front and rear lists.
+         * <p>
+         * runtime and space complexity: O(1) amortized
+         */
+        @Override
+        public BankersQueue<T> reversed() {
+            return check(rear, front);
+        }
+
+        @Override
+        public BankersQueue<T> addFirst(T t) {
+            return new BankersQueue<>(front.addFirst(t), rear);
+        }
+
+        @Override
+        public BankersQueue<T> addLast(T t) {
+            return check(front, rear.addFirst(t));
+        }
+
+        @Override
+        public Optional<T> getFirst() {
+            return front.getFirst();
+        }
+
+        /**
+         * runtime and space complexity: O(1) if the rear list is non-empty, otherwise O(N)
+         */
+        @Override
+        public Optional<T> getLast() {
+            return rear.isEmpty() ? front.getLast() : rear.getFirst();
+        }
+
+        @Override
+        public Optional<Tuple2<T, PureQueue<T>>> removeFirst() {
+            return switch (front) {
+                case Cons(var head, var tail, var ignore) -> Optional.of(Tuple.of(head, check(tail, rear)));
+                default -> Optional.empty();
+            };
+        }
+
+        /**
+         * runtime and space complexity: O(1) amortized
+         */
+        @Override
+        public Optional<Tuple2<T, PureQueue<T>>> removeLast() {
+            if (rear instanceof Cons(var head, var tail, var ignore)) {
+                return Optional.of(Tuple.of(head, check(front, tail)));
+            }
+            if (front.isEmpty()) {
+                return Optional.empty();
+            }
+
+            final int keep = front.size() / 2;
+            PureLinkedList<T> reversedFront = PureLinkedList.empty();
+            PureLinkedList<T> newRear = PureLinkedList.empty();
+            int idx = 0;
+            for (T t : front) {
+                if (idx++ < keep) {
+                    reversedFront = reversedFront.addFirst(t);
+                } else {
+                    newRear = newRear.addFirst(t);
+                }
+            }
+            final var last = (Cons<T>) newRear;
+            return Optional.of(Tuple.of(last.head(), check(reversedFront.reversed(), last.tail())));
+        }
+
+        @Override
+        public BankersQueue<T> clear() {
+            return instance();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private Iterator<T> current = front.iterator();
+                private boolean inRear = false;
+
+                @Override
+                public boolean hasNext() {
+                    if (!current.hasNext() && !inRear) {
+                        current = rear.reversed().iterator();
+                        inRear = true;
+                    }
+                    return current.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return current.next();
+                }
+            };
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return sameElements(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash(this);
+        }
+
+        @Override
+        public String toString() {
+            return show(this);
+        }
+    }
+
+    /**
+     * Okasaki's real-time queue. The front of the queue is a lazy stream, and rather than reversing the rear list all
+     * at once, the reversal is set up as a lazy rotation when the rear outgrows the front. A schedule pointing into the
+     * unevaluated part of the front is then advanced by one step on every operation, so that the rotation is always
+     * fully evaluated by the time it is reached, and no single operation ever does more than O(1) work.
+     * <p>
+     * {@link #removeLast()}, {@link #getLast()} when the rear is empty and {@link #reversed()} are not supported by the
+     * schedule and rebuild the queue in O(N).
+     *
+     * @param <T> The type contained by the {@link PureQueue}
+     */
+    @Pure
+    final class RealTimeQueue<T> implements PureQueue<T> {
+        private static final RealTimeQueue<?> INSTANCE = new RealTimeQueue<>(LazyStream.empty(), PureLinkedList.empty(), LazyStream.empty(), 0);
+
+        private final LazyStream<T> front;
+        private final PureLinkedList<T> rear;
+        private final LazyStream<T> schedule;
+        private final int size;
+
+        private RealTimeQueue(LazyStream<T> front, PureLinkedList<T> rear, LazyStream<T> schedule, int size) {
+            this.front = front;
+            this.rear = rear;
+            this.schedule = schedule;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> RealTimeQueue<T> instance() {
+            return (RealTimeQueue<T>) INSTANCE;
+        }
+
+        /**
+         * Advances the schedule by one step, or starts a new rotation once the schedule is exhausted, which happens
+         * exactly when the rear has grown one longer than the front.
+         */
+        private static <T> RealTimeQueue<T> exec(LazyStream<T> front, PureLinkedList<T> rear, LazyStream<T> schedule, int size) {
+            final var cell = schedule.force();
+            if (cell != null) {
+                return new RealTimeQueue<>(front, rear, cell.tail(), size);
+            }
+            final var rotated = rotate(front, rear, LazyStream.empty());
+            return new RealTimeQueue<>(rotated, PureLinkedList.empty(), rotated, size);
+        }
+
+        /**
+         * Lazily computes {@code front ++ reversed(rear) ++ accumulator}, where rear is exactly one element longer than
+         * front. Each forced cell does a constant amount of work.
+         */
+        private static <T> LazyStream<T> rotate(LazyStream<T> front, PureLinkedList<T> rear, LazyStream<T> accumulator) {
+            return new LazyStream<>(() -> {
+                final var r = (Cons<T>) rear;
+                final var cell = front.force();
+                if (cell == null) {
+                    return new LazyStream.Cell<>(r.head(), accumulator);
+                }
+                return new LazyStream.Cell<>(cell.head(), rotate(cell.tail(), r.tail(), LazyStream.cons(r.head(), accumulator)));
+            });
+        }
+
+        /**
+         * runtime and space complexity: O(1)
+         */
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * runtime and space complexity: O(N)
+         */
+        @Override
+        public RealTimeQueue<T> reversed() {
+            RealTimeQueue<T> ret = instance();
+            for (T t : this) {
+                ret = ret.addFirst(t);
+            }
+            return ret;
+        }
+
+        /**
+         * Prepends an already evaluated cell to both the front and the schedule, which keeps the schedule exactly as
+         * long as the difference between the front and rear.
+         */
+        @Override
+        public RealTimeQueue<T> addFirst(T t) {
+            return new RealTimeQueue<>(LazyStream.cons(t, front), rear, LazyStream.cons(t, schedule), size + 1);
+        }
+
+        @Override
+        public RealTimeQueue<T> addLast(T t) {
+            return exec(front, rear.addFirst(t), schedule, size + 1);
+        }
+
+        @Override
+        public Optional<T> getFirst() {
+            final var cell = front.force();
+            return cell == null ? Optional.empty() : Optional.of(cell.head());
+        }
+
+        /**
+         * runtime and space complexity: O(1) if the rear list is non-empty, otherwise O(N)
+         */
+        @Override
+        public Optional<T> getLast() {
+            if (rear instanceof Cons<T> c) {
+                return Optional.of(c.head());
+            }
+            T last = null;
+            for (var cell = front.force(); cell != null; cell = cell.tail().force()) {
+                last = cell.head();
+            }
+            return Optional.ofNullable(last);
+        }
+
+        @Override
+        public Optional<Tuple2<T, PureQueue<T>>> removeFirst() {
+            final var cell = front.force();
+            if (cell == null) {
+                return Optional.empty();
+            }
+            return Optional.of(Tuple.of(cell.head(), exec(cell.tail(), rear, schedule, size - 1)));
+        }
+
+        /**
+         * runtime and space complexity: O(N)
+         */
+        @Override
+        public Optional<Tuple2<T, PureQueue<T>>> removeLast() {
+            if (size == 0) {
+                return Optional.empty();
+            }
+            RealTimeQueue<T> ret = instance();
+            T last = null;
+            for (T t : this) {
+                if (last != null) {
+                    ret = ret.addLast(last);
+                }
+                last = t;
+            }
+            return Optional.of(Tuple.of(last, ret));
+        }
+
+        @Override
+        public RealTimeQueue<T> clear() {
+            return instance();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private LazyStream.Cell<T> cell = front.force();
+                private Iterator<T> rearIterator = null;
+
+                @Override
+                public boolean hasNext() {
+                    if (cell != null) {
+                        return true;
+                    }
+                    if (rearIterator == null) {
+                        rearIterator = rear.reversed().iterator();
+                    }
+                    return rearIterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    if (cell != null) {
+                        final T ret = cell.head();
+                        cell = cell.tail().force();
+                        return ret;
+                    }
+                    return rearIterator.next();
+                }
+            };
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return sameElements(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash(this);
+        }
+
+        @Override
+        public String toString() {
+            return show(this);
+        }
+    }
+}
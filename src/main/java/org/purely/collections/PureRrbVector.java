@@ -0,0 +1,881 @@
+package org.purely.collections;
+
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+import org.purely.annotations.Pure;
+import org.purely.collections.views.PureRrbVectorView;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link PureRrbVector} is a Relaxed Radix Balanced tree, a variant of the 32-way vector trie used by
+ * {@link PureVector} that allows nodes to hold fewer than 32 children. Each internal node keeps a table of the
+ * cumulative sizes of its children, so lookups can still find the right child after a cheap radix guess, while
+ * concatenation and slicing no longer have to keep every node completely full.
+ * <p>
+ * This relaxation is what makes {@link #addAll(Iterable)} of another {@link PureRrbVector}, {@link #subList(int, int)},
+ * {@link #add(int, Object)} and {@link #remove(int)} run in O(log N): concatenation only rebuilds the nodes along the
+ * seam between the two trees, redistributing their contents just enough to keep the tree shallow, and slicing only
+ * copies the nodes along the path to the cut. Every other node is shared with the inputs.
+ * <p>
+ * The price for this flexibility is a slightly slower {@link #get(int)} than {@link PureVector}, since each level may
+ * need to step past the radix guess. If you never split or join your sequences, prefer {@link PureVector}.
+ *
+ * @param <T> The type contained by the {@link PureRrbVector}
+ */
+@Pure
+public final class PureRrbVector<T> implements PureList<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int EXTRAS = 2;
+    private static final Object[] EMPTY_LEAF = new Object[0];
+    private static final PureRrbVector<?> EMPTY = new PureRrbVector<>(EMPTY_LEAF, 0, 0);
+
+    // an Object[] of elements when height is 0, otherwise a Branch
+    private final Object root;
+    private final int height;
+    private final int size;
+
+    private PureRrbVector(Object root, int height, int size) {
+        this.root = root;
+        this.height = height;
+        this.size = size;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PureRrbVector<T> empty() {
+        return (PureRrbVector<T>) EMPTY;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SafeVarargs
+    public static <T> PureRrbVector<T> of(T... values) {
+        PureRrbVector<T> ret = PureRrbVector.empty();
+        for (T value : values) {
+            ret = ret.addLast(value);
+        }
+        return ret;
+    }
+
+    /**
+     * Creates a new {@link PureRrbVector} from the elements of the {@link Iterable}. If the iterable is a view created
+     * by {@link #toMutable()}, the underlying vector is returned in O(1). Otherwise, the elements are packed into full
+     * leaves and the tree is built bottom up, without copying any path more than once.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static <T> PureRrbVector<T> from(Iterable<T> it) {
+        if (it instanceof PureRrbVectorView<T> v) {
+            return v.toPure();
+        }
+
+        List<Object> level = new ArrayList<>();
+        Object[] leaf = new Object[WIDTH];
+        int count = 0;
+        int size = 0;
+        for (T t : it) {
+            Objects.requireNonNull(t, "PureRrbVector cannot contain null elements");
+            if (count == WIDTH) {
+                level.add(leaf);
+                leaf = new Object[WIDTH];
+                count = 0;
+            }
+            leaf[count++] = t;
+            size++;
+        }
+        if (size == 0) {
+            return PureRrbVector.empty();
+        }
+        level.add(count == WIDTH ? leaf : Arrays.copyOf(leaf, count));
+
+        int height = 0;
+        while (level.size() > 1) {
+            final List<Object> parents = new ArrayList<>((level.size() + WIDTH - 1) >>> BITS);
+            for (int i = 0; i < level.size(); i += WIDTH) {
+                parents.add(branch(level.subList(i, Math.min(level.size(), i + WIDTH)).toArray(), height));
+            }
+            level = parents;
+            height++;
+        }
+        return new PureRrbVector<>(level.getFirst(), height, size);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public List<T> toMutable() {
+        return new PureRrbVectorView<>(this);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o).isPresent();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T[] toArray() {
+        final Object[] ret = new Object[size];
+        int idx = 0;
+        while (idx < size) {
+            final var position = leafAt(idx);
+            final int count = position.leaf().length - position.offset();
+            System.arraycopy(position.leaf(), position.offset(), ret, idx, count);
+            idx += count;
+        }
+        return (T[]) ret;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Equivalent to {@link #addLast(Object)}.
+     * <p>
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureRrbVector<T> add(T t) {
+        return addLast(t);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the element is not present, this same vector is returned.
+     * <p>
+     * runtime complexity: O(N)
+     * space complexity: O(log N)
+     */
+    @Override
+    public PureRrbVector<T> remove(Object o) {
+        return indexOf(o)
+                .flatMap(idx -> remove(idx.intValue()))
+                .map(Tuple2::second)
+                .orElse(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the {@link Iterable} is another {@link PureRrbVector}, the two trees are concatenated in O(log N) time and
+     * space, sharing all nodes away from the seam. Otherwise, each element is appended in turn.
+     * <p>
+     * runtime and space complexity: O(log N) for a {@link PureRrbVector}, otherwise O(M log N), where M is the number
+     * of elements added.
+     */
+    @Override
+    public PureRrbVector<T> addAll(Iterable<? extends T> i) {
+        if (i instanceof PureRrbVector<? extends T> other) {
+            return concat(other);
+        }
+        if (i instanceof PureRrbVectorView<? extends T> view) {
+            return concat(view.toPure());
+        }
+        var ret = this;
+        for (T t : i) {
+            ret = ret.addLast(t);
+        }
+        return ret;
+    }
+
+    /**
+     * Removes every element that is also contained by the {@link Iterable}.
+     * <p>
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
+    @Override
+    public PureRrbVector<T> removeAll(Iterable<?> i) {
+        return filter(i, false);
+    }
+
+    /**
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
+    @Override
+    public PureRrbVector<T> retainAll(Iterable<?> i) {
+        return filter(i, true);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureRrbVector<T> clear() {
+        return PureRrbVector.empty();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public PureRrbVector<T> reversed() {
+        PureRrbVector<T> ret = PureRrbVector.empty();
+        for (int i = size - 1; i >= 0; i--) {
+            ret = ret.addLast(unsafeGet(i));
+        }
+        return ret;
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureRrbVector<T> addFirst(T t) {
+        return PureRrbVector.<T>empty().addLast(t).concat(this);
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureRrbVector<T> addLast(T t) {
+        Objects.requireNonNull(t, "PureRrbVector cannot contain null elements");
+        final Object appended = appendIn(root, height, t);
+        if (appended != null) {
+            return new PureRrbVector<>(appended, height, size + 1);
+        }
+        final var newRoot = new Branch(new Object[]{root, newPath(height, t)}, new int[]{size, size + 1});
+        return new PureRrbVector<>(newRoot, height + 1, size + 1);
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<T> getFirst() {
+        return get(0);
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<T> getLast() {
+        return get(size - 1);
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<Tuple2<T, PureRrbVector<T>>> removeFirst() {
+        return remove(0);
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<Tuple2<T, PureRrbVector<T>>> removeLast() {
+        return remove(size - 1);
+    }
+
+    /**
+     * runtime and space complexity: O(log N) if the {@link Iterable} is a {@link PureRrbVector}, otherwise
+     * O(M log N), where M is the number of elements added.
+     */
+    @Override
+    public Optional<PureRrbVector<T>> addAll(int index, Iterable<? extends T> element) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        final PureRrbVector<T> middle = element instanceof PureRrbVector<? extends T> v
+                ? narrow(v)
+                : PureRrbVector.<T>empty().addAll(element);
+        return Optional.of(take(index).concat(middle).concat(drop(index)));
+    }
+
+    /**
+     * runtime complexity: O(log N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<T> get(int index) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        return Optional.of(unsafeGet(index));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<Tuple2<T, PureRrbVector<T>>> set(int index, T element) {
+        Objects.requireNonNull(element, "PureRrbVector cannot contain null elements");
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        return Optional.of(Tuple.of(unsafeGet(index), new PureRrbVector<>(setIn(root, height, index, element), height, size)));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<PureRrbVector<T>> add(int index, T value) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        if (index == size) {
+            return Optional.of(addLast(value));
+        }
+        return Optional.of(take(index).addLast(value).concat(drop(index)));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<Tuple2<T, PureRrbVector<T>>> remove(int index) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        return Optional.of(Tuple.of(unsafeGet(index), take(index).concat(drop(index + 1))));
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Integer> indexOf(Object o) {
+        int idx = 0;
+        for (T t : this) {
+            if (t.equals(o)) {
+                return Optional.of(idx);
+            }
+            idx++;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * runtime complexity: O(N log N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Integer> lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (unsafeGet(i).equals(o)) {
+                return Optional.of(i);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new RrbListIterator<>(this, 0);
+    }
+
+    @Override
+    public Optional<ListIterator<T>> listIterator(int index) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        return Optional.of(new RrbListIterator<>(this, index));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public Optional<PureRrbVector<T>> subList(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            return Optional.empty();
+        }
+        return Optional.of(take(to).drop(from));
+    }
+
+    /**
+     * Splits by cutting the vector at its midpoint in O(log N), so both halves are exactly balanced and sized.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SliceSpliterator<>(this, size, (v, n) -> Tuple.of(v.take(n), v.drop(n)),
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int idx = 0;
+            private Object[] leaf = EMPTY_LEAF;
+            private int leafIdx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (leafIdx == leaf.length) {
+                    final var position = leafAt(idx);
+                    leaf = position.leaf();
+                    leafIdx = position.offset();
+                }
+                idx++;
+                return (T) leaf[leafIdx++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PureRrbVector<?> other) || other.size != size) {
+            return false;
+        }
+        final Iterator<?> it = other.iterator();
+        for (T t : this) {
+            if (!t.equals(it.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int ret = 1;
+        for (T t : this) {
+            ret = 31 * ret + t.hashCode();
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + this.stream().map(Object::toString).collect(Collectors.joining(", ")) + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> PureRrbVector<T> narrow(PureRrbVector<? extends T> vector) {
+        return (PureRrbVector<T>) vector;
+    }
+
+    private PureRrbVector<T> concat(PureRrbVector<? extends T> other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (this.isEmpty()) {
+            return narrow(other);
+        }
+        final Object[] nodes = concatNodes(root, height, other.root, other.height);
+        final int newHeight = Math.max(height, other.height);
+        if (nodes.length == 1) {
+            return normalized(nodes[0], newHeight, size + other.size);
+        }
+        return normalized(branch(nodes, newHeight), newHeight + 1, size + other.size);
+    }
+
+    private PureRrbVector<T> take(int n) {
+        if (n <= 0) {
+            return PureRrbVector.empty();
+        }
+        if (n >= size) {
+            return this;
+        }
+        return normalized(takeIn(root, height, n), height, n);
+    }
+
+    private PureRrbVector<T> drop(int n) {
+        if (n <= 0) {
+            return this;
+        }
+        if (n >= size) {
+            return PureRrbVector.empty();
+        }
+        return normalized(dropIn(root, height, n), height, size - n);
+    }
+
+    private static <T> PureRrbVector<T> normalized(Object root, int height, int size) {
+        while (height > 0 && ((Branch) root).children().length == 1) {
+            root = ((Branch) root).children()[0];
+            height--;
+        }
+        return new PureRrbVector<>(root, height, size);
+    }
+
+    private PureRrbVector<T> filter(Iterable<?> i, boolean keepMatches) {
+        final Predicate<Object> matches = Membership.in(i, this);
+        PureRrbVector<T> ret = PureRrbVector.empty();
+        for (T t : this) {
+            if (matches.test(t) == keepMatches) {
+                ret = ret.addLast(t);
+            }
+        }
+        return ret.size == size ? this : ret;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T unsafeGet(int index) {
+        final var position = leafAt(index);
+        return (T) position.leaf()[position.offset()];
+    }
+
+    private LeafPosition leafAt(int index) {
+        Object node = root;
+        for (int h = height; h > 0; h--) {
+            final var branch = (Branch) node;
+            final int child = childIndex(branch, h, index);
+            if (child > 0) {
+                index -= branch.sizes()[child - 1];
+            }
+            node = branch.children()[child];
+        }
+        return new LeafPosition((Object[]) node, index);
+    }
+
+    /**
+     * Finds the child of a branch at the given height containing the index. Each child can hold at most
+     * {@code 32^height} elements, so the radix of the index is a lower bound on the child's position.
+     */
+    private static int childIndex(Branch branch, int height, int index) {
+        final int radixShift = BITS * height;
+        int child = radixShift < Integer.SIZE - 1 ? index >>> radixShift : 0;
+        while (branch.sizes()[child] <= index) {
+            child++;
+        }
+        return child;
+    }
+
+    private static int sizeOf(Object node, int height) {
+        if (height == 0) {
+            return ((Object[]) node).length;
+        }
+        final int[] sizes = ((Branch) node).sizes();
+        return sizes[sizes.length - 1];
+    }
+
+    private static Object[] slotsOf(Object node, int height) {
+        return height == 0 ? (Object[]) node : ((Branch) node).children();
+    }
+
+    private static Branch branch(Object[] children, int childHeight) {
+        final int[] sizes = new int[children.length];
+        int total = 0;
+        for (int i = 0; i < children.length; i++) {
+            total += sizeOf(children[i], childHeight);
+            sizes[i] = total;
+        }
+        return new Branch(children, sizes);
+    }
+
+    private static Object newPath(int height, Object value) {
+        Object node = new Object[]{value};
+        for (int h = 0; h < height; h++) {
+            node = new Branch(new Object[]{node}, new int[]{1});
+        }
+        return node;
+    }
+
+    /**
+     * Appends the value to the rightmost leaf under the node, returning null if there is no room left anywhere along
+     * the right edge of the node.
+     */
+    private static Object appendIn(Object node, int height, Object value) {
+        if (height == 0) {
+            final var leaf = (Object[]) node;
+            if (leaf.length == WIDTH) {
+                return null;
+            }
+            final Object[] ret = Arrays.copyOf(leaf, leaf.length + 1);
+            ret[leaf.length] = value;
+            return ret;
+        }
+        final var branch = (Branch) node;
+        final int last = branch.children().length - 1;
+        final Object child = appendIn(branch.children()[last], height - 1, value);
+        if (child != null) {
+            final Object[] children = branch.children().clone();
+            children[last] = child;
+            final int[] sizes = branch.sizes().clone();
+            sizes[last]++;
+            return new Branch(children, sizes);
+        }
+        if (branch.children().length == WIDTH) {
+            return null;
+        }
+        final Object[] children = Arrays.copyOf(branch.children(), last + 2);
+        children[last + 1] = newPath(height - 1, value);
+        final int[] sizes = Arrays.copyOf(branch.sizes(), last + 2);
+        sizes[last + 1] = sizes[last] + 1;
+        return new Branch(children, sizes);
+    }
+
+    private static Object setIn(Object node, int height, int index, Object value) {
+        if (height == 0) {
+            final Object[] leaf = ((Object[]) node).clone();
+            leaf[index] = value;
+            return leaf;
+        }
+        final var branch = (Branch) node;
+        final int child = childIndex(branch, height, index);
+        final Object[] children = branch.children().clone();
+        children[child] = setIn(children[child], height - 1, child == 0 ? index : index - branch.sizes()[child - 1], value);
+        return new Branch(children, branch.sizes());
+    }
+
+    /**
+     * Keeps the first n elements under the node, where {@code 0 < n <= sizeOf(node)}.
+     */
+    private static Object takeIn(Object node, int height, int n) {
+        if (height == 0) {
+            final var leaf = (Object[]) node;
+            return n == leaf.length ? leaf : Arrays.copyOf(leaf, n);
+        }
+        final var branch = (Branch) node;
+        final int child = childIndex(branch, height, n - 1);
+        final int before = child == 0 ? 0 : branch.sizes()[child - 1];
+        final Object[] children = Arrays.copyOf(branch.children(), child + 1);
+        children[child] = takeIn(children[child], height - 1, n - before);
+        final int[] sizes = Arrays.copyOf(branch.sizes(), child + 1);
+        sizes[child] = n;
+        return new Branch(children, sizes);
+    }
+
+    /**
+     * Drops the first n elements under the node, where {@code 0 <= n < sizeOf(node)}.
+     */
+    private static Object dropIn(Object node, int height, int n) {
+        if (n == 0) {
+            return node;
+        }
+        if (height == 0) {
+            final var leaf = (Object[]) node;
+            return Arrays.copyOfRange(leaf, n, leaf.length);
+        }
+        final var branch = (Branch) node;
+        final int child = childIndex(branch, height, n);
+        final int before = child == 0 ? 0 : branch.sizes()[child - 1];
+        final Object[] children = Arrays.copyOfRange(branch.children(), child, branch.children().length);
+        children[0] = dropIn(children[0], height - 1, n - before);
+        final int[] sizes = new int[children.length];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = branch.sizes()[child + i] - n;
+        }
+        return new Branch(children, sizes);
+    }
+
+    /**
+     * Concatenates two non-empty nodes, returning one or two nodes at the height of the taller input. Only the nodes
+     * along the seam between the two trees are rebuilt.
+     */
+    private static Object[] concatNodes(Object left, int leftHeight, Object right, int rightHeight) {
+        if (leftHeight > rightHeight) {
+            final var branch = (Branch) left;
+            final Object[] children = branch.children();
+            final Object[] middle = concatNodes(children[children.length - 1], leftHeight - 1, right, rightHeight);
+            return rebalance(join(children, 0, children.length - 1, middle, EMPTY_LEAF, 0), leftHeight - 1);
+        }
+        if (leftHeight < rightHeight) {
+            final var branch = (Branch) right;
+            final Object[] children = branch.children();
+            final Object[] middle = concatNodes(left, leftHeight, children[0], rightHeight - 1);
+            return rebalance(join(EMPTY_LEAF, 0, 0, middle, children, 1), rightHeight - 1);
+        }
+        if (leftHeight == 0) {
+            final var leftLeaf = (Object[]) left;
+            final var rightLeaf = (Object[]) right;
+            if (leftLeaf.length + rightLeaf.length > WIDTH) {
+                return new Object[]{leftLeaf, rightLeaf};
+            }
+            final Object[] merged = Arrays.copyOf(leftLeaf, leftLeaf.length + rightLeaf.length);
+            System.arraycopy(rightLeaf, 0, merged, leftLeaf.length, rightLeaf.length);
+            return new Object[]{merged};
+        }
+        final Object[] leftChildren = ((Branch) left).children();
+        final Object[] rightChildren = ((Branch) right).children();
+        final Object[] middle = concatNodes(leftChildren[leftChildren.length - 1], leftHeight - 1, rightChildren[0], rightHeight - 1);
+        return rebalance(join(leftChildren, 0, leftChildren.length - 1, middle, rightChildren, 1), leftHeight - 1);
+    }
+
+    private static Object[] join(Object[] left, int leftFrom, int leftTo, Object[] middle, Object[] right, int rightFrom) {
+        final int leftCount = leftTo - leftFrom;
+        final int rightCount = right.length - rightFrom;
+        final Object[] ret = new Object[leftCount + middle.length + rightCount];
+        System.arraycopy(left, leftFrom, ret, 0, leftCount);
+        System.arraycopy(middle, 0, ret, leftCount, middle.length);
+        System.arraycopy(right, rightFrom, ret, leftCount + middle.length, rightCount);
+        return ret;
+    }
+
+    /**
+     * Redistributes the slots of up to 64 sibling nodes at the given height so that they use at most
+     * {@link #EXTRAS} more nodes than a perfectly dense packing would, then groups them under one or two new parents.
+     * Nodes that the plan leaves untouched are reused as-is.
+     */
+    private static Object[] rebalance(Object[] nodes, int childHeight) {
+        final int[] plan = new int[nodes.length];
+        int total = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            plan[i] = slotsOf(nodes[i], childHeight).length;
+            total += plan[i];
+        }
+        final int optimal = (total + WIDTH - 1) / WIDTH;
+        int count = nodes.length;
+        int i = 0;
+        while (count > optimal + EXTRAS) {
+            while (i < count - 1 && plan[i] > WIDTH - EXTRAS / 2) {
+                i++;
+            }
+            if (i >= count - 1) {
+                break;
+            }
+            int remaining = plan[i];
+            do {
+                final int filled = Math.min(remaining + plan[i + 1], WIDTH);
+                remaining = remaining + plan[i + 1] - filled;
+                plan[i] = filled;
+                i++;
+            } while (remaining > 0 && i < count - 1);
+            if (remaining > 0) {
+                plan[i] = remaining;
+                break;
+            }
+            System.arraycopy(plan, i + 1, plan, i, count - i - 1);
+            count--;
+            i = Math.max(i - 1, 0);
+        }
+
+        final Object[] packed = new Object[count];
+        int source = 0;
+        int offset = 0;
+        for (int k = 0; k < count; k++) {
+            final int wanted = plan[k];
+            if (offset == 0 && slotsOf(nodes[source], childHeight).length == wanted) {
+                packed[k] = nodes[source++];
+                continue;
+            }
+            final Object[] slots = new Object[wanted];
+            int filled = 0;
+            while (filled < wanted) {
+                final Object[] sourceSlots = slotsOf(nodes[source], childHeight);
+                final int copied = Math.min(wanted - filled, sourceSlots.length - offset);
+                System.arraycopy(sourceSlots, offset, slots, filled, copied);
+                filled += copied;
+                offset += copied;
+                if (offset == sourceSlots.length) {
+                    source++;
+                    offset = 0;
+                }
+            }
+            packed[k] = childHeight == 0 ? slots : branch(slots, childHeight - 1);
+        }
+
+        if (count <= WIDTH) {
+            return new Object[]{branch(packed, childHeight)};
+        }
+        return new Object[]{
+                branch(Arrays.copyOf(packed, WIDTH), childHeight),
+                branch(Arrays.copyOfRange(packed, WIDTH, count), childHeight)
+        };
+    }
+
+    private record Branch(Object[] children, int[] sizes) {
+    }
+
+    private record LeafPosition(Object[] leaf, int offset) {
+    }
+
+    private static final class RrbListIterator<T> implements ListIterator<T> {
+        private final PureRrbVector<T> vector;
+        private int idx;
+
+        private RrbListIterator(PureRrbVector<T> vector, int index) {
+            this.vector = vector;
+            this.idx = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return idx < vector.size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return vector.unsafeGet(idx++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return idx > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return vector.unsafeGet(--idx);
+        }
+
+        @Override
+        public int nextIndex() {
+            return idx;
+        }
+
+        @Override
+        public int previousIndex() {
+            return idx - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(T t) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(T t) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
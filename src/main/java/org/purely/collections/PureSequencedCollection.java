@@ -4,6 +4,8 @@ import org.purely.Tuple.Tuple2;
 import org.purely.annotations.Pure;
 
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * The persistent collection hierarchy analogue to {@link java.util.SequencedCollection}.
@@ -52,4 +54,15 @@ public interface PureSequencedCollection<T> extends PureCollection<T> {
     Optional<? extends Tuple2<T, ? extends PureSequencedCollection<T>>> removeFirst();
 
     Optional<? extends Tuple2<T, ? extends PureSequencedCollection<T>>> removeLast();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The spliterator additionally reports {@link Spliterator#ORDERED}.
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
 }
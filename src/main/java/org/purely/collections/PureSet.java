@@ -0,0 +1,53 @@
+package org.purely.collections;
+
+import org.purely.annotations.Pure;
+
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * The persistent analogue to {@link java.util.Set} in the {@link PureCollection} hierarchy. A {@link PureSet} contains
+ * no pair of elements {@code e1} and {@code e2} such that {@code e1.equals(e2)}, so adding an element that is already
+ * present returns an equal set.
+ */
+@Pure
+public interface PureSet<T> extends PureCollection<T> {
+    /**
+     * Converts this PureSet into a {@link Set}, implementing all mutability methods fully.
+     * This method is guaranteed to be O(1) in time.
+     *
+     * @return a {@link Set} view for the given {@link PureSet}
+     */
+    @Override
+    Set<T> toMutable();
+
+    @Override
+    PureSet<T> add(T t);
+
+    @Override
+    PureSet<T> remove(Object o);
+
+    @Override
+    PureSet<T> addAll(Iterable<? extends T> i);
+
+    @Override
+    PureSet<T> removeAll(Iterable<?> i);
+
+    @Override
+    PureSet<T> retainAll(Iterable<?> i);
+
+    @Override
+    PureSet<T> clear();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The spliterator additionally reports {@link Spliterator#DISTINCT}.
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+}
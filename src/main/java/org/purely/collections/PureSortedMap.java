@@ -0,0 +1,90 @@
+package org.purely.collections;
+
+import org.purely.Tuple.Tuple2;
+import org.purely.annotations.Pure;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+
+/**
+ * The persistent analogue to {@link java.util.SortedMap} in the {@link PureMap} hierarchy. Entries are iterated in
+ * ascending key order, as determined by the map's {@link #comparator()}, or by the keys' natural ordering if it is null.
+ */
+@Pure
+public interface PureSortedMap<K, V> extends PureMap<K, V> {
+    /**
+     * Converts this PureSortedMap into a {@link SortedMap}, implementing all mutability methods fully.
+     * This method is guaranteed to be O(1) in time.
+     *
+     * @return a {@link SortedMap} view for the given {@link PureSortedMap}
+     */
+    @Override
+    SortedMap<K, V> toMutable();
+
+    /**
+     * Returns the comparator used to order the keys in this map, or null if this map uses the keys' natural ordering.
+     *
+     * @return the comparator used to order the keys in this map, or null.
+     */
+    Comparator<? super K> comparator();
+
+    /**
+     * Returns the entry with the lowest key, if the map is not empty.
+     *
+     * @return an {@link Optional} containing the entry with the lowest key, or an empty {@link Optional}.
+     */
+    Optional<Tuple2<K, V>> firstEntry();
+
+    /**
+     * Returns the entry with the highest key, if the map is not empty.
+     *
+     * @return an {@link Optional} containing the entry with the highest key, or an empty {@link Optional}.
+     */
+    Optional<Tuple2<K, V>> lastEntry();
+
+    /**
+     * Returns a new {@link PureSortedMap} containing the entries whose keys are strictly less than {@code toKey}.
+     *
+     * @param toKey the exclusive upper bound of the keys in the returned map.
+     * @return a new {@link PureSortedMap} containing the entries whose keys are strictly less than {@code toKey}.
+     */
+    PureSortedMap<K, V> headMap(K toKey);
+
+    /**
+     * Returns a new {@link PureSortedMap} containing the entries whose keys are greater than or equal to
+     * {@code fromKey}.
+     *
+     * @param fromKey the inclusive lower bound of the keys in the returned map.
+     * @return a new {@link PureSortedMap} containing the entries whose keys are greater than or equal to
+     * {@code fromKey}.
+     */
+    PureSortedMap<K, V> tailMap(K fromKey);
+
+    /**
+     * Returns a new {@link PureSortedMap} containing the entries whose keys range from {@code fromKey}, inclusive, to
+     * {@code toKey}, exclusive.
+     *
+     * @param fromKey the inclusive lower bound of the keys in the returned map.
+     * @param toKey   the exclusive upper bound of the keys in the returned map.
+     * @return a new {@link PureSortedMap} containing the entries in the range.
+     * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}.
+     */
+    PureSortedMap<K, V> subMap(K fromKey, K toKey);
+
+    @Override
+    PureSortedMap<K, V> put(K key, V value);
+
+    @Override
+    PureSortedMap<K, V> remove(Object key);
+
+    @Override
+    PureSortedMap<K, V> putAll(Map<? extends K, ? extends V> m);
+
+    @Override
+    PureSortedMap<K, V> putAll(PureMap<? extends K, ? extends V> m);
+
+    @Override
+    PureSortedMap<K, V> clear();
+}
@@ -0,0 +1,811 @@
+package org.purely.collections;
+
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+import org.purely.annotations.Pure;
+import org.purely.collections.views.PureTreeMapView;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link PureTreeMap} is a persistent sorted map implemented as a B+tree with wide nodes.
+ * <p>
+ * Every entry lives in a leaf, and leaves hold up to 32 keys and values in two parallel arrays, so a lookup does a
+ * binary search over a small contiguous array at each of only log32(N) levels, rather than chasing a pointer per key
+ * as a binary tree does. Internal nodes hold separator keys, their children, and the number of entries below them, so
+ * the size of any range is known without visiting its leaves.
+ * <p>
+ * Updates copy only the path from the root to the changed leaf. Nodes split when they overflow and borrow from or
+ * merge with a sibling when they fall below half full. Since leaves are shared between versions they cannot be linked
+ * to their neighbours, so iteration keeps a stack of the path to the current leaf instead, which still scans K
+ * consecutive entries in O(log N + K).
+ * <p>
+ * {@link #headMap(Object, boolean)}, {@link #tailMap(Object, boolean)} and
+ * {@link #subMap(Object, boolean, Object, boolean)} cut the tree along the path to each bound, sharing every node
+ * inside the range, and so run in O(log N). Nodes along the cut may be left less than half full; they are
+ * rebalanced by later removals like any other node.
+ * <p>
+ * {@link #fromSorted(Comparator, Iterable)} builds a tree bottom-up from entries that are already in order in O(N),
+ * without the path copying of repeated {@link #put(Object, Object)}s.
+ *
+ * @param <K> The type of the keys in the map.
+ * @param <V> The type of the values in the map.
+ */
+@Pure
+public final class PureTreeMap<K, V> implements PureNavigableMap<K, V> {
+    private static final int MAX = 32;
+    private static final int MIN = MAX / 2;
+    private static final Leaf EMPTY_LEAF = new Leaf(new Object[0], new Object[0]);
+    private static final PureTreeMap<?, ?> EMPTY = new PureTreeMap<>(null, EMPTY_LEAF);
+
+    private final Comparator<? super K> comparator;
+    private final Comparator<Object> order;
+    private final Node root;
+
+    @SuppressWarnings("unchecked")
+    private PureTreeMap(Comparator<? super K> comparator, Node root) {
+        this.comparator = comparator;
+        this.order = comparator == null
+                ? (a, b) -> ((Comparable<Object>) a).compareTo(b)
+                : (Comparator<Object>) comparator;
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty map ordered by the keys' natural ordering.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> PureTreeMap<K, V> empty() {
+        return (PureTreeMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns an empty map ordered by the comparator, or by the keys' natural ordering if it is null.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static <K, V> PureTreeMap<K, V> empty(Comparator<? super K> comparator) {
+        return new PureTreeMap<>(comparator, EMPTY_LEAF);
+    }
+
+    /**
+     * Creates a new {@link PureTreeMap} from the entries of the {@link Map}, ordered by the keys' natural ordering.
+     * If the map is a view created by {@link #toMutable()}, the underlying map is returned in O(1). If the map is a
+     * {@link SortedMap} using natural ordering, the tree is bulk loaded in O(N).
+     * <p>
+     * runtime complexity: O(N log N)
+     * space complexity: O(N)
+     */
+    public static <K extends Comparable<? super K>, V> PureTreeMap<K, V> from(Map<K, V> m) {
+        if (m instanceof PureTreeMapView<K, V> v && v.comparator() == null) {
+            return v.toPure();
+        }
+        final List<Tuple2<K, V>> entries = new ArrayList<>(m.size());
+        for (var entry : m.entrySet()) {
+            entries.add(Tuple.of(entry.getKey(), entry.getValue()));
+        }
+        if (!(m instanceof SortedMap<K, V> s && s.comparator() == null)) {
+            entries.sort(Comparator.comparing(Tuple2::first));
+        }
+        return fromSorted(null, entries);
+    }
+
+    /**
+     * Builds a {@link PureTreeMap} ordered by the keys' natural ordering from entries already in strictly ascending
+     * key order.
+     * <p>
+     * runtime and space complexity: O(N)
+     *
+     * @throws IllegalArgumentException if the entries are not in strictly ascending key order.
+     */
+    public static <K extends Comparable<? super K>, V> PureTreeMap<K, V> fromSorted(
+            Iterable<? extends Tuple2<? extends K, ? extends V>> entries) {
+        return fromSorted(null, entries);
+    }
+
+    /**
+     * Builds a {@link PureTreeMap} ordered by the comparator from entries already in strictly ascending key order.
+     * Leaves are filled evenly and each level of the tree is built from the one below it, so every node is between
+     * half and completely full and no path is copied.
+     * <p>
+     * runtime and space complexity: O(N)
+     *
+     * @throws IllegalArgumentException if the entries are not in strictly ascending key order.
+     */
+    public static <K, V> PureTreeMap<K, V> fromSorted(Comparator<? super K> comparator,
+                                                      Iterable<? extends Tuple2<? extends K, ? extends V>> entries) {
+        final PureTreeMap<K, V> ret = empty(comparator);
+        final List<Object> keys = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        for (var entry : entries) {
+            final Object key = Objects.requireNonNull(entry.first(), "PureTreeMap cannot contain null keys");
+            final Object value = Objects.requireNonNull(entry.second(), "PureTreeMap cannot contain null values");
+            if (!keys.isEmpty() && ret.order.compare(keys.getLast(), key) >= 0) {
+                throw new IllegalArgumentException("entries must be in strictly ascending key order");
+            }
+            keys.add(key);
+            values.add(value);
+        }
+        if (keys.isEmpty()) {
+            return ret;
+        }
+
+        List<Node> level = new ArrayList<>();
+        List<Object> minKeys = new ArrayList<>();
+        final int leaves = groups(keys.size());
+        for (int i = 0; i < leaves; i++) {
+            final int from = bound(i, keys.size(), leaves);
+            final int to = bound(i + 1, keys.size(), leaves);
+            level.add(new Leaf(keys.subList(from, to).toArray(), values.subList(from, to).toArray()));
+            minKeys.add(keys.get(from));
+        }
+        while (level.size() > 1) {
+            final List<Node> parents = new ArrayList<>();
+            final List<Object> parentMinKeys = new ArrayList<>();
+            final int branches = groups(level.size());
+            for (int i = 0; i < branches; i++) {
+                final int from = bound(i, level.size(), branches);
+                final int to = bound(i + 1, level.size(), branches);
+                parents.add(branch(minKeys.subList(from + 1, to).toArray(), level.subList(from, to).toArray(new Node[0])));
+                parentMinKeys.add(minKeys.get(from));
+            }
+            level = parents;
+            minKeys = parentMinKeys;
+        }
+        return new PureTreeMap<>(comparator, level.getFirst());
+    }
+
+    private static int groups(int n) {
+        return (n + MAX - 1) / MAX;
+    }
+
+    private static int bound(int group, int n, int groups) {
+        return (int) ((long) group * n / groups);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public SortedMap<K, V> toMutable() {
+        return new PureTreeMapView<>(this);
+    }
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return root.size();
+    }
+
+    /**
+     * runtime complexity: O(log N)
+     * space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<V> get(Object key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        Node node = root;
+        while (node instanceof Branch b) {
+            node = b.children[childIndex(b, key)];
+        }
+        final Leaf leaf = (Leaf) node;
+        final int idx = Arrays.binarySearch(leaf.keys, key, order);
+        return idx >= 0 ? Optional.of((V) leaf.values[idx]) : Optional.empty();
+    }
+
+    /**
+     * runtime complexity: O(log N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Tuple2<K, V>> firstEntry() {
+        return Optional.ofNullable(first(root));
+    }
+
+    /**
+     * runtime complexity: O(log N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Tuple2<K, V>> lastEntry() {
+        return Optional.ofNullable(last(root));
+    }
+
+    /**
+     * runtime complexity: O(log N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Tuple2<K, V>> lowerEntry(K key) {
+        return Optional.ofNullable(floor(root, key, false));
+    }
+
+    /**
+     * runtime complexity: O(log N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Tuple2<K, V>> floorEntry(K key) {
+        return Optional.ofNullable(floor(root, key, true));
+    }
+
+    /**
+     * runtime complexity: O(log N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Tuple2<K, V>> ceilingEntry(K key) {
+        return Optional.ofNullable(ceiling(root, key, true));
+    }
+
+    /**
+     * runtime complexity: O(log N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Tuple2<K, V>> higherEntry(K key) {
+        return Optional.ofNullable(ceiling(root, key, false));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureTreeMap<K, V> headMap(K toKey, boolean inclusive) {
+        return withRoot(head(root, Objects.requireNonNull(toKey), inclusive));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureTreeMap<K, V> tailMap(K fromKey, boolean inclusive) {
+        return withRoot(tail(root, Objects.requireNonNull(fromKey), inclusive));
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureTreeMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        if (order.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return headMap(toKey, toInclusive).tailMap(fromKey, fromInclusive);
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureTreeMap<K, V> headMap(K toKey) {
+        return headMap(toKey, false);
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureTreeMap<K, V> tailMap(K fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    /**
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureTreeMap<K, V> subMap(K fromKey, K toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the key is already associated with the same value instance, this same map is returned.
+     * <p>
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureTreeMap<K, V> put(K key, V value) {
+        Objects.requireNonNull(key, "PureTreeMap cannot contain null keys");
+        Objects.requireNonNull(value, "PureTreeMap cannot contain null values");
+        final Object result = insert(root, key, value);
+        if (result == root) {
+            return this;
+        }
+        if (result instanceof Split s) {
+            return new PureTreeMap<>(comparator, branch(new Object[]{s.separator}, new Node[]{s.left, s.right}));
+        }
+        return new PureTreeMap<>(comparator, (Node) result);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the key is not present, this same map is returned.
+     * <p>
+     * runtime and space complexity: O(log N)
+     */
+    @Override
+    public PureTreeMap<K, V> remove(Object key) {
+        if (key == null) {
+            return this;
+        }
+        final Node result = delete(root, key);
+        return result == root ? this : withRoot(result);
+    }
+
+    /**
+     * runtime and space complexity: O(M log N), where M is the number of entries added.
+     */
+    @Override
+    public PureTreeMap<K, V> putAll(Map<? extends K, ? extends V> m) {
+        var ret = this;
+        for (var entry : m.entrySet()) {
+            ret = ret.put(entry.getKey(), entry.getValue());
+        }
+        return ret;
+    }
+
+    /**
+     * runtime and space complexity: O(M log N), where M is the number of entries added.
+     */
+    @Override
+    public PureTreeMap<K, V> putAll(PureMap<? extends K, ? extends V> m) {
+        var ret = this;
+        for (var entry : m) {
+            ret = ret.put(entry.first(), entry.second());
+        }
+        return ret;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureTreeMap<K, V> clear() {
+        return empty(comparator);
+    }
+
+    /**
+     * Splits by finding the key at the middle rank from the subtree sizes and cutting the map there in O(log N), so
+     * both halves are exactly balanced and sized.
+     */
+    @Override
+    public Spliterator<Tuple2<K, V>> spliterator() {
+        return new SliceSpliterator<>(this, size(), (m, n) -> {
+                    final Object key = m.keyAt(n);
+                    return Tuple.of(m.withRoot(m.head(m.root, key, false)), m.withRoot(m.tail(m.root, key, true)));
+                },
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Iterator<Tuple2<K, V>> iterator() {
+        return new Iterator<>() {
+            private final Deque<Branch> branches = new ArrayDeque<>();
+            private final Deque<Integer> positions = new ArrayDeque<>();
+            private Leaf leaf;
+            private int idx = 0;
+
+            {
+                descend(root);
+            }
+
+            private void descend(Node node) {
+                while (node instanceof Branch b) {
+                    branches.push(b);
+                    positions.push(1);
+                    node = b.children[0];
+                }
+                leaf = (Leaf) node;
+                idx = 0;
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (idx == leaf.keys.length && !branches.isEmpty()) {
+                    final Branch b = branches.peek();
+                    final int position = positions.pop();
+                    if (position == b.children.length) {
+                        branches.pop();
+                    } else {
+                        positions.push(position + 1);
+                        descend(b.children[position]);
+                    }
+                }
+                return idx < leaf.keys.length;
+            }
+
+            @Override
+            public Tuple2<K, V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return entry(leaf, idx++);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PureMap<?, ?> other) || other.size() != size()) {
+            return false;
+        }
+        try {
+            for (var entry : this) {
+                if (!other.get(entry.first()).map(entry.second()::equals).orElse(false)) {
+                    return false;
+                }
+            }
+        } catch (ClassCastException e) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int ret = 0;
+        for (var entry : this) {
+            ret += entry.first().hashCode() ^ entry.second().hashCode();
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return "{" + this.stream().map(e -> e.first() + "=" + e.second()).collect(Collectors.joining(", ")) + "}";
+    }
+
+    private PureTreeMap<K, V> withRoot(Node node) {
+        while (node instanceof Branch b && b.children.length == 1) {
+            node = b.children[0];
+        }
+        if (node == null || node.size() == 0) {
+            return empty(comparator);
+        }
+        return node == root ? this : new PureTreeMap<>(comparator, node);
+    }
+
+    private Object keyAt(int rank) {
+        Node node = root;
+        while (node instanceof Branch b) {
+            int i = 0;
+            while (rank >= b.children[i].size()) {
+                rank -= b.children[i].size();
+                i++;
+            }
+            node = b.children[i];
+        }
+        return ((Leaf) node).keys[rank];
+    }
+
+    @SuppressWarnings("unchecked")
+    private Tuple2<K, V> entry(Leaf leaf, int idx) {
+        return Tuple.of((K) leaf.keys[idx], (V) leaf.values[idx]);
+    }
+
+    /**
+     * Returns the index of the child whose range contains the key. Separator {@code i} is a lower bound for the keys of
+     * child {@code i + 1}, so a key equal to a separator belongs to its right.
+     */
+    private int childIndex(Branch b, Object key) {
+        final int idx = Arrays.binarySearch(b.keys, key, order);
+        return idx >= 0 ? idx + 1 : -idx - 1;
+    }
+
+    private Tuple2<K, V> first(Node node) {
+        while (node instanceof Branch b) {
+            node = b.children[0];
+        }
+        final Leaf leaf = (Leaf) node;
+        return leaf.keys.length == 0 ? null : entry(leaf, 0);
+    }
+
+    private Tuple2<K, V> last(Node node) {
+        while (node instanceof Branch b) {
+            node = b.children[b.children.length - 1];
+        }
+        final Leaf leaf = (Leaf) node;
+        return leaf.keys.length == 0 ? null : entry(leaf, leaf.keys.length - 1);
+    }
+
+    private Tuple2<K, V> floor(Node node, Object key, boolean inclusive) {
+        return switch (node) {
+            case Leaf l -> {
+                final int idx = Arrays.binarySearch(l.keys, key, order);
+                final int i = idx >= 0 ? (inclusive ? idx : idx - 1) : -idx - 2;
+                yield i >= 0 ? entry(l, i) : null;
+            }
+            case Branch b -> {
+                final int ci = childIndex(b, key);
+                final Tuple2<K, V> ret = floor(b.children[ci], key, inclusive);
+                yield ret != null || ci == 0 ? ret : last(b.children[ci - 1]);
+            }
+        };
+    }
+
+    private Tuple2<K, V> ceiling(Node node, Object key, boolean inclusive) {
+        return switch (node) {
+            case Leaf l -> {
+                final int idx = Arrays.binarySearch(l.keys, key, order);
+                final int i = idx >= 0 ? (inclusive ? idx : idx + 1) : -idx - 1;
+                yield i < l.keys.length ? entry(l, i) : null;
+            }
+            case Branch b -> {
+                final int ci = childIndex(b, key);
+                final Tuple2<K, V> ret = ceiling(b.children[ci], key, inclusive);
+                yield ret != null || ci == b.children.length - 1 ? ret : first(b.children[ci + 1]);
+            }
+        };
+    }
+
+    /**
+     * @return the updated node, a {@link Split} if the node overflowed, or this same node if nothing changed.
+     */
+    private Object insert(Node node, Object key, Object value) {
+        return switch (node) {
+            case Leaf l -> {
+                final int idx = Arrays.binarySearch(l.keys, key, order);
+                if (idx >= 0) {
+                    if (l.values[idx] == value) {
+                        yield l;
+                    }
+                    final Object[] values = l.values.clone();
+                    values[idx] = value;
+                    yield new Leaf(l.keys, values);
+                }
+                final Leaf ret = new Leaf(insertAt(l.keys, -idx - 1, key), insertAt(l.values, -idx - 1, value));
+                yield ret.count() <= MAX ? ret : split(ret);
+            }
+            case Branch b -> {
+                final int ci = childIndex(b, key);
+                final Node child = b.children[ci];
+                final Object result = insert(child, key, value);
+                if (result == child) {
+                    yield b;
+                }
+                if (result instanceof Node n) {
+                    final Node[] children = b.children.clone();
+                    children[ci] = n;
+                    yield new Branch(b.keys, children, b.size - child.size() + n.size());
+                }
+                final Split s = (Split) result;
+                final Node[] children = insertAt(b.children, ci + 1, s.right);
+                children[ci] = s.left;
+                final Branch ret = branch(insertAt(b.keys, ci, s.separator), children);
+                yield ret.count() <= MAX ? ret : split(ret);
+            }
+        };
+    }
+
+    /**
+     * @return the updated node, which may be less than half full or empty, or this same node if nothing changed.
+     */
+    private Node delete(Node node, Object key) {
+        return switch (node) {
+            case Leaf l -> {
+                final int idx = Arrays.binarySearch(l.keys, key, order);
+                yield idx < 0 ? l : new Leaf(removeAt(l.keys, idx), removeAt(l.values, idx));
+            }
+            case Branch b -> {
+                final int ci = childIndex(b, key);
+                final Node child = b.children[ci];
+                final Node result = delete(child, key);
+                if (result == child) {
+                    yield b;
+                }
+                if (result.size() == 0) {
+                    yield b.children.length == 1
+                            ? branch(new Object[0], new Node[0])
+                            : branch(removeAt(b.keys, Math.max(ci - 1, 0)), removeAt(b.children, ci));
+                }
+                final Node[] children = b.children.clone();
+                children[ci] = result;
+                if (result.count() >= MIN || children.length == 1) {
+                    yield new Branch(b.keys, children, b.size - 1);
+                }
+                final int left = ci + 1 < children.length ? ci : ci - 1;
+                yield rebalance(b.keys, children, left);
+            }
+        };
+    }
+
+    /**
+     * Merges the children at {@code left} and {@code left + 1}, splitting them evenly again if they do not fit in a
+     * single node.
+     */
+    private static Branch rebalance(Object[] keys, Node[] children, int left) {
+        final Node merged = join(children[left], keys[left], children[left + 1]);
+        if (merged.count() <= MAX) {
+            final Node[] newChildren = removeAt(children, left + 1);
+            newChildren[left] = merged;
+            return branch(removeAt(keys, left), newChildren);
+        }
+        final Split s = split(merged);
+        final Object[] newKeys = keys.clone();
+        newKeys[left] = s.separator;
+        children[left] = s.left;
+        children[left + 1] = s.right;
+        return branch(newKeys, children);
+    }
+
+    private static Node join(Node left, Object separator, Node right) {
+        return switch (left) {
+            case Leaf l -> {
+                final Leaf r = (Leaf) right;
+                yield new Leaf(concat(l.keys, r.keys), concat(l.values, r.values));
+            }
+            case Branch l -> {
+                final Branch r = (Branch) right;
+                yield new Branch(concat(insertAt(l.keys, l.keys.length, separator), r.keys),
+                        concat(l.children, r.children), l.size + r.size);
+            }
+        };
+    }
+
+    private static Split split(Node node) {
+        return switch (node) {
+            case Leaf l -> {
+                final int half = l.keys.length / 2;
+                final Leaf right = new Leaf(Arrays.copyOfRange(l.keys, half, l.keys.length),
+                        Arrays.copyOfRange(l.values, half, l.values.length));
+                yield new Split(new Leaf(Arrays.copyOf(l.keys, half), Arrays.copyOf(l.values, half)),
+                        right.keys[0], right);
+            }
+            case Branch b -> {
+                final int half = b.children.length / 2;
+                yield new Split(branch(Arrays.copyOf(b.keys, half - 1), Arrays.copyOf(b.children, half)),
+                        b.keys[half - 1],
+                        branch(Arrays.copyOfRange(b.keys, half, b.keys.length),
+                                Arrays.copyOfRange(b.children, half, b.children.length)));
+            }
+        };
+    }
+
+    /**
+     * @return the node holding only the keys below the bound, this same node if every key is, or null if none are.
+     */
+    private Node head(Node node, Object bound, boolean inclusive) {
+        return switch (node) {
+            case Leaf l -> {
+                final int idx = Arrays.binarySearch(l.keys, bound, order);
+                final int cut = idx >= 0 ? (inclusive ? idx + 1 : idx) : -idx - 1;
+                if (cut == l.keys.length) {
+                    yield l;
+                }
+                yield cut == 0 ? null : new Leaf(Arrays.copyOf(l.keys, cut), Arrays.copyOf(l.values, cut));
+            }
+            case Branch b -> {
+                final int ci = childIndex(b, bound);
+                final Node trimmed = head(b.children[ci], bound, inclusive);
+                if (trimmed == b.children[ci] && ci == b.children.length - 1) {
+                    yield b;
+                }
+                if (trimmed == null) {
+                    yield ci == 0 ? null : branch(Arrays.copyOf(b.keys, ci - 1), Arrays.copyOf(b.children, ci));
+                }
+                final Node[] children = Arrays.copyOf(b.children, ci + 1);
+                children[ci] = trimmed;
+                yield branch(Arrays.copyOf(b.keys, ci), children);
+            }
+        };
+    }
+
+    /**
+     * @return the node holding only the keys above the bound, this same node if every key is, or null if none are.
+     */
+    private Node tail(Node node, Object bound, boolean inclusive) {
+        return switch (node) {
+            case Leaf l -> {
+                final int idx = Arrays.binarySearch(l.keys, bound, order);
+                final int start = idx >= 0 ? (inclusive ? idx : idx + 1) : -idx - 1;
+                if (start == 0) {
+                    yield l;
+                }
+                yield start == l.keys.length
+                        ? null
+                        : new Leaf(Arrays.copyOfRange(l.keys, start, l.keys.length),
+                        Arrays.copyOfRange(l.values, start, l.values.length));
+            }
+            case Branch b -> {
+                final int ci = childIndex(b, bound);
+                final int n = b.children.length;
+                final Node trimmed = tail(b.children[ci], bound, inclusive);
+                if (trimmed == b.children[ci] && ci == 0) {
+                    yield b;
+                }
+                if (trimmed == null) {
+                    yield ci == n - 1
+                            ? null
+                            : branch(Arrays.copyOfRange(b.keys, ci + 1, n - 1), Arrays.copyOfRange(b.children, ci + 1, n));
+                }
+                final Node[] children = Arrays.copyOfRange(b.children, ci, n);
+                children[0] = trimmed;
+                yield branch(Arrays.copyOfRange(b.keys, ci, n - 1), children);
+            }
+        };
+    }
+
+    private static Branch branch(Object[] keys, Node[] children) {
+        int size = 0;
+        for (Node child : children) {
+            size += child.size();
+        }
+        return new Branch(keys, children, size);
+    }
+
+    private static <E> E[] insertAt(E[] array, int idx, E e) {
+        final E[] ret = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, idx, ret, idx + 1, array.length - idx);
+        ret[idx] = e;
+        return ret;
+    }
+
+    private static <E> E[] removeAt(E[] array, int idx) {
+        final E[] ret = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, idx + 1, ret, idx, array.length - idx - 1);
+        return ret;
+    }
+
+    private static <E> E[] concat(E[] left, E[] right) {
+        final E[] ret = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, ret, left.length, right.length);
+        return ret;
+    }
+
+    private sealed interface Node permits Leaf, Branch {
+        /**
+         * @return the number of entries below this node.
+         */
+        int size();
+
+        /**
+         * @return the number of keys in a leaf, or children in a branch.
+         */
+        int count();
+    }
+
+    private record Leaf(Object[] keys, Object[] values) implements Node {
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public int count() {
+            return keys.length;
+        }
+    }
+
+    /**
+     * An internal node. {@code keys[i]} is greater than every key below {@code children[i]} and less than or equal to
+     * every key below {@code children[i + 1]}.
+     */
+    private record Branch(Object[] keys, Node[] children, int size) implements Node {
+        @Override
+        public int count() {
+            return children.length;
+        }
+    }
+
+    private record Split(Node left, Object separator, Node right) {
+    }
+}
@@ -0,0 +1,873 @@
+package org.purely.collections;
+
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+import org.purely.annotations.Pure;
+import org.purely.collections.views.PureVectorView;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link PureVector} is a persistent bit-partitioned vector trie, the same structure popularized by Clojure's
+ * {@code PersistentVector} and Scala's {@code Vector}. Elements are stored in the leaves of a 32-way tree, with the
+ * last (up to) 32 elements kept in a separate tail buffer outside the tree.
+ * <p>
+ * Since the tree is at most log32(N) levels deep, indexed operations like {@link #get(int)} and
+ * {@link #set(int, Object)} only have to visit or copy a handful of nodes even for very large vectors, and are
+ * effectively constant time. Appending with {@link #addLast(Object)} and removing with {@link #removeLast()} usually
+ * only touch the tail buffer, and when they do touch the tree they copy a single path from the root, sharing every
+ * other node with the source vector.
+ * <p>
+ * Operations that shift the position of every element, such as {@link #addFirst(Object)} or {@link #add(int, Object)},
+ * have to rebuild the vector and run in O(N). If you need cheap prepends, prefer a {@link PureLinkedList}.
+ *
+ * @param <T> The type contained by the {@link PureVector}
+ */
+@Pure
+public final class PureVector<T> implements PureList<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[0];
+    private static final PureVector<?> EMPTY = new PureVector<>(0, BITS, EMPTY_NODE, EMPTY_NODE);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PureVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PureVector<T> empty() {
+        return (PureVector<T>) EMPTY;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SafeVarargs
+    public static <T> PureVector<T> of(T... values) {
+        final Builder<T> ret = PureVector.builder();
+        for (T value : values) {
+            ret.add(value);
+        }
+        return ret.build();
+    }
+
+    /**
+     * Creates a new {@link PureVector} from the elements of the {@link Iterable}. If the iterable is a view created by
+     * {@link #toMutable()}, the underlying vector is returned in O(1).
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    public static <T> PureVector<T> from(Iterable<T> it) {
+        if (it instanceof PureVectorView<T> v) {
+            return v.toPure();
+        }
+
+        return PureVector.<T>builder().addAll(it).build();
+    }
+
+    /**
+     * Returns a new, empty {@link Builder}.
+     * <p>
+     * runtime and space complexity: O(1)
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>(PureVector.empty());
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public List<T> toMutable() {
+        return new PureVectorView<>(this);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o).isPresent();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T[] toArray() {
+        final Object[] ret = new Object[size];
+        final int tailOffset = tailOffset();
+        for (int i = 0; i < tailOffset; i += WIDTH) {
+            System.arraycopy(leafFor(i), 0, ret, i, WIDTH);
+        }
+        System.arraycopy(tail, 0, ret, tailOffset, tail.length);
+        return (T[]) ret;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Equivalent to {@link #addLast(Object)}.
+     * <p>
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    @Override
+    public PureVector<T> add(T t) {
+        return addLast(t);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the element is not present, this same vector is returned.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public PureVector<T> remove(Object o) {
+        return indexOf(o)
+                .flatMap(idx -> remove(idx.intValue()))
+                .map(Tuple2::second)
+                .orElse(this);
+    }
+
+    /**
+     * Appends the elements in place through a {@link Builder} seeded with this vector, so no path is copied per
+     * element.
+     * <p>
+     * runtime and space complexity: O(M + log32 N), where M is the number of elements added.
+     */
+    @Override
+    public PureVector<T> addAll(Iterable<? extends T> i) {
+        final Builder<T> ret = new Builder<>(this);
+        ret.addAll(i);
+        return ret.size == size ? this : ret.build();
+    }
+
+    /**
+     * Removes every element that is also contained by the {@link Iterable}.
+     * <p>
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
+    @Override
+    public PureVector<T> removeAll(Iterable<?> i) {
+        return filter(i, false);
+    }
+
+    /**
+     * runtime and space complexity: O(N + M), where M is the size of the iterable.
+     */
+    @Override
+    public PureVector<T> retainAll(Iterable<?> i) {
+        return filter(i, true);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public PureVector<T> clear() {
+        return PureVector.empty();
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public PureVector<T> reversed() {
+        PureVector<T> ret = PureVector.empty();
+        for (int i = size - 1; i >= 0; i--) {
+            ret = ret.addLast(unsafeGet(i));
+        }
+        return ret;
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public PureVector<T> addFirst(T t) {
+        return PureVector.<T>empty().addLast(t).addAll(this);
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    @Override
+    public PureVector<T> addLast(T t) {
+        Objects.requireNonNull(t, "PureVector cannot contain null elements");
+        if (tail.length < WIDTH) {
+            final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = t;
+            return new PureVector<>(size + 1, shift, root, newTail);
+        }
+
+        final Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[]{root, newPath(shift, tail)};
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PureVector<>(size + 1, newShift, newRoot, new Object[]{t});
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @Override
+    public Optional<T> getFirst() {
+        return get(0);
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<T> getLast() {
+        return size == 0 ? Optional.empty() : Optional.of((T) tail[tail.length - 1]);
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public Optional<Tuple2<T, PureVector<T>>> removeFirst() {
+        return remove(0);
+    }
+
+    /**
+     * runtime and space complexity: O(1) amortized, O(log32 N) worst case.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<Tuple2<T, PureVector<T>>> removeLast() {
+        if (size == 0) {
+            return Optional.empty();
+        }
+        final T last = (T) tail[tail.length - 1];
+        if (size == 1) {
+            return Optional.of(Tuple.of(last, PureVector.empty()));
+        }
+        if (tail.length > 1) {
+            return Optional.of(Tuple.of(last, new PureVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1))));
+        }
+
+        final Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.length == 1) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return Optional.of(Tuple.of(last, new PureVector<>(size - 1, newShift, newRoot, newTail)));
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public Optional<PureVector<T>> addAll(int index, Iterable<? extends T> element) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        if (index == size) {
+            return Optional.of(addAll(element));
+        }
+        return Optional.of(take(index).addAll(element).addAll(drop(index)));
+    }
+
+    /**
+     * runtime complexity: O(log32 N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<T> get(int index) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        return Optional.of(unsafeGet(index));
+    }
+
+    /**
+     * runtime and space complexity: O(log32 N)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<Tuple2<T, PureVector<T>>> set(int index, T element) {
+        Objects.requireNonNull(element, "PureVector cannot contain null elements");
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        final int tailOffset = tailOffset();
+        if (index >= tailOffset) {
+            final Object[] newTail = tail.clone();
+            final T old = (T) newTail[index - tailOffset];
+            newTail[index - tailOffset] = element;
+            return Optional.of(Tuple.of(old, new PureVector<>(size, shift, root, newTail)));
+        }
+        final T old = unsafeGet(index);
+        return Optional.of(Tuple.of(old, new PureVector<>(size, shift, doSet(shift, root, index, element), tail)));
+    }
+
+    /**
+     * Inserting at the end of the vector is equivalent to {@link #addLast(Object)}. Any other index requires
+     * rebuilding the vector.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public Optional<PureVector<T>> add(int index, T value) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        if (index == size) {
+            return Optional.of(addLast(value));
+        }
+        return Optional.of(take(index).addLast(value).addAll(drop(index)));
+    }
+
+    /**
+     * Removing the last element is equivalent to {@link #removeLast()}. Any other index requires rebuilding the
+     * vector.
+     * <p>
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public Optional<Tuple2<T, PureVector<T>>> remove(int index) {
+        if (index < 0 || index >= size) {
+            return Optional.empty();
+        }
+        if (index == size - 1) {
+            return removeLast();
+        }
+        return Optional.of(Tuple.of(unsafeGet(index), take(index).addAll(drop(index + 1))));
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Integer> indexOf(Object o) {
+        int idx = 0;
+        for (T t : this) {
+            if (t.equals(o)) {
+                return Optional.of(idx);
+            }
+            idx++;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * runtime complexity: O(N)
+     * space complexity: O(1)
+     */
+    @Override
+    public Optional<Integer> lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (unsafeGet(i).equals(o)) {
+                return Optional.of(i);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new VectorListIterator<>(this, 0);
+    }
+
+    @Override
+    public Optional<ListIterator<T>> listIterator(int index) {
+        if (index < 0 || index > size) {
+            return Optional.empty();
+        }
+        return Optional.of(new VectorListIterator<>(this, index));
+    }
+
+    /**
+     * runtime and space complexity: O(N)
+     */
+    @Override
+    public Optional<PureVector<T>> subList(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            return Optional.empty();
+        }
+        PureVector<T> ret = PureVector.empty();
+        for (int i = from; i < to; i++) {
+            ret = ret.addLast(unsafeGet(i));
+        }
+        return Optional.of(ret);
+    }
+
+    /**
+     * Splits the index range at its midpoint in O(1), and traverses a leaf array at a time.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new VectorSpliterator<>(this, 0, size);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int idx = 0;
+            private Object[] leaf = size == 0 ? EMPTY_NODE : leafFor(0);
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (idx != 0 && (idx & MASK) == 0) {
+                    leaf = leafFor(idx);
+                }
+                return (T) leaf[idx++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PureVector<?> other) || other.size != size) {
+            return false;
+        }
+        final Iterator<?> it = other.iterator();
+        for (T t : this) {
+            if (!t.equals(it.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int ret = 1;
+        for (T t : this) {
+            ret = 31 * ret + t.hashCode();
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + this.stream().map(Object::toString).collect(Collectors.joining(", ")) + "]";
+    }
+
+    private int tailOffset() {
+        return size - tail.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T unsafeGet(int index) {
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private PureVector<T> take(int n) {
+        PureVector<T> ret = this;
+        while (ret.size > n) {
+            ret = ret.removeLast().orElseThrow().second();
+        }
+        return ret;
+    }
+
+    private Iterable<T> drop(int n) {
+        return () -> new Iterator<>() {
+            private int idx = n;
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public T next() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+                return unsafeGet(idx++);
+            }
+        };
+    }
+
+    private PureVector<T> filter(Iterable<?> i, boolean keepMatches) {
+        final Predicate<Object> matches = Membership.in(i, this);
+        final Builder<T> ret = PureVector.builder();
+        for (T t : this) {
+            if (matches.test(t) == keepMatches) {
+                ret.add(t);
+            }
+        }
+        return ret.size == size ? this : ret.build();
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        final int subIdx = ((size - 1) >>> level) & MASK;
+        final Object[] ret = Arrays.copyOf(parent, Math.max(parent.length, subIdx + 1));
+        if (level == BITS) {
+            ret[subIdx] = tailNode;
+        } else if (subIdx < parent.length) {
+            ret[subIdx] = pushTail(level - BITS, (Object[]) parent[subIdx], tailNode);
+        } else {
+            ret[subIdx] = newPath(level - BITS, tailNode);
+        }
+        return ret;
+    }
+
+    private Object[] popTail(int level, Object[] node) {
+        final int subIdx = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            final Object[] newChild = popTail(level - BITS, (Object[]) node[subIdx]);
+            if (newChild == null) {
+                return subIdx == 0 ? null : Arrays.copyOf(node, subIdx);
+            }
+            final Object[] ret = Arrays.copyOf(node, subIdx + 1);
+            ret[subIdx] = newChild;
+            return ret;
+        }
+        return subIdx == 0 ? null : Arrays.copyOf(node, subIdx);
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        return level == 0 ? node : new Object[]{newPath(level - BITS, node)};
+    }
+
+    private static Object[] doSet(int level, Object[] node, int index, Object value) {
+        final Object[] ret = node.clone();
+        if (level == 0) {
+            ret[index & MASK] = value;
+        } else {
+            final int subIdx = (index >>> level) & MASK;
+            ret[subIdx] = doSet(level - BITS, (Object[]) node[subIdx], index, value);
+        }
+        return ret;
+    }
+
+    /**
+     * A transient vector for building a {@link PureVector} by appending elements in place.
+     * <p>
+     * {@link PureVector#addLast(Object)} copies the tail, and every 32 elements the path from the root to the new
+     * leaf. A builder owns its tail and the nodes along the right edge of its trie, which are the only nodes an append
+     * ever touches, so it fills them in place instead. Owned nodes are allocated at full width; {@link #build()} trims
+     * the right edge back to the exact-size arrays a {@link PureVector} expects, copying only O(log32 N) arrays.
+     * <p>
+     * A builder is not thread safe, and may not be used after {@link #build()} has been called, since the built vector
+     * shares its nodes.
+     *
+     * @param <T> The type contained by the {@link PureVector}
+     */
+    public static final class Builder<T> {
+        private int size;
+        private int shift;
+        private Object[] root;
+        private Object[] tail;
+        private boolean built = false;
+
+        private Builder(PureVector<T> from) {
+            this.size = from.size;
+            this.shift = from.shift;
+            this.root = own(from.root, from.shift);
+            this.tail = Arrays.copyOf(from.tail, WIDTH);
+        }
+
+        /**
+         * Copies the right edge of a vector's trie into full width arrays that this builder may fill in place.
+         */
+        private static Object[] own(Object[] node, int level) {
+            final Object[] ret = Arrays.copyOf(node, WIDTH);
+            if (level > BITS && node.length > 0) {
+                ret[node.length - 1] = own((Object[]) node[node.length - 1], level - BITS);
+            }
+            return ret;
+        }
+
+        /**
+         * Appends an element to the vector being built.
+         * <p>
+         * runtime and space complexity: amortized O(1)
+         *
+         * @param t the element to append.
+         * @return this builder.
+         */
+        public Builder<T> add(T t) {
+            Objects.requireNonNull(t, "PureVector cannot contain null elements");
+            if (built) {
+                throw new IllegalStateException("builder has already been built");
+            }
+            final int tailLength = tailLength();
+            if (tailLength < WIDTH) {
+                tail[tailLength] = t;
+            } else {
+                if ((size >>> BITS) > (1 << shift)) {
+                    final Object[] newRoot = new Object[WIDTH];
+                    newRoot[0] = root;
+                    newRoot[1] = newPath(shift, tail);
+                    root = newRoot;
+                    shift += BITS;
+                } else {
+                    pushTail(shift, root, tail);
+                }
+                tail = new Object[WIDTH];
+                tail[0] = t;
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends every element of the {@link Iterable} to the vector being built.
+         * <p>
+         * runtime and space complexity: amortized O(M), where M is the number of elements added.
+         *
+         * @param i the elements to append.
+         * @return this builder.
+         */
+        public Builder<T> addAll(Iterable<? extends T> i) {
+            for (T t : i) {
+                add(t);
+            }
+            return this;
+        }
+
+        /**
+         * @return the number of elements in the vector being built.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Freezes the builder into a {@link PureVector}.
+         * <p>
+         * runtime and space complexity: O(log32 N)
+         *
+         * @return the built vector.
+         */
+        public PureVector<T> build() {
+            if (built) {
+                throw new IllegalStateException("builder has already been built");
+            }
+            built = true;
+            if (size == 0) {
+                return PureVector.empty();
+            }
+            final int tailLength = tailLength();
+            final Object[] frozenTail = tailLength == WIDTH ? tail : Arrays.copyOf(tail, tailLength);
+            final Object[] frozenRoot = size <= WIDTH ? EMPTY_NODE : trim(root, shift, size - tailLength - 1);
+            return new PureVector<>(size, shift, frozenRoot, frozenTail);
+        }
+
+        private int tailLength() {
+            return size == 0 ? 0 : ((size - 1) & MASK) + 1;
+        }
+
+        private void pushTail(int level, Object[] parent, Object[] leaf) {
+            final int subIdx = ((size - 1) >>> level) & MASK;
+            if (level == BITS) {
+                parent[subIdx] = leaf;
+            } else if (parent[subIdx] != null) {
+                pushTail(level - BITS, (Object[]) parent[subIdx], leaf);
+            } else {
+                parent[subIdx] = newPath(level - BITS, leaf);
+            }
+        }
+
+        private static Object[] newPath(int level, Object[] leaf) {
+            if (level == 0) {
+                return leaf;
+            }
+            final Object[] ret = new Object[WIDTH];
+            ret[0] = newPath(level - BITS, leaf);
+            return ret;
+        }
+
+        /**
+         * Cuts the right edge of the trie down to exact-size arrays, given the index of the last element in the trie.
+         */
+        private static Object[] trim(Object[] node, int level, int last) {
+            final int length = ((last >>> level) & MASK) + 1;
+            final Object[] ret = length == WIDTH ? node : Arrays.copyOf(node, length);
+            if (level > BITS) {
+                ret[length - 1] = trim((Object[]) ret[length - 1], level - BITS, last);
+            }
+            return ret;
+        }
+    }
+
+    private static final class VectorSpliterator<T> implements Spliterator<T> {
+        private final PureVector<T> vector;
+        private int idx;
+        private final int fence;
+
+        private VectorSpliterator(PureVector<T> vector, int idx, int fence) {
+            this.vector = vector;
+            this.idx = idx;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (idx >= fence) {
+                return false;
+            }
+            action.accept(vector.unsafeGet(idx++));
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (idx < fence) {
+                final Object[] leaf = vector.leafFor(idx);
+                final int end = Math.min(fence, (idx | MASK) + 1);
+                for (int i = idx & MASK; idx < end; i++, idx++) {
+                    action.accept((T) leaf[i]);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int mid = (idx + fence) >>> 1;
+            if (mid <= idx) {
+                return null;
+            }
+            final var ret = new VectorSpliterator<>(vector, idx, mid);
+            idx = mid;
+            return ret;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - idx;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
+        }
+    }
+
+    private static final class VectorListIterator<T> implements ListIterator<T> {
+        private final PureVector<T> vector;
+        private int idx;
+
+        private VectorListIterator(PureVector<T> vector, int index) {
+            this.vector = vector;
+            this.idx = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return idx < vector.size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return vector.unsafeGet(idx++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return idx > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return vector.unsafeGet(--idx);
+        }
+
+        @Override
+        public int nextIndex() {
+            return idx;
+        }
+
+        @Override
+        public int previousIndex() {
+            return idx - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(T t) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(T t) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
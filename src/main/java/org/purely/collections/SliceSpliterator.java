@@ -0,0 +1,86 @@
+package org.purely.collections;
+
+import org.purely.Tuple.Tuple2;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over a persistent collection or map that can be cut into two smaller ones of the same type in
+ * O(log N), such as a {@link PureRrbVector}, {@link PureDeque} or {@link PureTreeMap}. Splitting cuts the remaining collection at its
+ * midpoint, so every split is exactly balanced and both halves know their exact size.
+ * <p>
+ * Once traversal has started the spliterator no longer splits, and traverses the remaining elements with the
+ * collection's own iterator.
+ */
+final class SliceSpliterator<T, C extends Iterable<T>> implements Spliterator<T> {
+    /**
+     * Below this size, splitting costs more than it could save.
+     */
+    private static final int MIN_SPLIT = 64;
+
+    private final BiFunction<C, Integer, Tuple2<C, C>> splitAt;
+    private final int characteristics;
+    private C slice;
+    private Iterator<T> iterator;
+    private long remaining;
+
+    /**
+     * @param slice           the elements to traverse.
+     * @param size            the number of elements in the slice.
+     * @param splitAt         cuts a slice into the elements before an index and the elements from it onwards.
+     * @param characteristics the characteristics to report in addition to SIZED and SUBSIZED.
+     */
+    SliceSpliterator(C slice, long size, BiFunction<C, Integer, Tuple2<C, C>> splitAt, int characteristics) {
+        this.slice = slice;
+        this.remaining = size;
+        this.splitAt = splitAt;
+        this.characteristics = characteristics | SIZED | SUBSIZED;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (iterator == null) {
+            iterator = slice.iterator();
+        }
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        remaining--;
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        if (iterator == null) {
+            iterator = slice.iterator();
+        }
+        iterator.forEachRemaining(action);
+        remaining = 0;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (iterator != null || remaining < MIN_SPLIT) {
+            return null;
+        }
+        final long half = remaining / 2;
+        final var halves = splitAt.apply(slice, (int) half);
+        slice = halves.second();
+        remaining -= half;
+        return new SliceSpliterator<>(halves.first(), half, splitAt, characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -1,16 +1,24 @@
 package org.purely.collections.views;
 
+import org.purely.Tuple;
 import org.purely.collections.PureCollection;
-import org.purely.internal.MutableRef;
+import org.purely.concurrent.Atom;
 
 import java.util.Collection;
 import java.util.Iterator;
-
+import java.util.function.UnaryOperator;
+
+/**
+ * The base of the mutable views returned by {@code toMutable()}. A view keeps the current version of its collection
+ * in an {@link Atom}, and applies every mutating operation as a single atomic update of it. A view can therefore be
+ * shared between threads without losing updates, while reads and iteration work on a consistent snapshot without
+ * locking.
+ */
 public abstract class CollectionView<T, C extends PureCollection<T>> implements Collection<T> {
-    protected final MutableRef<C> delegate;
+    protected final Atom<C> delegate;
 
     public CollectionView(C delegate) {
-        this.delegate = new MutableRef<>(delegate);
+        this.delegate = Atom.of(delegate);
     }
 
     @Override
@@ -47,19 +55,13 @@ public abstract class CollectionView<T, C extends PureCollection<T>> implements
     @SuppressWarnings("unchecked")
     @Override
     public boolean add(T t) {
-        var res = delegate.get().add(t);
-        var changed = res.size() == delegate.get().size();
-        delegate.set((C) res);
-        return changed;
+        return replace(d -> (C) d.add(t));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public boolean remove(Object o) {
-        var res = delegate.get().remove(o);
-        var changed = res.size() == delegate.get().size();
-        delegate.set((C) res);
-        return changed;
+        return replace(d -> (C) d.remove(o));
     }
 
     @Override
@@ -70,33 +72,39 @@ public abstract class CollectionView<T, C extends PureCollection<T>> implements
     @SuppressWarnings("unchecked")
     @Override
     public boolean addAll(Collection<? extends T> c) {
-        var res = delegate.get().addAll(c);
-        var changed = res.size() == delegate.get().size();
-        delegate.set((C) res);
-        return changed;
+        return replace(d -> (C) d.addAll(c));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public boolean removeAll(Collection<?> c) {
-        var res = delegate.get().removeAll(c);
-        var changed = res.size() == delegate.get().size();
-        delegate.set((C) res);
-        return changed;
+        return replace(d -> (C) d.removeAll(c));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public boolean retainAll(Collection<?> c) {
-        var res = delegate.get().retainAll(c);
-        var changed = res.size() == delegate.get().size();
-        delegate.set((C) res);
-        return changed;
+        return replace(d -> (C) d.retainAll(c));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public void clear() {
-        delegate.update(d -> (C) d.clear());
+        delegate.set((C) delegate.get().clear());
+    }
+
+    /**
+     * Atomically replaces the delegate with the result of a mutating operation. Every such operation adds or removes
+     * elements, so a change is detected by comparing sizes, which {@link PureCollection} implementations track in O(1).
+     *
+     * @param operation the operation to apply to the current collection.
+     * @return true if the operation changed the collection.
+     */
+    protected boolean replace(UnaryOperator<C> operation) {
+        return delegate.modify(current -> {
+            final C result = operation.apply(current);
+            return Tuple.of(result != current && result.size() != current.size(), result);
+        });
     }
 
     public C toPure() {
@@ -1,5 +1,6 @@
 package org.purely.collections.views;
 
+import org.purely.Tuple;
 import org.purely.collections.PureList;
 
 import java.util.Collection;
@@ -14,10 +15,7 @@ public abstract class ListView<T, C extends PureList<T>> extends SequencedCollec
 
     @Override
     public boolean addAll(int index, Collection<? extends T> c) {
-        var ret = delegate.get().addAll(c);
-        boolean changed = delegate.get().size() == ret.size();
-        delegate.set((C) ret);
-        return changed;
+        return replace(d -> (C) d.addAll(index, c).orElseThrow(IndexOutOfBoundsException::new));
     }
 
     @Override
@@ -27,21 +25,21 @@ public abstract class ListView<T, C extends PureList<T>> extends SequencedCollec
 
     @Override
     public T set(int index, T element) {
-        var result = delegate.get().set(index, element).orElseThrow(IndexOutOfBoundsException::new);
-        delegate.set((C) result.second());
-        return result.first();
+        return delegate.modify(d -> d.set(index, element)
+                .map(i -> Tuple.of(i.first(), (C) i.second()))
+                .orElseThrow(IndexOutOfBoundsException::new));
     }
 
     @Override
     public void add(int index, T element) {
-        delegate.update(i -> (C) i.add(index, element).orElseThrow(IndexOutOfBoundsException::new));
+        delegate.updateAndGet(i -> (C) i.add(index, element).orElseThrow(IndexOutOfBoundsException::new));
     }
 
     @Override
     public T remove(int index) {
-        var result = delegate.get().remove(index).orElseThrow(IndexOutOfBoundsException::new);
-        delegate.set((C) result.second());
-        return result.first();
+        return delegate.modify(d -> d.remove(index)
+                .map(i -> Tuple.of(i.first(), (C) i.second()))
+                .orElseThrow(IndexOutOfBoundsException::new));
     }
 
     @Override
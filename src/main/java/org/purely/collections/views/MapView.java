@@ -0,0 +1,111 @@
+package org.purely.collections.views;
+
+import org.purely.Tuple;
+import org.purely.collections.PureMap;
+import org.purely.concurrent.Atom;
+
+import java.util.*;
+
+/**
+ * The base of the mutable map views returned by {@code toMutable()}. As with {@link CollectionView}, every mutating
+ * operation is a single atomic update of the {@link Atom} holding the current map.
+ */
+public abstract class MapView<K, V, M extends PureMap<K, V>> extends AbstractMap<K, V> {
+    protected final Atom<M> delegate;
+
+    public MapView(M delegate) {
+        this.delegate = Atom.of(delegate);
+    }
+
+    @Override
+    public int size() {
+        return delegate.get().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.get().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.get().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return delegate.get().containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return delegate.get().get(key).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V put(K key, V value) {
+        return delegate.modify(d -> Tuple.of(d.get(key).orElse(null), (M) d.put(key, value)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(Object key) {
+        return delegate.modify(d -> Tuple.of(d.get(key).orElse(null), (M) d.remove(key)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        delegate.updateAndGet(d -> (M) d.putAll(m));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void clear() {
+        delegate.set((M) delegate.get().clear());
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return delegate.get().size();
+            }
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                var it = delegate.get().iterator();
+                return new Iterator<>() {
+                    private K last = null;
+
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        var next = it.next();
+                        last = next.first();
+                        return new SimpleImmutableEntry<>(next.first(), next.second());
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last == null) {
+                            throw new IllegalStateException();
+                        }
+                        MapView.this.remove(last);
+                        last = null;
+                    }
+                };
+            }
+        };
+    }
+
+    public M toPure() {
+        return delegate.get();
+    }
+}
@@ -0,0 +1,16 @@
+package org.purely.collections.views;
+
+import org.purely.collections.PureDeque;
+
+import java.util.List;
+
+public class PureDequeView<T> extends ListView<T, PureDeque<T>> {
+    public PureDequeView(PureDeque<T> delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return new PureDequeView<>(delegate.get().subList(fromIndex, toIndex).orElseThrow(IndexOutOfBoundsException::new));
+    }
+}
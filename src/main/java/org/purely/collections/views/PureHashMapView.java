@@ -0,0 +1,9 @@
+package org.purely.collections.views;
+
+import org.purely.collections.PureHashMap;
+
+public class PureHashMapView<K, V> extends MapView<K, V, PureHashMap<K, V>> {
+    public PureHashMapView(PureHashMap<K, V> delegate) {
+        super(delegate);
+    }
+}
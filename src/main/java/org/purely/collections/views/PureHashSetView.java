@@ -0,0 +1,9 @@
+package org.purely.collections.views;
+
+import org.purely.collections.PureHashSet;
+
+public class PureHashSetView<T> extends SetView<T, PureHashSet<T>> {
+    public PureHashSetView(PureHashSet<T> delegate) {
+        super(delegate);
+    }
+}
@@ -0,0 +1,20 @@
+package org.purely.collections.views;
+
+import org.purely.collections.PureLazyList;
+
+import java.util.List;
+
+/**
+ * A mutable view of a {@link PureLazyList}. Most {@link java.util.Collection} operations need the size of the list,
+ * so unlike the list itself, the view evaluates its delegate as soon as it is modified or measured.
+ */
+public class PureLazyListView<T> extends ListView<T, PureLazyList<T>> {
+    public PureLazyListView(PureLazyList<T> delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return new PureLazyListView<>(delegate.get().subList(fromIndex, toIndex).orElseThrow(IndexOutOfBoundsException::new));
+    }
+}
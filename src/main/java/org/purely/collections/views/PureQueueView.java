@@ -0,0 +1,43 @@
+package org.purely.collections.views;
+
+import org.purely.Tuple;
+import org.purely.collections.PureQueue;
+
+import java.util.Queue;
+
+public class PureQueueView<T> extends SequencedCollectionView<T, PureQueue<T>> implements Queue<T> {
+    public PureQueueView(PureQueue<T> delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public PureQueueView<T> reversed() {
+        return new PureQueueView<>(delegate.get().reversed());
+    }
+
+    @Override
+    public boolean offer(T t) {
+        delegate.updateAndGet(i -> i.addLast(t));
+        return true;
+    }
+
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public T poll() {
+        return delegate.modify(d -> d.removeFirst().orElse(Tuple.of(null, d)));
+    }
+
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    @Override
+    public T peek() {
+        return delegate.get().getFirst().orElse(null);
+    }
+}
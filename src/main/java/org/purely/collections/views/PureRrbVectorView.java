@@ -0,0 +1,16 @@
+package org.purely.collections.views;
+
+import org.purely.collections.PureRrbVector;
+
+import java.util.List;
+
+public class PureRrbVectorView<T> extends ListView<T, PureRrbVector<T>> {
+    public PureRrbVectorView(PureRrbVector<T> delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return new PureRrbVectorView<>(delegate.get().subList(fromIndex, toIndex).orElseThrow(IndexOutOfBoundsException::new));
+    }
+}
@@ -0,0 +1,26 @@
+package org.purely.collections.views;
+
+import org.purely.collections.PureTreeMap;
+
+import java.util.SortedMap;
+
+public class PureTreeMapView<K, V> extends SortedMapView<K, V, PureTreeMap<K, V>> {
+    public PureTreeMapView(PureTreeMap<K, V> delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey) {
+        return new PureTreeMapView<>(delegate.get().subMap(fromKey, toKey));
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K toKey) {
+        return new PureTreeMapView<>(delegate.get().headMap(toKey));
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K fromKey) {
+        return new PureTreeMapView<>(delegate.get().tailMap(fromKey));
+    }
+}
@@ -0,0 +1,16 @@
+package org.purely.collections.views;
+
+import org.purely.collections.PureVector;
+
+import java.util.List;
+
+public class PureVectorView<T> extends ListView<T, PureVector<T>> {
+    public PureVectorView(PureVector<T> delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return new PureVectorView<>(delegate.get().subList(fromIndex, toIndex).orElseThrow(IndexOutOfBoundsException::new));
+    }
+}
@@ -1,5 +1,6 @@
 package org.purely.collections.views;
 
+import org.purely.Tuple;
 import org.purely.collections.PureSequencedCollection;
 
 import java.util.SequencedCollection;
@@ -12,13 +13,13 @@ public abstract class SequencedCollectionView<T, C extends PureSequencedCollecti
     @SuppressWarnings("unchecked")
     @Override
     public void addFirst(T t) {
-        delegate.update(i -> (C) i.addFirst(t));
+        delegate.updateAndGet(i -> (C) i.addFirst(t));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public void addLast(T t) {
-        delegate.update(i -> (C) i.addFirst(t));
+        delegate.updateAndGet(i -> (C) i.addLast(t));
     }
 
     @Override
@@ -34,20 +35,16 @@ public abstract class SequencedCollectionView<T, C extends PureSequencedCollecti
     @SuppressWarnings("unchecked")
     @Override
     public T removeFirst() {
-        return delegate.get().removeFirst()
-                .map(i -> {
-                    delegate.set((C) i.second());
-                    return i.first();
-                }).orElseThrow();
+        return delegate.modify(d -> d.removeFirst()
+                .map(i -> Tuple.of(i.first(), (C) i.second()))
+                .orElseThrow());
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public T removeLast() {
-        return delegate.get().removeLast()
-                .map(i -> {
-                    delegate.set((C) i.second());
-                    return i.first();
-                }).orElseThrow();
+        return delegate.modify(d -> d.removeLast()
+                .map(i -> Tuple.of(i.first(), (C) i.second()))
+                .orElseThrow());
     }
 }
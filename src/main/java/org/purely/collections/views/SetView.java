@@ -0,0 +1,36 @@
+package org.purely.collections.views;
+
+import org.purely.collections.PureSet;
+
+import java.util.Set;
+
+public abstract class SetView<T, C extends PureSet<T>> extends CollectionView<T, C> implements Set<T> {
+    public SetView(C delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof Set<?> s) || s.size() != size()) {
+            return false;
+        }
+        return delegate.get().containsAll(s);
+    }
+
+    @Override
+    public int hashCode() {
+        int ret = 0;
+        for (T t : delegate.get()) {
+            ret += t.hashCode();
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return delegate.get().toString();
+    }
+}
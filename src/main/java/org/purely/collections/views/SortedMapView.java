@@ -0,0 +1,29 @@
+package org.purely.collections.views;
+
+import org.purely.Tuple.Tuple2;
+import org.purely.collections.PureSortedMap;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+
+public abstract class SortedMapView<K, V, M extends PureSortedMap<K, V>> extends MapView<K, V, M> implements SortedMap<K, V> {
+    public SortedMapView(M delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return delegate.get().comparator();
+    }
+
+    @Override
+    public K firstKey() {
+        return delegate.get().firstEntry().map(Tuple2::first).orElseThrow(NoSuchElementException::new);
+    }
+
+    @Override
+    public K lastKey() {
+        return delegate.get().lastEntry().map(Tuple2::first).orElseThrow(NoSuchElementException::new);
+    }
+}
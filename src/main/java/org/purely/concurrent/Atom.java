@@ -0,0 +1,129 @@
+package org.purely.concurrent;
+
+import org.purely.Tuple.Tuple2;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * An {@link Atom} is a thread-safe mutable reference to an immutable value, such as one of the persistent collections.
+ * Reads never block and always see a complete snapshot, since the value itself can't change underneath them. Writes
+ * compute a new value from the current one and publish it with a compare-and-set, retrying if another thread got there
+ * first.
+ * <p>
+ * This makes an {@link Atom} a good fit for shared state that is read often and written rarely, where a lock would
+ * serialize every reader. Under heavy write contention, failed attempts back off before retrying, first by spinning,
+ * then by yielding, and finally by parking for a short randomized interval.
+ * <p>
+ * Since an update may be retried, the functions passed to {@link #updateAndGet(UnaryOperator)} and its siblings may
+ * be called more than once, and must be free of side effects. Values are compared by identity.
+ *
+ * @param <T> The type of the value, which should be immutable.
+ */
+public final class Atom<T> {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Atom.class, "value", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile T value;
+
+    private Atom(T value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates an {@link Atom} holding the value.
+     */
+    public static <T> Atom<T> of(T value) {
+        return new Atom<>(Objects.requireNonNull(value, "Atom cannot contain null"));
+    }
+
+    /**
+     * Reads the current value without blocking.
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Unconditionally replaces the value.
+     */
+    public void set(T value) {
+        this.value = Objects.requireNonNull(value, "Atom cannot contain null");
+    }
+
+    /**
+     * Unconditionally replaces the value, returning the previous one.
+     */
+    @SuppressWarnings("unchecked")
+    public T getAndSet(T value) {
+        return (T) VALUE.getAndSet(this, Objects.requireNonNull(value, "Atom cannot contain null"));
+    }
+
+    /**
+     * Replaces the value if it is still the same instance as the one expected.
+     *
+     * @return true if the value was replaced.
+     */
+    public boolean compareAndSet(T expected, T value) {
+        return VALUE.compareAndSet(this, expected, Objects.requireNonNull(value, "Atom cannot contain null"));
+    }
+
+    /**
+     * Atomically replaces the value with the result of the function, retrying until no other thread has changed it in
+     * the meantime.
+     *
+     * @return the new value.
+     */
+    public T updateAndGet(UnaryOperator<T> f) {
+        return modify(t -> {
+            final T next = f.apply(t);
+            return new Tuple2<>(next, next);
+        });
+    }
+
+    /**
+     * Same as {@link #updateAndGet(UnaryOperator)}, but returns the value that was replaced.
+     *
+     * @return the previous value.
+     */
+    public T getAndUpdate(UnaryOperator<T> f) {
+        return modify(t -> new Tuple2<>(t, f.apply(t)));
+    }
+
+    /**
+     * Atomically replaces the value with the second element of the function's result, and returns the first. This is
+     * the general form of the other update methods, for operations that both change the value and compute something
+     * from it, like removing the first element of a list.
+     * <p>
+     * If the function throws, the value is left unchanged.
+     *
+     * @return the first element of the result that was applied.
+     */
+    public <R> R modify(Function<? super T, ? extends Tuple2<? extends R, ? extends T>> f) {
+        T current = value;
+        for (int failures = 0; ; failures++) {
+            final Tuple2<? extends R, ? extends T> result = f.apply(current);
+            final T next = Objects.requireNonNull(result.second(), "Atom cannot contain null");
+            if (next == current || VALUE.compareAndSet(this, current, next)) {
+                return result.first();
+            }
+            Backoff.pause(failures);
+            current = value;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Atom[" + value + "]";
+    }
+}
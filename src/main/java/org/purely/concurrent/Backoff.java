@@ -0,0 +1,31 @@
+package org.purely.concurrent;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Contention backoff shared by the retry loops in this package. Short waits spin, so that a competing thread that is
+ * about to finish isn't descheduled; longer ones yield, and finally park for a randomized interval that grows with
+ * the number of failed attempts, so that competing threads spread out instead of repeatedly invalidating each other.
+ */
+final class Backoff {
+    private static final int SPIN_LIMIT = 6;
+    private static final int YIELD_LIMIT = 10;
+    private static final int PARK_LIMIT = 20;
+
+    private Backoff() {
+    }
+
+    static void pause(int failures) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (failures < SPIN_LIMIT) {
+            for (int i = random.nextInt(1 << failures); i >= 0; i--) {
+                Thread.onSpinWait();
+            }
+        } else if (failures < YIELD_LIMIT) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(random.nextLong(1L << Math.min(failures, PARK_LIMIT)));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.purely.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link Ref} is a transactional reference to an immutable value. Inside {@link Stm#atomically(java.util.function.
+ * Supplier)}, reads of every ref see one consistent snapshot, and writes to any number of refs become visible to other
+ * threads together, or not at all. Outside a transaction, {@link #get()} reads the latest committed value, and each
+ * write runs as its own transaction.
+ * <p>
+ * Each ref keeps a short history of its recent values, so that a transaction can keep reading from its snapshot while
+ * other transactions commit newer values. A transaction only has to retry when it wrote a ref that another
+ * transaction changed since its snapshot was taken, or when a value it needs has dropped out of the history.
+ *
+ * @param <T> The type of the value, which should be immutable.
+ */
+public final class Ref<T> {
+    /**
+     * The number of committed values kept for transactions that started before the latest one.
+     */
+    static final int HISTORY = 8;
+
+    private static final AtomicLong IDS = new AtomicLong();
+    private static final VarHandle OWNER;
+
+    static {
+        try {
+            OWNER = MethodHandles.lookup().findVarHandle(Ref.class, "owner", Transaction.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    final long id = IDS.getAndIncrement();
+    private volatile Version<T> current;
+    private volatile Transaction owner;
+
+    private Ref(T value) {
+        this.current = new Version<>(value, 0, null);
+    }
+
+    /**
+     * Creates a {@link Ref} holding the value. The ref can be read by transactions that are already running.
+     */
+    public static <T> Ref<T> of(T value) {
+        return new Ref<>(Objects.requireNonNull(value, "Ref cannot contain null"));
+    }
+
+    /**
+     * Reads the value as of the current transaction's snapshot, including the transaction's own writes. Outside a
+     * transaction, reads the latest committed value without blocking.
+     */
+    public T get() {
+        final Transaction tx = Transaction.current();
+        return tx == null ? current.value : tx.read(this);
+    }
+
+    /**
+     * Writes the value, which becomes visible to other threads when the current transaction commits. Outside a
+     * transaction, the write is committed immediately.
+     */
+    public void set(T value) {
+        Objects.requireNonNull(value, "Ref cannot contain null");
+        Stm.atomically(() -> {
+            Transaction.current().write(this, value);
+        });
+    }
+
+    /**
+     * Replaces the value with the result of the function, as a transaction of its own or as part of the current one.
+     * The function may be called again if the transaction is retried, so it must be free of side effects.
+     *
+     * @return the new value.
+     */
+    public T updateAndGet(UnaryOperator<T> f) {
+        return Stm.atomically(() -> {
+            final T next = Objects.requireNonNull(f.apply(get()), "Ref cannot contain null");
+            Transaction.current().write(this, next);
+            return next;
+        });
+    }
+
+    /**
+     * Same as {@link #updateAndGet(UnaryOperator)}, but returns the value that was replaced.
+     *
+     * @return the previous value.
+     */
+    public T getAndUpdate(UnaryOperator<T> f) {
+        return Stm.atomically(() -> {
+            final T prev = get();
+            Transaction.current().write(this, Objects.requireNonNull(f.apply(prev), "Ref cannot contain null"));
+            return prev;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "Ref[" + current.value + "]";
+    }
+
+    /**
+     * Returns the newest value committed at or before the read version, waiting out a commit in progress.
+     *
+     * @throws Transaction.Conflict if the history no longer holds a value that old.
+     */
+    T read(long readVersion) {
+        for (int spins = 0; owner != null; spins++) {
+            Backoff.pause(spins);
+        }
+        for (Version<T> v = current; v != null; v = v.prior) {
+            if (v.stamp <= readVersion) {
+                return v.value;
+            }
+        }
+        throw Transaction.CONFLICT;
+    }
+
+    /**
+     * Returns whether a transaction other than the given one has committed to, or is committing to, this ref since
+     * the read version.
+     */
+    boolean changedSince(long readVersion, Transaction tx) {
+        final Transaction o = owner;
+        return (o != null && o != tx) || current.stamp > readVersion;
+    }
+
+    void lock(Transaction tx) {
+        for (int spins = 0; !OWNER.compareAndSet(this, null, tx); spins++) {
+            Backoff.pause(spins);
+        }
+    }
+
+    void unlock() {
+        owner = null;
+    }
+
+    /**
+     * Publishes a new value. Must be called while holding the lock.
+     */
+    @SuppressWarnings("unchecked")
+    void publish(Object value, long stamp) {
+        final Version<T> next = new Version<>((T) value, stamp, current);
+        Version<T> v = next;
+        for (int i = 1; i < HISTORY && v != null; i++) {
+            v = v.prior;
+        }
+        if (v != null) {
+            v.prior = null;
+        }
+        current = next;
+    }
+
+    private static final class Version<T> {
+        final T value;
+        final long stamp;
+        Version<T> prior;
+
+        Version(T value, long stamp, Version<T> prior) {
+            this.value = value;
+            this.stamp = stamp;
+            this.prior = prior;
+        }
+    }
+}
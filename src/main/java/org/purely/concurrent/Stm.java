@@ -0,0 +1,51 @@
+package org.purely.concurrent;
+
+import java.util.function.Supplier;
+
+/**
+ * Software transactional memory over {@link Ref}s. A transaction reads and writes any number of refs as if it were
+ * the only thread running: its reads come from one consistent snapshot, and its writes are committed all together or
+ * not at all. If another transaction commits a conflicting change first, the transaction is rolled back and run again,
+ * so no locks are held while it runs and readers never block writers.
+ * <p>
+ * Since the refs are meant to hold persistent collections and other immutable values, a transaction never has to copy
+ * state to roll back; it simply drops the new values it computed. For the same reason, a transaction should have no
+ * side effects other than writing refs, since it may run more than once. It must also not catch the exception used to
+ * signal a retry, so avoid catching {@link RuntimeException} or {@link Throwable} inside a transaction.
+ */
+public final class Stm {
+    private Stm() {
+    }
+
+    /**
+     * Runs the block as a transaction, retrying it until it commits, and returns its result. If the block throws,
+     * its writes are discarded and the exception is propagated. A transaction started inside another one joins it.
+     */
+    public static <T> T atomically(Supplier<T> block) {
+        if (Transaction.current() != null) {
+            return block.get();
+        }
+        for (int failures = 0; ; failures++) {
+            final Transaction tx = Transaction.begin();
+            try {
+                final T ret = block.get();
+                tx.commit();
+                return ret;
+            } catch (Transaction.Conflict e) {
+                Backoff.pause(failures);
+            } finally {
+                Transaction.end();
+            }
+        }
+    }
+
+    /**
+     * Runs the block as a transaction, retrying it until it commits.
+     */
+    public static void atomically(Runnable block) {
+        atomically(() -> {
+            block.run();
+            return null;
+        });
+    }
+}
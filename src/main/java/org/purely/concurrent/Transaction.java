@@ -0,0 +1,106 @@
+package org.purely.concurrent;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The state of a running {@link Stm#atomically(java.util.function.Supplier)} block: the version of the snapshot it
+ * reads from, the refs it has read, and the values it has written but not yet committed.
+ * <p>
+ * Commits follow the TL2 scheme. The refs being written are locked in a fixed order, a new version is drawn from a
+ * global clock, the refs that were read are checked to be unchanged since the snapshot, and the new values are
+ * published under the new version. Transactions that only read never need to validate, since they read from a
+ * consistent snapshot throughout.
+ */
+final class Transaction {
+    static final Conflict CONFLICT = new Conflict();
+    private static final AtomicLong CLOCK = new AtomicLong();
+    private static final ThreadLocal<Transaction> CURRENT = new ThreadLocal<>();
+
+    private final long readVersion = CLOCK.get();
+    private final Set<Ref<?>> reads = new HashSet<>();
+    private final Map<Ref<?>, Object> writes = new HashMap<>();
+
+    static Transaction current() {
+        return CURRENT.get();
+    }
+
+    static Transaction begin() {
+        final Transaction ret = new Transaction();
+        CURRENT.set(ret);
+        return ret;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T read(Ref<T> ref) {
+        final Object written = writes.get(ref);
+        if (written != null) {
+            return (T) written;
+        }
+        reads.add(ref);
+        return ref.read(readVersion);
+    }
+
+    <T> void write(Ref<T> ref, T value) {
+        writes.put(ref, value);
+    }
+
+    /**
+     * Publishes the transaction's writes.
+     *
+     * @throws Conflict if another transaction has changed a ref this one read.
+     */
+    void commit() {
+        if (writes.isEmpty()) {
+            return;
+        }
+        final List<Ref<?>> locked = new ArrayList<>(writes.keySet());
+        locked.sort(Comparator.comparingLong(r -> r.id));
+        int held = 0;
+        try {
+            for (Ref<?> ref : locked) {
+                ref.lock(this);
+                held++;
+            }
+            final long writeVersion = CLOCK.incrementAndGet();
+            if (writeVersion != readVersion + 1) {
+                for (Ref<?> ref : reads) {
+                    if (ref.changedSince(readVersion, this)) {
+                        throw CONFLICT;
+                    }
+                }
+            }
+            for (Ref<?> ref : locked) {
+                ref.publish(writes.get(ref), writeVersion);
+            }
+        } finally {
+            for (int i = 0; i < held; i++) {
+                locked.get(i).unlock();
+            }
+        }
+    }
+
+    /**
+     * Signals that the running transaction can't complete consistently and must be retried. Thrown as a preallocated
+     * instance without a stack trace, since it is used for control flow.
+     */
+    static final class Conflict extends RuntimeException {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private Conflict() {
+            super("transaction conflict", null, false, false);
+        }
+    }
+}
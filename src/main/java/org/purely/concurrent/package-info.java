@@ -0,0 +1,4 @@
+/**
+ * Contains primitives for sharing persistent values between threads, such as {@link org.purely.concurrent.Atom}.
+ */
+package org.purely.concurrent;
@@ -1,11 +1,15 @@
 package org.purely.control;
 
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
 import org.purely.annotations.Pure;
+import org.purely.collections.PureRrbVector;
 
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 /**
@@ -23,6 +27,46 @@ import java.util.stream.Stream;
  */
 @Pure
 public sealed interface Either<L, R> {
+    /**
+     * Creates a {@link Collector} that splits a stream of {@link Either}s into its left and right values in a single
+     * pass, keeping the encounter order of each. In a parallel stream, partial results are joined by concatenating
+     * {@link PureRrbVector}s in O(log N), rather than by copying one into the other.
+     *
+     * @param <L> The left type.
+     * @param <R> The right type.
+     * @return a {@link Collector} producing the left values and the right values.
+     */
+    static <L, R> Collector<Either<? extends L, ? extends R>, ?, Tuple2<PureRrbVector<L>, PureRrbVector<R>>> partitioning() {
+        return Collector.of(
+                EitherPartition<L, R>::new,
+                EitherPartition::add,
+                EitherPartition::combine,
+                EitherPartition::finish
+        );
+    }
+
+    /**
+     * Creates a {@link Collector} that counts the left and right values of a stream of {@link Either}s in a single
+     * pass, without retaining them.
+     *
+     * @param <L> The left type.
+     * @param <R> The right type.
+     * @return a {@link Collector} producing the number of left values and the number of right values.
+     */
+    static <L, R> Collector<Either<? extends L, ? extends R>, ?, Tuple2<Long, Long>> counting() {
+        return Collector.of(
+                () -> new long[2],
+                (counts, either) -> counts[either.isLeft() ? 0 : 1]++,
+                (a, b) -> {
+                    a[0] += b[0];
+                    a[1] += b[1];
+                    return a;
+                },
+                counts -> Tuple.of(counts[0], counts[1]),
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
     /**
      * Tests whether the value represented by the Either is the left value.
      *
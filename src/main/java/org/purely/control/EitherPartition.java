@@ -0,0 +1,54 @@
+package org.purely.control;
+
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+import org.purely.collections.PureRrbVector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The accumulation state of {@link Either#partitioning()}. Elements are appended to plain lists, which are only turned
+ * into {@link PureRrbVector}s when two partial results are combined, or the result is finished. Combining then
+ * concatenates the vectors in O(log N), rather than copying one partial result into the other.
+ *
+ * @param <L> The left type.
+ * @param <R> The right type.
+ */
+final class EitherPartition<L, R> {
+    private final List<L> pendingLefts = new ArrayList<>();
+    private final List<R> pendingRights = new ArrayList<>();
+    private PureRrbVector<L> lefts = PureRrbVector.empty();
+    private PureRrbVector<R> rights = PureRrbVector.empty();
+
+    void add(Either<? extends L, ? extends R> either) {
+        switch (either) {
+            case Either.Left(var l) -> pendingLefts.add(l);
+            case Either.Right(var r) -> pendingRights.add(r);
+        }
+    }
+
+    EitherPartition<L, R> combine(EitherPartition<L, R> other) {
+        flush();
+        other.flush();
+        lefts = lefts.addAll(other.lefts);
+        rights = rights.addAll(other.rights);
+        return this;
+    }
+
+    Tuple2<PureRrbVector<L>, PureRrbVector<R>> finish() {
+        flush();
+        return Tuple.of(lefts, rights);
+    }
+
+    private void flush() {
+        if (!pendingLefts.isEmpty()) {
+            lefts = lefts.addAll(PureRrbVector.from(pendingLefts));
+            pendingLefts.clear();
+        }
+        if (!pendingRights.isEmpty()) {
+            rights = rights.addAll(PureRrbVector.from(pendingRights));
+            pendingRights.clear();
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package org.purely.control;
+
+import org.purely.annotations.Pure;
+import org.purely.functions.ThrowingFunction;
+import org.purely.functions.ThrowingSupplier;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An Eval is a computation of a value, which controls when the value is computed and whether it is kept:
+ * <ul>
+ *     <li>{@link #now(Object)} is a value that has already been computed.</li>
+ *     <li>{@link #later(Supplier)} computes its value the first time it is asked for, and keeps it.</li>
+ *     <li>{@link #always(Supplier)} computes its value every time it is asked for.</li>
+ * </ul>
+ * The point of an Eval is that {@link #map(Function)}, {@link #flatMap(Function)} and {@link #defer(Supplier)} don't
+ * compute anything, they only describe the computation. {@link #value()} then runs the description in a loop, keeping
+ * the functions still to be applied on the heap rather than on the call stack, so it runs in constant stack depth no
+ * matter how deeply the computation nests. That makes it possible to write recursive functions over structures like a
+ * {@link org.purely.collections.PureLinkedList} of a million elements, which would overflow the stack as plain
+ * recursion:
+ * <pre>{@code
+ * Eval<Integer> sum(PureLinkedList<Integer> list) {
+ *     return switch (list) {
+ *         case PureLinkedList.Cons(var head, var tail, var size) -> Eval.defer(() -> sum(tail)).map(s -> s + head);
+ *         case PureLinkedList.Nil<Integer> nil -> Eval.now(0);
+ *     };
+ * }
+ * }</pre>
+ * The recursive call must go through {@link #defer(Supplier)} or {@link #flatMap(Function)}, so that it happens inside
+ * the loop rather than while the Eval is being built.
+ * <p>
+ * {@link #attempt(ThrowingSupplier)}, {@link #flatMapTry(Eval, ThrowingFunction)} and
+ * {@link #flatMapRight(Eval, Function)} do the same for long chains of {@link Try} and {@link Either}, stopping at the
+ * first failure.
+ *
+ * @param <A> The type of the value.
+ */
+@Pure
+public abstract sealed class Eval<A> permits Eval.Now, Eval.Later, Eval.Always, Eval.Defer, Eval.FlatMap {
+    private Eval() {
+    }
+
+    /**
+     * Creates an {@link Eval} of a value that has already been computed.
+     *
+     * @param value The value.
+     * @param <A>   The type of the value.
+     * @return an {@link Eval} of the value.
+     */
+    public static <A> Eval<A> now(A value) {
+        return new Now<>(value);
+    }
+
+    /**
+     * Creates an {@link Eval} that computes its value with the supplier the first time it's asked for, and returns the
+     * same value every time after that. The supplier runs at most once, even if the value is asked for concurrently.
+     *
+     * @param supplier The supplier of the value.
+     * @param <A>      The type of the value.
+     * @return a memoized {@link Eval} of the supplier's value.
+     */
+    public static <A> Eval<A> later(Supplier<? extends A> supplier) {
+        return new Later<>(Objects.requireNonNull(supplier));
+    }
+
+    /**
+     * Creates an {@link Eval} that computes its value with the supplier every time it's asked for.
+     *
+     * @param supplier The supplier of the value.
+     * @param <A>      The type of the value.
+     * @return an {@link Eval} of the supplier's value.
+     */
+    public static <A> Eval<A> always(Supplier<? extends A> supplier) {
+        return new Always<>(Objects.requireNonNull(supplier));
+    }
+
+    /**
+     * Creates an {@link Eval} that builds the {@link Eval} to run with the supplier, when its value is asked for. This
+     * is how a recursive function returning an {@link Eval} should call itself.
+     *
+     * @param supplier The supplier of the {@link Eval} to run.
+     * @param <A>      The type of the value.
+     * @return an {@link Eval} of the value of the supplied {@link Eval}.
+     */
+    public static <A> Eval<A> defer(Supplier<? extends Eval<? extends A>> supplier) {
+        return new Defer<>(Objects.requireNonNull(supplier));
+    }
+
+    /**
+     * Creates a memoized {@link Eval} that runs the supplier, and captures a non-fatal exception as a
+     * {@link Try.Failure}, the same way {@link Try#of(ThrowingSupplier)} does.
+     *
+     * @param supplier The supplier to run.
+     * @param <T>      The type returned by the supplier.
+     * @return an {@link Eval} of the result of the supplier.
+     */
+    public static <T> Eval<Try<T>> attempt(ThrowingSupplier<T> supplier) {
+        Objects.requireNonNull(supplier);
+        return later(() -> Try.of(supplier));
+    }
+
+    /**
+     * Chains an operation that may fail onto an {@link Eval} of a {@link Try}, in constant stack depth. If the
+     * {@link Try} is a {@link Try.Failure}, the mapper is not called. If the mapper throws a non-fatal exception, the
+     * result is a {@link Try.Failure} of it.
+     *
+     * @param eval   The {@link Eval} of the {@link Try} to chain onto.
+     * @param mapper The mapper to apply to the successful value.
+     * @param <T>    The successful type of the {@link Try}.
+     * @param <R>    The successful type of the new {@link Try}.
+     * @return an {@link Eval} of the {@link Try} returned by the mapper, or of the first failure.
+     */
+    public static <T, R> Eval<Try<R>> flatMapTry(Eval<? extends Try<? extends T>> eval,
+                                                 ThrowingFunction<? super T, ? extends Eval<? extends Try<? extends R>>> mapper) {
+        Objects.requireNonNull(mapper);
+        return eval.<Try<R>>flatMap(t -> switch (t) {
+            case Try.Success<? extends T>(var v) -> {
+                try {
+                    yield narrow(Objects.requireNonNull(mapper.apply(v)));
+                } catch (Throwable e) {
+                    yield now(new Try.Failure<>(Internal.throwIfFatal(e)));
+                }
+            }
+            case Try.Failure<? extends T>(var e) -> now(new Try.Failure<>(e));
+        });
+    }
+
+    /**
+     * Chains an operation onto an {@link Eval} of an {@link Either}, in constant stack depth. If the {@link Either} is
+     * an {@link Either.Left}, the mapper is not called.
+     *
+     * @param eval   The {@link Eval} of the {@link Either} to chain onto.
+     * @param mapper The mapper to apply to the {@link Either.Right} value.
+     * @param <L>    The left type.
+     * @param <R>    The right type of the {@link Either}.
+     * @param <R2>   The right type of the new {@link Either}.
+     * @return an {@link Eval} of the {@link Either} returned by the mapper, or of the first {@link Either.Left}.
+     */
+    public static <L, R, R2> Eval<Either<L, R2>> flatMapRight(Eval<? extends Either<? extends L, ? extends R>> eval,
+                                                              Function<? super R, ? extends Eval<? extends Either<? extends L, ? extends R2>>> mapper) {
+        Objects.requireNonNull(mapper);
+        return eval.<Either<L, R2>>flatMap(e -> switch (e) {
+            case Either.Left<? extends L, ? extends R>(var l) -> now(new Either.Left<>(l));
+            case Either.Right<? extends L, ? extends R>(var r) -> narrow(Objects.requireNonNull(mapper.apply(r)));
+        });
+    }
+
+    /**
+     * Computes the value. The computation runs on the calling thread, in constant stack depth, however many
+     * {@link #map(Function)}, {@link #flatMap(Function)} and {@link #defer(Supplier)} calls it is made of.
+     * <p>
+     * runtime complexity: O(N), where N is the number of steps in the computation.
+     * space complexity: O(N) on the heap, O(1) on the stack.
+     *
+     * @return the value.
+     */
+    @SuppressWarnings("unchecked")
+    public final A value() {
+        final ArrayDeque<Function<Object, Eval<?>>> continuations = new ArrayDeque<>();
+        Eval<?> current = this;
+        while (true) {
+            switch (current) {
+                case FlatMap<?, ?> f -> {
+                    continuations.push((Function<Object, Eval<?>>) f.mapper);
+                    current = f.source;
+                }
+                case Defer<?> d -> current = Objects.requireNonNull(d.supplier.get());
+                case Now<?> n -> {
+                    if (continuations.isEmpty()) {
+                        return (A) n.value;
+                    }
+                    current = Objects.requireNonNull(continuations.pop().apply(n.value));
+                }
+                case Later<?> l -> {
+                    final Object v = l.get();
+                    if (continuations.isEmpty()) {
+                        return (A) v;
+                    }
+                    current = Objects.requireNonNull(continuations.pop().apply(v));
+                }
+                case Always<?> a -> {
+                    final Object v = a.supplier.get();
+                    if (continuations.isEmpty()) {
+                        return (A) v;
+                    }
+                    current = Objects.requireNonNull(continuations.pop().apply(v));
+                }
+            }
+        }
+    }
+
+    /**
+     * Lazily applies the mapper to the value.
+     *
+     * @param mapper The mapper to apply.
+     * @param <B>    The new value type.
+     * @return an {@link Eval} of the mapped value.
+     */
+    public final <B> Eval<B> map(Function<? super A, ? extends B> mapper) {
+        Objects.requireNonNull(mapper);
+        return flatMap(a -> now(mapper.apply(a)));
+    }
+
+    /**
+     * Lazily applies the mapper to the value, and continues with the {@link Eval} it returns.
+     *
+     * @param mapper The mapper to apply.
+     * @param <B>    The new value type.
+     * @return an {@link Eval} of the value of the {@link Eval} returned by the mapper.
+     */
+    public final <B> Eval<B> flatMap(Function<? super A, ? extends Eval<? extends B>> mapper) {
+        return new FlatMap<>(this, Objects.requireNonNull(mapper));
+    }
+
+    /**
+     * Returns an {@link Eval} that computes this one's value at most once, and keeps it.
+     *
+     * @return a memoized {@link Eval} of this one's value.
+     */
+    public final Eval<A> memoize() {
+        return switch (this) {
+            case Now<A> n -> n;
+            case Later<A> l -> l;
+            default -> later(this::value);
+        };
+    }
+
+    /**
+     * Computes the value, and captures a non-fatal exception thrown by the computation as a {@link Try.Failure}.
+     *
+     * @return a {@link Try} of the value.
+     */
+    public final Try<A> toTry() {
+        return Try.of(this::value);
+    }
+
+    /**
+     * Every Eval is covariant in its value, as is every {@link Try} and {@link Either} it may hold.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A> Eval<A> narrow(Eval<?> eval) {
+        return (Eval<A>) eval;
+    }
+
+    static final class Now<A> extends Eval<A> {
+        private final A value;
+
+        private Now(A value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return "Eval[" + value + "]";
+        }
+    }
+
+    static final class Later<A> extends Eval<A> {
+        private volatile Supplier<? extends A> supplier;
+        private A value;
+
+        private Later(Supplier<? extends A> supplier) {
+            this.supplier = supplier;
+        }
+
+        private A get() {
+            if (supplier != null) {
+                synchronized (this) {
+                    final var s = supplier;
+                    if (s != null) {
+                        value = s.get();
+                        supplier = null;
+                    }
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return supplier == null ? "Eval[" + value + "]" : "Eval[later]";
+        }
+    }
+
+    static final class Always<A> extends Eval<A> {
+        private final Supplier<? extends A> supplier;
+
+        private Always(Supplier<? extends A> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public String toString() {
+            return "Eval[always]";
+        }
+    }
+
+    static final class Defer<A> extends Eval<A> {
+        private final Supplier<? extends Eval<? extends A>> supplier;
+
+        private Defer(Supplier<? extends Eval<? extends A>> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public String toString() {
+            return "Eval[deferred]";
+        }
+    }
+
+    static final class FlatMap<A, B> extends Eval<B> {
+        private final Eval<A> source;
+        private final Function<? super A, ? extends Eval<? extends B>> mapper;
+
+        private FlatMap(Eval<A> source, Function<? super A, ? extends Eval<? extends B>> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public String toString() {
+            return "Eval[deferred]";
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package org.purely.control;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * package private helper methods
  */
 final class Internal {
+    /**
+     * The default executor for asynchronous operations, which runs each task on a new virtual thread.
+     */
+    static final ExecutorService VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
     @SuppressWarnings("unchecked")
     static <L,R> Either<L,R> narrow(Either<? extends L, ? extends R> either) {
         return (Either<L, R>)either;
@@ -1,14 +1,22 @@
 package org.purely.control;
 
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
 import org.purely.annotations.Pure;
+import org.purely.collections.PureVector;
 import org.purely.functions.ThrowingConsumer;
 import org.purely.functions.ThrowingFunction;
 import org.purely.functions.ThrowingSupplier;
-import org.purely.internal.MutableRef;
 
 import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 import java.util.function.*;
 import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 /**
  * Try can be thought of as a specialization for {@link Either}, where the {@link org.purely.control.Either.Left} is
@@ -70,10 +78,146 @@ public sealed interface Try<T> {
     }
 
 
+    /**
+     * Applies the function to each value in order, stopping at the first one that fails.
+     *
+     * @param values   The values to apply the function to.
+     * @param function The function to apply, which may throw.
+     * @param <T>      The input type.
+     * @param <R>      The output type.
+     * @return a {@link Success} of the results in the same order as the values, or the first {@link Failure}.
+     */
+    static <T, R> Try<PureVector<R>> traverse(Iterable<? extends T> values,
+                                              ThrowingFunction<? super T, ? extends R> function) {
+        Objects.requireNonNull(function);
+        final PureVector.Builder<R> ret = PureVector.builder();
+        for (T value : values) {
+            switch (Try.<R>of(() -> function.apply(value))) {
+                case Success(R r) -> ret.add(r);
+                case Failure<R> f -> {
+                    return f.coerce();
+                }
+            }
+        }
+        return new Success<>(ret.build());
+    }
+
+    /**
+     * Collects the values of a sequence of {@link Try}s, stopping at the first {@link Failure}.
+     *
+     * @param tries The {@link Try}s to collect.
+     * @param <T>   The type contained by the {@link Try}s.
+     * @return a {@link Success} of the values in order, or the first {@link Failure}.
+     */
+    static <T> Try<PureVector<T>> sequence(Iterable<? extends Try<? extends T>> tries) {
+        final PureVector.Builder<T> ret = PureVector.builder();
+        for (Try<? extends T> t : tries) {
+            switch (t) {
+                case Success(var v) -> ret.add(v);
+                case Failure(var e) -> {
+                    return new Failure<>(e);
+                }
+            }
+        }
+        return new Success<>(ret.build());
+    }
+
+    /**
+     * Same as {@link #traverse(Iterable, ThrowingFunction)}, but applies the function to every value concurrently,
+     * each on its own virtual thread.
+     *
+     * @see #traverseParallel(Iterable, ThrowingFunction, Executor, int)
+     */
+    static <T, R> Try<PureVector<R>> traverseParallel(Iterable<? extends T> values,
+                                                      ThrowingFunction<? super T, ? extends R> function) {
+        return traverseParallel(values, function, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Same as {@link #traverse(Iterable, ThrowingFunction)}, but applies the function concurrently on virtual
+     * threads, with at most maxConcurrency calls running at once.
+     *
+     * @see #traverseParallel(Iterable, ThrowingFunction, Executor, int)
+     */
+    static <T, R> Try<PureVector<R>> traverseParallel(Iterable<? extends T> values,
+                                                      ThrowingFunction<? super T, ? extends R> function,
+                                                      int maxConcurrency) {
+        return traverseParallel(values, function, Internal.VIRTUAL_THREADS, maxConcurrency);
+    }
+
+    /**
+     * Same as {@link #traverse(Iterable, ThrowingFunction)}, but applies the function concurrently on the executor,
+     * with at most maxConcurrency calls running at once. Values are only submitted as earlier calls complete, so a
+     * bounded executor is never flooded with queued work.
+     * <p>
+     * As soon as any call fails, no further values are submitted, and the calls still running are cancelled by
+     * interrupting them. Since the calls complete in any order, the {@link Failure} returned is the first one to
+     * complete, which isn't necessarily the one for the earliest value. If the calling thread is interrupted while
+     * waiting, the outstanding calls are cancelled and the {@link InterruptedException} is rethrown.
+     *
+     * @param values         The values to apply the function to.
+     * @param function       The function to apply, which may throw.
+     * @param executor       The executor to run the calls on.
+     * @param maxConcurrency The maximum number of calls running at once.
+     * @param <T>            The input type.
+     * @param <R>            The output type.
+     * @return a {@link Success} of the results in the same order as the values, or the first {@link Failure}.
+     */
+    static <T, R> Try<PureVector<R>> traverseParallel(Iterable<? extends T> values,
+                                                      ThrowingFunction<? super T, ? extends R> function,
+                                                      Executor executor,
+                                                      int maxConcurrency) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(executor);
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        final Iterator<? extends T> it = values.iterator();
+        final CompletionService<Tuple2<Integer, Try<R>>> completions = new ExecutorCompletionService<>(executor);
+        final Set<Future<Tuple2<Integer, Try<R>>>> running = new HashSet<>();
+        final List<R> results = new ArrayList<>();
+        try {
+            int submitted = 0;
+            while (it.hasNext() && running.size() < maxConcurrency) {
+                running.add(submit(completions, submitted++, it.next(), function));
+                results.add(null);
+            }
+            while (!running.isEmpty()) {
+                final Future<Tuple2<Integer, Try<R>>> done = completions.take();
+                running.remove(done);
+                final Tuple2<Integer, Try<R>> result = done.get();
+                switch (result.second()) {
+                    case Success(R r) -> results.set(result.first(), r);
+                    case Failure<R> f -> {
+                        return f.coerce();
+                    }
+                }
+                if (it.hasNext()) {
+                    running.add(submit(completions, submitted++, it.next(), function));
+                    results.add(null);
+                }
+            }
+            return new Success<>(PureVector.from(results));
+        } catch (ExecutionException e) {
+            throw Internal.<RuntimeException>sneakyThrow(e.getCause());
+        } catch (InterruptedException e) {
+            throw Internal.<RuntimeException>sneakyThrow(e);
+        } finally {
+            for (Future<?> f : running) {
+                f.cancel(true);
+            }
+        }
+    }
+
+
     /**
      * Takes a downstream collector, and uses it to collect a {@link java.util.stream.Stream} of {@link Try}s
      * to a result. If any {@link Failure} is encountered, that {@link Failure} will be returned. Otherwise, the
      * result of the downstream collector will be returned as a {@link Success}.
+     * <p>
+     * Once a {@link Failure} has been seen, the remaining elements are ignored without being passed downstream, but a
+     * collector can't stop the stream from producing them. To stop pulling elements from the stream at the first
+     * {@link Failure}, use {@link #collect(Stream, Collector)} instead.
      *
      * @param downstream The downstream collector.
      * @param <T>        The type contained by the {@link Try}s
@@ -82,39 +226,38 @@ public sealed interface Try<T> {
      * @return Either the first {@link Failure} encountered, or a {@link Success} of the result of the collector.
      */
     static <T, A, R> Collector<Try<T>, ?, Try<R>> collector(Collector<T, A, R> downstream) {
-        return new Collector<Try<T>, MutableRef<Try<A>>, Try<R>>() {
-            @Override
-            public Supplier<MutableRef<Try<A>>> supplier() {
-                return () -> new MutableRef<>(new Success<>(downstream.supplier().get()));
-            }
-
-            @Override
-            public BiConsumer<MutableRef<Try<A>>, Try<T>> accumulator() {
-                return (acc, elem) -> acc.update(i -> i.flatMap(a -> elem.map(e -> {
-                    downstream.accumulator().accept(a, e);
-                    return a;
-                })));
-            }
-
-            @Override
-            public BinaryOperator<MutableRef<Try<A>>> combiner() {
-                return (acc1, acc2) -> new MutableRef<>(
-                        acc1.get().flatMap(a1 -> acc2.get().map(a2 -> downstream.combiner().apply(a1, a2)))
-                );
-            }
+        return new TryCollector<>(downstream);
+    }
 
-            @Override
-            public Function<MutableRef<Try<A>>, Try<R>> finisher() {
-                return acc -> acc.get().map(ThrowingFunction.wrap(downstream.finisher()));
-            }
+    /**
+     * Collects a {@link java.util.stream.Stream} of {@link Try}s with the downstream collector, stopping at the first
+     * {@link Failure}. Unlike {@link #collector(Collector)}, no further elements are pulled from the stream after the
+     * {@link Failure}, so the operations producing them are never run. The stream is consumed sequentially.
+     *
+     * @param stream     The stream to collect.
+     * @param downstream The downstream collector.
+     * @param <T>        The type contained by the {@link Try}s
+     * @param <A>        Intermediate type of the downstream collector.
+     * @param <R>        The result type of the collector.
+     * @return Either the first {@link Failure} encountered, or a {@link Success} of the result of the collector.
+     */
+    static <T, A, R> Try<R> collect(Stream<? extends Try<? extends T>> stream,
+                                    Collector<? super T, A, R> downstream) {
+        final TryCollector<T, A, R> collector = new TryCollector<>(downstream);
+        final TryCollector.State<A> state = collector.supplier().get();
+        final Spliterator<? extends Try<? extends T>> elements = stream.spliterator();
+        boolean more = true;
+        while (more && !state.failed()) {
+            more = elements.tryAdvance(t -> collector.accumulate(state, t));
+        }
+        return collector.finish(state);
+    }
 
-            @Override
-            public Set<Characteristics> characteristics() {
-                final var characteristics = new HashSet<>(downstream.characteristics());
-                characteristics.remove(Characteristics.IDENTITY_FINISH);
-                return characteristics;
-            }
-        };
+    private static <T, R> Future<Tuple2<Integer, Try<R>>> submit(CompletionService<Tuple2<Integer, Try<R>>> completions,
+                                                                int index,
+                                                                T value,
+                                                                ThrowingFunction<? super T, ? extends R> function) {
+        return completions.submit(() -> Tuple.of(index, Try.of(() -> function.apply(value))));
     }
 
     /**
@@ -0,0 +1,122 @@
+package org.purely.control;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * The collector behind {@link Try#collector(Collector)} and {@link Try#collect(java.util.stream.Stream, Collector)}.
+ * <p>
+ * The downstream container is accumulated in place in a mutable {@link State}, so that a successful element costs one
+ * call to the downstream accumulator and nothing else. The first failure is recorded in the state and the container is
+ * dropped; after that, elements are ignored, and the combiner returns the failed side without touching the downstream
+ * state of either.
+ *
+ * @param <T> The type contained by the {@link Try}s being collected.
+ * @param <A> The downstream accumulation type.
+ * @param <R> The downstream result type.
+ */
+final class TryCollector<T, A, R> implements Collector<Try<T>, TryCollector.State<A>, Try<R>> {
+    private final Supplier<A> supplier;
+    private final BiConsumer<A, ? super T> accumulator;
+    private final BinaryOperator<A> combiner;
+    private final Function<A, R> finisher;
+    private final Set<Characteristics> characteristics;
+
+    TryCollector(Collector<? super T, A, R> downstream) {
+        this.supplier = downstream.supplier();
+        this.accumulator = downstream.accumulator();
+        this.combiner = downstream.combiner();
+        this.finisher = downstream.finisher();
+        final var characteristics = new HashSet<>(downstream.characteristics());
+        characteristics.remove(Characteristics.IDENTITY_FINISH);
+        characteristics.remove(Characteristics.CONCURRENT);
+        this.characteristics = Set.copyOf(characteristics);
+    }
+
+    static final class State<A> {
+        private A container;
+        private Throwable failure;
+
+        private State(A container) {
+            this.container = container;
+        }
+
+        boolean failed() {
+            return failure != null;
+        }
+    }
+
+    @Override
+    public Supplier<State<A>> supplier() {
+        return () -> new State<>(supplier.get());
+    }
+
+    @Override
+    public BiConsumer<State<A>, Try<T>> accumulator() {
+        return this::accumulate;
+    }
+
+    @Override
+    public BinaryOperator<State<A>> combiner() {
+        return this::combine;
+    }
+
+    @Override
+    public Function<State<A>, Try<R>> finisher() {
+        return this::finish;
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return characteristics;
+    }
+
+    void accumulate(State<A> state, Try<? extends T> element) {
+        if (state.failed()) {
+            return;
+        }
+        switch (Objects.requireNonNull(element)) {
+            case Try.Success(var v) -> {
+                try {
+                    accumulator.accept(state.container, v);
+                } catch (Throwable e) {
+                    fail(state, Internal.throwIfFatal(e));
+                }
+            }
+            case Try.Failure(var e) -> fail(state, e);
+        }
+    }
+
+    private State<A> combine(State<A> left, State<A> right) {
+        if (left.failed()) {
+            return left;
+        }
+        if (right.failed()) {
+            return right;
+        }
+        try {
+            left.container = combiner.apply(left.container, right.container);
+        } catch (Throwable e) {
+            fail(left, Internal.throwIfFatal(e));
+        }
+        return left;
+    }
+
+    Try<R> finish(State<A> state) {
+        if (state.failed()) {
+            return new Try.Failure<>(state.failure);
+        }
+        return Try.of(() -> finisher.apply(state.container));
+    }
+
+    private static void fail(State<?> state, Throwable failure) {
+        state.failure = failure;
+        state.container = null;
+    }
+}
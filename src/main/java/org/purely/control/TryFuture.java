@@ -0,0 +1,284 @@
+package org.purely.control;
+
+import org.purely.functions.ThrowingConsumer;
+import org.purely.functions.ThrowingFunction;
+import org.purely.functions.ThrowingSupplier;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@link TryFuture} is the asynchronous counterpart of {@link Try}: an operation that may throw, running in the
+ * background, which eventually completes to a {@link Try}. Its methods mirror those of {@link Try}, and each one
+ * returns immediately with a new {@link TryFuture} that applies the operation once the result is available.
+ * <p>
+ * By default, operations run on virtual threads, one per task, so a blocking call like a remote request costs a
+ * parked virtual thread rather than a platform thread. Every continuation runs on the executor the {@link TryFuture}
+ * was created with, and never on the caller's thread, so it's safe for the functions passed to {@link #map} and
+ * {@link #flatMap} to block as well. To compose calls that return a {@link CompletableFuture}, use
+ * {@link #fromCompletionStage(CompletionStage)} and {@link #toCompletableFuture()}.
+ * <p>
+ * As with {@link Try}, fatal errors are not captured as a {@link Try.Failure}. They complete the underlying future
+ * exceptionally, skip every following operation, and are rethrown by {@link #join()}.
+ *
+ * @param <T> The type of the successful result.
+ */
+public final class TryFuture<T> {
+    private final CompletableFuture<Try<T>> future;
+    private final Executor executor;
+
+    private TryFuture(CompletableFuture<Try<T>> future, Executor executor) {
+        this.future = future;
+        this.executor = executor;
+    }
+
+    /**
+     * Runs the supplier on a new virtual thread.
+     *
+     * @param supplier The supplier to run.
+     * @param <T>      The type returned by the supplier.
+     * @return a {@link TryFuture} that completes to the result of the supplier.
+     */
+    public static <T> TryFuture<T> of(ThrowingSupplier<T> supplier) {
+        return of(supplier, Internal.VIRTUAL_THREADS);
+    }
+
+    /**
+     * Runs the supplier on the executor, which will also run every operation chained onto the result.
+     *
+     * @param supplier The supplier to run.
+     * @param executor The executor to run the supplier and its continuations on.
+     * @param <T>      The type returned by the supplier.
+     * @return a {@link TryFuture} that completes to the result of the supplier.
+     */
+    public static <T> TryFuture<T> of(ThrowingSupplier<T> supplier, Executor executor) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(executor);
+        return new TryFuture<>(CompletableFuture.supplyAsync(() -> Try.of(supplier), executor), executor);
+    }
+
+    /**
+     * Creates an already completed {@link TryFuture}, whose continuations run on virtual threads.
+     *
+     * @param t The result.
+     * @param <T> The type of the successful result.
+     * @return a completed {@link TryFuture}.
+     */
+    public static <T> TryFuture<T> fromTry(Try<T> t) {
+        return new TryFuture<>(CompletableFuture.completedFuture(Objects.requireNonNull(t)), Internal.VIRTUAL_THREADS);
+    }
+
+    /**
+     * Creates a {@link TryFuture} that completes successfully with the value.
+     */
+    public static <T> TryFuture<T> successful(T value) {
+        return fromTry(new Try.Success<>(value));
+    }
+
+    /**
+     * Creates a {@link TryFuture} that completes with a failure.
+     */
+    public static <T> TryFuture<T> failed(Throwable throwable) {
+        return fromTry(new Try.Failure<>(throwable));
+    }
+
+    /**
+     * Adapts a {@link CompletionStage}, such as a {@link CompletableFuture}, to a {@link TryFuture}. Exceptional
+     * completion becomes a {@link Try.Failure} holding the cause, unwrapped from any {@link CompletionException}.
+     *
+     * @param stage The stage to adapt.
+     * @param <T>   The type of the stage's result.
+     * @return a {@link TryFuture} that completes when the stage does.
+     */
+    public static <T> TryFuture<T> fromCompletionStage(CompletionStage<? extends T> stage) {
+        return new TryFuture<>(stage.<Try<T>>handle(TryFuture::complete).toCompletableFuture(), Internal.VIRTUAL_THREADS);
+    }
+
+    /**
+     * Asynchronously applies {@link Try#map(ThrowingFunction)} to the result.
+     */
+    public <T2> TryFuture<T2> map(ThrowingFunction<? super T, ? extends T2> mapper) {
+        Objects.requireNonNull(mapper);
+        return then(t -> t.map(mapper));
+    }
+
+    /**
+     * Asynchronously applies {@link Try#mapFailure(ThrowingFunction)} to the result.
+     */
+    public TryFuture<T> mapFailure(ThrowingFunction<? super Throwable, ? extends Throwable> mapper) {
+        Objects.requireNonNull(mapper);
+        return then(t -> t.mapFailure(mapper));
+    }
+
+    /**
+     * Applies the mapper to the successful value, and completes with the result of the {@link TryFuture} it returns.
+     * If the mapper throws a non-fatal exception, completes with a {@link Try.Failure} of it.
+     *
+     * @param mapper The mapper to apply.
+     * @param <T2>   The new value type.
+     * @return a new {@link TryFuture} with the mapper applied if the result is a success.
+     */
+    public <T2> TryFuture<T2> flatMap(ThrowingFunction<? super T, ? extends TryFuture<? extends T2>> mapper) {
+        Objects.requireNonNull(mapper);
+        return compose(t -> switch (t) {
+            case Try.Success(T v) -> mapper.apply(v);
+            case Try.Failure(var e) -> TryFuture.failed(e);
+        });
+    }
+
+    /**
+     * Applies the mapper to the failure, and completes with the result of the {@link TryFuture} it returns. If the
+     * mapper throws a non-fatal exception, completes with a {@link Try.Failure} of it.
+     *
+     * @param mapper The mapper to apply to the failure case.
+     * @return a new {@link TryFuture} with the mapper applied if the result is a failure.
+     */
+    public TryFuture<T> flatMapFailure(ThrowingFunction<? super Throwable, ? extends TryFuture<? extends T>> mapper) {
+        Objects.requireNonNull(mapper);
+        return compose(t -> switch (t) {
+            case Try.Success<T> s -> TryFuture.fromTry(s);
+            case Try.Failure(var e) -> mapper.apply(e);
+        });
+    }
+
+    /**
+     * Asynchronously applies {@link Try#filter(Predicate, Function)} to the result.
+     */
+    public TryFuture<T> filter(Predicate<? super T> predicate, Function<? super T, ? extends Throwable> failureMapper) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(failureMapper);
+        return then(t -> t.filter(predicate, failureMapper));
+    }
+
+    /**
+     * Asynchronously applies {@link Try#execute(ThrowingConsumer)} to the result.
+     */
+    public TryFuture<T> execute(ThrowingConsumer<? super T> consumer) {
+        Objects.requireNonNull(consumer);
+        return then(t -> t.execute(consumer));
+    }
+
+    /**
+     * Asynchronously applies {@link Try#executeOnFailure(ThrowingConsumer)} to the result.
+     */
+    public TryFuture<T> executeOnFailure(ThrowingConsumer<? super Throwable> consumer) {
+        Objects.requireNonNull(consumer);
+        return then(t -> t.executeOnFailure(consumer));
+    }
+
+    /**
+     * Waits for the result. If the {@link TryFuture} was cancelled, the result is a {@link Try.Failure} of a
+     * {@link CancellationException}.
+     *
+     * @return the result of the operation.
+     */
+    public Try<T> join() {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return new Try.Failure<>(Internal.throwIfFatal(e.getCause()));
+        } catch (CancellationException e) {
+            return new Try.Failure<>(e);
+        } catch (InterruptedException e) {
+            throw Internal.<RuntimeException>sneakyThrow(e);
+        }
+    }
+
+    /**
+     * Waits for the result for at most the timeout. If it isn't available by then, returns a {@link Try.Failure} of a
+     * {@link TimeoutException}, and the operation keeps running.
+     *
+     * @param timeout how long to wait.
+     * @return the result of the operation.
+     */
+    public Try<T> join(Duration timeout) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            return new Try.Failure<>(Internal.throwIfFatal(e.getCause()));
+        } catch (CancellationException | TimeoutException e) {
+            return new Try.Failure<>(e);
+        } catch (InterruptedException e) {
+            throw Internal.<RuntimeException>sneakyThrow(e);
+        }
+    }
+
+    /**
+     * Tests whether the result is available.
+     *
+     * @return true if the {@link TryFuture} has completed.
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Completes this {@link TryFuture} with a {@link Try.Failure} of a {@link CancellationException} if it hasn't
+     * completed yet. The running operation is not interrupted, but no further operations chained onto it will run.
+     *
+     * @return true if this call cancelled the {@link TryFuture}.
+     */
+    public boolean cancel() {
+        return future.cancel(false);
+    }
+
+    /**
+     * Converts this {@link TryFuture} to a {@link CompletableFuture}, which completes exceptionally with the
+     * {@link Throwable} of a {@link Try.Failure}.
+     *
+     * @return a new {@link CompletableFuture} of the successful value.
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        return future.thenApply(t -> t.orElseThrow(CompletionException::new));
+    }
+
+    @Override
+    public String toString() {
+        final Object state = switch (future.state()) {
+            case RUNNING -> "pending";
+            case SUCCESS -> future.resultNow();
+            case FAILED -> future.exceptionNow();
+            case CANCELLED -> "cancelled";
+        };
+        return "TryFuture[" + state + "]";
+    }
+
+    private <R> TryFuture<R> then(Function<Try<T>, Try<R>> f) {
+        return new TryFuture<>(future.thenApplyAsync(f, executor), executor);
+    }
+
+    private <R> TryFuture<R> compose(ThrowingFunction<Try<T>, ? extends TryFuture<? extends R>> f) {
+        return new TryFuture<>(future.thenComposeAsync(t -> {
+            try {
+                return narrow(Objects.requireNonNull(f.apply(t)).future);
+            } catch (Throwable e) {
+                return CompletableFuture.completedFuture(new Try.Failure<>(Internal.throwIfFatal(e)));
+            }
+        }, executor), executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<Try<T>> narrow(CompletableFuture<? extends Try<? extends T>> future) {
+        return (CompletableFuture<Try<T>>) future;
+    }
+
+    private static <T> Try<T> complete(T value, Throwable throwable) {
+        if (throwable == null) {
+            return new Try.Success<>(value);
+        }
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return new Try.Failure<>(Internal.throwIfFatal(cause));
+    }
+}
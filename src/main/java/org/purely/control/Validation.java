@@ -0,0 +1,534 @@
+package org.purely.control;
+
+import org.purely.Tuple;
+import org.purely.Tuple.*;
+import org.purely.annotations.Pure;
+import org.purely.collections.PureRrbVector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A Validation is the result of checking a value, which is either {@link Valid}, or {@link Invalid} with every error
+ * that was found. Unlike {@link Either} and {@link Try}, which stop at the first error, combining validations with
+ * {@link #zip(Validation, Validation)} or {@link #validate(Object, Iterable)} runs every check and accumulates all of
+ * their errors, so a caller can report everything that is wrong with an input at once:
+ * <pre>{@code
+ * record User(String name, int age) {
+ * }
+ *
+ * Validation<String, User> user = Validation.zip(validateName(name), validateAge(age))
+ *     .map(t -> new User(t.first(), t.second()));
+ * }</pre>
+ * Checks that depend on an earlier result can be chained with {@link #flatMap(Function)}, which stops at the first
+ * {@link Invalid} like {@link Either} does. When the checks are independent and expensive, such as ones that call out
+ * to other services, {@link #validateParallel(Object, Iterable)} runs them concurrently.
+ * <p>
+ * Errors are kept in a {@link PureRrbVector}, so that joining the errors of two validations is O(log N).
+ *
+ * @param <E> The error type.
+ * @param <A> The type of the valid value.
+ */
+@Pure
+public sealed interface Validation<E, A> {
+    /**
+     * Creates a {@link Valid} validation.
+     */
+    static <E, A> Validation<E, A> valid(A value) {
+        return new Valid<>(value);
+    }
+
+    /**
+     * Creates an {@link Invalid} validation with a single error.
+     */
+    static <E, A> Validation<E, A> invalid(E error) {
+        return new Invalid<>(PureRrbVector.of(error));
+    }
+
+    /**
+     * Converts an {@link Either}, where the {@link Either.Left} is an error and the {@link Either.Right} is a valid
+     * value, to a {@link Validation}.
+     */
+    static <E, A> Validation<E, A> fromEither(Either<? extends E, ? extends A> either) {
+        return switch (either) {
+            case Either.Left(var e) -> invalid(e);
+            case Either.Right(var v) -> valid(v);
+        };
+    }
+
+    /**
+     * Collects the values of a sequence of validations, accumulating the errors of every invalid one in order.
+     *
+     * @param validations The validations to collect.
+     * @return a {@link Valid} of the values in order, or an {@link Invalid} of all the errors.
+     */
+    static <E, A> Validation<E, PureRrbVector<A>> sequence(Iterable<? extends Validation<E, ? extends A>> validations) {
+        final List<A> values = new ArrayList<>();
+        PureRrbVector<E> errors = PureRrbVector.empty();
+        for (Validation<E, ? extends A> v : validations) {
+            switch (v) {
+                case Valid(var a) -> values.add(a);
+                case Invalid<E, ? extends A> i -> errors = errors.addAll(i.errors());
+            }
+        }
+        return errors.isEmpty() ? new Valid<>(PureRrbVector.from(values)) : new Invalid<>(errors);
+    }
+
+    /**
+     * Checks the value against every rule, in order, and accumulates the errors of all the rules that fail.
+     *
+     * @param value The value to check.
+     * @param rules The rules to check the value against. The valid results of the rules are ignored.
+     * @return a {@link Valid} of the value if every rule passed, or an {@link Invalid} of all the errors.
+     */
+    static <E, T> Validation<E, T> validate(T value,
+                                            Iterable<? extends Function<? super T, ? extends Validation<E, ?>>> rules) {
+        PureRrbVector<E> errors = PureRrbVector.empty();
+        for (Function<? super T, ? extends Validation<E, ?>> rule : rules) {
+            errors = errors.addAll(rule.apply(value).errors());
+        }
+        return errors.isEmpty() ? new Valid<>(value) : new Invalid<>(errors);
+    }
+
+    /**
+     * Same as {@link #validate(Object, Iterable)}, but runs each rule concurrently on its own virtual thread.
+     *
+     * @see #validateParallel(Object, Iterable, Executor)
+     */
+    static <E, T> Validation<E, T> validateParallel(T value,
+                                                    Iterable<? extends Function<? super T, ? extends Validation<E, ?>>> rules) {
+        return validateParallel(value, rules, Internal.VIRTUAL_THREADS);
+    }
+
+    /**
+     * Same as {@link #validate(Object, Iterable)}, but runs the rules concurrently on the executor. This pays off when
+     * the rules are independent and expensive, such as ones that perform I/O. The errors are still reported in the
+     * order of the rules, and if a rule throws, the exception is rethrown once every rule has completed.
+     *
+     * @param value    The value to check.
+     * @param rules    The rules to check the value against. The valid results of the rules are ignored.
+     * @param executor The executor to run the rules on.
+     * @return a {@link Valid} of the value if every rule passed, or an {@link Invalid} of all the errors.
+     */
+    static <E, T> Validation<E, T> validateParallel(T value,
+                                                    Iterable<? extends Function<? super T, ? extends Validation<E, ?>>> rules,
+                                                    Executor executor) {
+        Objects.requireNonNull(executor);
+        final List<CompletableFuture<? extends Validation<E, ?>>> results = new ArrayList<>();
+        for (Function<? super T, ? extends Validation<E, ?>> rule : rules) {
+            results.add(CompletableFuture.supplyAsync(() -> rule.apply(value), executor));
+        }
+        try {
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw Internal.<RuntimeException>sneakyThrow(e.getCause() != null ? e.getCause() : e);
+        }
+        PureRrbVector<E> errors = PureRrbVector.empty();
+        for (CompletableFuture<? extends Validation<E, ?>> result : results) {
+            errors = errors.addAll(result.resultNow().errors());
+        }
+        return errors.isEmpty() ? new Valid<>(value) : new Invalid<>(errors);
+    }
+
+    /**
+     * Combines 2 validations, accumulating the errors of every invalid one in order.
+     *
+     * @return a {@link Valid} of all 2 values, or an {@link Invalid} of all of their errors.
+     */
+    static <E, T1, T2> Validation<E, Tuple2<T1, T2>> zip(Validation<E, T1> v1, Validation<E, T2> v2) {
+        final PureRrbVector<E> errors = errorsOf(v1, v2);
+        if (!errors.isEmpty()) {
+            return new Invalid<>(errors);
+        }
+        return new Valid<>(Tuple.of(valueOf(v1), valueOf(v2)));
+    }
+
+    /**
+     * Combines 3 validations, accumulating the errors of every invalid one in order.
+     *
+     * @return a {@link Valid} of all 3 values, or an {@link Invalid} of all of their errors.
+     */
+    static <E, T1, T2, T3> Validation<E, Tuple3<T1, T2, T3>> zip(Validation<E, T1> v1,
+                                                                 Validation<E, T2> v2,
+                                                                 Validation<E, T3> v3) {
+        final PureRrbVector<E> errors = errorsOf(v1, v2, v3);
+        if (!errors.isEmpty()) {
+            return new Invalid<>(errors);
+        }
+        return new Valid<>(Tuple.of(valueOf(v1), valueOf(v2), valueOf(v3)));
+    }
+
+    /**
+     * Combines 4 validations, accumulating the errors of every invalid one in order.
+     *
+     * @return a {@link Valid} of all 4 values, or an {@link Invalid} of all of their errors.
+     */
+    static <E, T1, T2, T3, T4> Validation<E, Tuple4<T1, T2, T3, T4>> zip(Validation<E, T1> v1,
+                                                                         Validation<E, T2> v2,
+                                                                         Validation<E, T3> v3,
+                                                                         Validation<E, T4> v4) {
+        final PureRrbVector<E> errors = errorsOf(v1, v2, v3, v4);
+        if (!errors.isEmpty()) {
+            return new Invalid<>(errors);
+        }
+        return new Valid<>(Tuple.of(valueOf(v1), valueOf(v2), valueOf(v3), valueOf(v4)));
+    }
+
+    /**
+     * Combines 5 validations, accumulating the errors of every invalid one in order.
+     *
+     * @return a {@link Valid} of all 5 values, or an {@link Invalid} of all of their errors.
+     */
+    static <E, T1, T2, T3, T4, T5> Validation<E, Tuple5<T1, T2, T3, T4, T5>> zip(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Validation<E, T5> v5) {
+        final PureRrbVector<E> errors = errorsOf(v1, v2, v3, v4, v5);
+        if (!errors.isEmpty()) {
+            return new Invalid<>(errors);
+        }
+        return new Valid<>(Tuple.of(valueOf(v1), valueOf(v2), valueOf(v3), valueOf(v4), valueOf(v5)));
+    }
+
+    /**
+     * Combines 6 validations, accumulating the errors of every invalid one in order.
+     *
+     * @return a {@link Valid} of all 6 values, or an {@link Invalid} of all of their errors.
+     */
+    static <E, T1, T2, T3, T4, T5, T6> Validation<E, Tuple6<T1, T2, T3, T4, T5, T6>> zip(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Validation<E, T5> v5,
+            Validation<E, T6> v6) {
+        final PureRrbVector<E> errors = errorsOf(v1, v2, v3, v4, v5, v6);
+        if (!errors.isEmpty()) {
+            return new Invalid<>(errors);
+        }
+        return new Valid<>(Tuple.of(valueOf(v1), valueOf(v2), valueOf(v3), valueOf(v4), valueOf(v5), valueOf(v6)));
+    }
+
+    /**
+     * Combines 7 validations, accumulating the errors of every invalid one in order.
+     *
+     * @return a {@link Valid} of all 7 values, or an {@link Invalid} of all of their errors.
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7> Validation<E, Tuple7<T1, T2, T3, T4, T5, T6, T7>> zip(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Validation<E, T5> v5,
+            Validation<E, T6> v6,
+            Validation<E, T7> v7) {
+        final PureRrbVector<E> errors = errorsOf(v1, v2, v3, v4, v5, v6, v7);
+        if (!errors.isEmpty()) {
+            return new Invalid<>(errors);
+        }
+        return new Valid<>(Tuple.of(
+                valueOf(v1),
+                valueOf(v2),
+                valueOf(v3),
+                valueOf(v4),
+                valueOf(v5),
+                valueOf(v6),
+                valueOf(v7)));
+    }
+
+    /**
+     * Combines 8 validations, accumulating the errors of every invalid one in order.
+     *
+     * @return a {@link Valid} of all 8 values, or an {@link Invalid} of all of their errors.
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8> Validation<E, Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> zip(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Validation<E, T5> v5,
+            Validation<E, T6> v6,
+            Validation<E, T7> v7,
+            Validation<E, T8> v8) {
+        final PureRrbVector<E> errors = errorsOf(v1, v2, v3, v4, v5, v6, v7, v8);
+        if (!errors.isEmpty()) {
+            return new Invalid<>(errors);
+        }
+        return new Valid<>(Tuple.of(
+                valueOf(v1),
+                valueOf(v2),
+                valueOf(v3),
+                valueOf(v4),
+                valueOf(v5),
+                valueOf(v6),
+                valueOf(v7),
+                valueOf(v8)));
+    }
+
+    /**
+     * Combines 9 validations, accumulating the errors of every invalid one in order.
+     *
+     * @return a {@link Valid} of all 9 values, or an {@link Invalid} of all of their errors.
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9> Validation<E, Tuple9<T1, T2, T3, T4, T5, T6, T7, T8, T9>> zip(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Validation<E, T5> v5,
+            Validation<E, T6> v6,
+            Validation<E, T7> v7,
+            Validation<E, T8> v8,
+            Validation<E, T9> v9) {
+        final PureRrbVector<E> errors = errorsOf(v1, v2, v3, v4, v5, v6, v7, v8, v9);
+        if (!errors.isEmpty()) {
+            return new Invalid<>(errors);
+        }
+        return new Valid<>(Tuple.of(
+                valueOf(v1),
+                valueOf(v2),
+                valueOf(v3),
+                valueOf(v4),
+                valueOf(v5),
+                valueOf(v6),
+                valueOf(v7),
+                valueOf(v8),
+                valueOf(v9)));
+    }
+
+    /**
+     * Combines 10 validations, accumulating the errors of every invalid one in order.
+     *
+     * @return a {@link Valid} of all 10 values, or an {@link Invalid} of all of their errors.
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> Validation<E, Tuple10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10>> zip(
+            Validation<E, T1> v1,
+            Validation<E, T2> v2,
+            Validation<E, T3> v3,
+            Validation<E, T4> v4,
+            Validation<E, T5> v5,
+            Validation<E, T6> v6,
+            Validation<E, T7> v7,
+            Validation<E, T8> v8,
+            Validation<E, T9> v9,
+            Validation<E, T10> v10) {
+        final PureRrbVector<E> errors = errorsOf(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+        if (!errors.isEmpty()) {
+            return new Invalid<>(errors);
+        }
+        return new Valid<>(Tuple.of(
+                valueOf(v1),
+                valueOf(v2),
+                valueOf(v3),
+                valueOf(v4),
+                valueOf(v5),
+                valueOf(v6),
+                valueOf(v7),
+                valueOf(v8),
+                valueOf(v9),
+                valueOf(v10)));
+    }
+
+    /**
+     * Tests whether the validation is {@link Valid}.
+     *
+     * @return true if the validation is {@link Valid}, otherwise false.
+     */
+    default boolean isValid() {
+        return this instanceof Valid<E, A>;
+    }
+
+    /**
+     * Tests whether the validation is {@link Invalid}.
+     *
+     * @return true if the validation is {@link Invalid}, otherwise false.
+     */
+    default boolean isInvalid() {
+        return !isValid();
+    }
+
+    /**
+     * Retrieves the valid value, if present.
+     *
+     * @return an {@link Optional} containing the value if {@link Valid}, otherwise an empty {@link Optional}.
+     */
+    default Optional<A> toOptional() {
+        return switch (this) {
+            case Valid(A v) -> Optional.of(v);
+            case Invalid<E, A> i -> Optional.empty();
+        };
+    }
+
+    /**
+     * Retrieves the errors of the validation, which are empty if it is {@link Valid}.
+     *
+     * @return the errors in the order they were found.
+     */
+    default PureRrbVector<E> errors() {
+        return PureRrbVector.empty();
+    }
+
+    /**
+     * Applies the mapper to the value if {@link Valid}.
+     *
+     * @param mapper The mapper to apply to the valid value.
+     * @param <A2>   The new value type.
+     * @return a new {@link Validation} with the mapper applied if {@link Valid}, otherwise the same errors.
+     */
+    default <A2> Validation<E, A2> map(Function<? super A, ? extends A2> mapper) {
+        Objects.requireNonNull(mapper);
+        return switch (this) {
+            case Valid(A v) -> new Valid<>(mapper.apply(v));
+            case Invalid<E, A> i -> i.coerce();
+        };
+    }
+
+    /**
+     * Applies the mapper to each error if {@link Invalid}.
+     *
+     * @param mapper The mapper to apply to each error.
+     * @param <E2>   The new error type.
+     * @return a new {@link Validation} with the mapper applied to every error if {@link Invalid}, otherwise the same
+     * value.
+     */
+    default <E2> Validation<E2, A> mapErrors(Function<? super E, ? extends E2> mapper) {
+        Objects.requireNonNull(mapper);
+        return switch (this) {
+            case Valid(A v) -> new Valid<>(v);
+            case Invalid(var errors) -> new Invalid<>(PureRrbVector.from(errors.stream().<E2>map(mapper).toList()));
+        };
+    }
+
+    /**
+     * Applies a further check to the value if {@link Valid}. Since the check depends on the value, it can't run when
+     * this validation is {@link Invalid}, so unlike {@link #zip(Validation)}, this stops at the first
+     * {@link Invalid}.
+     *
+     * @param mapper The check to apply to the valid value.
+     * @param <A2>   The new value type.
+     * @return the result of the check if {@link Valid}, otherwise the same errors.
+     */
+    default <A2> Validation<E, A2> flatMap(Function<? super A, ? extends Validation<E, ? extends A2>> mapper) {
+        Objects.requireNonNull(mapper);
+        return switch (this) {
+            case Valid(A v) -> Validation.<E, A2>narrow(mapper.apply(v));
+            case Invalid<E, A> i -> i.coerce();
+        };
+    }
+
+    /**
+     * Combines this validation with another, accumulating the errors of both.
+     *
+     * @param other The other validation.
+     * @param <B>   The other value type.
+     * @return a {@link Valid} of both values, or an {@link Invalid} of the errors of both.
+     */
+    default <B> Validation<E, Tuple2<A, B>> zip(Validation<E, B> other) {
+        return Validation.zip(this, other);
+    }
+
+    /**
+     * Combines this validation with another using the combiner, accumulating the errors of both.
+     *
+     * @param other    The other validation.
+     * @param combiner Combines the two values if both are {@link Valid}.
+     * @param <B>      The other value type.
+     * @param <C>      The combined value type.
+     * @return a {@link Valid} of the combined value, or an {@link Invalid} of the errors of both.
+     */
+    default <B, C> Validation<E, C> combine(Validation<E, B> other, BiFunction<? super A, ? super B, ? extends C> combiner) {
+        Objects.requireNonNull(combiner);
+        return zip(other).map(t -> combiner.apply(t.first(), t.second()));
+    }
+
+    /**
+     * Reduces the validation to a single value.
+     *
+     * @param invalidFunction Applied to the errors if {@link Invalid}.
+     * @param validFunction   Applied to the value if {@link Valid}.
+     * @param <T>             The result type.
+     * @return the result of whichever function was applied.
+     */
+    default <T> T fold(Function<? super PureRrbVector<E>, ? extends T> invalidFunction,
+                       Function<? super A, ? extends T> validFunction) {
+        return switch (this) {
+            case Valid(A v) -> validFunction.apply(v);
+            case Invalid(var errors) -> invalidFunction.apply(errors);
+        };
+    }
+
+    /**
+     * Converts the validation to an {@link Either}, where the {@link Either.Left} holds the errors and the
+     * {@link Either.Right} holds the valid value.
+     *
+     * @return a new {@link Either}.
+     */
+    default Either<PureRrbVector<E>, A> toEither() {
+        return switch (this) {
+            case Valid(A v) -> new Either.Right<>(v);
+            case Invalid(var errors) -> new Either.Left<>(errors);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E, A> Validation<E, A> narrow(Validation<E, ? extends A> validation) {
+        return (Validation<E, A>) validation;
+    }
+
+    @SafeVarargs
+    private static <E> PureRrbVector<E> errorsOf(Validation<E, ?>... validations) {
+        PureRrbVector<E> ret = PureRrbVector.empty();
+        for (Validation<E, ?> v : validations) {
+            ret = ret.addAll(v.errors());
+        }
+        return ret;
+    }
+
+    private static <A> A valueOf(Validation<?, A> validation) {
+        return ((Valid<?, A>) validation).value();
+    }
+
+    /**
+     * A validation that passed.
+     *
+     * @param value The valid value.
+     * @param <E>   The error type.
+     * @param <A>   The type of the valid value.
+     */
+    @Pure
+    record Valid<E, A>(A value) implements Validation<E, A> {
+        public Valid {
+            Objects.requireNonNull(value);
+        }
+    }
+
+    /**
+     * A validation that failed with one or more errors.
+     *
+     * @param errors The errors, in the order they were found.
+     * @param <E>    The error type.
+     * @param <A>    The type of the valid value.
+     */
+    @Pure
+    record Invalid<E, A>(PureRrbVector<E> errors) implements Validation<E, A> {
+        public Invalid {
+            if (errors.isEmpty()) {
+                throw new IllegalArgumentException("Invalid must contain at least one error");
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <A2> Invalid<E, A2> coerce() {
+            return (Invalid<E, A2>) this;
+        }
+    }
+}
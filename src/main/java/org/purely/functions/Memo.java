@@ -0,0 +1,187 @@
+package org.purely.functions;
+
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+import org.purely.control.Try;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A Memo is a function that remembers its results. A method marked {@link org.purely.annotations.Pure} always returns
+ * the same result for the same arguments, so once it's been computed for an argument, it never needs to be computed
+ * again:
+ * <pre>{@code
+ * Memo<Path, Checksum> checksum = Memo.of(Checksums::compute, 10_000);
+ * }</pre>
+ * Results are kept in a bounded cache, which evicts the least recently used results once it holds more than its
+ * maximum size, or more than its maximum weight when each result is weighed by a function. The cache is safe to use
+ * from many threads, and when several threads ask for the same missing argument at once, the function is only called
+ * once and every thread gets its result. {@link #stats()} reports how often results were found in the cache.
+ * <p>
+ * Functions of several arguments can be memoized by keying the cache on a {@link Tuple} of the arguments, which
+ * {@link #of(BiFunction, long)} does for two.
+ * <p>
+ * Arguments and results cannot be null, and the function must not call the same {@link Memo} with the argument it's
+ * computing.
+ *
+ * @param <K> The argument type.
+ * @param <V> The result type.
+ */
+public final class Memo<K, V> implements Function<K, V> {
+    private final MemoCache<K, ?> cache;
+    private final Function<K, V> lookup;
+
+    private Memo(MemoCache<K, ?> cache, Function<K, V> lookup) {
+        this.cache = cache;
+        this.lookup = lookup;
+    }
+
+    /**
+     * Memoizes a function, keeping at most {@code maximumSize} results.
+     *
+     * @param function    The function to memoize.
+     * @param maximumSize The number of results to keep.
+     * @param <K>         The argument type.
+     * @param <V>         The result type.
+     * @return the memoized function.
+     */
+    public static <K, V> Memo<K, V> of(Function<? super K, ? extends V> function, long maximumSize) {
+        return of(function, maximumSize, (k, v) -> 1);
+    }
+
+    /**
+     * Memoizes a function, keeping results while their total weight is at most {@code maximumWeight}.
+     *
+     * @param function      The function to memoize.
+     * @param maximumWeight The total weight of results to keep.
+     * @param weigher       Computes the weight of a result, which cannot be negative.
+     * @param <K>           The argument type.
+     * @param <V>           The result type.
+     * @return the memoized function.
+     */
+    public static <K, V> Memo<K, V> of(Function<? super K, ? extends V> function,
+                                       long maximumWeight,
+                                       ToLongBiFunction<? super K, ? super V> weigher) {
+        Objects.requireNonNull(function);
+        final MemoCache<K, V> cache = new MemoCache<>(maximumWeight, weigher);
+        return new Memo<>(cache, k -> {
+            try {
+                return cache.get(k, function::apply);
+            } catch (Throwable e) {
+                throw Memo.<RuntimeException>sneakyThrow(e);
+            }
+        });
+    }
+
+    /**
+     * Memoizes a function of two arguments, keyed by a {@link Tuple2} of them, keeping at most {@code maximumSize}
+     * results.
+     *
+     * @param function    The function to memoize.
+     * @param maximumSize The number of results to keep.
+     * @return the memoized function.
+     */
+    public static <T1, T2, V> Memo<Tuple2<T1, T2>, V> of(BiFunction<? super T1, ? super T2, ? extends V> function,
+                                                         long maximumSize) {
+        Objects.requireNonNull(function);
+        return of(t -> function.apply(t.first(), t.second()), maximumSize);
+    }
+
+    /**
+     * Memoizes a function that may throw, keeping at most {@code maximumSize} successful results. Failures are returned
+     * as a {@link Try.Failure}, the same way {@link Try#of(ThrowingSupplier)} does, but are not kept, so the next call
+     * with the same argument calls the function again.
+     *
+     * @param function    The function to memoize.
+     * @param maximumSize The number of successful results to keep.
+     * @param <K>         The argument type.
+     * @param <V>         The successful result type.
+     * @return the memoized function.
+     */
+    public static <K, V> Memo<K, Try<V>> ofThrowing(ThrowingFunction<? super K, ? extends V> function,
+                                                    long maximumSize) {
+        Objects.requireNonNull(function);
+        final MemoCache<K, V> cache = new MemoCache<>(maximumSize, (k, v) -> 1);
+        return new Memo<>(cache, k -> Try.of(() -> cache.get(k, function)));
+    }
+
+    /**
+     * Returns the result for the argument, from the cache if it's there, and otherwise by calling the function.
+     */
+    @Override
+    public V apply(K key) {
+        return lookup.apply(key);
+    }
+
+    /**
+     * Removes the result for the argument from the cache, if there is one.
+     */
+    public void invalidate(K key) {
+        cache.invalidate(Objects.requireNonNull(key));
+    }
+
+    /**
+     * Removes every result from the cache.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     *
+     * @return the number of results in the cache, including ones still being computed.
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     *
+     * @return the total weight of the results in the cache, which is their number if no weigher was given.
+     */
+    public long weight() {
+        return cache.weight();
+    }
+
+    /**
+     * runtime and space complexity: O(1)
+     *
+     * @return a snapshot of the cache statistics.
+     */
+    public Stats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public String toString() {
+        return "Memo[size=" + size() + ", " + stats() + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+
+    /**
+     * Statistics of a {@link Memo}'s cache.
+     *
+     * @param hits      The number of calls answered from the cache, including calls that waited for another thread to
+     *                  compute the same result.
+     * @param misses    The number of calls to the function.
+     * @param evictions The number of results removed to stay within the maximum size or weight.
+     */
+    public record Stats(long hits, long misses, long evictions) {
+        /**
+         * @return the fraction of calls answered from the cache, or 1 if there have been no calls.
+         */
+        public double hitRate() {
+            final long requests = hits + misses;
+            return requests == 0 ? 1.0 : (double) hits / requests;
+        }
+    }
+}
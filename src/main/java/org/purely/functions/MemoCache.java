@@ -0,0 +1,202 @@
+package org.purely.functions;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * The bounded, concurrent cache behind {@link Memo}.
+ * <p>
+ * Lookups go through a {@link ConcurrentHashMap}, so a hit never blocks. The first caller to miss on a key installs a
+ * pending {@link Node} for it and computes the value, and every other caller asking for the same key meanwhile waits
+ * for that one computation instead of starting its own. A computation that throws is removed again, and the exception
+ * is rethrown to every caller that waited on it.
+ * <p>
+ * Eviction is least recently used, by total weight. Computed entries are kept in a doubly linked list in access order,
+ * guarded by a lock. A hit only moves its entry to the back of the list if it can take the lock without waiting, so
+ * under heavy contention the order is approximate, but hits stay lock-free.
+ */
+final class MemoCache<K, V> {
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Node<K, V> sentinel = new Node<>(null);
+    private final long maximumWeight;
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long weight;
+
+    MemoCache(long maximumWeight, ToLongBiFunction<? super K, ? super V> weigher) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("maximum weight cannot be negative");
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+    }
+
+    /**
+     * Returns the value for the key, computing it with the function if it isn't cached or being computed already.
+     */
+    V get(K key, ThrowingFunction<? super K, ? extends V> function) throws Throwable {
+        Objects.requireNonNull(key, "Memo cannot cache null keys");
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            final Node<K, V> created = new Node<>(key);
+            node = map.putIfAbsent(key, created);
+            if (node == null) {
+                misses.increment();
+                return compute(created, function);
+            }
+        }
+
+        final V value = node.value;
+        if (value != null) {
+            hits.increment();
+            touch(node);
+            return value;
+        }
+        if (node.owner == Thread.currentThread()) {
+            throw new IllegalStateException("recursive computation of key " + key);
+        }
+        try {
+            final V awaited = node.result.join();
+            hits.increment();
+            return awaited;
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    void invalidate(K key) {
+        final Node<K, V> node = map.remove(key);
+        if (node != null) {
+            lock.lock();
+            try {
+                unlink(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    void invalidateAll() {
+        for (K key : map.keySet()) {
+            invalidate(key);
+        }
+    }
+
+    long size() {
+        return map.size();
+    }
+
+    long weight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Memo.Stats stats() {
+        return new Memo.Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private V compute(Node<K, V> node, ThrowingFunction<? super K, ? extends V> function) throws Throwable {
+        final V value;
+        final long w;
+        try {
+            value = Objects.requireNonNull(function.apply(node.key), "Memo cannot cache null values");
+            w = weigher.applyAsLong(node.key, value);
+            if (w < 0) {
+                throw new IllegalArgumentException("weight cannot be negative");
+            }
+        } catch (Throwable e) {
+            map.remove(node.key, node);
+            node.owner = null;
+            node.result.completeExceptionally(e);
+            throw e;
+        }
+
+        node.weight = w;
+        node.value = value;
+        node.owner = null;
+        node.result.complete(value);
+        admit(node);
+        return value;
+    }
+
+    private void admit(Node<K, V> node) {
+        lock.lock();
+        try {
+            if (map.get(node.key) != node) {
+                // invalidated while it was being computed
+                return;
+            }
+            node.prev = sentinel.prev;
+            node.next = sentinel;
+            sentinel.prev.next = node;
+            sentinel.prev = node;
+            weight += node.weight;
+            while (weight > maximumWeight) {
+                final Node<K, V> eldest = sentinel.next;
+                map.remove(eldest.key, eldest);
+                unlink(eldest);
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void touch(Node<K, V> node) {
+        if (lock.tryLock()) {
+            try {
+                if (node.next != null && node.next != sentinel) {
+                    node.prev.next = node.next;
+                    node.next.prev = node.prev;
+                    node.prev = sentinel.prev;
+                    node.next = sentinel;
+                    sentinel.prev.next = node;
+                    sentinel.prev = node;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes a node from the access order, if it's in it. Must be called holding the lock.
+     */
+    private void unlink(Node<K, V> node) {
+        if (node.next != null) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+            weight -= node.weight;
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private volatile Thread owner = Thread.currentThread();
+        private volatile V value;
+        private long weight;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.purely;
 
 import org.junit.jupiter.api.Test;
+import org.purely.collections.PureRrbVector;
 import org.purely.control.Either;
 import org.purely.control.Either.Left;
 import org.purely.control.Either.Right;
@@ -9,6 +10,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -151,4 +154,29 @@ class EitherTest {
                 i -> new Right<>(i + "!")
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    void partitioning() {
+        final List<Either<String, Integer>> values = List.of(
+                new Left<>("a"), new Right<>(1), new Right<>(2), new Left<>("b"), new Right<>(3));
+        final Tuple.Tuple2<PureRrbVector<String>, PureRrbVector<Integer>> result =
+                values.stream().collect(Either.partitioning());
+        assertEquals(Tuple.of(PureRrbVector.of("a", "b"), PureRrbVector.of(1, 2, 3)), result);
+        assertEquals(Tuple.of(2L, 3L), values.stream().collect(Either.counting()));
+
+        final var empty = Stream.<Either<String, Integer>>empty().collect(Either.partitioning());
+        assertEquals(Tuple.of(PureRrbVector.empty(), PureRrbVector.empty()), empty);
+    }
+
+    @Test
+    void partitioningParallel() {
+        final var result = IntStream.range(0, 100_000).boxed().parallel()
+                .<Either<Integer, Integer>>map(i -> i % 3 == 0 ? new Left<>(i) : new Right<>(i))
+                .collect(Either.partitioning());
+        assertEquals(IntStream.range(0, 100_000).filter(i -> i % 3 == 0).boxed().toList(), result.first().stream().toList());
+        assertEquals(IntStream.range(0, 100_000).filter(i -> i % 3 != 0).boxed().toList(), result.second().stream().toList());
+        assertEquals(Tuple.of(33_334L, 66_666L), IntStream.range(0, 100_000).boxed().parallel()
+                .<Either<Integer, Integer>>map(i -> i % 3 == 0 ? new Left<>(i) : new Right<>(i))
+                .collect(Either.counting()));
+    }
+}
@@ -0,0 +1,62 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MembershipTest {
+    private static final int LARGE = 100_000;
+
+    private static final PureVector<Integer> SMALL = PureVector.of(1, 2, 3);
+    private static final PureVector<Integer> BIG = PureVector.from(IntStream.range(0, LARGE).boxed().toList());
+
+    @Test
+    void in() {
+        final List<Integer> evens = IntStream.range(0, LARGE).filter(i -> i % 2 == 0).boxed().toList();
+        final Iterable<Integer> once = oneShot(evens);
+
+        // scanned, hashed argument, hashed receiver, set and single-use iterable
+        for (var i : List.of(List.of(2, 4), evens, IntStream.range(0, 4 * LARGE).filter(x -> x % 2 == 0).boxed().toList(),
+                new HashSet<>(evens), once)) {
+            final var matches = Membership.in(i, BIG);
+            assertTrue(matches.test(2));
+            assertFalse(matches.test(3));
+        }
+    }
+
+    @Test
+    void containsAll() {
+        final List<Integer> half = IntStream.range(0, LARGE / 2).boxed().toList();
+        assertTrue(BIG.containsAll(half));
+        assertTrue(BIG.containsAll(oneShot(half)));
+        assertTrue(BIG.containsAll(IntStream.range(0, LARGE).map(i -> LARGE - 1 - i).boxed().toList()));
+        assertFalse(BIG.containsAll(IntStream.range(1, LARGE + 1).boxed().toList()));
+        assertFalse(BIG.containsAll(IntStream.range(0, 2 * LARGE).boxed().toList()));
+        assertTrue(SMALL.containsAll(List.of(3, 1)));
+        assertFalse(SMALL.containsAll(List.of(3, 4)));
+        assertTrue(SMALL.containsAll(List.of()));
+        assertTrue(PureHashSet.from(half).containsAll(List.of(1, 2)));
+    }
+
+    @Test
+    void bulkOperationsOnLargeCollections() {
+        final List<Integer> evens = IntStream.range(0, LARGE).filter(i -> i % 2 == 0).boxed().toList();
+        final List<Integer> odds = IntStream.range(0, LARGE).filter(i -> i % 2 == 1).boxed().toList();
+        assertEquals(odds, BIG.removeAll(evens).stream().toList());
+        assertEquals(evens, BIG.retainAll(evens).stream().toList());
+        assertEquals(odds, PureLinkedList.from(BIG).removeAll(evens).stream().toList());
+        assertEquals(evens, PureRrbVector.from(BIG).retainAll(evens).stream().toList());
+        assertEquals(evens, PureDeque.from(BIG).retainAll(evens).stream().toList());
+        assertEquals(odds, PureQueue.from(BIG).removeAll(evens).stream().toList());
+        assertEquals(PureHashSet.from(evens), PureHashSet.from(BIG).retainAll(evens));
+    }
+
+    private static <T> Iterable<T> oneShot(List<T> list) {
+        final var it = list.iterator();
+        return () -> it;
+    }
+}
@@ -0,0 +1,97 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureDequeTest {
+
+    private static PureDeque<Integer> range(int from, int to) {
+        return PureDeque.from(IntStream.range(from, to).boxed().toList());
+    }
+
+    @Test
+    void ends() {
+        final var random = new Random(3);
+        final Deque<Integer> expected = new ArrayDeque<>();
+        PureDeque<Integer> deque = PureDeque.empty();
+        for (int i = 0; i < 20_000; i++) {
+            switch (random.nextInt(6)) {
+                case 0, 1 -> {
+                    deque = deque.addFirst(i);
+                    expected.addFirst(i);
+                }
+                case 2, 3 -> {
+                    deque = deque.addLast(i);
+                    expected.addLast(i);
+                }
+                case 4 -> {
+                    assertEquals(Optional.ofNullable(expected.pollFirst()), deque.removeFirst().map(r -> r.first()));
+                    deque = deque.removeFirst().map(r -> r.second()).orElse(deque);
+                }
+                default -> {
+                    assertEquals(Optional.ofNullable(expected.pollLast()), deque.removeLast().map(r -> r.first()));
+                    deque = deque.removeLast().map(r -> r.second()).orElse(deque);
+                }
+            }
+            assertEquals(expected.size(), deque.size());
+            assertEquals(Optional.ofNullable(expected.peekFirst()), deque.getFirst());
+            assertEquals(Optional.ofNullable(expected.peekLast()), deque.getLast());
+        }
+        assertEquals(List.copyOf(expected), deque.stream().toList());
+    }
+
+    @Test
+    void getAndSet() {
+        final var deque = range(0, 10_000);
+        for (int i = 0; i < deque.size(); i++) {
+            assertEquals(Optional.of(i), deque.get(i));
+        }
+        final var updated = deque.set(5000, -1).orElseThrow();
+        assertEquals(5000, updated.first());
+        assertEquals(Optional.of(-1), updated.second().get(5000));
+        assertEquals(Optional.of(5000), deque.get(5000));
+        assertEquals(Optional.empty(), deque.get(10_000));
+    }
+
+    @Test
+    void splitAndConcat() {
+        final var deque = range(0, 5000);
+        for (int idx : new int[]{0, 1, 3, 4, 5, 17, 2500, 4999, 5000}) {
+            final var halves = deque.splitAt(idx).orElseThrow();
+            assertEquals(IntStream.range(0, idx).boxed().toList(), halves.first().stream().toList());
+            assertEquals(IntStream.range(idx, 5000).boxed().toList(), halves.second().stream().toList());
+            assertEquals(deque, halves.first().addAll(halves.second()));
+        }
+        assertEquals(Optional.empty(), deque.splitAt(5001));
+        assertEquals(IntStream.range(10, 4000).boxed().toList(), deque.subList(10, 4000).orElseThrow().stream().toList());
+    }
+
+    @Test
+    void insertAndRemove() {
+        final var random = new Random(11);
+        final List<Integer> expected = new ArrayList<>();
+        PureDeque<Integer> deque = PureDeque.empty();
+        for (int i = 0; i < 3000; i++) {
+            final int idx = random.nextInt(expected.size() + 1);
+            expected.add(idx, i);
+            deque = deque.add(idx, i).orElseThrow();
+        }
+        assertEquals(expected, deque.stream().toList());
+        while (!expected.isEmpty()) {
+            final int idx = random.nextInt(expected.size());
+            final var result = deque.remove(idx).orElseThrow();
+            assertEquals(expected.remove(idx), result.first());
+            deque = result.second();
+        }
+        assertTrue(deque.isEmpty());
+    }
+}
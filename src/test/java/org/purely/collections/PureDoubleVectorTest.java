@@ -0,0 +1,60 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.stream.IntStream;
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureDoubleVectorTest {
+    private static final int LARGE = 40_000;
+
+    @Test
+    void addLastAndRemoveLast() {
+        PureDoubleVector vector = PureDoubleVector.empty();
+        for (int i = 0; i < LARGE; i++) {
+            vector = vector.addLast(i);
+        }
+        assertEquals(LARGE, vector.size());
+        assertEquals(OptionalDouble.of(1234), vector.get(1234));
+        for (int i = LARGE - 1; i >= 0; i--) {
+            assertEquals(OptionalDouble.of(i), vector.getLast());
+            vector = vector.removeLast().orElseThrow();
+        }
+        assertEquals(PureDoubleVector.empty(), vector);
+    }
+
+    @Test
+    void indexedOperations() {
+        final var vector = PureDoubleVector.of(1, 2, 4);
+        assertEquals(Optional.of(PureDoubleVector.of(1, 2, 3, 4)), vector.add(2, 3));
+        assertEquals(Optional.of(PureDoubleVector.of(1, 4)), vector.removeAt(1));
+        assertEquals(Optional.of(PureDoubleVector.of(1, 9, 4)), vector.set(1, 9));
+        assertEquals(Optional.of(PureDoubleVector.of(2, 4)), vector.subList(1, 3));
+        assertEquals(PureDoubleVector.of(4, 2, 1), vector.reversed());
+        assertEquals(OptionalDouble.of(2), vector.indexOf(4));
+    }
+
+    @Test
+    void conversions() {
+        final var vector = PureDoubleVector.from(IntStream.range(0, LARGE).asDoubleStream());
+        assertArrayEquals(IntStream.range(0, LARGE).asDoubleStream().toArray(), vector.toArray());
+        assertEquals(vector.stream().sum(), vector.parallelStream().sum());
+        assertEquals(vector, PureDoubleVector.from(vector.boxed()));
+        assertEquals(vector.boxed().hashCode(), vector.hashCode());
+        assertEquals(PureDoubleVector.from(DoubleStream.of(2, 4, 6)), PureDoubleVector.of(1, 2, 3).map(x -> x * 2));
+        assertEquals(6, PureDoubleVector.of(1, 2, 3).fold(0, Double::sum));
+    }
+
+    @Test
+    void equalityMatchesBoxedDoubles() {
+        final var vector = PureDoubleVector.of(0.0, Double.NaN);
+        assertTrue(vector.contains(Double.NaN));
+        assertFalse(vector.contains(-0.0));
+        assertNotEquals(PureDoubleVector.of(-0.0, Double.NaN), vector);
+        assertEquals(PureDoubleVector.of(0.0, Double.NaN), vector);
+    }
+}
@@ -0,0 +1,132 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureHashMapTest {
+    private static final int LARGE = 40_000;
+
+    /**
+     * A key whose hash code is chosen by the test, to force full hash collisions.
+     */
+    private record Collider(int id, int hash) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @Test
+    void putAndGet() {
+        PureHashMap<Integer, String> map = PureHashMap.empty();
+        for (int i = 0; i < LARGE; i++) {
+            map = map.put(i, Integer.toString(i));
+        }
+        assertEquals(LARGE, map.size());
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(Optional.of(Integer.toString(i)), map.get(i));
+        }
+        assertEquals(Optional.empty(), map.get(LARGE));
+        assertEquals(Optional.empty(), map.get("0"));
+        assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    void putIsPersistent() {
+        final var first = PureHashMap.<String, Integer>empty().put("a", 1);
+        final var second = first.put("a", 2).put("b", 3);
+        assertEquals(Optional.of(1), first.get("a"));
+        assertEquals(1, first.size());
+        assertEquals(Optional.of(2), second.get("a"));
+        assertEquals(2, second.size());
+        assertSame(second, second.put("b", 3));
+    }
+
+    @Test
+    void removeMatchesHashMap() {
+        final var random = new Random(42);
+        final var expected = new HashMap<Integer, Integer>();
+        PureHashMap<Integer, Integer> actual = PureHashMap.empty();
+        for (int i = 0; i < LARGE; i++) {
+            final int key = random.nextInt(LARGE / 4);
+            if (random.nextBoolean()) {
+                expected.put(key, i);
+                actual = actual.put(key, i);
+            } else {
+                expected.remove(key);
+                actual = actual.remove(key);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual.toMutable());
+        assertEquals(PureHashMap.from(expected), actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    void collisions() {
+        PureHashMap<Collider, Integer> map = PureHashMap.empty();
+        for (int i = 0; i < 10; i++) {
+            map = map.put(new Collider(i, i % 2), i);
+        }
+        assertEquals(10, map.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Optional.of(i), map.get(new Collider(i, i % 2)));
+        }
+        for (int i = 0; i < 10; i += 2) {
+            map = map.remove(new Collider(i, 0));
+        }
+        assertEquals(5, map.size());
+        assertEquals(Optional.empty(), map.get(new Collider(0, 0)));
+        assertEquals(Optional.of(1), map.get(new Collider(1, 1)));
+        assertSame(map, map.remove(new Collider(0, 0)));
+    }
+
+    @Test
+    void rejectsNulls() {
+        assertThrows(NullPointerException.class, () -> PureHashMap.empty().put(null, 1));
+        assertThrows(NullPointerException.class, () -> PureHashMap.empty().put(1, null));
+    }
+
+    @Test
+    void mutableView() {
+        final Map<String, Integer> view = PureHashMap.<String, Integer>empty().toMutable();
+        assertNull(view.put("a", 1));
+        assertEquals(1, view.put("a", 2));
+        view.put("b", 3);
+        assertEquals(2, view.remove("a"));
+        assertNull(view.remove("a"));
+        view.put("c", 4);
+        view.entrySet().removeIf(e -> e.getValue() == 4);
+        assertEquals(Map.of("b", 3), view);
+        assertEquals("{b=3}", view.toString());
+        view.clear();
+        assertTrue(view.isEmpty());
+    }
+
+    @Test
+    void builder() {
+        final var builder = PureHashMap.<Integer, Integer>builder();
+        for (int i = 0; i < LARGE; i++) {
+            builder.put(i % (LARGE / 2), i);
+        }
+        final var built = builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.put(0, 0));
+        final var expected = new HashMap<Integer, Integer>();
+        for (int i = 0; i < LARGE; i++) {
+            expected.put(i % (LARGE / 2), i);
+        }
+        assertEquals(expected, built.toMutable());
+
+        final var seed = PureHashMap.<String, Integer>empty().put("a", 1);
+        assertEquals(Map.of("a", 2, "b", 3), seed.putAll(Map.of("a", 2, "b", 3)).toMutable());
+        assertEquals(Map.of("a", 1), seed.toMutable());
+        assertSame(seed, seed.putAll(PureHashMap.<String, Integer>empty()));
+    }
+}
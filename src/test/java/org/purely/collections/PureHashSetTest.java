@@ -0,0 +1,142 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureHashSetTest {
+    private static final int LARGE = 40_000;
+
+    /**
+     * An element whose hash code is chosen by the test, to force full hash collisions.
+     */
+    private record Collider(int id, int hash) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @Test
+    void addAndContains() {
+        PureHashSet<Integer> set = PureHashSet.empty();
+        for (int i = 0; i < LARGE; i++) {
+            set = set.add(i);
+        }
+        assertEquals(LARGE, set.size());
+        for (int i = 0; i < LARGE; i++) {
+            assertTrue(set.contains(i));
+        }
+        assertFalse(set.contains(LARGE));
+        assertFalse(set.contains(null));
+        assertSame(set, set.add(0));
+    }
+
+    @Test
+    void removeMatchesHashSet() {
+        final var random = new Random(42);
+        final var expected = new HashSet<Integer>();
+        PureHashSet<Integer> actual = PureHashSet.empty();
+        for (int i = 0; i < LARGE; i++) {
+            final int value = random.nextInt(LARGE / 4);
+            if (random.nextBoolean()) {
+                expected.add(value);
+                actual = actual.add(value);
+            } else {
+                expected.remove(value);
+                actual = actual.remove(value);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual.toMutable());
+        assertEquals(actual.toMutable(), expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(expected, new HashSet<>(actual.stream().toList()));
+    }
+
+    @Test
+    void equalSetsHaveEqualShape() {
+        final var ascending = PureHashSet.from(IntStream.range(0, LARGE).boxed().toList());
+        var descending = PureHashSet.<Integer>empty();
+        for (int i = 2 * LARGE - 1; i >= 0; i--) {
+            descending = descending.add(i);
+        }
+        for (int i = LARGE; i < 2 * LARGE; i++) {
+            descending = descending.remove(i);
+        }
+        assertEquals(ascending, descending);
+        assertNotEquals(ascending, descending.remove(0));
+    }
+
+    @Test
+    void collisions() {
+        PureHashSet<Collider> set = PureHashSet.empty();
+        for (int i = 0; i < 10; i++) {
+            set = set.add(new Collider(i, i % 2));
+        }
+        assertEquals(10, set.size());
+        for (int i = 0; i < 10; i += 2) {
+            set = set.remove(new Collider(i, 0));
+        }
+        assertEquals(5, set.size());
+        assertFalse(set.contains(new Collider(0, 0)));
+        assertTrue(set.contains(new Collider(1, 1)));
+        assertEquals(PureHashSet.of(new Collider(9, 1), new Collider(7, 1), new Collider(5, 1), new Collider(3, 1),
+                new Collider(1, 1)), set);
+    }
+
+    @Test
+    void retainAllAndRemoveAll() {
+        final var set = PureHashSet.from(IntStream.range(0, 100).boxed().toList());
+        final var evens = IntStream.range(0, 200).filter(i -> i % 2 == 0).boxed().toList();
+        assertEquals(50, set.retainAll(evens).size());
+        assertEquals(50, set.retainAll(Set.copyOf(evens)).size());
+        assertEquals(50, set.removeAll(evens).size());
+        assertSame(set, set.retainAll(set));
+        assertEquals(PureHashSet.of(1, 2), PureHashSet.of(1, 2, 3).retainAll(List.of(2, 1)));
+    }
+
+    @Test
+    void mutableView() {
+        final Set<String> view = PureHashSet.<String>empty().toMutable();
+        assertTrue(view.add("a"));
+        assertFalse(view.add("a"));
+        assertTrue(view.add("b"));
+        assertTrue(view.remove("a"));
+        assertEquals(Set.of("b"), view);
+        assertEquals(Set.of("b").hashCode(), view.hashCode());
+        assertEquals("[b]", view.toString());
+    }
+
+    @Test
+    void builder() {
+        final var builder = PureHashSet.<Integer>builder();
+        for (int i = 0; i < LARGE; i++) {
+            builder.add(i % (LARGE / 2));
+        }
+        for (int i = 0; i < LARGE / 4; i++) {
+            builder.remove(2 * i);
+        }
+        final var built = builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.add(0));
+        var expected = PureHashSet.<Integer>empty();
+        for (int i = 0; i < LARGE / 2; i++) {
+            if (i % 2 == 1) {
+                expected = expected.add(i);
+            }
+        }
+        assertEquals(LARGE / 4, built.size());
+        assertEquals(expected, built);
+
+        final var seed = PureHashSet.of(1, 2, 3);
+        assertEquals(PureHashSet.of(1, 2, 3, 4), seed.addAll(List.of(3, 4)));
+        assertEquals(PureHashSet.of(1, 2, 3), seed);
+        assertSame(seed, seed.addAll(List.of(1, 2)));
+    }
+}
@@ -0,0 +1,137 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureIntListTest {
+    private static final int LARGE = 40_000;
+
+    @Test
+    void addLastAndGet() {
+        PureIntList list = PureIntList.empty();
+        for (int i = 0; i < LARGE; i++) {
+            list = list.addLast(i);
+        }
+        assertEquals(LARGE, list.size());
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(OptionalInt.of(i), list.get(i));
+        }
+        assertEquals(OptionalInt.empty(), list.get(LARGE));
+        assertEquals(OptionalInt.empty(), list.get(-1));
+        assertEquals(PureIntList.from(IntStream.range(0, LARGE)), list);
+    }
+
+    @Test
+    void removeLast() {
+        var list = PureIntList.from(IntStream.range(0, LARGE));
+        for (int i = LARGE - 1; i >= 0; i--) {
+            assertEquals(OptionalInt.of(i), list.getLast());
+            list = list.removeLast().orElseThrow();
+            assertEquals(i, list.size());
+        }
+        assertEquals(PureIntList.empty(), list);
+        assertEquals(Optional.empty(), list.removeLast());
+    }
+
+    @Test
+    void set() {
+        final var list = PureIntList.from(IntStream.range(0, LARGE));
+        final var result = list.set(1234, -1).orElseThrow();
+        assertEquals(OptionalInt.of(-1), result.get(1234));
+        assertEquals(OptionalInt.of(1234), list.get(1234));
+        assertEquals(OptionalInt.of(-1), list.set(LARGE - 1, -1).orElseThrow().getLast());
+        assertEquals(Optional.empty(), list.set(LARGE, 0));
+    }
+
+    @Test
+    void insertAndRemoveAtIndex() {
+        final var list = PureIntList.of(1, 2, 4);
+        assertEquals(Optional.of(PureIntList.of(1, 2, 3, 4)), list.add(2, 3));
+        assertEquals(Optional.of(PureIntList.of(0, 1, 2, 4)), list.add(0, 0));
+        assertEquals(Optional.empty(), list.add(4, 0));
+        assertEquals(Optional.of(PureIntList.of(1, 4)), list.removeAt(1));
+        assertEquals(Optional.of(PureIntList.of(2, 4)), list.removeFirst());
+        assertEquals(PureIntList.of(0, 1, 2, 4), list.addFirst(0));
+        assertEquals(Optional.of(PureIntList.of(2, 4)), list.subList(1, 3));
+        assertEquals(Optional.empty(), list.subList(2, 4));
+        assertEquals(PureIntList.of(4, 2, 1), list.reversed());
+        assertEquals(Optional.of(PureIntList.of(1, 7, 8, 2, 4)), list.addAll(1, PureIntList.of(7, 8)));
+    }
+
+    @Test
+    void sharesLeavesAcrossIndexedOperations() {
+        final List<Integer> expected = new ArrayList<>(IntStream.range(0, LARGE).boxed().toList());
+        var list = PureIntList.from(expected);
+        for (int idx : new int[]{0, 31, 32, 1000, LARGE / 2, LARGE - 33}) {
+            list = list.add(idx, -idx).orElseThrow();
+            expected.add(idx, -idx);
+        }
+        for (int idx : new int[]{LARGE - 40, 999, 64, 5, 0}) {
+            list = list.removeAt(idx).orElseThrow();
+            expected.remove(idx);
+        }
+        assertEquals(expected, list.boxed().stream().toList());
+        assertEquals(expected.subList(100, 30_000), list.subList(100, 30_000).orElseThrow().boxed().stream().toList());
+        assertEquals(expected.subList(64, 30_016), list.subList(64, 30_016).orElseThrow().boxed().stream().toList());
+    }
+
+    @Test
+    void search() {
+        final var list = PureIntList.of(3, 1, 4, 1, 5);
+        assertTrue(list.contains(4));
+        assertFalse(list.contains(2));
+        assertEquals(OptionalInt.of(1), list.indexOf(1));
+        assertEquals(OptionalInt.of(3), list.lastIndexOf(1));
+        assertEquals(OptionalInt.empty(), list.indexOf(9));
+        assertEquals(OptionalInt.of(3), list.getFirst());
+        assertEquals(OptionalInt.empty(), PureIntList.empty().getFirst());
+    }
+
+    @Test
+    void bulkOperations() {
+        final var list = PureIntList.from(IntStream.range(0, LARGE));
+        assertEquals((long) LARGE * (LARGE - 1) / 2, list.stream().asLongStream().sum());
+        assertEquals(list.stream().asLongStream().sum(), list.parallelStream().asLongStream().sum());
+        assertArrayEquals(IntStream.range(0, LARGE).toArray(), list.toArray());
+        assertEquals(PureIntList.from(IntStream.range(0, LARGE).map(i -> i * 2)), list.map(i -> i * 2));
+        assertEquals(PureIntList.from(IntStream.range(0, LARGE).filter(i -> i % 3 == 0)), list.filter(i -> i % 3 == 0));
+        assertSame(list, list.filter(i -> true));
+        assertEquals(10, PureIntList.of(1, 2, 3, 4).fold(0, Integer::sum));
+        assertEquals(PureIntList.from(IntStream.range(0, LARGE + 3)), list.addAll(LARGE, LARGE + 1, LARGE + 2));
+        assertEquals(PureIntList.from(IntStream.range(0, 2 * LARGE)),
+                list.addAll(PureIntList.from(IntStream.range(LARGE, 2 * LARGE))));
+        assertSame(list, list.addAll());
+    }
+
+    @Test
+    void conversions() {
+        final var list = PureIntList.of(1, 2, 3);
+        assertEquals(PureVector.of(1, 2, 3), list.boxed());
+        assertEquals(PureVector.of(1, 2, 3).hashCode(), list.hashCode());
+        assertEquals(list, PureIntList.from(PureLinkedList.of(1, 2, 3)));
+        assertSame(list, PureIntList.from(list));
+        assertEquals("[1, 2, 3]", list.toString());
+        assertEquals("[]", PureIntList.empty().toString());
+        final List<Integer> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertEquals(List.of(1, 2, 3), iterated);
+        assertThrows(NullPointerException.class, () -> PureIntList.from(java.util.Arrays.asList(1, null)));
+    }
+
+    @Test
+    void builder() {
+        final var builder = PureIntList.builder().add(1).addAll(2, 3).addAll(PureIntList.of(4, 5));
+        assertEquals(5, builder.size());
+        final var list = builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.add(6));
+        assertEquals(PureIntList.of(1, 2, 3, 4, 5), list);
+        assertEquals(PureIntList.empty(), PureIntList.builder().build());
+    }
+}
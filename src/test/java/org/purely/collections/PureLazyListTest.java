@@ -0,0 +1,210 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+import org.purely.Tuple;
+import org.purely.collections.views.PureLazyListView;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureLazyListTest {
+
+    @Test
+    void infinite() {
+        final var powers = PureLazyList.iterate(1, i -> i * 2);
+        assertEquals(List.of(1, 2, 4, 8, 16), powers.take(5).stream().toList());
+        assertEquals(List.of(1, 2, 4, 8), powers.stream().limit(4).toList());
+        assertEquals(Optional.of(1024), powers.get(10));
+        assertEquals(Optional.of(3), powers.indexOf(8));
+        assertTrue(powers.containsAll(List.of(16, 2, 64)));
+
+        final var ones = PureLazyList.generate(() -> 1);
+        assertEquals(List.of(1, 1, 1), ones.take(3).stream().toList());
+    }
+
+    @Test
+    void recursiveDefinition() {
+        final List<PureLazyList<Integer>> holder = new ArrayList<>();
+        holder.add(PureLazyList.cons(0, () -> holder.getFirst().map(i -> i + 1)));
+        assertEquals(List.of(0, 1, 2, 3), holder.getFirst().take(4).stream().toList());
+
+        final List<PureLazyList<Integer>> self = new ArrayList<>();
+        self.add(PureLazyList.generate(() -> self.getFirst().size()));
+        assertThrows(IllegalStateException.class, () -> self.getFirst().getFirst());
+    }
+
+    @Test
+    void memoized() {
+        final var calls = new AtomicInteger();
+        final var list = PureLazyList.iterate(0, i -> {
+            calls.incrementAndGet();
+            return i + 1;
+        });
+        assertEquals(0, calls.get());
+        assertEquals(List.of(0, 1, 2), list.take(3).stream().toList());
+        assertEquals(2, calls.get());
+        assertEquals(List.of(0, 1, 2), list.take(3).stream().toList());
+        assertEquals(Optional.of(1), list.get(1));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void lazyTransformations() {
+        final var evaluated = new AtomicInteger();
+        final var source = PureLazyList.iterate(0, i -> {
+            evaluated.incrementAndGet();
+            return i + 1;
+        });
+        final var result = source.map(i -> i * 10).filter(i -> i % 20 == 0).takeWhile(i -> i < 100).dropWhile(i -> i < 20);
+        assertFalse(result.isEvaluated());
+        assertEquals(0, evaluated.get());
+        assertEquals(Optional.of(20), result.getFirst());
+        assertEquals(2, evaluated.get());
+        assertEquals(List.of(20, 40, 60, 80), result.stream().toList());
+        assertEquals(10, evaluated.get());
+        assertEquals(List.of(3, 4), source.drop(3).take(2).stream().toList());
+    }
+
+    @Test
+    void fromIsIncremental() {
+        final var read = new AtomicInteger();
+        final Iterator<Integer> it = Stream.iterate(0, i -> i + 1).peek(i -> read.incrementAndGet()).iterator();
+        final var list = PureLazyList.from(() -> it);
+        assertEquals(0, read.get());
+        assertEquals(Optional.of(2), list.get(2));
+        assertEquals(3, read.get());
+        assertEquals(Optional.of(2), list.get(2));
+        assertEquals(3, read.get());
+
+        final var finite = PureLazyList.from(List.of(1, 2, 3));
+        assertSame(finite, PureLazyList.from(finite));
+        assertEquals(PureLazyList.of(1, 2, 3), finite);
+        assertEquals(PureLazyList.of(1, 2, 3), PureLazyList.from(Stream.of(1, 2, 3)));
+    }
+
+    @Test
+    void concurrentEvaluation() throws Exception {
+        final var calls = new AtomicInteger();
+        final var list = PureLazyList.generate(calls::incrementAndGet).take(1000);
+        final var start = new CountDownLatch(1);
+        final List<Future<List<Integer>>> results = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return list.stream().toList();
+                }));
+            }
+            start.countDown();
+            final List<Integer> first = results.getFirst().get();
+            for (Future<List<Integer>> f : results) {
+                assertEquals(first, f.get());
+            }
+        }
+        assertEquals(1000, calls.get());
+    }
+
+    @Test
+    void failedEvaluationIsRetried() {
+        final var attempts = new AtomicInteger();
+        final var list = PureLazyList.generate(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalArgumentException();
+            }
+            return 1;
+        });
+        assertThrows(IllegalArgumentException.class, list::getFirst);
+        assertEquals(Optional.of(1), list.getFirst());
+    }
+
+    @Test
+    void listOperations() {
+        final var list = PureLazyList.of(1, 2, 3);
+        assertEquals(3, list.size());
+        assertTrue(PureLazyList.empty().isEmpty());
+        assertEquals(Optional.of(3), list.getLast());
+        assertEquals(PureLazyList.of(3, 2, 1), list.reversed());
+        assertEquals(PureLazyList.of(0, 1, 2, 3, 4), list.addFirst(0).addLast(4));
+        assertEquals(PureLazyList.of(1, 2, 3, 4, 5), list.addAll(List.of(4, 5)));
+        assertEquals(PureLazyList.of(1, 3), list.remove((Object) 2));
+        assertEquals(list, list.remove((Object) 4));
+        assertEquals(PureLazyList.of(2), list.removeAll(List.of(1, 3)));
+        assertEquals(PureLazyList.of(1, 3), list.retainAll(List.of(1, 3)));
+        assertEquals(Optional.of(Tuple.of(1, PureLazyList.of(2, 3))), list.removeFirst());
+        assertEquals(Optional.of(Tuple.of(3, PureLazyList.of(1, 2))), list.removeLast());
+        assertEquals(Optional.of(PureLazyList.of(1, 9, 8, 2, 3)), list.addAll(1, List.of(9, 8)));
+        assertEquals(Optional.of(PureLazyList.of(1, 9, 2, 3)), list.add(1, 9));
+        assertEquals(Optional.of(PureLazyList.of(1, 2, 3, 9)), list.add(3, 9));
+        assertEquals(Optional.empty(), list.add(4, 9));
+        assertEquals(Optional.of(Tuple.of(2, PureLazyList.of(1, 9, 3))), list.set(1, 9));
+        assertEquals(Optional.of(Tuple.of(3, PureLazyList.of(1, 2))), list.remove(2));
+        assertEquals(Optional.empty(), list.remove(3));
+        assertEquals(Optional.of(PureLazyList.of(2, 3)), list.subList(1, 3));
+        assertEquals(Optional.empty(), list.subList(1, 4));
+        assertEquals(Optional.of(2), PureLazyList.of(1, 2, 1).lastIndexOf(1));
+        assertArrayEquals(new Object[]{1, 2, 3}, list.toArray());
+        assertEquals(List.of(1, 2, 3).hashCode(), list.hashCode());
+        assertThrows(NullPointerException.class, () -> PureLazyList.of(1, null));
+
+        final var it = list.listIterator(1).orElseThrow();
+        assertEquals(2, it.next());
+        assertEquals(2, it.previous());
+        assertEquals(1, it.previous());
+        assertFalse(it.hasPrevious());
+    }
+
+    @Test
+    void sharesSuffix() {
+        final var tail = PureLazyList.iterate(3, i -> i + 1);
+        final var list = PureLazyList.cons(1, () -> PureLazyList.cons(2, () -> tail));
+        final var updated = list.set(0, 9).orElseThrow().second();
+        assertEquals(List.of(9, 2, 3, 4), updated.take(4).stream().toList());
+        assertSame(list.drop(1).removeFirst().orElseThrow().second(), updated.removeFirst().orElseThrow().second()
+                .removeFirst().orElseThrow().second());
+    }
+
+    @Test
+    void toStringDoesNotEvaluate() {
+        final var list = PureLazyList.iterate(1, i -> i + 1);
+        assertEquals("[...]", list.toString());
+        list.get(2);
+        assertEquals("[1, 2, 3, ...]", list.toString());
+        assertEquals("[1, 2]", PureLazyList.of(1, 2).toString());
+        assertEquals("[]", PureLazyList.empty().toString());
+    }
+
+    @Test
+    void view() {
+        final var view = (PureLazyListView<Integer>) PureLazyList.of(1, 2, 3).toMutable();
+        assertTrue(view.add(4));
+        assertTrue(view.remove((Object) 1));
+        assertEquals(List.of(2, 3, 4), List.copyOf(view));
+        assertEquals(List.of(3), view.subList(1, 2));
+        assertSame(view.toPure(), PureLazyList.from(view));
+    }
+
+    @Test
+    void bulkRemovalSnapshotsArgument() {
+        final Set<Integer> set = new HashSet<>(List.of(1, 2, 3));
+        final var removed = PureLazyList.of(1, 2, 3).removeAll(set);
+        set.clear();
+        assertEquals(PureLazyList.empty(), removed);
+
+        final List<Integer> small = new ArrayList<>(List.of(2));
+        final var retained = PureLazyList.of(1, 2, 3).retainAll(small);
+        small.add(3);
+        assertEquals(PureLazyList.of(2), retained);
+    }
+}
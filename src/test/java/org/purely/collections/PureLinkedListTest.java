@@ -0,0 +1,120 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+import org.purely.Tuple;
+import org.purely.collections.PureLinkedList.Cons;
+import org.purely.collections.views.PureLinkedListView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureLinkedListTest {
+
+    @Test
+    void size() {
+        assertEquals(0, PureLinkedList.empty().size());
+        assertEquals(3, PureLinkedList.of(1, 2, 3).size());
+        assertEquals(4, PureLinkedList.of(1, 2, 3).addLast(4).size());
+        assertEquals(2, PureLinkedList.of(1, 2, 3).remove((Object) 2).size());
+    }
+
+    @Test
+    void consSize() {
+        assertThrows(IllegalArgumentException.class, () -> new Cons<>(1, PureLinkedList.empty(), 2));
+        assertEquals(new Cons<>(1, PureLinkedList.empty(), 1), new Cons<>(1, PureLinkedList.empty()));
+    }
+
+    @Test
+    void removeMissing() {
+        final var list = PureLinkedList.of(1, 2, 3);
+        assertSame(list, list.remove((Object) 4));
+    }
+
+    @Test
+    void viewReportsChanges() {
+        final var view = new PureLinkedListView<>(PureLinkedList.of(1, 2, 3));
+        assertTrue(view.add(4));
+        assertTrue(view.remove((Object) 1));
+        assertFalse(view.remove((Object) 1));
+        assertTrue(view.removeAll(List.of(2)));
+        assertFalse(view.retainAll(List.of(3, 4)));
+        assertEquals(List.of(3, 4), List.copyOf(view));
+    }
+
+    @Test
+    void viewIsThreadSafe() throws Exception {
+        final var view = PureLinkedList.<Integer>empty().toMutable();
+        final var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    view.addFirst(i);
+                    view.removeFirst();
+                    view.add(i);
+                }
+            }));
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertEquals(8000, view.size());
+    }
+
+    @Test
+    void builder() {
+        final var builder = PureLinkedList.<Integer>builder().add(1).addAll(List.of(2, 3));
+        assertEquals(3, builder.size());
+        final var list = builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.add(4));
+        assertEquals(List.of(1, 2, 3), list.stream().toList());
+        assertEquals(List.of(1, 2, 3), PureLinkedList.of(1, 2, 3).stream().toList());
+        assertEquals(List.of(1, 2, 3, 4, 5), list.addAll(List.of(4, 5)).stream().toList());
+        assertEquals(List.of(1, 2, 3, 4), list.addLast(4).stream().toList());
+        assertSame(list, list.addAll(List.of()));
+        assertEquals(Optional.of(Tuple.of(3, PureLinkedList.of(1, 2))), list.removeLast());
+        assertEquals(Optional.of(PureLinkedList.of(1, 9, 8, 2, 3)), list.addAll(1, List.of(9, 8)));
+        assertEquals(Optional.of(PureLinkedList.of(2, 3)), list.subList(1, 3));
+        assertEquals(Optional.of(PureLinkedList.of(2)), list.subList(1, 2));
+        assertEquals(Optional.empty(), list.subList(2, 4));
+    }
+
+    @Test
+    void bulkRemovalSharesSuffix() {
+        final var suffix = PureLinkedList.of(5, 6, 7);
+        final var list = PureLinkedList.of(1, 2, 1, 3).addAll(suffix);
+        final var removed = list.removeAll(List.of(1, 9));
+        assertEquals(List.of(2, 3, 5, 6, 7), removed.stream().toList());
+        assertSame(drop(list, 4), drop(removed, 2));
+        assertSame(list, list.removeAll(List.of(8, 9)));
+        assertSame(list, list.retainAll(List.of(1, 2, 3, 5, 6, 7)));
+        assertEquals(List.of(1, 1, 7), list.retainAll(List.of(1, 7)).stream().toList());
+    }
+
+    @Test
+    void equalityOfLongLists() {
+        PureLinkedList<Integer> a = PureLinkedList.empty();
+        PureLinkedList<Integer> b = PureLinkedList.empty();
+        PureLinkedList<Integer> c = PureLinkedList.empty();
+        for (int i = 0; i < 1_000_000; i++) {
+            a = a.addFirst(i);
+            b = b.addFirst(i);
+            c = c.addFirst(i == 0 ? -1 : i);
+        }
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, c);
+        assertEquals(List.of(1, 2, 3).hashCode(), PureLinkedList.of(1, 2, 3).hashCode());
+        assertEquals(List.of().hashCode(), PureLinkedList.empty().hashCode());
+        assertEquals(PureLinkedList.empty(), PureLinkedList.of());
+    }
+
+    private static <T> PureLinkedList<T> drop(PureLinkedList<T> list, int n) {
+        for (int i = 0; i < n; i++) {
+            list = ((Cons<T>) list).tail();
+        }
+        return list;
+    }
+}
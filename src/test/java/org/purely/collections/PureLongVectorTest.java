@@ -0,0 +1,51 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureLongVectorTest {
+    private static final int LARGE = 40_000;
+
+    @Test
+    void addLastAndRemoveLast() {
+        PureLongVector vector = PureLongVector.empty();
+        for (int i = 0; i < LARGE; i++) {
+            vector = vector.addLast(i);
+        }
+        assertEquals(LARGE, vector.size());
+        assertEquals(OptionalLong.of(1234), vector.get(1234));
+        for (int i = LARGE - 1; i >= 0; i--) {
+            assertEquals(OptionalLong.of(i), vector.getLast());
+            vector = vector.removeLast().orElseThrow();
+        }
+        assertEquals(PureLongVector.empty(), vector);
+    }
+
+    @Test
+    void indexedOperations() {
+        final var vector = PureLongVector.of(1, 2, 4);
+        assertEquals(Optional.of(PureLongVector.of(1, 2, 3, 4)), vector.add(2, 3));
+        assertEquals(Optional.of(PureLongVector.of(1, 4)), vector.removeAt(1));
+        assertEquals(Optional.of(PureLongVector.of(1, 9, 4)), vector.set(1, 9));
+        assertEquals(Optional.of(PureLongVector.of(2, 4)), vector.subList(1, 3));
+        assertEquals(PureLongVector.of(4, 2, 1), vector.reversed());
+        assertEquals(OptionalLong.of(2), vector.indexOf(4));
+    }
+
+    @Test
+    void conversions() {
+        final var vector = PureLongVector.from(IntStream.range(0, LARGE).asLongStream());
+        assertArrayEquals(IntStream.range(0, LARGE).asLongStream().toArray(), vector.toArray());
+        assertEquals(vector.stream().sum(), vector.parallelStream().sum());
+        assertEquals(vector, PureLongVector.from(vector.boxed()));
+        assertEquals(vector.boxed().hashCode(), vector.hashCode());
+        assertEquals(PureLongVector.from(LongStream.of(2, 4, 6)), PureLongVector.of(1, 2, 3).map(x -> x * 2));
+        assertEquals(6, PureLongVector.of(1, 2, 3).fold(0, Long::sum));
+    }
+}
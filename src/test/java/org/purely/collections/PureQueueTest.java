@@ -0,0 +1,89 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureQueueTest {
+
+    @Test
+    void fifo() {
+        for (Supplier<PureQueue<Integer>> empty : List.<Supplier<PureQueue<Integer>>>of(PureQueue::empty, PureQueue::emptyRealTime)) {
+            PureQueue<Integer> queue = empty.get();
+            for (int i = 0; i < 1000; i++) {
+                queue = queue.addLast(i);
+            }
+            assertEquals(1000, queue.size());
+            for (int i = 0; i < 1000; i++) {
+                final var result = queue.removeFirst().orElseThrow();
+                assertEquals(i, result.first());
+                queue = result.second();
+            }
+            assertTrue(queue.isEmpty());
+            assertEquals(Optional.empty(), queue.removeFirst());
+        }
+    }
+
+    @Test
+    void matchesArrayDeque() {
+        for (Supplier<PureQueue<Integer>> empty : List.<Supplier<PureQueue<Integer>>>of(PureQueue::empty, PureQueue::emptyRealTime)) {
+            final var random = new Random(1);
+            final Deque<Integer> expected = new ArrayDeque<>();
+            PureQueue<Integer> queue = empty.get();
+            for (int i = 0; i < 5000; i++) {
+                switch (random.nextInt(5)) {
+                    case 0, 1 -> {
+                        queue = queue.addLast(i);
+                        expected.addLast(i);
+                    }
+                    case 2 -> {
+                        queue = queue.addFirst(i);
+                        expected.addFirst(i);
+                    }
+                    case 3 -> {
+                        assertEquals(Optional.ofNullable(expected.pollFirst()), queue.removeFirst().map(r -> r.first()));
+                        queue = queue.removeFirst().map(r -> r.second()).orElse(queue);
+                    }
+                    default -> {
+                        assertEquals(Optional.ofNullable(expected.pollLast()), queue.removeLast().map(r -> r.first()));
+                        queue = queue.removeLast().map(r -> r.second()).orElse(queue);
+                    }
+                }
+                assertEquals(expected.size(), queue.size());
+                assertEquals(Optional.ofNullable(expected.peekFirst()), queue.getFirst());
+            }
+            assertEquals(List.copyOf(expected), queue.stream().toList());
+            assertEquals(List.copyOf(expected.reversed()), queue.reversed().stream().toList());
+        }
+    }
+
+    @Test
+    void persistence() {
+        final var queue = PureQueue.<Integer>emptyRealTime().addLast(1).addLast(2).addLast(3);
+        final var dequeued = queue.removeFirst().orElseThrow().second();
+        assertEquals(List.of(1, 2, 3), queue.stream().toList());
+        assertEquals(List.of(2, 3), dequeued.stream().toList());
+        assertEquals(List.of(2, 3, 4), dequeued.addLast(4).stream().toList());
+        assertEquals(PureQueue.of(2, 3), dequeued);
+    }
+
+    @Test
+    void view() {
+        final Queue<Integer> view = PureQueue.<Integer>empty().toMutable();
+        assertNull(view.poll());
+        view.offer(1);
+        view.offer(2);
+        assertEquals(1, view.peek());
+        assertEquals(1, view.poll());
+        assertEquals(2, view.remove());
+        assertTrue(view.isEmpty());
+    }
+}
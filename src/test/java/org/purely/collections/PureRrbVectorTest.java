@@ -0,0 +1,105 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureRrbVectorTest {
+
+    private static PureRrbVector<Integer> range(int from, int to) {
+        return PureRrbVector.from(IntStream.range(from, to).boxed().toList());
+    }
+
+    @Test
+    void addLastAndGet() {
+        final var vector = range(0, 40_000);
+        assertEquals(40_000, vector.size());
+        for (int i = 0; i < vector.size(); i++) {
+            assertEquals(Optional.of(i), vector.get(i));
+        }
+        assertEquals(Optional.empty(), vector.get(40_000));
+    }
+
+    @Test
+    void fromThenUpdate() {
+        for (int size : new int[]{1, 32, 33, 1024, 1025, 32_768, 32_769}) {
+            final var vector = range(0, size);
+            final var expected = new ArrayList<>(IntStream.range(0, size).boxed().toList());
+            assertEquals(expected, vector.addLast(-1).removeLast().orElseThrow().second().stream().toList());
+            expected.add(size / 2, -1);
+            assertEquals(expected, vector.add(size / 2, -1).orElseThrow().stream().toList());
+        }
+        assertThrows(NullPointerException.class, () -> PureRrbVector.from(Arrays.asList(1, null)));
+    }
+
+    @Test
+    void concat() {
+        for (int left : new int[]{0, 1, 31, 32, 33, 1000, 1057, 40_000}) {
+            for (int right : new int[]{0, 1, 17, 32, 1025, 33_000}) {
+                final var joined = range(0, left).addAll(range(left, left + right));
+                assertEquals(IntStream.range(0, left + right).boxed().toList(), joined.stream().toList());
+                assertEquals(left + right == 0 ? Optional.empty() : Optional.of(left + right - 1), joined.getLast());
+            }
+        }
+    }
+
+    @Test
+    void subList() {
+        final var vector = range(0, 5000);
+        assertEquals(IntStream.range(100, 4321).boxed().toList(), vector.subList(100, 4321).orElseThrow().stream().toList());
+        assertEquals(PureRrbVector.empty(), vector.subList(10, 10).orElseThrow());
+        assertEquals(vector, vector.subList(0, 5000).orElseThrow());
+        assertEquals(Optional.empty(), vector.subList(10, 5001));
+    }
+
+    @Test
+    void randomSplitsAndJoins() {
+        final var random = new Random(42);
+        var vector = range(0, 10_000);
+        final List<Integer> expected = new ArrayList<>(vector.stream().toList());
+        for (int round = 0; round < 500; round++) {
+            final int a = random.nextInt(vector.size() + 1);
+            final int b = random.nextInt(vector.size() + 1);
+            final int from = Math.min(a, b);
+            final int to = Math.max(a, b);
+            final var middle = vector.subList(from, to).orElseThrow();
+            final var rest = vector.subList(0, from).orElseThrow().addAll(vector.subList(to, vector.size()).orElseThrow());
+            final int insertAt = random.nextInt(vector.size());
+            vector = middle.addAll(rest).add(insertAt, -round).orElseThrow();
+
+            final List<Integer> rotated = new ArrayList<>(expected.subList(from, to));
+            rotated.addAll(expected.subList(0, from));
+            rotated.addAll(expected.subList(to, expected.size()));
+            expected.clear();
+            expected.addAll(rotated);
+            expected.add(insertAt, -round);
+
+            assertEquals(expected.size(), vector.size());
+        }
+        assertEquals(expected, vector.stream().toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), vector.get(i).orElseThrow());
+        }
+    }
+
+    @Test
+    void removeAtIndex() {
+        var vector = range(0, 3000);
+        final List<Integer> expected = new ArrayList<>(vector.stream().toList());
+        final var random = new Random(7);
+        while (!expected.isEmpty()) {
+            final int idx = random.nextInt(expected.size());
+            final var result = vector.remove(idx).orElseThrow();
+            assertEquals(expected.remove(idx), result.first());
+            vector = result.second();
+        }
+        assertTrue(vector.isEmpty());
+    }
+}
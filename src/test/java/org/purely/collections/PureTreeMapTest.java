@@ -0,0 +1,132 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureTreeMapTest {
+    private static final int LARGE = 40_000;
+
+    private static Optional<Tuple2<Integer, Integer>> entry(Map.Entry<Integer, Integer> e) {
+        return Optional.ofNullable(e).map(x -> Tuple.of(x.getKey(), x.getValue()));
+    }
+
+    private static PureTreeMap<Integer, Integer> squares(int n) {
+        return PureTreeMap.fromSorted(IntStream.range(0, n).mapToObj(i -> Tuple.of(2 * i, i * i)).toList());
+    }
+
+    @Test
+    void putAndGet() {
+        PureTreeMap<Integer, String> map = PureTreeMap.empty();
+        for (int i = LARGE - 1; i >= 0; i--) {
+            map = map.put(i, Integer.toString(i));
+        }
+        assertEquals(LARGE, map.size());
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(Optional.of(Integer.toString(i)), map.get(i));
+        }
+        assertEquals(Optional.empty(), map.get(LARGE));
+        assertEquals(IntStream.range(0, LARGE).boxed().toList(), map.keys().toList());
+        assertSame(map, map.put(0, map.get(0).orElseThrow()));
+    }
+
+    @Test
+    void matchesTreeMap() {
+        final var random = new Random(42);
+        final var expected = new TreeMap<Integer, Integer>();
+        PureTreeMap<Integer, Integer> actual = PureTreeMap.empty();
+        for (int i = 0; i < LARGE; i++) {
+            final int key = random.nextInt(LARGE / 8);
+            if (random.nextInt(3) > 0) {
+                expected.put(key, i);
+                actual = actual.put(key, i);
+            } else {
+                expected.remove(key);
+                actual = actual.remove(key);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual.toMutable());
+        assertEquals(new ArrayList<>(expected.keySet()), actual.keys().toList());
+        for (int i = -1; i <= LARGE / 8; i++) {
+            assertEquals(entry(expected.floorEntry(i)), actual.floorEntry(i));
+            assertEquals(entry(expected.lowerEntry(i)), actual.lowerEntry(i));
+            assertEquals(entry(expected.ceilingEntry(i)), actual.ceilingEntry(i));
+            assertEquals(entry(expected.higherEntry(i)), actual.higherEntry(i));
+        }
+        for (int key : new ArrayList<>(expected.keySet())) {
+            expected.remove(key);
+            actual = actual.remove(key);
+            assertEquals(expected.size(), actual.size());
+        }
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void ranges() {
+        final var random = new Random(7);
+        final var expected = new TreeMap<Integer, Integer>();
+        for (int i = 0; i < 5_000; i++) {
+            expected.put(2 * i, i * i);
+        }
+        final var actual = squares(5_000);
+        assertEquals(expected, actual.toMutable());
+        for (int i = 0; i < 500; i++) {
+            final int from = random.nextInt(10_002) - 1;
+            final int to = from + random.nextInt(10_002 - from);
+            final boolean fromInclusive = random.nextBoolean();
+            final boolean toInclusive = random.nextBoolean();
+            final var range = actual.subMap(from, fromInclusive, to, toInclusive);
+            final var expectedRange = expected.subMap(from, fromInclusive, to, toInclusive);
+            assertEquals(expectedRange.size(), range.size());
+            assertEquals(new ArrayList<>(expectedRange.keySet()), range.keys().toList());
+            assertEquals(expected.headMap(to, toInclusive), actual.headMap(to, toInclusive).toMutable());
+            assertEquals(expected.tailMap(from, fromInclusive), actual.tailMap(from, fromInclusive).toMutable());
+
+            var updated = range.put(from, -1);
+            for (var key : range.keys().limit(50).toList()) {
+                updated = updated.remove(key);
+            }
+            final var expectedUpdated = new TreeMap<>(expectedRange);
+            expectedUpdated.put(from, -1);
+            expectedRange.keySet().stream().limit(50).toList().forEach(expectedUpdated::remove);
+            assertEquals(expectedUpdated, updated.toMutable());
+        }
+        assertThrows(IllegalArgumentException.class, () -> actual.subMap(2, 1));
+    }
+
+    @Test
+    void fromSorted() {
+        assertEquals(squares(LARGE), PureTreeMap.from(squares(LARGE).toMutable()));
+        assertEquals(squares(LARGE), PureTreeMap.from(new HashMap<>(squares(LARGE).toMutable())));
+        assertEquals(Optional.of(Tuple.of(0, 0)), squares(LARGE).firstEntry());
+        assertEquals(Optional.of(Tuple.of(2 * (LARGE - 1), (LARGE - 1) * (LARGE - 1))), squares(LARGE).lastEntry());
+        assertThrows(IllegalArgumentException.class, () -> PureTreeMap.fromSorted(List.of(Tuple.of(2, 0), Tuple.of(1, 0))));
+        assertThrows(IllegalArgumentException.class, () -> PureTreeMap.fromSorted(List.of(Tuple.of(1, 0), Tuple.of(1, 0))));
+    }
+
+    @Test
+    void comparator() {
+        final var map = PureTreeMap.<String, Integer>empty(Comparator.reverseOrder()).put("a", 1).put("c", 3).put("b", 2);
+        assertEquals(List.of("c", "b", "a"), map.keys().toList());
+        assertEquals("{c=3, b=2, a=1}", map.toString());
+        assertEquals(Optional.of(Tuple.of("b", 2)), map.higherEntry("c"));
+        assertEquals("c", map.toMutable().firstKey());
+    }
+
+    @Test
+    void mutableView() {
+        final SortedMap<Integer, Integer> view = squares(100).toMutable();
+        assertEquals(4, view.put(4, -1));
+        assertEquals(-1, view.remove(4));
+        assertEquals(List.of(0, 2, 6), new ArrayList<>(view.headMap(8).keySet()));
+        assertEquals(198, view.lastKey());
+        view.clear();
+        assertThrows(NoSuchElementException.class, view::firstKey);
+    }
+}
@@ -0,0 +1,113 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+import org.purely.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PureVectorTest {
+    private static final int LARGE = 40_000;
+
+    @Test
+    void addLastAndGet() {
+        PureVector<Integer> vector = PureVector.empty();
+        for (int i = 0; i < LARGE; i++) {
+            vector = vector.addLast(i);
+        }
+        assertEquals(LARGE, vector.size());
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(Optional.of(i), vector.get(i));
+        }
+        assertEquals(Optional.empty(), vector.get(LARGE));
+        assertEquals(Optional.empty(), vector.get(-1));
+    }
+
+    @Test
+    void iterator() {
+        final var vector = PureVector.from(IntStream.range(0, LARGE).boxed().toList());
+        assertEquals(IntStream.range(0, LARGE).boxed().toList(), vector.stream().toList());
+        assertArrayEquals(IntStream.range(0, LARGE).boxed().toArray(), vector.toArray());
+    }
+
+    @Test
+    void set() {
+        final var vector = PureVector.from(IntStream.range(0, LARGE).boxed().toList());
+        final var result = vector.set(1234, -1).orElseThrow();
+        assertEquals(1234, result.first());
+        assertEquals(Optional.of(-1), result.second().get(1234));
+        assertEquals(Optional.of(1234), vector.get(1234));
+        assertEquals(Optional.of(-1), vector.set(LARGE - 1, -1).orElseThrow().second().getLast());
+        assertEquals(Optional.empty(), vector.set(LARGE, 0));
+    }
+
+    @Test
+    void removeLast() {
+        var vector = PureVector.from(IntStream.range(0, LARGE).boxed().toList());
+        for (int i = LARGE - 1; i >= 0; i--) {
+            final var result = vector.removeLast().orElseThrow();
+            assertEquals(i, result.first());
+            vector = result.second();
+            assertEquals(i, vector.size());
+        }
+        assertEquals(PureVector.empty(), vector);
+        assertEquals(Optional.empty(), vector.removeLast());
+    }
+
+    @Test
+    void insertAndRemoveAtIndex() {
+        final var vector = PureVector.of(1, 2, 4);
+        assertEquals(Optional.of(PureVector.of(1, 2, 3, 4)), vector.add(2, 3));
+        assertEquals(Optional.of(PureVector.of(0, 1, 2, 4)), vector.add(0, 0));
+        assertEquals(Optional.empty(), vector.add(4, 0));
+        assertEquals(Optional.of(Tuple.of(2, PureVector.of(1, 4))), vector.remove(1));
+        assertEquals(PureVector.of(0, 1, 2, 4), vector.addFirst(0));
+        assertEquals(Optional.of(PureVector.of(2, 4)), vector.subList(1, 3));
+        assertEquals(PureVector.of(4, 2, 1), vector.reversed());
+    }
+
+    @Test
+    void view() {
+        final List<Integer> view = PureVector.<Integer>empty().toMutable();
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            view.add(i);
+            expected.add(i);
+        }
+        view.set(5, 50);
+        expected.set(5, 50);
+        view.add(3, 30);
+        expected.add(3, 30);
+        view.remove(10);
+        expected.remove(10);
+        assertEquals(expected, view);
+        assertEquals(PureVector.from(expected), PureVector.from(view));
+    }
+
+    @Test
+    void builder() {
+        final var builder = PureVector.<Integer>builder();
+        for (int i = 0; i < LARGE; i++) {
+            builder.add(i);
+        }
+        final var built = builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.add(0));
+        var expected = PureVector.<Integer>empty();
+        for (int i = 0; i < LARGE; i++) {
+            expected = expected.addLast(i);
+        }
+        assertEquals(expected, built);
+        assertEquals(Optional.of(LARGE - 1), built.removeLast().orElseThrow().second().addLast(LARGE - 1).getLast());
+        for (int n : new int[]{0, 1, 31, 32, 33, 1024, 1056, 1057, 33 * 32 + 5}) {
+            final var prefix = PureVector.from(IntStream.range(0, n).boxed().toList());
+            final var appended = prefix.addAll(IntStream.range(n, LARGE).boxed().toList());
+            assertEquals(expected, appended);
+            assertEquals(n, prefix.size());
+            assertEquals(IntStream.range(0, n).boxed().toList(), prefix.stream().toList());
+        }
+    }
+}
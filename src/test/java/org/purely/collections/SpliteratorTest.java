@@ -0,0 +1,103 @@
+package org.purely.collections;
+
+import org.junit.jupiter.api.Test;
+import org.purely.Tuple;
+import org.purely.Tuple.Tuple2;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpliteratorTest {
+    private static final int LARGE = 100_000;
+    private static final List<Integer> ELEMENTS = IntStream.range(0, LARGE).boxed().toList();
+    private static final long SUM = (long) LARGE * (LARGE - 1) / 2;
+
+    /**
+     * Splits the spliterator as far as it goes, then traverses the pieces in encounter order.
+     */
+    private static <T> List<T> splitFully(Spliterator<T> spliterator) {
+        final List<T> ret = new ArrayList<>();
+        final Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix != null) {
+            ret.addAll(splitFully(prefix));
+            ret.addAll(splitFully(spliterator));
+        } else {
+            spliterator.forEachRemaining(ret::add);
+        }
+        return ret;
+    }
+
+    private static void assertOrderedAndSized(PureCollection<Integer> collection) {
+        final var spliterator = collection.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.IMMUTABLE | Spliterator.NONNULL));
+        assertEquals(LARGE, spliterator.getExactSizeIfKnown());
+        final var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(LARGE, prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+        assertEquals(ELEMENTS, splitFully(collection.spliterator()));
+        assertEquals(ELEMENTS, collection.parallelStream().toList());
+        assertEquals(SUM, collection.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    void lists() {
+        assertOrderedAndSized(PureLinkedList.from(ELEMENTS));
+        assertOrderedAndSized(PureVector.from(ELEMENTS));
+        assertOrderedAndSized(PureRrbVector.from(ELEMENTS));
+        assertOrderedAndSized(PureDeque.from(ELEMENTS));
+        assertOrderedAndSized(PureQueue.from(ELEMENTS));
+    }
+
+    @Test
+    void hashSet() {
+        final var set = PureHashSet.from(ELEMENTS);
+        final var spliterator = set.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.IMMUTABLE
+                | Spliterator.NONNULL));
+        assertEquals(LARGE, spliterator.getExactSizeIfKnown());
+        assertNotNull(spliterator.trySplit());
+        assertEquals(new HashSet<>(ELEMENTS), new HashSet<>(splitFully(set.spliterator())));
+        assertEquals(LARGE, splitFully(set.spliterator()).size());
+        assertEquals(SUM, set.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    /**
+     * Splits the spliterator once, and checks that each half reports SIZED only if its size is exact.
+     */
+    private static <T> void assertSplitSizesHonest(Spliterator<T> spliterator) {
+        final Spliterator<T> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        for (Spliterator<T> half : List.of(prefix, spliterator)) {
+            final long reported = half.getExactSizeIfKnown();
+            final long[] count = {0};
+            half.forEachRemaining(t -> count[0]++);
+            assertTrue(reported == -1 || reported == count[0]);
+        }
+    }
+
+    @Test
+    void hashSplitsAreNotSized() {
+        assertSplitSizesHonest(PureHashSet.from(ELEMENTS.subList(0, 1000)).spliterator());
+        assertSplitSizesHonest(PureHashMap.fromEntries(
+                ELEMENTS.subList(0, 1000).stream().map(i -> Tuple.of(i, i)).toList()).spliterator());
+    }
+
+    @Test
+    void maps() {
+        final List<Tuple2<Integer, Integer>> entries = ELEMENTS.stream().map(i -> Tuple.of(i, -i)).toList();
+        final var hashMap = PureHashMap.fromEntries(entries);
+        assertEquals(LARGE, hashMap.spliterator().getExactSizeIfKnown());
+        assertEquals(new HashSet<>(entries), new HashSet<>(splitFully(hashMap.spliterator())));
+        assertEquals(-SUM, hashMap.parallelStream().mapToLong(Tuple2::second).sum());
+
+        final var treeMap = PureTreeMap.fromSorted(entries);
+        final var spliterator = treeMap.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SUBSIZED));
+        assertEquals(LARGE / 2, spliterator.trySplit().getExactSizeIfKnown());
+        assertEquals(entries, splitFully(treeMap.spliterator()));
+        assertEquals(entries, treeMap.parallelStream().toList());
+    }
+}
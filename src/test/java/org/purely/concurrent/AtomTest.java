@@ -0,0 +1,74 @@
+package org.purely.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.purely.Tuple;
+import org.purely.collections.PureHashMap;
+import org.purely.collections.PureLinkedList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomTest {
+
+    @Test
+    void updates() {
+        final var atom = Atom.of(PureLinkedList.of(1, 2));
+        assertEquals(PureLinkedList.of(0, 1, 2), atom.updateAndGet(l -> l.addFirst(0)));
+        assertEquals(PureLinkedList.of(0, 1, 2), atom.getAndUpdate(l -> l.remove((Object) 0)));
+        assertEquals(Optional.of(1), atom.modify(l -> l.removeFirst()
+                .map(r -> Tuple.of(Optional.of(r.first()), r.second()))
+                .orElse(Tuple.of(Optional.empty(), l))));
+        assertEquals(PureLinkedList.of(2), atom.get());
+
+        final var current = atom.get();
+        assertFalse(atom.compareAndSet(PureLinkedList.of(2), PureLinkedList.empty()));
+        assertTrue(atom.compareAndSet(current, PureLinkedList.empty()));
+        assertEquals(PureLinkedList.empty(), atom.getAndSet(PureLinkedList.of(3)));
+        assertThrows(NullPointerException.class, () -> atom.set(null));
+        assertThrows(NullPointerException.class, () -> atom.updateAndGet(l -> null));
+        assertEquals(PureLinkedList.of(3), atom.get());
+    }
+
+    @Test
+    void failedUpdateLeavesValue() {
+        final var atom = Atom.of(PureLinkedList.of(1));
+        assertThrows(IllegalStateException.class, () -> atom.updateAndGet(l -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(PureLinkedList.of(1), atom.get());
+    }
+
+    @Test
+    void noLostUpdates() throws Exception {
+        final var atom = Atom.of(PureHashMap.<Integer, Integer>empty());
+        final int threads = 8;
+        final int perThread = 2000;
+        final var start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                final int offset = t * perThread;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        final int key = offset + i;
+                        atom.updateAndGet(m -> m.put(key, key));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        }
+        assertEquals(threads * perThread, atom.get().size());
+    }
+}
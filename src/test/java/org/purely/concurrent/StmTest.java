@@ -0,0 +1,171 @@
+package org.purely.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.purely.collections.PureHashMap;
+import org.purely.collections.PureVector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StmTest {
+
+    @Test
+    void readsOwnWrites() {
+        final var ref = Ref.of(1);
+        final int result = Stm.atomically(() -> {
+            ref.set(ref.get() + 1);
+            return ref.updateAndGet(i -> i * 10);
+        });
+        assertEquals(20, result);
+        assertEquals(20, ref.get());
+        assertEquals(20, ref.getAndUpdate(i -> i + 1));
+        assertEquals(21, ref.get());
+        assertThrows(NullPointerException.class, () -> ref.set(null));
+    }
+
+    @Test
+    void exceptionDiscardsWrites() {
+        final var a = Ref.of(1);
+        final var b = Ref.of(2);
+        assertThrows(IllegalStateException.class, () -> Stm.atomically(() -> {
+            a.set(10);
+            b.set(20);
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, a.get());
+        assertEquals(2, b.get());
+    }
+
+    @Test
+    void nestedTransactionsJoin() {
+        final var ref = Ref.of(0);
+        Stm.atomically(() -> {
+            ref.set(1);
+            Stm.atomically(() -> assertEquals(1, ref.get()));
+            ref.set(2);
+        });
+        assertEquals(2, ref.get());
+    }
+
+    @Test
+    void retriesOnConflict() throws Exception {
+        final var ref = Ref.of(0);
+        final var runs = new AtomicInteger();
+        final var read = new CountDownLatch(1);
+        final var written = new CountDownLatch(1);
+        final Thread t = Thread.ofPlatform().start(() -> Stm.atomically(() -> {
+            final int value = ref.get();
+            if (runs.incrementAndGet() == 1) {
+                read.countDown();
+                try {
+                    written.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            ref.set(value + 1);
+        }));
+        read.await();
+        ref.set(100);
+        written.countDown();
+        t.join();
+        assertEquals(2, runs.get());
+        assertEquals(101, ref.get());
+    }
+
+    @Test
+    void snapshotReadsSurviveConcurrentCommits() {
+        final var ref = Ref.of(0);
+        final var runs = new AtomicInteger();
+        final int seen = Stm.atomically(() -> {
+            runs.incrementAndGet();
+            final int before = ref.get();
+            CompletableFuture.runAsync(() -> ref.set(before + 1)).join();
+            return ref.get();
+        });
+        assertEquals(0, seen);
+        assertEquals(1, runs.get());
+        assertEquals(1, ref.get());
+    }
+
+    @Test
+    void transfersKeepTotal() throws Exception {
+        final int accounts = 10;
+        final List<Ref<Integer>> balances = new ArrayList<>();
+        for (int i = 0; i < accounts; i++) {
+            balances.add(Ref.of(100));
+        }
+        final var ledger = Ref.of(PureVector.<Integer>empty());
+        final var done = new AtomicBoolean();
+        final var start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(6)) {
+            for (int t = 0; t < 4; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    final var random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 2000; i++) {
+                        final var from = balances.get(random.nextInt(accounts));
+                        final var to = balances.get(random.nextInt(accounts));
+                        final int amount = random.nextInt(10);
+                        Stm.atomically(() -> {
+                            from.set(from.get() - amount);
+                            to.set(to.get() + amount);
+                            ledger.set(ledger.get().add(amount));
+                        });
+                    }
+                    return null;
+                }));
+            }
+            final Future<Integer> audits = pool.submit(() -> {
+                start.await();
+                int count = 0;
+                while (!done.get()) {
+                    final int total = Stm.atomically(() -> {
+                        int sum = 0;
+                        for (Ref<Integer> b : balances) {
+                            sum += b.get();
+                        }
+                        return sum;
+                    });
+                    assertEquals(100 * accounts, total);
+                    count++;
+                }
+                return count;
+            });
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+            done.set(true);
+            assertTrue(audits.get() > 0);
+        }
+        assertEquals(8000, ledger.get().size());
+        assertEquals(100 * accounts, balances.stream().mapToInt(Ref::get).sum());
+    }
+
+    @Test
+    void consistentAcrossCollections() {
+        final var bids = Ref.of(PureHashMap.<String, Integer>empty());
+        final var fills = Ref.of(PureVector.<String>empty());
+        Stm.atomically(() -> bids.set(bids.get().put("a", 10)));
+        Stm.atomically(() -> {
+            final var bid = bids.get().get("a").orElseThrow();
+            bids.set(bids.get().remove("a"));
+            fills.set(fills.get().add("a@" + bid));
+        });
+        assertEquals(Optional.empty(), bids.get().get("a"));
+        assertEquals(PureVector.of("a@10"), fills.get());
+    }
+}
@@ -0,0 +1,101 @@
+package org.purely.control;
+
+import org.junit.jupiter.api.Test;
+import org.purely.collections.PureLinkedList;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvalTest {
+
+    static Eval<Long> sum(PureLinkedList<Integer> list) {
+        return switch (list) {
+            case PureLinkedList.Cons(var head, var tail, var size) -> Eval.defer(() -> sum(tail)).map(s -> s + head);
+            case PureLinkedList.Nil<Integer> nil -> Eval.now(0L);
+        };
+    }
+
+    static Eval<Boolean> isEven(int n) {
+        return n == 0 ? Eval.now(true) : Eval.defer(() -> isOdd(n - 1));
+    }
+
+    static Eval<Boolean> isOdd(int n) {
+        return n == 0 ? Eval.now(false) : Eval.defer(() -> isEven(n - 1));
+    }
+
+    @Test
+    void deepRecursionIsStackSafe() {
+        PureLinkedList<Integer> list = PureLinkedList.empty();
+        for (int i = 1; i <= 1_000_000; i++) {
+            list = list.addFirst(i);
+        }
+        assertEquals(500_000_500_000L, sum(list).value());
+        assertTrue(isEven(1_000_000).value());
+        assertFalse(isOdd(1_000_000).value());
+    }
+
+    @Test
+    void deepFlatMapChainIsStackSafe() {
+        Eval<Integer> left = Eval.now(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            left = left.flatMap(x -> Eval.now(x + 1));
+        }
+        assertEquals(1_000_000, left.value());
+        assertEquals(1_000_000, count(0).value());
+    }
+
+    static Eval<Integer> count(int n) {
+        return n == 1_000_000 ? Eval.now(n) : Eval.now(n + 1).flatMap(EvalTest::count);
+    }
+
+    @Test
+    void evaluationSemantics() {
+        final var calls = new AtomicInteger();
+        final Eval<Integer> later = Eval.later(calls::incrementAndGet);
+        assertEquals(0, calls.get());
+        assertEquals(1, later.value());
+        assertEquals(1, later.value());
+        assertEquals(1, calls.get());
+
+        final Eval<Integer> always = Eval.always(calls::incrementAndGet);
+        assertEquals(2, always.value());
+        assertEquals(3, always.value());
+
+        final Eval<Integer> memoized = always.map(x -> x * 10).memoize();
+        assertEquals(40, memoized.value());
+        assertEquals(40, memoized.value());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void tryAdapters() {
+        Eval<Try<Integer>> chain = Eval.attempt(() -> 0);
+        for (int i = 0; i < 1_000_000; i++) {
+            chain = Eval.flatMapTry(chain, x -> Eval.now(new Try.Success<>(x + 1)));
+        }
+        assertEquals(new Try.Success<>(1_000_000), chain.value());
+
+        final var calls = new AtomicInteger();
+        final var e = new IllegalStateException();
+        final Eval<Try<Integer>> failed = Eval.flatMapTry(
+                Eval.flatMapTry(Eval.attempt(() -> 1), x -> {
+                    throw e;
+                }),
+                x -> Eval.now(new Try.Success<>(calls.incrementAndGet())));
+        assertEquals(new Try.Failure<>(e), failed.value());
+        assertEquals(0, calls.get());
+        assertEquals(new Try.Failure<>(e), Eval.always(() -> {
+            throw e;
+        }).toTry());
+    }
+
+    @Test
+    void eitherAdapter() {
+        Eval<Either<String, Integer>> chain = Eval.now(new Either.Right<>(0));
+        for (int i = 0; i < 1_000_000; i++) {
+            chain = Eval.flatMapRight(chain, x -> Eval.now(x == 10 ? new Either.Left<>("stop") : new Either.Right<>(x + 1)));
+        }
+        assertEquals(new Either.Left<>("stop"), chain.value());
+    }
+}
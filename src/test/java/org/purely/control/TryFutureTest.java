@@ -0,0 +1,115 @@
+package org.purely.control;
+
+import org.junit.jupiter.api.Test;
+import org.purely.control.Try.Success;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TryFutureTest {
+
+    @Test
+    void runsOnVirtualThreads() {
+        assertEquals(new Success<>(true), TryFuture.of(() -> Thread.currentThread().isVirtual()).join());
+        assertEquals(new Success<>(true), TryFuture.successful(1).map(__ -> Thread.currentThread().isVirtual()).join());
+        try (var pool = Executors.newSingleThreadExecutor()) {
+            assertEquals(new Success<>(false), TryFuture.of(() -> Thread.currentThread().isVirtual(), pool)
+                    .map(v -> v || Thread.currentThread().isVirtual())
+                    .join());
+        }
+    }
+
+    @Test
+    void mirrorsTry() {
+        assertEquals(new Success<>(3), TryFuture.of(() -> "2").map(Integer::parseInt).map(i -> i + 1).join());
+        assertInstanceOf(NumberFormatException.class,
+                TryFuture.of(() -> "foo").map(Integer::parseInt).join().failure().orElseThrow());
+        assertEquals(new Success<>(4), TryFuture.successful(2).flatMap(i -> TryFuture.of(() -> i * 2)).join());
+        assertInstanceOf(IOException.class, TryFuture.successful(2).flatMap(i -> {
+            throw new IOException();
+        }).join().failure().orElseThrow());
+
+        final var failed = TryFuture.<Integer>failed(new IOException("io"));
+        assertEquals(failed.join(), failed.map(i -> i + 1).join());
+        assertInstanceOf(IllegalStateException.class,
+                failed.mapFailure(IllegalStateException::new).join().failure().orElseThrow());
+        assertEquals(new Success<>(0), failed.flatMapFailure(e -> TryFuture.successful(0)).join());
+        assertInstanceOf(IllegalArgumentException.class, TryFuture.successful(-1)
+                .filter(i -> i >= 0, i -> new IllegalArgumentException())
+                .join().failure().orElseThrow());
+
+        final var seen = new ArrayList<Integer>();
+        TryFuture.successful(1).execute(seen::add).join();
+        assertEquals(List.of(1), seen);
+    }
+
+    @Test
+    void fatalErrorsAreRethrown() {
+        assertThrows(OutOfMemoryError.class, () -> TryFuture.of(() -> {
+            throw new OutOfMemoryError();
+        }).join());
+        assertThrows(LinkageError.class, () -> TryFuture.successful(1).<Integer>map(__ -> {
+            throw new LinkageError();
+        }).map(i -> i + 1).join());
+    }
+
+    @Test
+    void completableFutureInterop() throws Exception {
+        assertEquals(new Success<>(1), TryFuture.fromCompletionStage(CompletableFuture.completedFuture(1)).join());
+        final var failed = TryFuture.fromCompletionStage(CompletableFuture.supplyAsync(() -> {
+            throw new IllegalStateException();
+        }));
+        assertInstanceOf(IllegalStateException.class, failed.join().failure().orElseThrow());
+
+        assertEquals(2, TryFuture.successful(2).toCompletableFuture().get());
+        final var e = assertThrows(ExecutionException.class,
+                () -> TryFuture.failed(new IOException()).toCompletableFuture().get());
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    @Test
+    void timeoutAndCancel() {
+        final var latch = new CountDownLatch(1);
+        final var pending = TryFuture.of(() -> {
+            latch.await();
+            return 1;
+        });
+        assertFalse(pending.isDone());
+        assertEquals("TryFuture[pending]", pending.toString());
+        assertInstanceOf(TimeoutException.class, pending.join(Duration.ofMillis(10)).failure().orElseThrow());
+        final var mapped = pending.map(i -> i + 1);
+        assertTrue(pending.cancel());
+        assertInstanceOf(CancellationException.class, pending.join().failure().orElseThrow());
+        assertInstanceOf(CancellationException.class, mapped.join().failure().orElseThrow());
+        latch.countDown();
+    }
+
+    @Test
+    void manyConcurrentCalls() {
+        final var start = System.nanoTime();
+        final List<TryFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final int n = i;
+            futures.add(TryFuture.of(() -> {
+                Thread.sleep(100);
+                return n;
+            }).map(x -> x * 2));
+        }
+        int sum = 0;
+        for (TryFuture<Integer> f : futures) {
+            sum += f.join().orElseThrow();
+        }
+        assertEquals(2 * (499 * 500 / 2), sum);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(10)) < 0);
+    }
+}
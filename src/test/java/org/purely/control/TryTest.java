@@ -1,6 +1,7 @@
 package org.purely.control;
 
 import org.junit.jupiter.api.Test;
+import org.purely.collections.PureVector;
 import org.purely.control.Either.Left;
 import org.purely.control.Either.Right;
 import org.purely.control.Try.Failure;
@@ -9,8 +10,14 @@ import org.purely.control.Try.Success;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -192,4 +199,131 @@ class TryTest {
                 .collect(Try.collector(Collectors.toList()));
         assertErrorOf(NumberFormatException.class, result2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void collectorSkipsDownstreamAfterFailure() {
+        final var accumulated = new AtomicInteger();
+        final Collector<Integer, ?, Integer> counting = Collector.of(
+                () -> new int[1],
+                (a, i) -> a[0] += accumulated.incrementAndGet(),
+                (a, b) -> {
+                    a[0] += b[0];
+                    return a;
+                },
+                a -> a[0]);
+        final var result = Stream.of("1", "foo", "2", "3")
+                .map(Try.function(Integer::parseInt))
+                .collect(Try.collector(counting));
+        assertErrorOf(NumberFormatException.class, result);
+        assertEquals(1, accumulated.get());
+
+        final var parallel = IntStream.range(0, 10_000).boxed().parallel()
+                .map(i -> i == 5_000 ? new Failure<Integer>(new IllegalStateException()) : new Success<>(i))
+                .collect(Try.collector(Collectors.toList()));
+        assertErrorOf(IllegalStateException.class, parallel);
+        assertEquals(new Success<>(IntStream.range(0, 10_000).boxed().toList()), IntStream.range(0, 10_000).boxed()
+                .parallel()
+                .map(Success::new)
+                .collect(Try.collector(Collectors.toList())));
+    }
+
+    @Test
+    void collectorCapturesDownstreamExceptions() {
+        final Collector<Integer, ?, List<Integer>> throwing = Collectors.collectingAndThen(Collectors.toList(), l -> {
+            throw new IllegalStateException();
+        });
+        assertErrorOf(IllegalStateException.class, Stream.of(new Success<>(1)).collect(Try.collector(throwing)));
+    }
+
+    @Test
+    void collectStopsAtFailure() {
+        final var pulled = new AtomicInteger();
+        final Try<List<Integer>> result = Try.collect(Stream.of("1", "foo", "2", "3")
+                .peek(__ -> pulled.incrementAndGet())
+                .map(Try.function(Integer::parseInt)), Collectors.toList());
+        assertErrorOf(NumberFormatException.class, result);
+        assertEquals(2, pulled.get());
+
+        assertEquals(new Success<>(List.of(1, 2, 3)),
+                Try.collect(Stream.of("1", "2", "3").map(Try.function(Integer::parseInt)), Collectors.toList()));
+        final var infinite = Stream.iterate(0, i -> i + 1)
+                .map(i -> i < 100 ? new Success<>(i) : new Failure<Integer>(new IllegalStateException()));
+        assertErrorOf(IllegalStateException.class, Try.collect(infinite, Collectors.toList()));
+    }
+
+    @Test
+    void traverse() {
+        final var calls = new AtomicInteger();
+        assertEquals(new Success<>(PureVector.of(1, 2, 3)), Try.traverse(List.of("1", "2", "3"), s -> {
+            calls.incrementAndGet();
+            return Integer.parseInt(s);
+        }));
+        calls.set(0);
+        assertErrorOf(NumberFormatException.class, Try.traverse(List.of("1", "foo", "3"), s -> {
+            calls.incrementAndGet();
+            return Integer.parseInt(s);
+        }));
+        assertEquals(2, calls.get());
+        assertEquals(new Success<>(PureVector.empty()), Try.traverse(List.<String>of(), Integer::parseInt));
+    }
+
+    @Test
+    void sequence() {
+        assertEquals(new Success<>(PureVector.of(1, 2)), Try.sequence(List.of(new Success<>(1), new Success<>(2))));
+        assertErrorOf(IllegalStateException.class,
+                Try.sequence(List.of(new Success<>(1), new Failure<>(new IllegalStateException()))));
+    }
+
+    @Test
+    void traverseParallel() throws Exception {
+        final List<Integer> values = IntStream.range(0, 200).boxed().toList();
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final var result = Try.traverseParallel(values, i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+            running.decrementAndGet();
+            return i * 2;
+        }, 8);
+        assertEquals(new Success<>(PureVector.from(values.stream().map(i -> i * 2).toList())), result);
+        assertTrue(maxRunning.get() <= 8);
+
+        try (var pool = Executors.newFixedThreadPool(4)) {
+            assertEquals(new Success<>(PureVector.of(1, 2, 3)),
+                    Try.traverseParallel(List.of("1", "2", "3"), Integer::parseInt, pool, 2));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Try.traverseParallel(values, i -> i, 0));
+    }
+
+    @Test
+    void traverseParallelFailsFast() {
+        final var started = new AtomicInteger();
+        final var sleeping = new CountDownLatch(3);
+        final var interrupted = new CountDownLatch(3);
+        final var result = Try.traverseParallel(List.of(0, 1, 2, 3, 4, 5, 6, 7), i -> {
+            started.incrementAndGet();
+            if (i == 3) {
+                sleeping.await();
+                throw new IllegalStateException();
+            }
+            sleeping.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return i;
+        }, 4);
+        assertErrorOf(IllegalStateException.class, result);
+        assertEquals(4, started.get());
+        assertDoesNotThrow(() -> assertTrue(interrupted.await(5, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    void traverseParallelRethrowsFatal() {
+        assertThrows(OutOfMemoryError.class, () -> Try.traverseParallel(List.of(1, 2), i -> {
+            throw new OutOfMemoryError();
+        }));
+    }
+}
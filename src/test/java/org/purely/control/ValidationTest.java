@@ -0,0 +1,115 @@
+package org.purely.control;
+
+import org.junit.jupiter.api.Test;
+import org.purely.Tuple;
+import org.purely.collections.PureRrbVector;
+import org.purely.control.Validation.Invalid;
+import org.purely.control.Validation.Valid;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationTest {
+
+    record User(String name, int age) {
+    }
+
+    static Validation<String, String> name(String name) {
+        return name.isBlank() ? Validation.invalid("name is blank") : Validation.valid(name);
+    }
+
+    static Validation<String, Integer> age(int age) {
+        return age < 0 ? Validation.invalid("age is negative") : Validation.valid(age);
+    }
+
+    @Test
+    void accumulatesErrors() {
+        assertEquals(new Valid<>(new User("a", 1)), name("a").combine(age(1), User::new));
+        assertEquals(new Invalid<>(PureRrbVector.of("name is blank", "age is negative")),
+                name(" ").combine(age(-1), User::new));
+        assertEquals(new Invalid<>(PureRrbVector.of("age is negative")), name("a").zip(age(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new Invalid<>(PureRrbVector.empty()));
+    }
+
+    @Test
+    void zipUpToTen() {
+        final Validation<String, Integer> one = Validation.valid(1);
+        final Validation<String, Integer> bad = Validation.invalid("bad");
+        assertEquals(new Valid<>(Tuple.of(1, 1, 1)), Validation.zip(one, one, one));
+        assertEquals(new Valid<>(Tuple.of(1, 1, 1, 1, 1, 1, 1, 1, 1, 1)),
+                Validation.zip(one, one, one, one, one, one, one, one, one, one));
+        assertEquals(PureRrbVector.of("bad", "bad", "bad"),
+                Validation.zip(bad, one, bad, one, one, one, one, one, one, bad).errors());
+    }
+
+    @Test
+    void mapAndFlatMap() {
+        assertEquals(new Valid<>(2), age(1).map(i -> i + 1));
+        assertEquals(age(-1), age(-1).map(i -> i + 1));
+        assertEquals(new Invalid<>(PureRrbVector.of(15)), age(-1).mapErrors(String::length));
+        assertEquals(Validation.invalid("too old"),
+                age(200).flatMap(a -> a > 150 ? Validation.invalid("too old") : Validation.valid(a)));
+        assertEquals(age(-1), age(-1).flatMap(a -> Validation.invalid("unreachable")));
+        assertEquals("1", age(1).fold(errors -> "errors", String::valueOf));
+        assertEquals(Optional.of(1), age(1).toOptional());
+        assertEquals(Optional.empty(), age(-1).toOptional());
+        assertTrue(age(1).isValid());
+        assertTrue(age(-1).isInvalid());
+    }
+
+    @Test
+    void sequence() {
+        assertEquals(new Valid<>(PureRrbVector.of(1, 2)), Validation.sequence(List.of(age(1), age(2))));
+        assertEquals(new Invalid<>(PureRrbVector.of("age is negative", "age is negative")),
+                Validation.sequence(List.of(age(-1), age(2), age(-2))));
+    }
+
+    @Test
+    void eitherConversions() {
+        assertEquals(new Either.Right<>(1), age(1).toEither());
+        assertEquals(new Either.Left<>(PureRrbVector.of("age is negative")), age(-1).toEither());
+        assertEquals(new Valid<>(1), Validation.fromEither(new Either.Right<>(1)));
+        assertEquals(Validation.invalid("e"), Validation.fromEither(new Either.Left<>("e")));
+    }
+
+    @Test
+    void validateRules() {
+        final List<Function<User, Validation<String, ?>>> rules = List.of(
+                u -> name(u.name()),
+                u -> age(u.age()),
+                u -> u.age() > 150 ? Validation.invalid("too old") : Validation.valid(u));
+        final var user = new User("a", 1);
+        assertEquals(new Valid<>(user), Validation.validate(user, rules));
+        assertEquals(PureRrbVector.of("name is blank", "age is negative"),
+                Validation.validate(new User("", -1), rules).errors());
+        assertEquals(PureRrbVector.of("name is blank", "too old"),
+                Validation.validateParallel(new User("", 200), rules).errors());
+    }
+
+    @Test
+    void validateParallelRunsConcurrently() {
+        final List<Function<Integer, Validation<String, ?>>> rules = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final int n = i;
+            rules.add(v -> {
+                LockSupport.parkNanos(Duration.ofMillis(50).toNanos());
+                return n % 50 == 0 ? Validation.invalid("rule " + n) : Validation.valid(v);
+            });
+        }
+        final long start = System.nanoTime();
+        final var result = Validation.validateParallel(1, rules);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        assertEquals(PureRrbVector.of("rule 0", "rule 50", "rule 100", "rule 150"), result.errors());
+
+        final List<Function<Integer, Validation<String, ?>>> throwing = List.of(v -> {
+            throw new IllegalStateException();
+        });
+        assertThrows(IllegalStateException.class, () -> Validation.validateParallel(1, throwing));
+    }
+}
@@ -0,0 +1,132 @@
+package org.purely.functions;
+
+import org.junit.jupiter.api.Test;
+import org.purely.Tuple;
+import org.purely.control.Try;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoTest {
+
+    @Test
+    void computesOncePerKey() {
+        final var calls = new AtomicInteger();
+        final Memo<Integer, Integer> square = Memo.of(x -> {
+            calls.incrementAndGet();
+            return x * x;
+        }, 10);
+        assertEquals(4, square.apply(2));
+        assertEquals(4, square.apply(2));
+        assertEquals(9, square.apply(3));
+        assertEquals(2, calls.get());
+        assertEquals(new Memo.Stats(1, 2, 0), square.stats());
+
+        square.invalidate(2);
+        assertEquals(4, square.apply(2));
+        assertEquals(3, calls.get());
+        assertThrows(NullPointerException.class, () -> square.apply(null));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final var calls = new AtomicInteger();
+        final Memo<Integer, Integer> id = Memo.of(x -> {
+            calls.incrementAndGet();
+            return x;
+        }, 2);
+        id.apply(1);
+        id.apply(2);
+        id.apply(1);
+        id.apply(3);
+        assertEquals(2, id.size());
+        assertEquals(1, id.stats().evictions());
+
+        calls.set(0);
+        id.apply(1);
+        id.apply(3);
+        assertEquals(0, calls.get());
+        id.apply(2);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void evictsByWeight() {
+        final Memo<Integer, String> repeat = Memo.of(n -> "x".repeat(n), 10, (k, v) -> v.length());
+        repeat.apply(4);
+        repeat.apply(5);
+        assertEquals(9, repeat.weight());
+        repeat.apply(3);
+        assertEquals(8, repeat.weight());
+        assertEquals(2, repeat.size());
+        repeat.apply(11);
+        assertEquals(0, repeat.weight());
+        assertEquals(0, repeat.size());
+    }
+
+    @Test
+    void deduplicatesConcurrentMisses() throws Exception {
+        final var calls = new AtomicInteger();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final Memo<Integer, Integer> slow = Memo.of(x -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return x + 1;
+        }, 10);
+
+        final List<CompletableFuture<Integer>> results = new ArrayList<>();
+        results.add(CompletableFuture.supplyAsync(() -> slow.apply(1)));
+        started.await();
+        for (int i = 0; i < 8; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> slow.apply(1)));
+        }
+        release.countDown();
+        for (var r : results) {
+            assertEquals(2, r.join());
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, slow.stats().misses());
+        assertEquals(8, slow.stats().hits());
+    }
+
+    @Test
+    void multipleArguments() {
+        final Memo<Tuple.Tuple2<String, Integer>, String> repeat = Memo.of(String::repeat, 10);
+        assertEquals("abab", repeat.apply(Tuple.of("ab", 2)));
+        assertEquals("abab", repeat.apply(Tuple.of("ab", 2)));
+        assertEquals(0.5, repeat.stats().hitRate());
+    }
+
+    @Test
+    void failuresAreNotKept() {
+        final var calls = new AtomicInteger();
+        final var e = new Exception();
+        final Memo<Integer, Try<Integer>> parse = Memo.ofThrowing(x -> {
+            if (calls.incrementAndGet() == 1) {
+                throw e;
+            }
+            return x;
+        }, 10);
+        assertEquals(new Try.Failure<>(e), parse.apply(1));
+        assertEquals(new Try.Success<>(1), parse.apply(1));
+        assertEquals(new Try.Success<>(1), parse.apply(1));
+        assertEquals(2, calls.get());
+
+        final Memo<Integer, Integer> recursive = new Object() {
+            final Memo<Integer, Integer> self = Memo.of(x -> this.self.apply(x), 10);
+        }.self;
+        assertThrows(IllegalStateException.class, () -> recursive.apply(1));
+        assertEquals(0, recursive.size());
+    }
+}